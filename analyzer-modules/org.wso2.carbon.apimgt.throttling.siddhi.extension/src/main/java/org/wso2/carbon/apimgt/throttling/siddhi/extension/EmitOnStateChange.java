@@ -28,6 +28,7 @@ import org.wso2.siddhi.core.event.ComplexEventChunk;
 import org.wso2.siddhi.core.event.stream.StreamEvent;
 import org.wso2.siddhi.core.event.stream.StreamEventCloner;
 import org.wso2.siddhi.core.event.stream.populater.ComplexEventPopulater;
+import org.wso2.siddhi.core.executor.ConstantExpressionExecutor;
 import org.wso2.siddhi.core.executor.ExpressionExecutor;
 import org.wso2.siddhi.core.executor.VariableExpressionExecutor;
 import org.wso2.siddhi.core.query.processor.Processor;
@@ -39,6 +40,7 @@ import org.wso2.siddhi.query.api.exception.SiddhiAppValidationException;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -54,12 +56,20 @@ import java.util.Map;
  * This is useful when the throttler needs to alert only when the throttling decision is changed, in contrast to
  * alerting about every decision taken.
  *
+ * The last decision of each key is kept in lock striped shards selected by the hash of the key, so that decisions
+ * of different keys are taken concurrently. Keys which did not receive a request within the idle time are treated
+ * as new keys, so the next decision of such a key is emitted again, and are dropped from their shard when it is
+ * next swept.
+ *
  * Usage:
  * throttler:emitOnStateChange(key, isThrottled)
+ * throttler:emitOnStateChange(key, isThrottled, idleTime)
  *
  * Parameters:
  * key: The key coming in the request, based on which throttling decision was made.
  * isThrottled: The throttling decision made.
+ * idleTime: Optional time in milliseconds after which the state of a key without requests is dropped, one minute
+ * by default.
  *
  * Example on usage:
  * from DecisionStream#throttler:emitOnStateChange(key, isThrottled)
@@ -72,7 +82,10 @@ import java.util.Map;
         @Parameter(name = "throttle.key", description = "The priority/type of this log message.", type = {
                 DataType.STRING }),
         @Parameter(name = "is.throttled", description = "This submit the log message.", type = {
-                DataType.STRING }) }, examples = {
+                DataType.STRING }),
+        @Parameter(name = "idle.time", description = "Time in milliseconds after which the state of a key without "
+                + "requests is dropped.", type = { DataType.INT, DataType.LONG }, optional = true,
+                defaultValue = "60000") }, examples = {
         @Example(syntax = "from fooStream#log(\"INFO\", \"Sample Event :\", true)\nselect *\ninsert into barStream;",
                 description = "This will log as INFO with the message \"Sample Event :\" + fooStream:events."),
         @Example(syntax = "from fooStream#log(\"Sample Event :\", true)\nselect *\ninsert into barStream;",
@@ -86,9 +99,19 @@ import java.util.Map;
 public class EmitOnStateChange extends StreamProcessor {
     private VariableExpressionExecutor keyExpressionExecutor;
     private VariableExpressionExecutor isThrottledExpressionExecutor;
-    private Map<String, Object> throttleStateMap = new HashMap<String, Object>();
+    private static final int SHARD_COUNT = shardCount();
+    private static final long DEFAULT_IDLE_TIME = 60000;
+    private final Shard[] shards = new Shard[SHARD_COUNT];
+    private long idleTime = DEFAULT_IDLE_TIME;
+    private SiddhiAppContext siddhiAppContext;
     private static final Logger log = Logger.getLogger(ThrottleStreamProcessor.class);
 
+    public EmitOnStateChange() {
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            shards[i] = new Shard();
+        }
+    }
+
     @Override
     public void start() {
         //Nothing to do.
@@ -101,26 +124,60 @@ public class EmitOnStateChange extends StreamProcessor {
 
     @Override
     public Map<String, Object> currentState() {
+        Map<String, Object> throttleStateMap = new HashMap<String, Object>();
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                for (Map.Entry<String, KeyState> entry : shard.states.entrySet()) {
+                    throttleStateMap.put(entry.getKey(), entry.getValue().throttled);
+                }
+            }
+        }
         return throttleStateMap;
     }
 
     @Override
     public void restoreState(Map<String, Object> map) {
-        throttleStateMap = map;
+        long currentTime = siddhiAppContext.getTimestampGenerator().currentTime();
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                shard.states.clear();
+            }
+        }
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            Shard shard = shardOf(entry.getKey());
+            synchronized (shard) {
+                shard.states.put(entry.getKey(), new KeyState((Boolean) entry.getValue(), currentTime));
+            }
+        }
     }
 
     @Override
     protected void process(ComplexEventChunk<StreamEvent> streamEventChunk, Processor processor,
             StreamEventCloner streamEventCloner, ComplexEventPopulater complexEventPopulater) {
+        long currentTime = siddhiAppContext.getTimestampGenerator().currentTime();
         while (streamEventChunk.hasNext()) {
             StreamEvent event = streamEventChunk.next();
             Boolean currentThrottleState = (Boolean) isThrottledExpressionExecutor.execute(event);
             String key = (String) keyExpressionExecutor.execute(event);
-            Boolean lastThrottleState = (Boolean) throttleStateMap.get(key);
-            if (currentThrottleState.equals(lastThrottleState) && !currentThrottleState) {
+            Shard shard = shardOf(key);
+            boolean stateChanged;
+            synchronized (shard) {
+                KeyState lastThrottleState = shard.states.get(key);
+                if (lastThrottleState == null || lastThrottleState.lastSeen < currentTime - idleTime) {
+                    shard.states.put(key, new KeyState(currentThrottleState, currentTime));
+                    stateChanged = true;
+                } else {
+                    stateChanged = currentThrottleState || lastThrottleState.throttled != currentThrottleState;
+                    lastThrottleState.throttled = currentThrottleState;
+                    lastThrottleState.lastSeen = currentTime;
+                }
+                if (currentTime - shard.lastSweep >= idleTime) {
+                    shard.removeIdleKeys(currentTime - idleTime);
+                    shard.lastSweep = currentTime;
+                }
+            }
+            if (!stateChanged) {
                 streamEventChunk.remove();
-            } else {
-                throttleStateMap.put(key, currentThrottleState);
             }
         }
         nextProcessor.process(streamEventChunk);
@@ -129,9 +186,9 @@ public class EmitOnStateChange extends StreamProcessor {
     @Override
     protected List<Attribute> init(AbstractDefinition abstractDefinition, ExpressionExecutor[] expressionExecutors,
             ConfigReader configReader, SiddhiAppContext siddhiAppContext) {
-        if (attributeExpressionExecutors.length != 2) {
+        if (attributeExpressionExecutors.length != 2 && attributeExpressionExecutors.length != 3) {
             throw new SiddhiAppValidationException("Invalid no of arguments passed to throttler:emitOnStateChange"
-                    + "(key,isThrottled), required 2, but found " + attributeExpressionExecutors.length);
+                    + "(key,isThrottled), required 2 or 3, but found " + attributeExpressionExecutors.length);
         }
         if (attributeExpressionExecutors[0].getReturnType() != Attribute.Type.STRING) {
             throw new SiddhiAppValidationException("Invalid parameter type found for the argument of "
@@ -143,8 +200,66 @@ public class EmitOnStateChange extends StreamProcessor {
                     + "throttler:emitOnStateChange(key,isThrottled), " + "required " + Attribute.Type.BOOL
                     + ", but found " + attributeExpressionExecutors[1].getReturnType());
         }
+        if (attributeExpressionExecutors.length == 3) {
+            if (!(attributeExpressionExecutors[2] instanceof ConstantExpressionExecutor)) {
+                throw new SiddhiAppValidationException("idleTime of throttler:emitOnStateChange"
+                        + "(key,isThrottled,idleTime) should be a constant");
+            }
+            Attribute.Type type = attributeExpressionExecutors[2].getReturnType();
+            Object value = ((ConstantExpressionExecutor) attributeExpressionExecutors[2]).getValue();
+            if (type == Attribute.Type.INT) {
+                idleTime = (Integer) value;
+            } else if (type == Attribute.Type.LONG) {
+                idleTime = (Long) value;
+            } else {
+                throw new SiddhiAppValidationException("Invalid parameter type found for the argument of "
+                        + "throttler:emitOnStateChange(key,isThrottled,idleTime), required " + Attribute.Type.INT
+                        + " or " + Attribute.Type.LONG + ", but found " + type);
+            }
+        }
+        this.siddhiAppContext = siddhiAppContext;
         keyExpressionExecutor = (VariableExpressionExecutor) attributeExpressionExecutors[0];
         isThrottledExpressionExecutor = (VariableExpressionExecutor) attributeExpressionExecutors[1];
         return new ArrayList<Attribute>();
     }
+
+    private Shard shardOf(String key) {
+        int hash = key.hashCode();
+        return shards[(hash ^ (hash >>> 16)) & (SHARD_COUNT - 1)];
+    }
+
+    private static int shardCount() {
+        int shardCount = Runtime.getRuntime().availableProcessors() * 2;
+        return Integer.highestOneBit(shardCount - 1) << 1;
+    }
+
+    /**
+     * Last throttling decisions of the keys mapped to a shard, guarded by the shard itself.
+     */
+    private static final class Shard {
+        private final Map<String, KeyState> states = new HashMap<String, KeyState>();
+        private long lastSweep;
+
+        private void removeIdleKeys(long idleBefore) {
+            Iterator<KeyState> iterator = states.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().lastSeen < idleBefore) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Last throttling decision of a key.
+     */
+    private static final class KeyState {
+        private boolean throttled;
+        private long lastSeen;
+
+        private KeyState(boolean throttled, long lastSeen) {
+            this.throttled = throttled;
+            this.lastSeen = lastSeen;
+        }
+    }
 }
@@ -52,10 +52,21 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Stream processor for Throttling.
- *
+ * <p>
+ * Events of the current batch are kept in lock striped shards, so that events arriving on different threads are
+ * buffered concurrently. Only the rollover to the next batch, which flushes all shards, is serialized.
+ * <p>
+ * Every buffered event is stamped with the expiry time of its batch, which is read under the lock of its shard.
+ * The rollover moves the expiry time forward first and then drains, from each shard, only the events stamped with
+ * the batch being flushed. Events of the next batch which reach a shard in between are left for the next rollover.
+ * <p>
+ * Shards are picked by thread rather than by throttle key, as this window does not know which attribute holds the
+ * key. This is equivalent for the throttling queries: a rollover always flushes all shards as one chunk, and the
+ * downstream count and sum aggregations grouped by key do not depend on the order of the events in that chunk.
  */
 @Extension(name = "timeBatch", namespace = "throttler", description =
         "A batch (tumbling) time window that holds events that arrive during window.time periods, "
@@ -73,15 +84,20 @@ public class ThrottleStreamProcessor extends StreamProcessor implements Scheduli
 
     private static final Logger log = Logger.getLogger(ThrottleStreamProcessor.class);
     private static final String EXPIRY_TIME_STAMP = "expiryTimeStamp";
+    private static final int SHARD_COUNT = shardCount();
     private long timeInMilliSeconds;
-    private ComplexEventChunk<StreamEvent> expiredEventChunk = new ComplexEventChunk<StreamEvent>(true);
+    private final Shard[] shards = new Shard[SHARD_COUNT];
+    private final Object batchLock = new Object();
     private Scheduler scheduler;
     private SiddhiAppContext siddhiAppContext;
-    private long expireEventTime = -1;
+    private volatile long expireEventTime = -1;
     private long startTime = -1;
 
     public ThrottleStreamProcessor() {
         scheduler = null;
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            shards[i] = new Shard();
+        }
     }
 
     @Override
@@ -166,52 +182,57 @@ public class ThrottleStreamProcessor extends StreamProcessor implements Scheduli
     protected void process(ComplexEventChunk<StreamEvent> streamEventChunk, Processor nextProcessor,
             StreamEventCloner streamEventCloner, ComplexEventPopulater complexEventPopulater) {
 
-        synchronized (this) {
-            if (expireEventTime == -1) {
-                long currentTime = siddhiAppContext.getTimestampGenerator().currentTime();
-                if (startTime != -1) {
-                    expireEventTime = addTimeShift(currentTime);
-                } else {
-                    expireEventTime = siddhiAppContext.getTimestampGenerator().currentTime() + timeInMilliSeconds;
-                }
-                if (scheduler != null) {
-                    scheduler.notifyAt(expireEventTime);
-                } else {
-                    log.error("scheduler is not initiated");
+        long currentTime = siddhiAppContext.getTimestampGenerator().currentTime();
+        long flushedExpireEventTime = -1;
+        if (expireEventTime == -1 || currentTime >= expireEventTime) {
+            synchronized (batchLock) {
+                if (expireEventTime == -1) {
+                    if (startTime != -1) {
+                        expireEventTime = addTimeShift(currentTime);
+                    } else {
+                        expireEventTime = currentTime + timeInMilliSeconds;
+                    }
+                    notifyScheduler(expireEventTime);
                 }
-            }
-            long currentTime = siddhiAppContext.getTimestampGenerator().currentTime();
-            boolean sendEvents;
-            if (currentTime >= expireEventTime) {
-                expireEventTime += timeInMilliSeconds;
-                if (scheduler != null) {
-                    scheduler.notifyAt(expireEventTime);
-                } else {
-                    log.error("scheduler is not initiated");
+                if (currentTime >= expireEventTime) {
+                    flushedExpireEventTime = expireEventTime;
+                    expireEventTime += timeInMilliSeconds;
+                    notifyScheduler(expireEventTime);
                 }
-                sendEvents = true;
-            } else {
-                sendEvents = false;
             }
+        }
 
+        Shard shard = shards[(int) Thread.currentThread().getId() & (SHARD_COUNT - 1)];
+        shard.lock.lock();
+        try {
+            // read within the shard lock, so that events are never added to a batch which is already flushed
+            long batchExpireEventTime = expireEventTime;
             while (streamEventChunk.hasNext()) {
                 StreamEvent streamEvent = streamEventChunk.next();
                 if (streamEvent.getType() != ComplexEvent.Type.CURRENT) {
                     continue;
                 }
 
-                complexEventPopulater.populateComplexEvent(streamEvent, new Object[] { expireEventTime });
-                StreamEvent clonedStreamEvent = streamEventCloner.copyStreamEvent(streamEvent);
+                complexEventPopulater.populateComplexEvent(streamEvent, new Object[] { batchExpireEventTime });
+                StreamEvent clonedStreamEvent = copyStreamEvent(streamEvent);
                 clonedStreamEvent.setType(StreamEvent.Type.EXPIRED);
-                clonedStreamEvent.setTimestamp(expireEventTime);
-                expiredEventChunk.add(clonedStreamEvent);
+                clonedStreamEvent.setTimestamp(batchExpireEventTime);
+                shard.expiredEventChunk.add(clonedStreamEvent);
             }
-            if (sendEvents) {
-                expiredEventChunk.reset();
-                if (expiredEventChunk.getFirst() != null) {
-                    streamEventChunk.add(expiredEventChunk.getFirst());
+        } finally {
+            shard.lock.unlock();
+        }
+        if (flushedExpireEventTime != -1) {
+            for (Shard expiredShard : shards) {
+                expiredShard.lock.lock();
+                try {
+                    StreamEvent expiredEvents = expiredShard.drain(flushedExpireEventTime);
+                    if (expiredEvents != null) {
+                        streamEventChunk.add(expiredEvents);
+                    }
+                } finally {
+                    expiredShard.lock.unlock();
                 }
-                expiredEventChunk.clear();
             }
         }
         if (streamEventChunk.getFirst() != null) {
@@ -234,7 +255,9 @@ public class ThrottleStreamProcessor extends StreamProcessor implements Scheduli
     @Override
     public Map<String, Object> currentState() {
         Map<String, Object> map = new HashMap<String, Object>();
-        map.put("0", expiredEventChunk);
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            map.put(String.valueOf(i), shards[i].expiredEventChunk);
+        }
         return map;
     }
 
@@ -244,12 +267,37 @@ public class ThrottleStreamProcessor extends StreamProcessor implements Scheduli
     }
 
     @Override
-    public synchronized StreamEvent find(StateEvent stateEvent, CompiledCondition compiledCondition) {
-        if (compiledCondition instanceof Operator) {
-            return ((Operator) compiledCondition).find(stateEvent, this.expiredEventChunk, this.streamEventCloner);
-        } else {
+    public StreamEvent find(StateEvent stateEvent, CompiledCondition compiledCondition) {
+        if (!(compiledCondition instanceof Operator)) {
             return null;
         }
+        return ((Operator) compiledCondition).find(stateEvent, snapshotEvents(), this.streamEventCloner);
+    }
+
+    /**
+     * Copy the events of all shards into one chunk, so that a condition is matched against the whole batch. All
+     * shard locks are held while copying, which gives a consistent view with respect to a rollover.
+     */
+    private ComplexEventChunk<StreamEvent> snapshotEvents() {
+        ComplexEventChunk<StreamEvent> snapshot = new ComplexEventChunk<StreamEvent>(true);
+        int locked = 0;
+        try {
+            for (Shard shard : shards) {
+                shard.lock.lock();
+                locked++;
+            }
+            for (Shard shard : shards) {
+                for (StreamEvent event = shard.expiredEventChunk.getFirst(); event != null;
+                        event = event.getNext()) {
+                    snapshot.add(copyStreamEvent(event));
+                }
+            }
+        } finally {
+            for (int i = 0; i < locked; i++) {
+                shards[i].lock.unlock();
+            }
+        }
+        return snapshot;
     }
 
     private long addTimeShift(long currentTime) {
@@ -257,12 +305,85 @@ public class ThrottleStreamProcessor extends StreamProcessor implements Scheduli
         return currentTime + (timeInMilliSeconds - timePassedUntilNow);
     }
 
+    private void notifyScheduler(long time) {
+        if (scheduler != null) {
+            scheduler.notifyAt(time);
+        } else {
+            log.error("scheduler is not initiated");
+        }
+    }
+
+    /**
+     * Copy a stream event without the stream event cloner, whose event pool is not safe for concurrent use.
+     */
+    private static StreamEvent copyStreamEvent(StreamEvent streamEvent) {
+        Object[] beforeWindowData = streamEvent.getBeforeWindowData();
+        Object[] onAfterWindowData = streamEvent.getOnAfterWindowData();
+        Object[] outputData = streamEvent.getOutputData();
+        StreamEvent copy = new StreamEvent(length(beforeWindowData), length(onAfterWindowData), length(outputData));
+        copyData(beforeWindowData, copy.getBeforeWindowData());
+        copyData(onAfterWindowData, copy.getOnAfterWindowData());
+        copyData(outputData, copy.getOutputData());
+        copy.setType(streamEvent.getType());
+        copy.setTimestamp(streamEvent.getTimestamp());
+        return copy;
+    }
+
+    private static int length(Object[] data) {
+        return data == null ? 0 : data.length;
+    }
+
+    private static void copyData(Object[] source, Object[] destination) {
+        if (source != null && destination != null) {
+            System.arraycopy(source, 0, destination, 0, source.length);
+        }
+    }
+
+    private static int shardCount() {
+        int shardCount = Runtime.getRuntime().availableProcessors() * 2;
+        return Integer.highestOneBit(shardCount - 1) << 1;
+    }
+
     @Override
     public CompiledCondition compileCondition(Expression expression, MatchingMetaInfoHolder matchingMetaInfoHolder,
             SiddhiAppContext siddhiAppContext, List<VariableExpressionExecutor> list, Map<String, Table> map,
             String s) {
         return OperatorParser
-                .constructOperator(this.expiredEventChunk, expression, matchingMetaInfoHolder, siddhiAppContext,
-                        list, map, this.queryName);
+                .constructOperator(snapshotEvents(), expression, matchingMetaInfoHolder, siddhiAppContext, list, map,
+                        this.queryName);
+    }
+
+    /**
+     * Events of the current batch buffered by a subset of the threads.
+     */
+    private static final class Shard {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ComplexEventChunk<StreamEvent> expiredEventChunk = new ComplexEventChunk<StreamEvent>(true);
+
+        /**
+         * Remove the events of the batches expiring at or before the given time. Events are added with the expiry
+         * time read under the shard lock, which only moves forward, so these events are a prefix of the chunk.
+         *
+         * @param flushedExpireEventTime expiry time of the batch being flushed
+         * @return first of the removed events, linked in order, or null if there are none
+         */
+        private StreamEvent drain(long flushedExpireEventTime) {
+            StreamEvent first = expiredEventChunk.getFirst();
+            StreamEvent lastExpired = null;
+            StreamEvent next = first;
+            while (next != null && next.getTimestamp() <= flushedExpireEventTime) {
+                lastExpired = next;
+                next = next.getNext();
+            }
+            if (lastExpired == null) {
+                return null;
+            }
+            lastExpired.setNext(null);
+            expiredEventChunk.clear();
+            if (next != null) {
+                expiredEventChunk.add(next);
+            }
+            return first;
+        }
     }
 }
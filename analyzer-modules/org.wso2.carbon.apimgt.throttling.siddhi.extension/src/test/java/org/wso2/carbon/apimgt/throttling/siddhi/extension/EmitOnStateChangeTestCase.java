@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.throttling.siddhi.extension;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.wso2.siddhi.core.SiddhiAppRuntime;
+import org.wso2.siddhi.core.SiddhiManager;
+import org.wso2.siddhi.core.event.Event;
+import org.wso2.siddhi.core.query.output.callback.QueryCallback;
+import org.wso2.siddhi.core.stream.input.InputHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class EmitOnStateChangeTestCase {
+    private static final String DECISION_STREAM = "define stream DecisionStream (key string, isThrottled bool);";
+    private static final int KEY_COUNT = 256;
+    private static final int THREAD_COUNT = 4;
+    private SiddhiAppRuntime siddhiAppRuntime;
+    private AtomicInteger emittedCount;
+    private Map<String, AtomicInteger> emittedCountByKey;
+
+    @Before
+    public void init() {
+        emittedCount = new AtomicInteger();
+        emittedCountByKey = new ConcurrentHashMap<String, AtomicInteger>();
+    }
+
+    @After
+    public void shutdown() {
+        if (siddhiAppRuntime != null) {
+            siddhiAppRuntime.shutdown();
+        }
+    }
+
+    @Test
+    public void emitOnStateChangeAcrossShardsTest() throws Exception {
+        InputHandler inputHandler = start("throttler:emitOnStateChange(key, isThrottled)");
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            List<Future<?>> futures = new ArrayList<Future<?>>();
+            for (int thread = 0; thread < THREAD_COUNT; thread++) {
+                final int firstKey = thread;
+                futures.add(executorService.submit(() -> {
+                    // each key is driven by a single thread, so that its decisions arrive in order
+                    for (int key = firstKey; key < KEY_COUNT; key += THREAD_COUNT) {
+                        inputHandler.send(new Object[] { "key" + key, false });
+                        inputHandler.send(new Object[] { "key" + key, false });
+                        inputHandler.send(new Object[] { "key" + key, true });
+                        inputHandler.send(new Object[] { "key" + key, false });
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        // first decision, change to throttled and change back, but not the repeated decision
+        Assert.assertEquals(KEY_COUNT * 3, emittedCount.get());
+        Assert.assertEquals(KEY_COUNT, emittedCountByKey.size());
+        for (AtomicInteger count : emittedCountByKey.values()) {
+            Assert.assertEquals(3, count.get());
+        }
+    }
+
+    @Test
+    public void idleKeyIsEvictedTest() throws Exception {
+        InputHandler inputHandler = start("throttler:emitOnStateChange(key, isThrottled, 500)");
+        inputHandler.send(new Object[] { "key", false });
+        inputHandler.send(new Object[] { "key", false });
+        Assert.assertEquals(1, emittedCount.get());
+        Thread.sleep(1000);
+        inputHandler.send(new Object[] { "key", false });
+        Assert.assertEquals(2, emittedCount.get());
+    }
+
+    @Test
+    public void activeKeyIsNotEvictedTest() throws Exception {
+        InputHandler inputHandler = start("throttler:emitOnStateChange(key, isThrottled, 1000L)");
+        for (int i = 0; i < 6; i++) {
+            inputHandler.send(new Object[] { "key", false });
+            Thread.sleep(300);
+        }
+        Assert.assertEquals(1, emittedCount.get());
+    }
+
+    @Test
+    public void defaultIdleTimeTest() throws Exception {
+        InputHandler inputHandler = start("throttler:emitOnStateChange(key, isThrottled)");
+        inputHandler.send(new Object[] { "key", false });
+        Thread.sleep(1000);
+        inputHandler.send(new Object[] { "key", false });
+        Assert.assertEquals(1, emittedCount.get());
+    }
+
+    private InputHandler start(String streamProcessor) {
+        String query = "@info(name = 'query1') from DecisionStream#" + streamProcessor + " "
+                + "select key, isThrottled insert into AlertStream;";
+        siddhiAppRuntime = new SiddhiManager().createSiddhiAppRuntime(DECISION_STREAM + query);
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                if (inEvents != null) {
+                    for (Event event : inEvents) {
+                        emittedCount.incrementAndGet();
+                        emittedCountByKey.computeIfAbsent((String) event.getData(0), key -> new AtomicInteger())
+                                .incrementAndGet();
+                    }
+                }
+            }
+        });
+        siddhiAppRuntime.start();
+        return siddhiAppRuntime.getInputHandler("DecisionStream");
+    }
+}
@@ -29,6 +29,14 @@ import org.wso2.siddhi.core.query.output.callback.QueryCallback;
 import org.wso2.siddhi.core.stream.input.InputHandler;
 import org.wso2.siddhi.core.util.EventPrinter;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 public class ThrottleTimeBatchWindowTestCase {
     private static final Logger log = Logger.getLogger(ThrottleTimeBatchWindowTestCase.class);
     private int inEventCount;
@@ -120,6 +128,59 @@ public class ThrottleTimeBatchWindowTestCase {
         executionPlanRuntime.shutdown();
     }
 
+    @Test
+    public void throttleTimeWindowBatchConcurrentTest() throws Exception {
+        SiddhiManager siddhiManager = new SiddhiManager();
+
+        String cseEventStream = "" + "define stream cseEventStream (symbol string, price float, volume int);";
+        String query = "" + "@info(name = 'query1') " + "from cseEventStream#throttler:timeBatch(2 sec) "
+                + "select symbol, price, volume, expiryTimeStamp "
+                + "insert all events into outputStream ;";
+
+        SiddhiAppRuntime executionPlanRuntime = siddhiManager.createSiddhiAppRuntime(cseEventStream + query);
+        final AtomicInteger currentEvents = new AtomicInteger();
+        final AtomicInteger expiredEvents = new AtomicInteger();
+        executionPlanRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                if (inEvents != null) {
+                    currentEvents.addAndGet(inEvents.length);
+                }
+                if (removeEvents != null) {
+                    expiredEvents.addAndGet(removeEvents.length);
+                }
+            }
+        });
+
+        final InputHandler inputHandler = executionPlanRuntime.getInputHandler("cseEventStream");
+        executionPlanRuntime.start();
+        int threadCount = 8;
+        final int eventsPerThread = 250;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<?>> futures = new ArrayList<Future<?>>();
+            for (int thread = 0; thread < threadCount; thread++) {
+                final String symbol = "SYMBOL" + thread;
+                futures.add(executorService.submit(() -> {
+                    for (int i = 0; i < eventsPerThread; i++) {
+                        inputHandler.send(new Object[] { symbol, 10f, i });
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        // events sent from every thread, and so buffered in different shards, expire with their batch
+        Thread.sleep(5000);
+        Assert.assertEquals(threadCount * eventsPerThread, currentEvents.get());
+        Assert.assertEquals(threadCount * eventsPerThread, expiredEvents.get());
+        executionPlanRuntime.shutdown();
+    }
+
     @Ignore
     public void throttleTimeWindowBatchTest3() throws InterruptedException {
         SiddhiManager siddhiManager = new SiddhiManager();
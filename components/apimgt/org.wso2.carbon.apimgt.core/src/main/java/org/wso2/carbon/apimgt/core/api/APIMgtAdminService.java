@@ -26,10 +26,12 @@ import org.wso2.carbon.apimgt.core.models.Application;
 import org.wso2.carbon.apimgt.core.models.BlockConditions;
 import org.wso2.carbon.apimgt.core.models.Endpoint;
 import org.wso2.carbon.apimgt.core.models.Label;
+import org.wso2.carbon.apimgt.core.models.PagedResults;
 import org.wso2.carbon.apimgt.core.models.PolicyValidationData;
 import org.wso2.carbon.apimgt.core.models.RegistrationSummary;
 import org.wso2.carbon.apimgt.core.models.SubscriptionValidationData;
 import org.wso2.carbon.apimgt.core.models.UriTemplate;
+import org.wso2.carbon.apimgt.core.models.events.GatewayChange;
 import org.wso2.carbon.apimgt.core.models.policy.APIPolicy;
 import org.wso2.carbon.apimgt.core.models.policy.ApplicationPolicy;
 import org.wso2.carbon.apimgt.core.models.policy.CustomPolicy;
@@ -40,6 +42,7 @@ import org.wso2.carbon.apimgt.core.workflow.Workflow;
 
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * This interface used to have API core services
@@ -75,6 +78,45 @@ public interface APIMgtAdminService {
      */
     List<SubscriptionValidationData> getAPISubscriptions(int limit) throws APIManagementException;
 
+    /**
+     * Return a page of API subscriptions
+     *
+     * @param limit maximum number of subscriptions in the page, all subscriptions are returned if negative
+     * @param after token of the page returned with the previous page, or null to get the first page
+     * @return page of subscriptions
+     * @throws APIManagementException If failed to get list of subscriptions or if the page token is invalid.
+     */
+    PagedResults<SubscriptionValidationData> getAPISubscriptions(int limit, String after)
+            throws APIManagementException;
+
+    /**
+     * Pass each API subscription to a consumer as it is read, without holding all subscriptions in memory
+     *
+     * @param consumer consumer of the subscriptions
+     * @throws APIManagementException If failed to get subscriptions.
+     */
+    void forEachAPISubscription(Consumer<SubscriptionValidationData> consumer) throws APIManagementException;
+
+    /**
+     * Return the gateway events published after a given revision of the gateway change log
+     *
+     * @param since last revision seen by the gateway
+     * @param limit maximum number of changes to return, all changes are returned if not positive
+     * @return changes in the order of their revisions
+     * @throws APIManagementException If failed to get the changes.
+     */
+    List<GatewayChange> getGatewayChanges(long since, int limit) throws APIManagementException;
+
+    /**
+     * Return the latest revision of the gateway change log. A gateway which loads a full snapshot gets this
+     * revision before loading the snapshot and follows the change log from it, so that changes made while the
+     * snapshot is loaded are not missed.
+     *
+     * @return latest revision, 0 if no change has been recorded
+     * @throws APIManagementException If failed to get the revision.
+     */
+    long getLatestGatewayChangeRevision() throws APIManagementException;
+
     /**
      * Return all API subscriptions of a given API
      *
@@ -363,6 +405,14 @@ public interface APIMgtAdminService {
      */
     List<Application> getAllApplications() throws APIManagementException;
 
+    /**
+     * Pass each Application to a consumer as it is read, without holding all Applications in memory
+     *
+     * @param consumer consumer of the Applications
+     * @throws APIManagementException If failed to get Applications
+     */
+    void forEachApplication(Consumer<Application> consumer) throws APIManagementException;
+
     /**
      *
      * Get List of Endpoints
@@ -32,6 +32,7 @@ import org.wso2.carbon.apimgt.core.models.DocumentInfo;
 import org.wso2.carbon.apimgt.core.models.Endpoint;
 import org.wso2.carbon.apimgt.core.models.Label;
 import org.wso2.carbon.apimgt.core.models.LifeCycleEvent;
+import org.wso2.carbon.apimgt.core.models.PagedResults;
 import org.wso2.carbon.apimgt.core.models.Provider;
 import org.wso2.carbon.apimgt.core.models.Scope;
 import org.wso2.carbon.apimgt.core.models.Subscription;
@@ -263,6 +264,16 @@ public interface APIPublisher extends APIManager {
      */
     List<API> searchAPIs(Integer limit, Integer offset, String query, boolean expand) throws APIManagementException;
 
+    /**
+     * Returns a page of the APIs visible to the logged in user, ordered by API name
+     *
+     * @param limit Maximum number of APIs to return
+     * @param after Token returned as {@link PagedResults#getNext()} of the previous page, or null for the first page
+     * @return page of APIs
+     * @throws APIManagementException If failed to retrieve APIs or if the page token is invalid.
+     */
+    PagedResults<API> getAPIs(int limit, String after) throws APIManagementException;
+
     /**
      * Update the subscription status
      *
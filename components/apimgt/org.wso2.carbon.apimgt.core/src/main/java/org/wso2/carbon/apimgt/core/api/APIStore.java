@@ -36,6 +36,7 @@ import org.wso2.carbon.apimgt.core.models.Comment;
 import org.wso2.carbon.apimgt.core.models.CompositeAPI;
 import org.wso2.carbon.apimgt.core.models.Label;
 import org.wso2.carbon.apimgt.core.models.OAuthApplicationInfo;
+import org.wso2.carbon.apimgt.core.models.PagedResults;
 import org.wso2.carbon.apimgt.core.models.Rating;
 import org.wso2.carbon.apimgt.core.models.Subscription;
 import org.wso2.carbon.apimgt.core.models.SubscriptionResponse;
@@ -89,6 +90,17 @@ public interface APIStore extends APIManager {
     List<API> searchAPIsByStoreLabels(String query, int offset, int limit, Set<String> labels) throws
             APIManagementException;
 
+    /**
+     * Returns a page of the published and prototyped APIs visible to the logged in user, ordered by API name
+     *
+     * @param limit  Maximum number of APIs to return
+     * @param after  Token returned as {@link PagedResults#getNext()} of the previous page, or null for the first page
+     * @param labels names of the store labels, or an empty set for APIs with any store label
+     * @return page of APIs
+     * @throws APIManagementException If failed to retrieve APIs or if the page token is invalid.
+     */
+    PagedResults<API> getAPIsByStoreLabels(int limit, String after, Set<String> labels) throws APIManagementException;
+
     /**
      * Returns a paginated list of all Composite APIs which match the given search criteria.
      *
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.api;
+
+/**
+ * Listener notified when an access token is revoked through a {@link KeyManager}, so that components keeping
+ * validated tokens locally can stop accepting the token.
+ */
+@FunctionalInterface
+public interface TokenRevocationListener {
+
+    /**
+     * Called after a request to revoke an access token
+     *
+     * @param accessToken revoked access token
+     */
+    void tokenRevoked(String accessToken);
+}
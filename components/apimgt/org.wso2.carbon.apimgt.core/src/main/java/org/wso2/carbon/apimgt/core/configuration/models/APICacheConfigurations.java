@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.configuration.models;
+
+import org.wso2.carbon.config.annotation.Configuration;
+import org.wso2.carbon.config.annotation.Element;
+
+/**
+ * Class to hold the configurations of the API model cache kept in front of the API data layer
+ */
+@Configuration(description = "API model cache configurations")
+public class APICacheConfigurations {
+
+    @Element(description = "enable caching of API models")
+    private boolean enabled = true;
+    @Element(description = "maximum number of APIs kept in the cache")
+    private int maxApiCount = 1000;
+    @Element(description = "maximum number of store listing pages kept in the cache")
+    private int maxListingCount = 200;
+    @Element(description = "time in seconds a cached entry is served before it is loaded again")
+    private int expiryTime = 300;
+    @Element(description = "maximum number of parsed swagger definitions kept in the cache, 0 disables the cache")
+    private int maxSwaggerDefinitionCount = 50;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxApiCount() {
+        return maxApiCount;
+    }
+
+    public void setMaxApiCount(int maxApiCount) {
+        this.maxApiCount = maxApiCount;
+    }
+
+    public int getMaxListingCount() {
+        return maxListingCount;
+    }
+
+    public void setMaxListingCount(int maxListingCount) {
+        this.maxListingCount = maxListingCount;
+    }
+
+    public int getExpiryTime() {
+        return expiryTime;
+    }
+
+    public void setExpiryTime(int expiryTime) {
+        this.expiryTime = expiryTime;
+    }
+
+    public int getMaxSwaggerDefinitionCount() {
+        return maxSwaggerDefinitionCount;
+    }
+
+    public void setMaxSwaggerDefinitionCount(int maxSwaggerDefinitionCount) {
+        this.maxSwaggerDefinitionCount = maxSwaggerDefinitionCount;
+    }
+}
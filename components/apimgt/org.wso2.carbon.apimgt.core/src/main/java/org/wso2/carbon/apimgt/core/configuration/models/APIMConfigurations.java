@@ -96,6 +96,28 @@ public class APIMConfigurations {
     @Element(description = "File Encryption Configurations")
     private FileEncryptionConfigurations fileEncryptionConfigurations = new FileEncryptionConfigurations();
 
+    @Element(description = "API Cache Configurations")
+    private APICacheConfigurations apiCacheConfigurations = new APICacheConfigurations();
+
+    @Element(description = "API Search Index Configurations")
+    private SearchIndexConfigurations searchIndexConfigurations = new SearchIndexConfigurations();
+
+    public APICacheConfigurations getApiCacheConfigurations() {
+        return apiCacheConfigurations;
+    }
+
+    public void setApiCacheConfigurations(APICacheConfigurations apiCacheConfigurations) {
+        this.apiCacheConfigurations = apiCacheConfigurations;
+    }
+
+    public SearchIndexConfigurations getSearchIndexConfigurations() {
+        return searchIndexConfigurations;
+    }
+
+    public void setSearchIndexConfigurations(SearchIndexConfigurations searchIndexConfigurations) {
+        this.searchIndexConfigurations = searchIndexConfigurations;
+    }
+
     public FileEncryptionConfigurations getFileEncryptionConfigurations() {
         return fileEncryptionConfigurations;
     }
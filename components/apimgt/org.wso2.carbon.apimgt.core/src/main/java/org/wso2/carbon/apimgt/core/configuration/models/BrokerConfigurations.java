@@ -37,6 +37,20 @@ public class BrokerConfigurations {
     private String throttleTopic = "ThrottleTopic";
     @Element(description = "Threat Protection Topic")
     private String threatProtectionTopic = "ThreatProtectionTopic";
+    @Element(description = "Topic on which nodes announce the APIs to be removed from their API caches")
+    private String apiCacheInvalidationTopic = "APICacheInvalidationTopic";
+    @Element(description = "Maximum number of idle publishers kept per topic")
+    private int publisherPoolSize = 10;
+    @Element(description = "Publish events asynchronously in batches")
+    private boolean asyncPublishingEnabled = false;
+    @Element(description = "Maximum number of events waiting to be published asynchronously")
+    private int asyncPublishQueueSize = 10000;
+    @Element(description = "Maximum number of events published in one asynchronous batch")
+    private int asyncPublishBatchSize = 100;
+    @Element(description = "Number of times an asynchronous batch is retried when publishing fails")
+    private int asyncPublishRetryCount = 3;
+    @Element(description = "Initial wait time in milliseconds before retrying an asynchronous batch")
+    private long asyncPublishRetryInterval = 500;
 
     public JMSConnectionConfiguration getJmsConnectionConfiguration() {
         return jmsConnectionConfiguration;
@@ -77,4 +91,60 @@ public class BrokerConfigurations {
     public void setThreatProtectionTopic(String threatProtectionTopic) {
         this.threatProtectionTopic = threatProtectionTopic;
     }
+
+    public String getApiCacheInvalidationTopic() {
+        return apiCacheInvalidationTopic;
+    }
+
+    public void setApiCacheInvalidationTopic(String apiCacheInvalidationTopic) {
+        this.apiCacheInvalidationTopic = apiCacheInvalidationTopic;
+    }
+
+    public int getPublisherPoolSize() {
+        return publisherPoolSize;
+    }
+
+    public void setPublisherPoolSize(int publisherPoolSize) {
+        this.publisherPoolSize = publisherPoolSize;
+    }
+
+    public boolean isAsyncPublishingEnabled() {
+        return asyncPublishingEnabled;
+    }
+
+    public void setAsyncPublishingEnabled(boolean asyncPublishingEnabled) {
+        this.asyncPublishingEnabled = asyncPublishingEnabled;
+    }
+
+    public int getAsyncPublishQueueSize() {
+        return asyncPublishQueueSize;
+    }
+
+    public void setAsyncPublishQueueSize(int asyncPublishQueueSize) {
+        this.asyncPublishQueueSize = asyncPublishQueueSize;
+    }
+
+    public int getAsyncPublishBatchSize() {
+        return asyncPublishBatchSize;
+    }
+
+    public void setAsyncPublishBatchSize(int asyncPublishBatchSize) {
+        this.asyncPublishBatchSize = asyncPublishBatchSize;
+    }
+
+    public int getAsyncPublishRetryCount() {
+        return asyncPublishRetryCount;
+    }
+
+    public void setAsyncPublishRetryCount(int asyncPublishRetryCount) {
+        this.asyncPublishRetryCount = asyncPublishRetryCount;
+    }
+
+    public long getAsyncPublishRetryInterval() {
+        return asyncPublishRetryInterval;
+    }
+
+    public void setAsyncPublishRetryInterval(long asyncPublishRetryInterval) {
+        this.asyncPublishRetryInterval = asyncPublishRetryInterval;
+    }
 }
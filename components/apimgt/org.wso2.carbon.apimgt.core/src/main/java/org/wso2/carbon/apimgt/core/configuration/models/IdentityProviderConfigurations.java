@@ -35,6 +35,12 @@ public class IdentityProviderConfigurations {
     private CredentialConfigurations identityProviderCredentials = new CredentialConfigurations();
     @Element(description = "Alias of Identity Provider Certificate in Client Trust Store")
     private String idpCertAlias = "wso2carbon";
+    @Element(description = "enable caching of user IDs and roles retrieved from the identity provider")
+    private boolean cacheEnabled = true;
+    @Element(description = "time in seconds a cached user ID or role is served before it is retrieved again")
+    private int cacheExpiryTime = 300;
+    @Element(description = "maximum number of entries kept in each identity provider cache")
+    private int cacheMaxSize = 10000;
 
     public String getIdentityProviderImplClass() {
         return identityProviderImplClass;
@@ -67,4 +73,28 @@ public class IdentityProviderConfigurations {
     public void setIdpCertAlias(String idpCertAlias) {
         this.idpCertAlias = idpCertAlias;
     }
+
+    public boolean isCacheEnabled() {
+        return cacheEnabled;
+    }
+
+    public void setCacheEnabled(boolean cacheEnabled) {
+        this.cacheEnabled = cacheEnabled;
+    }
+
+    public int getCacheExpiryTime() {
+        return cacheExpiryTime;
+    }
+
+    public void setCacheExpiryTime(int cacheExpiryTime) {
+        this.cacheExpiryTime = cacheExpiryTime;
+    }
+
+    public int getCacheMaxSize() {
+        return cacheMaxSize;
+    }
+
+    public void setCacheMaxSize(int cacheMaxSize) {
+        this.cacheMaxSize = cacheMaxSize;
+    }
 }
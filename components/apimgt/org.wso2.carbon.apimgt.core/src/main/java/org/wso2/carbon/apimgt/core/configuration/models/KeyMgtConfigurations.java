@@ -55,6 +55,13 @@ public class KeyMgtConfigurations {
     private String productRestApiScopesKeyWord = "apim:";
     @Element(description = "Audience")
     private String audience = "http://org.wso2.apimgt/gateway";
+    @Element(description = "enable caching of validated access tokens of the management REST APIs. Revocations are "
+            + "not propagated to other nodes, so a revoked token stays valid on them for up to the maximum expiry time")
+    private boolean tokenCacheEnabled = false;
+    @Element(description = "maximum time in seconds a validated access token is served from the cache")
+    private int tokenCacheMaxExpiryTime = 300;
+    @Element(description = "maximum number of validated access tokens kept in the cache")
+    private int tokenCacheMaxSize = 10000;
 
     public String getKeyManagerImplClass() {
         return keyManagerImplClass;
@@ -165,4 +172,28 @@ public class KeyMgtConfigurations {
     public void setAudience(String audience) {
         this.audience = audience;
     }
+
+    public boolean isTokenCacheEnabled() {
+        return tokenCacheEnabled;
+    }
+
+    public void setTokenCacheEnabled(boolean tokenCacheEnabled) {
+        this.tokenCacheEnabled = tokenCacheEnabled;
+    }
+
+    public int getTokenCacheMaxExpiryTime() {
+        return tokenCacheMaxExpiryTime;
+    }
+
+    public void setTokenCacheMaxExpiryTime(int tokenCacheMaxExpiryTime) {
+        this.tokenCacheMaxExpiryTime = tokenCacheMaxExpiryTime;
+    }
+
+    public int getTokenCacheMaxSize() {
+        return tokenCacheMaxSize;
+    }
+
+    public void setTokenCacheMaxSize(int tokenCacheMaxSize) {
+        this.tokenCacheMaxSize = tokenCacheMaxSize;
+    }
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.configuration.models;
+
+import org.wso2.carbon.config.annotation.Configuration;
+import org.wso2.carbon.config.annotation.Element;
+
+/**
+ * Class to hold the configurations of the API search index used for full text search of APIs
+ */
+@Configuration(description = "API search index configurations")
+public class SearchIndexConfigurations {
+
+    @Element(description = "serve full text API search from the search index instead of the database")
+    private boolean enabled = false;
+    @Element(description = "implementation of the search index")
+    private String searchIndexImplClass = "org.wso2.carbon.apimgt.core.dao.impl.InMemoryAPISearchIndex";
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getSearchIndexImplClass() {
+        return searchIndexImplClass;
+    }
+
+    public void setSearchIndexImplClass(String searchIndexImplClass) {
+        this.searchIndexImplClass = searchIndexImplClass;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.dao;
+
+import org.wso2.carbon.apimgt.core.models.API;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Full text index of APIs which answers the Publisher and Store API searches without querying the database.
+ * <p>
+ * The index holds standard APIs only. It is filled and kept up to date by the API data layer, which loads the
+ * matching API summaries for the IDs returned by a search. Implementations must be thread safe.
+ */
+public interface APISearchIndex {
+
+    /**
+     * Add an API to the index, replacing the indexed entry of the API if there is one
+     *
+     * @param api API with its tags, labels, visible roles and permissions
+     */
+    void addOrUpdateAPI(API api);
+
+    /**
+     * Remove an API from the index
+     *
+     * @param apiId UUID of the API
+     */
+    void removeAPI(String apiId);
+
+    /**
+     * Replace every API in the index with the given APIs, as a single change seen by concurrent searches
+     *
+     * @param apis APIs with their tags, labels, visible roles and permissions
+     */
+    void replaceAllAPIs(Collection<API> apis);
+
+    /**
+     * Search APIs which the user can view in the Publisher. An API can be viewed if the user is its provider, if it
+     * has no permissions set, or if one of the roles of the user has read permission for it.
+     *
+     * @param roles        role IDs of the user
+     * @param user         current user
+     * @param searchString search string
+     * @param offset       the starting point of the search results
+     * @param limit        number of search results that will be returned
+     * @return UUIDs of the matching APIs ordered by API name
+     */
+    List<String> searchAPIs(Set<String> roles, String user, String searchString, int offset, int limit);
+
+    /**
+     * Search published and prototyped APIs which are visible in the Store to a user with the given roles
+     *
+     * @param roles        role names of the user
+     * @param searchString search string
+     * @param offset       the starting point of the search results
+     * @param limit        number of search results that will be returned
+     * @param labels       store labels the store started with, any store label if empty
+     * @return UUIDs of the matching APIs ordered by API name
+     */
+    List<String> searchAPIsByStoreLabel(Set<String> roles, String searchString, int offset, int limit,
+                                        Set<String> labels);
+}
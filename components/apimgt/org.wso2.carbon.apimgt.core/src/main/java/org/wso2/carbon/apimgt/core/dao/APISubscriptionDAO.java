@@ -22,13 +22,17 @@ package org.wso2.carbon.apimgt.core.dao;
 
 import org.wso2.carbon.apimgt.core.exception.APIMgtDAOException;
 import org.wso2.carbon.apimgt.core.models.APISubscriptionResults;
+import org.wso2.carbon.apimgt.core.models.PageCursor;
+import org.wso2.carbon.apimgt.core.models.PagedResults;
 import org.wso2.carbon.apimgt.core.models.Subscription;
 import org.wso2.carbon.apimgt.core.models.SubscriptionValidationData;
 import org.wso2.carbon.apimgt.core.models.SubscriptionValidationResult;
 import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
 
 import java.util.List;
+import java.util.function.Consumer;
 import javax.annotation.CheckForNull;
+import javax.annotation.Nullable;
 
 
 /**
@@ -121,6 +125,29 @@ public interface APISubscriptionDAO {
     @CheckForNull
     List<SubscriptionValidationData> getAPISubscriptionsOfAPIForValidation(int limit) throws APIMgtDAOException;
 
+    /**
+     * Retrieve a page of API Subscriptions for validation. Subscriptions are listed in the order of their consumer
+     * keys and API UUIDs.
+     *
+     * @param after cursor of the last subscription of the previous page, or null to get the first page
+     * @param limit maximum number of subscriptions in the page, all subscriptions are returned if negative
+     * @return page of {@link SubscriptionValidationData} objects
+     * @throws APIMgtDAOException If failed to get subscriptions.
+     */
+    PagedResults<SubscriptionValidationData> getAPISubscriptionsOfAPIForValidation(@Nullable PageCursor after,
+                                                                                   int limit)
+            throws APIMgtDAOException;
+
+    /**
+     * Pass each API Subscription for validation to a consumer as it is read from the DB, without holding all
+     * subscriptions in memory
+     *
+     * @param consumer consumer of the subscriptions
+     * @throws APIMgtDAOException If failed to get subscriptions.
+     */
+    void forEachAPISubscriptionForValidation(Consumer<SubscriptionValidationData> consumer)
+            throws APIMgtDAOException;
+
     /**
      * Retrieves all available API Subscriptions. This method supports result pagination and ensuring results
      * returned are those that belong to the specified username
@@ -133,6 +160,19 @@ public interface APISubscriptionDAO {
      */
     List<Subscription> getAPISubscriptionsForUser(int offset, int limit, String username) throws APIMgtDAOException;
 
+    /**
+     * Retrieves a page of the API Subscriptions of the APIs provided by the specified username, ordered by API name
+     * and subscription UUID
+     *
+     * @param after    Position of the last subscription of the previous page, or null to get the first page
+     * @param limit    The maximum number of results to be returned
+     * @param username The username to filter results by
+     * @return matching subscriptions
+     * @throws APIMgtDAOException If failed to get subscriptions.
+     */
+    List<Subscription> getAPISubscriptionsForUser(PageCursor after, int limit, String username)
+            throws APIMgtDAOException;
+
     /**
      * Retrieves all available API Subscriptions. This method supports result pagination and
      * ensures results returned are those that belong to the specified Group ID
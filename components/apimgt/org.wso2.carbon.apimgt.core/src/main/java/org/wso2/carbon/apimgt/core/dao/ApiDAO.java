@@ -28,6 +28,7 @@ import org.wso2.carbon.apimgt.core.models.CompositeAPI;
 import org.wso2.carbon.apimgt.core.models.DedicatedGateway;
 import org.wso2.carbon.apimgt.core.models.DocumentInfo;
 import org.wso2.carbon.apimgt.core.models.Endpoint;
+import org.wso2.carbon.apimgt.core.models.PageCursor;
 import org.wso2.carbon.apimgt.core.models.Rating;
 import org.wso2.carbon.apimgt.core.models.UriTemplate;
 import org.wso2.carbon.apimgt.core.util.APIMgtConstants.APILCWorkflowStatus;
@@ -107,6 +108,19 @@ public interface ApiDAO {
     List<CompositeAPI> getCompositeAPIs(Set<String> roles, String user, int offset, int limit)
             throws APIMgtDAOException;
 
+    /**
+     * Retrieves a page of composite APIs of PROVIDER <code>user</code>, ordered by name and UUID.
+     *
+     * @param roles The set of roles of the current user
+     * @param user  Name of the PROVIDER who owns requested set of Composite APIs
+     * @param after Position of the last API of the previous page, or null to get the first page
+     * @param limit Number of results to be included in the resulting list
+     * @return list of Composite APIs
+     * @throws APIMgtDAOException if database error occurred while querying data
+     */
+    List<CompositeAPI> getCompositeAPIs(Set<String> roles, String user, PageCursor after, int limit)
+            throws APIMgtDAOException;
+
     /**
      * Retrieves the last updated time of an API
      *
@@ -145,6 +159,18 @@ public interface ApiDAO {
      */
     List<API> getAPIs(Set<String> roles, String user) throws APIMgtDAOException;
 
+    /**
+     * Retrieves a page of summary data of available APIs, ordered by name and UUID.
+     *
+     * @param roles The set of roles of the current user
+     * @param user  The userName of the current user
+     * @param after Position of the last API of the previous page, or null to get the first page
+     * @param limit Maximum number of APIs to return
+     * @return {@code List<API>} matching results
+     * @throws APIMgtDAOException if error occurs while accessing data layer
+     */
+    List<API> getAPIs(Set<String> roles, String user, PageCursor after, int limit) throws APIMgtDAOException;
+
     /**
      * Retrieves summary data of all available APIs with life cycle status that matches the status list provided
      *
@@ -167,6 +193,21 @@ public interface ApiDAO {
      */
     List<API> getAPIsByStatus(Set<String> roles, Set<APIStatus> statuses, Set<String> labels) throws APIMgtDAOException;
 
+    /**
+     * Retrieves a page of summary data of APIs with role based visibility and a life cycle status that matches the
+     * status list provided, ordered by name and UUID.
+     *
+     * @param roles    role list of current user
+     * @param statuses status of APIs to be returned
+     * @param labels   store labels of the APIs, or an empty set for APIs with any store label
+     * @param after    Position of the last API of the previous page, or null to get the first page
+     * @param limit    Maximum number of APIs to return
+     * @return API list
+     * @throws APIMgtDAOException if failed to fetch APIs from database
+     */
+    List<API> getAPIsByStatus(Set<String> roles, Set<APIStatus> statuses, Set<String> labels, PageCursor after,
+                              int limit) throws APIMgtDAOException;
+
     /**
      * Retrieves summary of paginated data of all available APIs that match the given search criteria. This will use
      * the full text search for API table
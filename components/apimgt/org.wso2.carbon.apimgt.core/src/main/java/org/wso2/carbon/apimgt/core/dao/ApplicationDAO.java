@@ -24,8 +24,10 @@ package org.wso2.carbon.apimgt.core.dao;
 import org.wso2.carbon.apimgt.core.exception.APIMgtDAOException;
 import org.wso2.carbon.apimgt.core.models.Application;
 import org.wso2.carbon.apimgt.core.models.OAuthApplicationInfo;
+import org.wso2.carbon.apimgt.core.models.PageCursor;
 
 import java.util.List;
+import java.util.function.Consumer;
 import javax.annotation.CheckForNull;
 
 /**
@@ -62,6 +64,17 @@ public interface ApplicationDAO {
      */
     List<Application> getApplications(String ownerId) throws APIMgtDAOException;
 
+    /**
+     * Retrieves a page of the Applications that belong to a user, ordered by name and UUID.
+     *
+     * @param ownerId Username of user
+     * @param after   Position of the last Application of the previous page, or null to get the first page
+     * @param limit   The maximum number of results to be returned
+     * @return A list of {@link Application}
+     * @throws APIMgtDAOException   If failed to get applications.
+     */
+    List<Application> getApplications(String ownerId, PageCursor after, int limit) throws APIMgtDAOException;
+
     /**
      * Retrieves summary data of all available Applications. This method supports result pagination and
      * ensures results returned are those that belong to the specified username
@@ -176,4 +189,12 @@ public interface ApplicationDAO {
      */
     List<Application> getAllApplications() throws APIMgtDAOException;
 
+    /**
+     * Pass each Application to a consumer as it is read from the DB, without holding all Applications in memory
+     *
+     * @param consumer consumer of the Applications
+     * @throws APIMgtDAOException if DB level exception occurred
+     */
+    void forEachApplication(Consumer<Application> consumer) throws APIMgtDAOException;
+
 }
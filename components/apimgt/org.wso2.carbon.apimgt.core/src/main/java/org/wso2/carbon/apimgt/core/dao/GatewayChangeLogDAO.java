@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.dao;
+
+import org.wso2.carbon.apimgt.core.exception.APIMgtDAOException;
+import org.wso2.carbon.apimgt.core.models.events.GatewayChange;
+
+import java.util.List;
+
+/**
+ * Provides access to the change log of the API, subscription, application and policy events sent to gateways
+ */
+public interface GatewayChangeLogDAO {
+
+    /**
+     * Record a gateway event in the change log
+     *
+     * @param eventType type of the event
+     * @param event     event as published to the broker, in JSON
+     * @return revision assigned to the change
+     * @throws APIMgtDAOException if error occurred while adding the change
+     */
+    long addChange(String eventType, String event) throws APIMgtDAOException;
+
+    /**
+     * Get the changes recorded after a given revision, in the order of their revisions
+     *
+     * @param revision last revision already seen by the caller
+     * @param limit    maximum number of changes to return, all changes are returned if not positive
+     * @return changes with a revision greater than {@code revision}
+     * @throws APIMgtDAOException if error occurred while getting the changes
+     */
+    List<GatewayChange> getChangesSince(long revision, int limit) throws APIMgtDAOException;
+
+    /**
+     * Get the revision of the latest change
+     *
+     * @return latest revision, 0 if no change has been recorded
+     * @throws APIMgtDAOException if error occurred while getting the revision
+     */
+    long getLatestRevision() throws APIMgtDAOException;
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.dao.impl;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.apimgt.core.configuration.models.BrokerConfigurations;
+import org.wso2.carbon.apimgt.core.dao.ApiDAO;
+import org.wso2.carbon.apimgt.core.exception.APIMgtDAOException;
+import org.wso2.carbon.apimgt.core.exception.BrokerException;
+import org.wso2.carbon.apimgt.core.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.core.util.APIMgtConstants.GatewayEventTypes;
+import org.wso2.carbon.apimgt.core.util.BrokerUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageListener;
+import javax.jms.TextMessage;
+import javax.jms.TopicConnection;
+
+/**
+ * Listens to the gateway events and the API cache invalidation events published to the broker and invalidates the
+ * API models cached by {@link CachingApiDAO}, so that changes made on any node are visible on all nodes. APIs
+ * changed on other nodes are also updated in the API search index.
+ */
+public class APICacheInvalidationListener implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(APICacheInvalidationListener.class);
+    private static final String EVENT_TYPE = "eventType";
+    private static final String API_SUMMARY = "apiSummary";
+    private static final String ID = "id";
+    private static final String API_ID = "apiId";
+
+    private final List<TopicConnection> topicConnections = new ArrayList<>();
+
+    /**
+     * Subscribe to the topics which carry API, endpoint, policy and API cache invalidation events
+     *
+     * @throws BrokerException if a subscription cannot be created
+     */
+    public synchronized void start() throws BrokerException {
+        if (!topicConnections.isEmpty()) {
+            return;
+        }
+        BrokerConfigurations brokerConfigurations = ServiceReferenceHolder.getInstance().getAPIMConfiguration()
+                .getBrokerConfigurations();
+        try {
+            topicConnections.add(BrokerUtil.subscribeToTopic(brokerConfigurations.getPublisherTopic(), this));
+            topicConnections.add(BrokerUtil.subscribeToTopic(brokerConfigurations.getThrottleTopic(), this));
+            topicConnections.add(BrokerUtil.subscribeToTopic(brokerConfigurations.getThreatProtectionTopic(), this));
+            topicConnections.add(BrokerUtil.subscribeToTopic(brokerConfigurations.getApiCacheInvalidationTopic(),
+                    this));
+        } catch (BrokerException e) {
+            stop();
+            throw e;
+        }
+    }
+
+    /**
+     * Close the subscriptions
+     */
+    public synchronized void stop() {
+        for (TopicConnection topicConnection : topicConnections) {
+            try {
+                topicConnection.close();
+            } catch (JMSException e) {
+                log.error("Error occurred while closing topic connection of API cache invalidation", e);
+            }
+        }
+        topicConnections.clear();
+    }
+
+    @Override
+    public void onMessage(Message message) {
+        if (!(message instanceof TextMessage)) {
+            return;
+        }
+        try {
+            JsonObject event = new JsonParser().parse(((TextMessage) message).getText()).getAsJsonObject();
+            JsonElement eventType = event.get(EVENT_TYPE);
+            if (eventType == null) {
+                return;
+            }
+            DAOFactory daoFactory = new DAOFactory();
+            ApiDAO apiDAO = daoFactory.getApiDAO();
+            if (apiDAO instanceof CachingApiDAO) {
+                invalidate((CachingApiDAO) apiDAO, eventType.getAsString(), event);
+            }
+            String apiId = getApiId(eventType.getAsString(), event);
+            ApiDAOImpl apiDAOImpl = daoFactory.getApiDAOImpl();
+            if (apiId != null && apiDAOImpl != null) {
+                apiDAOImpl.refreshSearchIndex(apiId);
+            }
+        } catch (JMSException | JsonParseException | IllegalStateException | APIMgtDAOException e) {
+            log.error("Error occurred while invalidating cached APIs for a gateway event", e);
+        }
+    }
+
+    private static void invalidate(CachingApiDAO apiDAO, String eventType, JsonObject event) {
+        switch (eventType) {
+            case GatewayEventTypes.API_CREATE:
+            case GatewayEventTypes.API_UPDATE:
+            case GatewayEventTypes.API_DELETE:
+            case GatewayEventTypes.API_STATE_CHANGE:
+                String apiId = getApiId(eventType, event);
+                if (apiId != null) {
+                    apiDAO.invalidate(apiId);
+                } else {
+                    apiDAO.invalidateAll();
+                }
+                break;
+            case GatewayEventTypes.API_CACHE_INVALIDATE:
+                String invalidatedApiId = getApiId(eventType, event);
+                if (invalidatedApiId != null) {
+                    apiDAO.invalidate(invalidatedApiId);
+                } else {
+                    apiDAO.invalidateAll();
+                }
+                break;
+            case GatewayEventTypes.ENDPOINT_UPDATE:
+            case GatewayEventTypes.ENDPOINT_DELETE:
+            case GatewayEventTypes.POLICY_UPDATE:
+            case GatewayEventTypes.POLICY_DELETE:
+            case GatewayEventTypes.THREAT_PROTECTION_POLICY_UPDATE:
+            case GatewayEventTypes.THREAT_PROTECTION_POLICY_DELETE:
+                apiDAO.invalidateAll();
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * @return UUID of the API an API or cache invalidation event is about, or null if the event is not about a
+     * single API
+     */
+    private static String getApiId(String eventType, JsonObject event) {
+        switch (eventType) {
+            case GatewayEventTypes.API_CREATE:
+            case GatewayEventTypes.API_UPDATE:
+            case GatewayEventTypes.API_DELETE:
+            case GatewayEventTypes.API_STATE_CHANGE:
+                JsonElement apiSummary = event.get(API_SUMMARY);
+                JsonElement apiId = apiSummary != null && apiSummary.isJsonObject() ?
+                        apiSummary.getAsJsonObject().get(ID) : null;
+                return apiId == null ? null : apiId.getAsString();
+            case GatewayEventTypes.API_CACHE_INVALIDATE:
+                JsonElement invalidatedApiId = event.get(API_ID);
+                return invalidatedApiId == null || invalidatedApiId.isJsonNull() ? null :
+                        invalidatedApiId.getAsString();
+            default:
+                return null;
+        }
+    }
+}
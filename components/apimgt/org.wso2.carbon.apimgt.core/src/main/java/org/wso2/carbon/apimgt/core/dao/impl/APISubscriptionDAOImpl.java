@@ -20,6 +20,7 @@
 
 package org.wso2.carbon.apimgt.core.dao.impl;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.wso2.carbon.apimgt.core.dao.APISubscriptionDAO;
@@ -29,6 +30,8 @@ import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
 import org.wso2.carbon.apimgt.core.models.API;
 import org.wso2.carbon.apimgt.core.models.APISubscriptionResults;
 import org.wso2.carbon.apimgt.core.models.Application;
+import org.wso2.carbon.apimgt.core.models.PageCursor;
+import org.wso2.carbon.apimgt.core.models.PagedResults;
 import org.wso2.carbon.apimgt.core.models.Subscription;
 import org.wso2.carbon.apimgt.core.models.SubscriptionValidationData;
 import org.wso2.carbon.apimgt.core.models.SubscriptionValidationResult;
@@ -44,6 +47,7 @@ import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Default implementation of the APISubscriptionDAO interface. Uses SQL syntax that is common to H2 and MySQL DBs.
@@ -246,6 +250,70 @@ public class APISubscriptionDAOImpl implements APISubscriptionDAO {
         }
     }
 
+    @Override
+    public PagedResults<SubscriptionValidationData> getAPISubscriptionsOfAPIForValidation(PageCursor after,
+                                                                                          int limit)
+            throws APIMgtDAOException {
+        if (limit == 0) {
+            return new PagedResults<>(new ArrayList<>(), null);
+        }
+        String getSubscriptionsSql = "SELECT SUBS.API_ID AS API_ID,SUBS.APPLICATION_ID AS APP_ID,SUBS" +
+                ".SUB_STATUS AS SUB_STATUS, API.PROVIDER AS API_PROVIDER, API.NAME AS API_NAME,API.CONTEXT AS " +
+                "API_CONTEXT, API.VERSION AS API_VERSION,SUBS.TIER_ID AS SUBS_POLICY , KEY_MAP.CLIENT_ID AS " +
+                "CLIENT_ID,KEY_MAP.KEY_TYPE AS KEY_ENV_TYPE FROM AM_SUBSCRIPTION SUBS, AM_API API,AM_APP_KEY_MAPPING " +
+                "KEY_MAP WHERE SUBS.API_ID = API.UUID AND KEY_MAP.APPLICATION_ID = SUBS.APPLICATION_ID";
+        if (after != null) {
+            getSubscriptionsSql += " AND " + DAOUtil.getPageCursorCondition("KEY_MAP.CLIENT_ID", "SUBS.API_ID");
+        }
+        getSubscriptionsSql += " ORDER BY KEY_MAP.CLIENT_ID, SUBS.API_ID";
+        try (Connection conn = DAOUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(getSubscriptionsSql)) {
+            if (after != null) {
+                DAOUtil.setPageCursorParameters(ps, 0, after);
+            }
+            if (limit > 0) {
+                // one more row than the page size tells whether there is a next page
+                ps.setMaxRows(limit + 1);
+            }
+            List<SubscriptionValidationData> subscriptions = new ArrayList<>();
+            List<PageCursor> cursors = new ArrayList<>();
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    subscriptions.add(createSubscriptionValidationData(rs));
+                    cursors.add(new PageCursor(rs.getString("CLIENT_ID"), rs.getString("API_ID")));
+                }
+            }
+            if (limit < 0 || subscriptions.size() <= limit) {
+                return new PagedResults<>(subscriptions, null);
+            }
+            return new PagedResults<>(subscriptions.subList(0, limit), cursors.get(limit - 1).toToken());
+        } catch (SQLException e) {
+            throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "getting page of api subscriptions for validation",
+                    e);
+        }
+    }
+
+    @Override
+    public void forEachAPISubscriptionForValidation(Consumer<SubscriptionValidationData> consumer)
+            throws APIMgtDAOException {
+        final String getSubscriptionsSql = "SELECT SUBS.API_ID AS API_ID,SUBS.APPLICATION_ID AS APP_ID,SUBS" +
+                ".SUB_STATUS AS SUB_STATUS, API.PROVIDER AS API_PROVIDER, API.NAME AS API_NAME,API.CONTEXT AS " +
+                "API_CONTEXT, API.VERSION AS API_VERSION,SUBS.TIER_ID AS SUBS_POLICY , KEY_MAP.CLIENT_ID AS " +
+                "CLIENT_ID,KEY_MAP.KEY_TYPE AS KEY_ENV_TYPE FROM AM_SUBSCRIPTION SUBS, AM_API API,AM_APP_KEY_MAPPING " +
+                "KEY_MAP WHERE SUBS.API_ID = API.UUID AND KEY_MAP.APPLICATION_ID = SUBS.APPLICATION_ID";
+        try (Connection conn = DAOUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(getSubscriptionsSql)) {
+            DAOUtil.setStreamingFetchSize(conn, ps);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    consumer.accept(createSubscriptionValidationData(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "streaming api subscriptions for validation", e);
+        }
+    }
+
     /**
      * Retrieve the list of subscriptions of an API for validation
      *
@@ -353,7 +421,17 @@ public class APISubscriptionDAOImpl implements APISubscriptionDAO {
     @Override
     public List<Subscription> getAPISubscriptionsForUser(int offset, int limit, String username)
             throws APIMgtDAOException {
-        final String getSubscriptionsByAPISql = "SELECT SUBS.UUID AS SUBS_UUID, SUBS.TIER_ID AS SUBS_TIER, " +
+        return getAPISubscriptionsForUser(null, 0, username);
+    }
+
+    /**
+     * @see APISubscriptionDAO#getAPISubscriptionsForUser(PageCursor, int, String)
+     */
+    @Override
+    @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
+    public List<Subscription> getAPISubscriptionsForUser(PageCursor after, int limit, String username)
+            throws APIMgtDAOException {
+        String getSubscriptionsByAPISql = "SELECT SUBS.UUID AS SUBS_UUID, SUBS.TIER_ID AS SUBS_TIER, " +
                 "SUBS.API_ID AS API_ID, SUBS.APPLICATION_ID AS APP_ID, SUBS.SUB_STATUS AS SUB_STATUS, " +
                 "SUBS.SUB_TYPE AS SUB_TYPE, APP.NAME AS APP_NAME, APP.APPLICATION_POLICY_ID AS APP_POLICY_ID, " +
                 "APP.APPLICATION_STATUS AS APP_STATUS, " +
@@ -363,9 +441,21 @@ public class APISubscriptionDAOImpl implements APISubscriptionDAO {
                 "FROM AM_SUBSCRIPTION SUBS, AM_APPLICATION APP, AM_SUBSCRIPTION_POLICY POLICY, AM_API API " +
                 "WHERE  SUBS.APPLICATION_ID = APP.UUID AND SUBS.TIER_ID = POLICY.UUID " +
                 "AND API.UUID = SUBS.API_ID AND API.PROVIDER = ? ";
+        if (limit > 0) {
+            if (after != null) {
+                getSubscriptionsByAPISql += "AND " + DAOUtil.getPageCursorCondition("API.NAME", "SUBS.UUID");
+            }
+            getSubscriptionsByAPISql += " ORDER BY API.NAME, SUBS.UUID";
+        }
         try (Connection conn = DAOUtil.getConnection();
              PreparedStatement ps = conn.prepareStatement(getSubscriptionsByAPISql)) {
             ps.setString(1, username);
+            if (limit > 0) {
+                if (after != null) {
+                    DAOUtil.setPageCursorParameters(ps, 1, after);
+                }
+                ps.setMaxRows(limit);
+            }
             try (ResultSet rs = ps.executeQuery()) {
                 return createSubscriptionsFromResultSet(rs);
             }
@@ -670,15 +760,7 @@ public class APISubscriptionDAOImpl implements APISubscriptionDAO {
         }
         try {
             while (rs.next()) {
-                SubscriptionValidationData subValidationData = new SubscriptionValidationData(
-                        rs.getString("API_CONTEXT"), rs.getString("API_VERSION"), rs.getString("CLIENT_ID"));
-                subValidationData.setSubscriptionPolicy(rs.getString("SUBS_POLICY"));
-                subValidationData.setApiName(rs.getString("API_NAME"));
-                subValidationData.setApiProvider(rs.getString("API_PROVIDER"));
-                subValidationData.setKeyEnvType(rs.getString("KEY_ENV_TYPE"));
-                subValidationData.setApplicationId(rs.getString("APP_ID"));
-                subValidationData.setStatus(rs.getString("SUB_STATUS"));
-                subscriptionList.add(subValidationData);
+                subscriptionList.add(createSubscriptionValidationData(rs));
             }
         } catch (SQLException e) {
             throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "creating subscription validation data", e);
@@ -686,6 +768,18 @@ public class APISubscriptionDAOImpl implements APISubscriptionDAO {
         return subscriptionList;
     }
 
+    private SubscriptionValidationData createSubscriptionValidationData(ResultSet rs) throws SQLException {
+        SubscriptionValidationData subValidationData = new SubscriptionValidationData(
+                rs.getString("API_CONTEXT"), rs.getString("API_VERSION"), rs.getString("CLIENT_ID"));
+        subValidationData.setSubscriptionPolicy(rs.getString("SUBS_POLICY"));
+        subValidationData.setApiName(rs.getString("API_NAME"));
+        subValidationData.setApiProvider(rs.getString("API_PROVIDER"));
+        subValidationData.setKeyEnvType(rs.getString("KEY_ENV_TYPE"));
+        subValidationData.setApplicationId(rs.getString("APP_ID"));
+        subValidationData.setStatus(rs.getString("SUB_STATUS"));
+        return subValidationData;
+    }
+
     private List<Subscription> createSubscriptionsFromResultSet(ResultSet rs) throws APIMgtDAOException {
         List<Subscription> subscriptionList = new ArrayList<>();
         Subscription subscription;
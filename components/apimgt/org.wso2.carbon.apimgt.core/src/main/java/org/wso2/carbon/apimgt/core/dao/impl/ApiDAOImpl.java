@@ -27,6 +27,7 @@ import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.wso2.carbon.apimgt.core.dao.APISearchIndex;
 import org.wso2.carbon.apimgt.core.dao.APISubscriptionDAO;
 import org.wso2.carbon.apimgt.core.dao.ApiDAO;
 import org.wso2.carbon.apimgt.core.dao.ApiType;
@@ -44,6 +45,7 @@ import org.wso2.carbon.apimgt.core.models.CorsConfiguration;
 import org.wso2.carbon.apimgt.core.models.DedicatedGateway;
 import org.wso2.carbon.apimgt.core.models.DocumentInfo;
 import org.wso2.carbon.apimgt.core.models.Endpoint;
+import org.wso2.carbon.apimgt.core.models.PageCursor;
 import org.wso2.carbon.apimgt.core.models.Rating;
 import org.wso2.carbon.apimgt.core.models.ResourceCategory;
 import org.wso2.carbon.apimgt.core.models.Subscription;
@@ -80,6 +82,11 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import javax.annotation.CheckForNull;
 import javax.ws.rs.core.MediaType;
 
@@ -114,6 +121,11 @@ public class ApiDAOImpl implements ApiDAO {
 
     private static final String API_DELETE = "DELETE FROM AM_API WHERE UUID = ?";
 
+    /**
+     * Maximum number of API IDs bound to a single IN clause when loading API details in bulk
+     */
+    private static final int API_ID_BATCH_SIZE = 500;
+
     private static final String AM_API_TABLE_NAME = "AM_API";
     private static final String AM_TAGS_TABLE_NAME = "AM_TAGS";
     private static final String AM_API_OPERATION_MAPPING_TABLE_NAME = "AM_API_OPERATION_MAPPING";
@@ -121,8 +133,27 @@ public class ApiDAOImpl implements ApiDAO {
     private static final String AM_ENDPOINT_TABLE_NAME = "AM_ENDPOINT";
     private static final Logger log = LoggerFactory.getLogger(ApiDAOImpl.class);
 
+    private final APISearchIndex searchIndex;
+    private final Object searchIndexLoadLock = new Object();
+    // held for reading while an API is indexed and for writing while all APIs are replaced
+    private final ReadWriteLock searchIndexUpdateLock = new ReentrantReadWriteLock();
+    // orders the DB reads of APIs, so that an API read earlier never replaces one read later
+    private final AtomicLong searchIndexSequence = new AtomicLong();
+    private final ConcurrentMap<String, Long> indexedSequences = new ConcurrentHashMap<>();
+    private long searchIndexLoadSequence;
+    private volatile boolean searchIndexLoaded;
+
     ApiDAOImpl(ApiDAOVendorSpecificStatements sqlStatements) {
+        this(sqlStatements, null);
+    }
+
+    /**
+     * @param sqlStatements DB vendor specific statements
+     * @param searchIndex   index which serves the full text API search, or null to search in the database
+     */
+    ApiDAOImpl(ApiDAOVendorSpecificStatements sqlStatements, APISearchIndex searchIndex) {
         this.sqlStatements = sqlStatements;
+        this.searchIndex = searchIndex;
     }
 
     @Override
@@ -299,10 +330,18 @@ public class ApiDAOImpl implements ApiDAO {
     }
 
     @Override
-    @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
     public List<API> getAPIs(Set<String> roles, String user) throws APIMgtDAOException {
+        return getAPIs(roles, user, null, 0);
+    }
+
+    /**
+     * @see ApiDAO#getAPIs(Set, String, PageCursor, int)
+     */
+    @Override
+    @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
+    public List<API> getAPIs(Set<String> roles, String user, PageCursor after, int limit) throws APIMgtDAOException {
         int roleCount = roles.size();
-        final String query;
+        String query;
         if (roleCount > 0) {
             query = API_SUMMARY_SELECT + " LEFT JOIN AM_API_GROUP_PERMISSION PERMISSION ON UUID = API_ID WHERE" +
                     " API_TYPE_ID = (SELECT TYPE_ID FROM AM_API_TYPES WHERE TYPE_NAME = '" + ApiType.STANDARD.toString()
@@ -314,6 +353,7 @@ public class ApiDAOImpl implements ApiDAO {
                     " API_TYPE_ID = (SELECT TYPE_ID FROM AM_API_TYPES WHERE TYPE_NAME = '" + ApiType.STANDARD.toString()
                     + "') AND ((PROVIDER = ?) OR (PERMISSION.GROUP_ID IS NULL))";
         }
+        query = addPageCondition(query, "NAME", "UUID", after, limit);
         try (Connection connection = DAOUtil.getConnection();
              PreparedStatement statement = connection.prepareStatement(query)) {
             int index = 0;
@@ -323,6 +363,7 @@ public class ApiDAOImpl implements ApiDAO {
                 }
             }
             statement.setString(++index, user);
+            setPageParameters(statement, index, after, limit);
             return constructAPISummaryList(connection, statement);
         } catch (SQLException e) {
             throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "getting APIs", e);
@@ -336,13 +377,25 @@ public class ApiDAOImpl implements ApiDAO {
 
         // TODO: 6/5/17 Implement pagination support when implementing pagination support for
         // other list operations.
-        final String query = COMPOSITE_API_SUMMARY_SELECT + " WHERE API_TYPE_ID = " +
-                "(SELECT TYPE_ID FROM AM_API_TYPES WHERE TYPE_NAME = ?) AND PROVIDER = ?";
+        return getCompositeAPIs(roles, user, null, 0);
+    }
+
+    /**
+     * @see ApiDAO#getCompositeAPIs(Set, String, PageCursor, int)
+     */
+    @Override
+    @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
+    public List<CompositeAPI> getCompositeAPIs(Set<String> roles, String user, PageCursor after, int limit)
+            throws APIMgtDAOException {
+        final String query = addPageCondition(COMPOSITE_API_SUMMARY_SELECT + " WHERE API_TYPE_ID = " +
+                "(SELECT TYPE_ID FROM AM_API_TYPES WHERE TYPE_NAME = ?) AND PROVIDER = ?", "NAME", "UUID", after,
+                limit);
 
         try (Connection connection = DAOUtil.getConnection();
              PreparedStatement statement = connection.prepareStatement(query)) {
             statement.setString(1, ApiType.COMPOSITE.toString());
             statement.setString(2, user);
+            setPageParameters(statement, 2, after, limit);
 
             return getCompositeAPISummaryList(connection, statement);
         } catch (SQLException e) {
@@ -381,9 +434,18 @@ public class ApiDAOImpl implements ApiDAO {
      * @see ApiDAO#getAPIsByStatus(Set, Set, Set)
      */
     @Override
-    @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
     public List<API> getAPIsByStatus(Set<String> roles, Set<APIStatus> statuses, Set<String> labels)
             throws APIMgtDAOException {
+        return getAPIsByStatus(roles, statuses, labels, null, 0);
+    }
+
+    /**
+     * @see ApiDAO#getAPIsByStatus(Set, Set, Set, PageCursor, int)
+     */
+    @Override
+    @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
+    public List<API> getAPIsByStatus(Set<String> roles, Set<APIStatus> statuses, Set<String> labels,
+                                     PageCursor after, int limit) throws APIMgtDAOException {
         //check for null at the beginning before constructing the query to retrieve APIs from database
         if (roles == null || statuses == null) {
             String errorMessage = "Role list or API status list should not be null to retrieve APIs.";
@@ -400,7 +462,7 @@ public class ApiDAOImpl implements ApiDAO {
             labelQuery = "SELECT LABEL_ID FROM  AM_LABELS WHERE NAME IN ( " +
                     DAOUtil.getParameterString(labels.size()) + ") AND TYPE_NAME='STORE'";
         }
-        final String query = "Select UUID, PROVIDER, NAME, CONTEXT, VERSION, DESCRIPTION, CURRENT_LC_STATUS, " +
+        String query = "Select UUID, PROVIDER, NAME, CONTEXT, VERSION, DESCRIPTION, CURRENT_LC_STATUS, " +
                 "LIFECYCLE_INSTANCE_ID, LC_WORKFLOW_STATUS, SECURITY_SCHEME  FROM (" + API_SUMMARY_SELECT + " WHERE " +
                 "VISIBILITY = '" + API.Visibility.PUBLIC + "' " +
                 "AND " +
@@ -416,6 +478,7 @@ public class ApiDAOImpl implements ApiDAO {
                 " AND CURRENT_LC_STATUS  IN (" + DAOUtil.getParameterString(statuses.size()) + ") AND " +
                 " API_TYPE_ID = (SELECT TYPE_ID FROM AM_API_TYPES WHERE TYPE_NAME = ?)) A" +
                 " JOIN AM_API_LABEL_MAPPING LM ON A.UUID=LM.API_ID WHERE LM.LABEL_ID IN (" + labelQuery + ")";
+        query = addPageCondition(query, "A.NAME", "A.UUID", after, limit);
 
         try (Connection connection = DAOUtil.getConnection();
              PreparedStatement statement = connection.prepareStatement(query)) {
@@ -441,6 +504,7 @@ public class ApiDAOImpl implements ApiDAO {
             for (String label : labels) {
                 statement.setString(++i, label);
             }
+            setPageParameters(statement, i, after, limit);
 
             return constructAPISummaryList(connection, statement);
         } catch (SQLException e) {
@@ -456,6 +520,10 @@ public class ApiDAOImpl implements ApiDAO {
     @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
     public List<API> searchAPIs(Set<String> roles, String user, String searchString,
                                 int offset, int limit) throws APIMgtDAOException {
+        if (searchIndex != null) {
+            loadSearchIndex();
+            return getAPISummaries(searchIndex.searchAPIs(roles, user, searchString, offset, limit));
+        }
         final String query = sqlStatements.getPermissionBasedApiFullTextSearchQuery(roles.size());
         try (Connection connection = DAOUtil.getConnection();
              PreparedStatement statement = connection.prepareStatement(query)) {
@@ -527,6 +595,10 @@ public class ApiDAOImpl implements ApiDAO {
     @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
     public List<API> searchAPIsByStoreLabel(Set<String> roles, String user, String searchString,
                                             int offset, int limit, Set<String> labels) throws APIMgtDAOException {
+        if (searchIndex != null) {
+            loadSearchIndex();
+            return getAPISummaries(searchIndex.searchAPIsByStoreLabel(roles, searchString, offset, limit, labels));
+        }
         final String query = sqlStatements.getVisibilityBasedApiFullTextSearchQuery(roles.size(), labels.size());
         try (Connection connection = DAOUtil.getConnection();
              PreparedStatement statement = connection.prepareStatement(query)) {
@@ -658,6 +730,7 @@ public class ApiDAOImpl implements ApiDAO {
             throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "adding API: " + api.getProvider() + " - " +
                     api.getName() + " - " + api.getVersion(), e);
         }
+        refreshSearchIndex(api.getId());
     }
 
     @Override
@@ -905,6 +978,7 @@ public class ApiDAOImpl implements ApiDAO {
             throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "updating API: " + substituteAPI.getProvider() +
                     " - " + substituteAPI.getName() + " - " + substituteAPI.getVersion(), e);
         }
+        refreshSearchIndex(apiID);
     }
 
     /**
@@ -921,6 +995,7 @@ public class ApiDAOImpl implements ApiDAO {
         } catch (SQLException | IOException e) {
             throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "deleting API: " + apiID, e);
         }
+        refreshSearchIndex(apiID);
     }
 
     @Override
@@ -1911,6 +1986,7 @@ public class ApiDAOImpl implements ApiDAO {
             String msg = "changing Life Cycle Status for API: " + apiID + " to Status: " + status;
             throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + msg, e);
         }
+        refreshSearchIndex(apiID);
     }
 
     /**
@@ -2150,121 +2226,430 @@ public class ApiDAOImpl implements ApiDAO {
     }
 
     private API constructAPIFromResultSet(Connection connection, PreparedStatement statement) throws SQLException,
-            IOException, APIMgtDAOException {
+            IOException {
         try (ResultSet rs = statement.executeQuery()) {
             while (rs.next()) {
-                BusinessInformation businessInformation = new BusinessInformation();
-                businessInformation.setTechnicalOwner(rs.getString("TECHNICAL_OWNER"));
-                businessInformation.setTechnicalOwnerEmail(rs.getString("TECHNICAL_EMAIL"));
-                businessInformation.setBusinessOwner(rs.getString("BUSINESS_OWNER"));
-                businessInformation.setBusinessOwnerEmail(rs.getString("BUSINESS_EMAIL"));
+                Map<String, API.APIBuilder> apiBuilders = new HashMap<>();
+                apiBuilders.put(rs.getString("UUID"), constructAPIBuilderFromResultSet(rs));
+                return populateAPIDetails(connection, apiBuilders).get(0);
+            }
+        }
 
-                CorsConfiguration corsConfiguration = new CorsConfiguration();
-                corsConfiguration.setEnabled(rs.getBoolean("CORS_ENABLED"));
+        return null;
+    }
 
-                String allowOrigins = rs.getString("CORS_ALLOW_ORIGINS");
-                corsConfiguration.setAllowOrigins(DAOUtil.commaSeperatedStringToList(allowOrigins));
+    private API.APIBuilder constructAPIBuilderFromResultSet(ResultSet rs) throws SQLException {
+        BusinessInformation businessInformation = new BusinessInformation();
+        businessInformation.setTechnicalOwner(rs.getString("TECHNICAL_OWNER"));
+        businessInformation.setTechnicalOwnerEmail(rs.getString("TECHNICAL_EMAIL"));
+        businessInformation.setBusinessOwner(rs.getString("BUSINESS_OWNER"));
+        businessInformation.setBusinessOwnerEmail(rs.getString("BUSINESS_EMAIL"));
+
+        CorsConfiguration corsConfiguration = new CorsConfiguration();
+        corsConfiguration.setEnabled(rs.getBoolean("CORS_ENABLED"));
+
+        String allowOrigins = rs.getString("CORS_ALLOW_ORIGINS");
+        corsConfiguration.setAllowOrigins(DAOUtil.commaSeperatedStringToList(allowOrigins));
+
+        corsConfiguration.setAllowCredentials(rs.getBoolean("CORS_ALLOW_CREDENTIALS"));
+
+        String allowHeaders = rs.getString("CORS_ALLOW_HEADERS");
+        corsConfiguration.setAllowHeaders(DAOUtil.commaSeperatedStringToList(allowHeaders));
+
+        String allowMethods = rs.getString("CORS_ALLOW_METHODS");
+        corsConfiguration.setAllowMethods(DAOUtil.commaSeperatedStringToList(allowMethods));
+
+        return new API.APIBuilder(rs.getString("PROVIDER"), rs.getString("NAME"), rs.getString("VERSION")).
+                id(rs.getString("UUID")).
+                context(rs.getString("CONTEXT")).
+                isDefaultVersion(rs.getBoolean("IS_DEFAULT_VERSION")).
+                description(rs.getString("DESCRIPTION")).
+                visibility(API.Visibility.valueOf(rs.getString("VISIBILITY"))).
+                isResponseCachingEnabled(rs.getBoolean("IS_RESPONSE_CACHED")).
+                cacheTimeout(rs.getInt("CACHE_TIMEOUT")).
+                hasOwnGateway(rs.getBoolean("HAS_OWN_GATEWAY")).
+                businessInformation(businessInformation).
+                lifecycleInstanceId(rs.getString("LIFECYCLE_INSTANCE_ID")).
+                lifeCycleStatus(rs.getString("CURRENT_LC_STATUS")).
+                corsConfiguration(corsConfiguration).
+                createdBy(rs.getString("CREATED_BY")).
+                updatedBy(rs.getString("UPDATED_BY")).
+                createdTime(rs.getTimestamp("CREATED_TIME").toInstant()).
+                lastUpdatedTime(rs.getTimestamp("LAST_UPDATED_TIME").toInstant()).
+                copiedFromApiId(rs.getString("COPIED_FROM_API")).
+                workflowStatus(rs.getString("LC_WORKFLOW_STATUS")).
+                securityScheme(rs.getInt("SECURITY_SCHEME"));
+    }
 
-                corsConfiguration.setAllowCredentials(rs.getBoolean("CORS_ALLOW_CREDENTIALS"));
+    /**
+     * Populate the details stored in child tables of the given APIs with one query per child table, instead of
+     * querying each child table for each API.
+     *
+     * @param connection  DB connection
+     * @param apiBuilders builders of the APIs to be populated, keyed by API ID
+     * @return list of populated APIs
+     * @throws SQLException if error occurred while getting the API details from DB
+     * @throws IOException  if error occurred while reading endpoint configurations
+     */
+    private List<API> populateAPIDetails(Connection connection, Map<String, API.APIBuilder> apiBuilders)
+            throws SQLException, IOException {
+        if (apiBuilders.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<String> apiIds = new ArrayList<>(apiBuilders.keySet());
+        Map<String, Set<String>> visibleRoles = getVisibleRolesForAPIs(connection, apiIds);
+        Map<String, Set<String>> tags = getTagsForAPIs(connection, apiIds);
+        Map<String, List<String>> gatewayLabels = getLabelNamesForAPIs(connection, apiIds,
+                APIMgtConstants.LABEL_TYPE_GATEWAY);
+        Map<String, List<String>> storeLabels = getLabelNamesForAPIs(connection, apiIds,
+                APIMgtConstants.LABEL_TYPE_STORE);
+        Map<String, String> wsdlUris = ApiResourceDAO.getTextValuesForCategory(connection, apiIds,
+                ResourceCategory.WSDL_TEXT);
+        Map<String, Set<String>> transports = getTransportsForAPIs(connection, apiIds);
+        Map<String, Map<String, Endpoint>> endpoints = getEndPointsForAPIs(connection, apiIds);
+        Map<String, Map<String, Integer>> permissionMaps = getPermissionMapsForAPIs(connection, apiIds);
+        Map<String, Map<String, UriTemplate>> uriTemplates = getUriTemplatesForAPIs(connection, apiIds);
+        Map<String, Set<Policy>> subscriptionPolicies = getSubscriptionPoliciesForAPIs(connection, apiIds);
+        Map<String, Policy> apiPolicies = getApiPoliciesForAPIs(connection, apiIds);
+        Map<String, Set<String>> threatProtectionPolicies = getThreatProtectionPoliciesForAPIs(connection, apiIds);
+        Map<String, List<AdditionalProperties>> additionalProperties = getAdditionalPropertiesForAPIs(connection,
+                apiIds);
 
-                String allowHeaders = rs.getString("CORS_ALLOW_HEADERS");
-                corsConfiguration.setAllowHeaders(DAOUtil.commaSeperatedStringToList(allowHeaders));
+        List<API> apiList = new ArrayList<>();
+        for (Map.Entry<String, API.APIBuilder> entry : apiBuilders.entrySet()) {
+            String apiId = entry.getKey();
+            Map<String, Integer> permissionMap = permissionMaps.getOrDefault(apiId, new HashMap<>());
+            apiList.add(entry.getValue().
+                    visibleRoles(visibleRoles.getOrDefault(apiId, new HashSet<>())).
+                    tags(tags.getOrDefault(apiId, new HashSet<>())).
+                    gatewayLabels(gatewayLabels.getOrDefault(apiId, new ArrayList<>())).
+                    storeLabels(storeLabels.getOrDefault(apiId, new ArrayList<>())).
+                    wsdlUri(wsdlUris.get(apiId)).
+                    transport(transports.getOrDefault(apiId, new HashSet<>())).
+                    endpoint(endpoints.getOrDefault(apiId, new HashMap<>())).
+                    apiPermission(getPermissionsString(permissionMap)).
+                    permissionMap(permissionMap).
+                    uriTemplates(uriTemplates.getOrDefault(apiId, new HashMap<>())).
+                    policies(subscriptionPolicies.getOrDefault(apiId, new HashSet<>())).
+                    apiPolicy(apiPolicies.get(apiId)).
+                    threatProtectionPolicies(threatProtectionPolicies.getOrDefault(apiId, new HashSet<>())).
+                    additionalProperties(additionalProperties.getOrDefault(apiId, new ArrayList<>())).build());
+        }
+        return apiList;
+    }
 
-                String allowMethods = rs.getString("CORS_ALLOW_METHODS");
-                corsConfiguration.setAllowMethods(DAOUtil.commaSeperatedStringToList(allowMethods));
+    /**
+     * Load all standard APIs to the search index, if they are not loaded yet. The APIs are read from the DB without
+     * blocking searches or updates of the index, and then replace the indexed APIs in a single step.
+     *
+     * @throws APIMgtDAOException if error occurred while getting the APIs from DB
+     */
+    void loadSearchIndex() throws APIMgtDAOException {
+        if (searchIndex == null || searchIndexLoaded) {
+            return;
+        }
+        synchronized (searchIndexLoadLock) {
+            if (searchIndexLoaded) {
+                return;
+            }
+            long loadSequence = searchIndexSequence.incrementAndGet();
+            List<API> apis = getStandardAPIs();
+            List<String> changedApiIds = new ArrayList<>();
+            searchIndexUpdateLock.writeLock().lock();
+            try {
+                searchIndex.replaceAllAPIs(apis);
+                searchIndexLoadSequence = loadSequence;
+                searchIndexLoaded = true;
+                // APIs indexed while loading may have changed after the load read them
+                indexedSequences.forEach((apiId, sequence) -> {
+                    if (sequence > loadSequence) {
+                        changedApiIds.add(apiId);
+                    }
+                });
+            } finally {
+                searchIndexUpdateLock.writeLock().unlock();
+            }
+            for (String apiId : changedApiIds) {
+                refreshSearchIndex(apiId);
+            }
+        }
+    }
 
-                String apiPrimaryKey = rs.getString("UUID");
+    /**
+     * Update the search index entry of an API after the API is added, changed or removed. The API is read from the
+     * DB before the index is locked, and the entry is only replaced if no later read of the API was indexed. If the
+     * API cannot be read, all APIs are loaded to the index again on the next search.
+     *
+     * @param apiId UUID of the API
+     */
+    void refreshSearchIndex(String apiId) {
+        if (searchIndex == null) {
+            return;
+        }
+        long sequence = searchIndexSequence.incrementAndGet();
+        final String query = API_SELECT + " WHERE UUID = ? AND API_TYPE_ID = " +
+                "(SELECT TYPE_ID FROM AM_API_TYPES WHERE TYPE_NAME = ?)";
+        API api;
+        try (Connection connection = DAOUtil.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setString(1, apiId);
+            statement.setString(2, ApiType.STANDARD.toString());
 
-                return new API.APIBuilder(rs.getString("PROVIDER"), rs.getString("NAME"), rs.getString("VERSION")).
-                        id(apiPrimaryKey).
-                        context(rs.getString("CONTEXT")).
-                        isDefaultVersion(rs.getBoolean("IS_DEFAULT_VERSION")).
-                        description(rs.getString("DESCRIPTION")).
-                        visibility(API.Visibility.valueOf(rs.getString("VISIBILITY"))).
-                        visibleRoles(getVisibleRoles(connection, apiPrimaryKey)).
-                        isResponseCachingEnabled(rs.getBoolean("IS_RESPONSE_CACHED")).
-                        cacheTimeout(rs.getInt("CACHE_TIMEOUT")).
-                        hasOwnGateway(rs.getBoolean("HAS_OWN_GATEWAY")).
-                        tags(getTags(connection, apiPrimaryKey)).
-                        gatewayLabels(getLabelNamesForAPI(connection, apiPrimaryKey, APIMgtConstants
-                                .LABEL_TYPE_GATEWAY)).
-                        storeLabels(getLabelNamesForAPI(connection, apiPrimaryKey, APIMgtConstants.LABEL_TYPE_STORE)).
-                        wsdlUri(ApiResourceDAO.
-                                getTextValueForCategory(connection, apiPrimaryKey,
-                                        ResourceCategory.WSDL_TEXT)).
-                        transport(getTransports(connection, apiPrimaryKey)).
-                        endpoint(getEndPointsForApi(connection, apiPrimaryKey)).
-                        apiPermission(getPermissionsStringForApi(connection, apiPrimaryKey)).
-                        permissionMap(getPermissionMapForApi(connection, apiPrimaryKey)).
-                        businessInformation(businessInformation).
-                        lifecycleInstanceId(rs.getString("LIFECYCLE_INSTANCE_ID")).
-                        lifeCycleStatus(rs.getString("CURRENT_LC_STATUS")).
-                        corsConfiguration(corsConfiguration).
-                        createdBy(rs.getString("CREATED_BY")).
-                        updatedBy(rs.getString("UPDATED_BY")).
-                        createdTime(rs.getTimestamp("CREATED_TIME").toInstant()).
-                        lastUpdatedTime(rs.getTimestamp("LAST_UPDATED_TIME").toInstant()).
-                        uriTemplates(getUriTemplates(connection, apiPrimaryKey)).
-                        policies(getSubscripitonPolciesByAPIId(connection, apiPrimaryKey)).copiedFromApiId(rs.getString
-                        ("COPIED_FROM_API")).
-                        workflowStatus(rs.getString("LC_WORKFLOW_STATUS")).
-                        securityScheme(rs.getInt("SECURITY_SCHEME")).
-                        apiPolicy(getApiPolicyByAPIId(connection, apiPrimaryKey)).
-                        threatProtectionPolicies(getThreatProtectionPolicies(connection, apiPrimaryKey)).
-                        additionalProperties(getAdditionalProperties(connection, apiPrimaryKey)).build();
+            api = constructAPIFromResultSet(connection, statement);
+        } catch (SQLException | IOException e) {
+            searchIndexLoaded = false;
+            log.error("Error occurred while updating API: " + apiId + " in the search index", e);
+            return;
+        }
+        indexAPI(apiId, api, sequence);
+    }
+
+    private void indexAPI(String apiId, API api, long sequence) {
+        searchIndexUpdateLock.readLock().lock();
+        try {
+            if (sequence < searchIndexLoadSequence) {
+                // the last load read the API after this refresh did
+                return;
             }
+            indexedSequences.compute(apiId, (id, indexedSequence) -> {
+                if (indexedSequence != null && indexedSequence > sequence) {
+                    return indexedSequence;
+                }
+                if (api == null) {
+                    searchIndex.removeAPI(id);
+                } else {
+                    searchIndex.addOrUpdateAPI(api);
+                }
+                return sequence;
+            });
+        } finally {
+            searchIndexUpdateLock.readLock().unlock();
         }
+    }
 
-        return null;
+    private List<API> getStandardAPIs() throws APIMgtDAOException {
+        final String query = API_SELECT + " WHERE API_TYPE_ID = " +
+                "(SELECT TYPE_ID FROM AM_API_TYPES WHERE TYPE_NAME = ?)";
+        try (Connection connection = DAOUtil.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setString(1, ApiType.STANDARD.toString());
+
+            List<Map<String, API.APIBuilder>> batches = new ArrayList<>();
+            Map<String, API.APIBuilder> apiBuilders = new HashMap<>();
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    if (apiBuilders.size() == API_ID_BATCH_SIZE) {
+                        batches.add(apiBuilders);
+                        apiBuilders = new HashMap<>();
+                    }
+                    apiBuilders.put(rs.getString("UUID"), constructAPIBuilderFromResultSet(rs));
+                }
+            }
+            batches.add(apiBuilders);
+
+            List<API> apis = new ArrayList<>();
+            for (Map<String, API.APIBuilder> batch : batches) {
+                apis.addAll(populateAPIDetails(connection, batch));
+            }
+            return apis;
+        } catch (SQLException | IOException e) {
+            throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "loading APIs to the search index", e);
+        }
     }
 
-    private List<API> constructAPISummaryList(Connection connection, PreparedStatement statement) throws SQLException {
+    /**
+     * Get the summaries of the APIs found in the search index, in the order of the search results
+     *
+     * @param apiIds UUIDs of the APIs
+     * @return API summaries
+     * @throws APIMgtDAOException if error occurred while getting the APIs from DB
+     */
+    @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
+    private List<API> getAPISummaries(List<String> apiIds) throws APIMgtDAOException {
+        Map<String, API> apis = new HashMap<>();
+        try (Connection connection = DAOUtil.getConnection()) {
+            for (int i = 0; i < apiIds.size(); i += API_ID_BATCH_SIZE) {
+                List<String> batch = apiIds.subList(i, Math.min(i + API_ID_BATCH_SIZE, apiIds.size()));
+                final String query = API_SUMMARY_SELECT + " WHERE UUID IN (" +
+                        DAOUtil.getParameterString(batch.size()) + ")";
+                try (PreparedStatement statement = connection.prepareStatement(query)) {
+                    setApiIds(statement, batch);
+                    for (API api : constructAPISummaryList(connection, statement)) {
+                        apis.put(api.getId(), api);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "getting APIs found in the search index", e);
+        }
+
         List<API> apiList = new ArrayList<>();
+        for (String apiId : apiIds) {
+            if (apis.containsKey(apiId)) {
+                apiList.add(apis.get(apiId));
+            }
+        }
+        return apiList;
+    }
+
+    /**
+     * Append the keyset pagination condition and ordering to a query, if the query should return a page of results
+     *
+     * @param query      query which ends with a WHERE clause
+     * @param sortColumn column holding the sort key
+     * @param idColumn   column holding the unique id
+     * @param after      position of the last row of the previous page, or null for the first page
+     * @param limit      page size, or 0 to return all rows
+     * @return query selecting the requested page
+     */
+    private static String addPageCondition(String query, String sortColumn, String idColumn, PageCursor after,
+                                           int limit) {
+        if (limit <= 0) {
+            return query;
+        }
+        String pageQuery = query;
+        if (after != null) {
+            pageQuery += " AND " + DAOUtil.getPageCursorCondition(sortColumn, idColumn);
+        }
+        return pageQuery + " ORDER BY " + sortColumn + ", " + idColumn;
+    }
+
+    private static void setPageParameters(PreparedStatement statement, int index, PageCursor after, int limit)
+            throws SQLException {
+        if (limit <= 0) {
+            return;
+        }
+        if (after != null) {
+            DAOUtil.setPageCursorParameters(statement, index, after);
+        }
+        statement.setMaxRows(limit);
+    }
+
+    private List<API> constructAPISummaryList(Connection connection, PreparedStatement statement) throws SQLException {
+        List<API.APIBuilder> apiBuilders = new ArrayList<>();
         try (ResultSet rs = statement.executeQuery()) {
             while (rs.next()) {
-                String apiPrimaryKey = rs.getString("UUID");
-                API apiSummary = new API.APIBuilder(rs.getString("PROVIDER"), rs.getString("NAME"),
+                API.APIBuilder apiSummary = new API.APIBuilder(rs.getString("PROVIDER"), rs.getString("NAME"),
                         rs.getString("VERSION")).
-                        id(apiPrimaryKey).
+                        id(rs.getString("UUID")).
                         context(rs.getString("CONTEXT")).
                         description(rs.getString("DESCRIPTION")).
                         lifeCycleStatus(rs.getString("CURRENT_LC_STATUS")).
                         lifecycleInstanceId(rs.getString("LIFECYCLE_INSTANCE_ID")).
                         workflowStatus(rs.getString("LC_WORKFLOW_STATUS")).
-                        securityScheme(rs.getInt("SECURITY_SCHEME")).
-                        threatProtectionPolicies(getThreatProtectionPolicies(connection, apiPrimaryKey)).build();
+                        securityScheme(rs.getInt("SECURITY_SCHEME"));
 
-                apiList.add(apiSummary);
+                apiBuilders.add(apiSummary);
+            }
+        }
+
+        List<API> apiList = new ArrayList<>();
+        for (int i = 0; i < apiBuilders.size(); i += API_ID_BATCH_SIZE) {
+            List<API.APIBuilder> batch = apiBuilders.subList(i, Math.min(i + API_ID_BATCH_SIZE, apiBuilders.size()));
+            List<String> apiIds = new ArrayList<>();
+            for (API.APIBuilder apiSummary : batch) {
+                apiIds.add(apiSummary.getId());
+            }
+            Map<String, Set<String>> threatProtectionPolicies = getThreatProtectionPoliciesForAPIs(connection, apiIds);
+            for (API.APIBuilder apiSummary : batch) {
+                apiList.add(apiSummary.threatProtectionPolicies(
+                        threatProtectionPolicies.getOrDefault(apiSummary.getId(), new HashSet<>())).build());
             }
         }
 
         return apiList;
     }
 
+    @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
     private List<API> constructDetailAPIList(Connection connection, PreparedStatement statement)
-            throws SQLException, APIMgtDAOException {
-        List<API> apiList = new ArrayList<>();
+            throws SQLException {
+        List<String> apiIds = new ArrayList<>();
         try (ResultSet rs = statement.executeQuery()) {
             while (rs.next()) {
-                String apiPrimaryKey = rs.getString("UUID");
-                final String query = API_SELECT + " WHERE UUID = ? AND API_TYPE_ID = "
-                        + "(SELECT TYPE_ID FROM AM_API_TYPES WHERE TYPE_NAME = ?)";
+                apiIds.add(rs.getString("UUID"));
+            }
+        }
 
-                try (PreparedStatement statement1 = connection.prepareStatement(query)) {
-                    statement1.setString(1, apiPrimaryKey);
-                    statement1.setString(2, ApiType.STANDARD.toString());
+        List<API> apiList = new ArrayList<>();
+        for (int i = 0; i < apiIds.size(); i += API_ID_BATCH_SIZE) {
+            List<String> batch = apiIds.subList(i, Math.min(i + API_ID_BATCH_SIZE, apiIds.size()));
+            final String query = API_SELECT + " WHERE UUID IN (" + DAOUtil.getParameterString(batch.size()) + ") " +
+                    "AND API_TYPE_ID = (SELECT TYPE_ID FROM AM_API_TYPES WHERE TYPE_NAME = ?)";
+
+            try (PreparedStatement statement1 = connection.prepareStatement(query)) {
+                int index = setApiIds(statement1, batch);
+                statement1.setString(index, ApiType.STANDARD.toString());
 
-                    API api = constructAPIFromResultSet(connection, statement1);
-                    apiList.add(api);
-                } catch (SQLException | IOException e) {
-                    //skip throwing error to make sure next api is fetched even one api fetching is failed.
-                    log.error(DAOUtil.DAO_ERROR_PREFIX + "getting API with id: " + apiPrimaryKey, e);
+                Map<String, API.APIBuilder> apiBuilders = new HashMap<>();
+                try (ResultSet rs = statement1.executeQuery()) {
+                    while (rs.next()) {
+                        apiBuilders.put(rs.getString("UUID"), constructAPIBuilderFromResultSet(rs));
+                    }
                 }
+                Map<String, API> apis = new HashMap<>();
+                for (API api : populateAPIBatch(connection, apiBuilders)) {
+                    apis.put(api.getId(), api);
+                }
+                // keep the order of the search results
+                for (String apiId : batch) {
+                    if (apis.containsKey(apiId)) {
+                        apiList.add(apis.get(apiId));
+                    }
+                }
+            } catch (SQLException e) {
+                //skip throwing error to make sure next batch of apis is fetched even one batch fetching is failed.
+                log.error(DAOUtil.DAO_ERROR_PREFIX + "getting APIs with ids: " + batch, e);
+            }
+        }
+        return apiList;
+    }
+
+    /**
+     * Populate the details of a batch of APIs. If the batch cannot be populated, the APIs are populated one by one
+     * and the APIs which fail are skipped, so that a single API does not prevent returning the rest of the batch.
+     *
+     * @param connection  DB connection
+     * @param apiBuilders builders of the APIs to be populated, keyed by API ID
+     * @return list of populated APIs
+     */
+    private List<API> populateAPIBatch(Connection connection, Map<String, API.APIBuilder> apiBuilders) {
+        try {
+            return populateAPIDetails(connection, apiBuilders);
+        } catch (SQLException | IOException e) {
+            log.error(DAOUtil.DAO_ERROR_PREFIX + "getting APIs with ids: " + apiBuilders.keySet(), e);
+        }
+        List<API> apiList = new ArrayList<>();
+        if (apiBuilders.size() == 1) {
+            return apiList;
+        }
+        for (Map.Entry<String, API.APIBuilder> entry : apiBuilders.entrySet()) {
+            try {
+                apiList.addAll(populateAPIDetails(connection,
+                        Collections.singletonMap(entry.getKey(), entry.getValue())));
+            } catch (SQLException | IOException e) {
+                //skip throwing error to make sure next api is fetched even one api fetching is failed.
+                log.error(DAOUtil.DAO_ERROR_PREFIX + "getting API with id: " + entry.getKey(), e);
             }
         }
         return apiList;
     }
 
+    /**
+     * Set the API IDs as the leading parameters of a statement with an IN clause of API IDs
+     *
+     * @param statement statement to set the parameters
+     * @param apiIds    API IDs
+     * @return index of the parameter after the API IDs
+     * @throws SQLException if error occurred while setting the parameters
+     */
+    private static int setApiIds(PreparedStatement statement, List<String> apiIds) throws SQLException {
+        int index = 1;
+        for (String apiId : apiIds) {
+            statement.setString(index++, apiId);
+        }
+        return index;
+    }
+
     private CompositeAPI getCompositeAPIFromResultSet(Connection connection, PreparedStatement statement)
             throws SQLException, IOException, APIMgtDAOException {
         try (ResultSet rs = statement.executeQuery()) {
@@ -2361,23 +2746,20 @@ public class ApiDAOImpl implements ApiDAO {
     }
 
 
-    private Set<String> getTags(Connection connection, String apiID) throws SQLException {
-        Set<String> tags = new HashSet<>();
+    @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
+    private Map<String, Set<String>> getTagsForAPIs(Connection connection, List<String> apiIds)
+            throws SQLException {
+        Map<String, Set<String>> tags = new HashMap<>();
 
-        final String query = "SELECT TAG_ID FROM AM_API_TAG_MAPPING WHERE API_ID = ?";
+        final String query = "SELECT AM_API_TAG_MAPPING.API_ID, AM_TAGS.NAME FROM AM_API_TAG_MAPPING INNER JOIN " +
+                "AM_TAGS ON AM_API_TAG_MAPPING.TAG_ID = AM_TAGS.TAG_ID WHERE AM_API_TAG_MAPPING.API_ID IN (" +
+                DAOUtil.getParameterString(apiIds.size()) + ")";
         try (PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setString(1, apiID);
-            statement.execute();
-
-            try (ResultSet rs = statement.getResultSet()) {
-                List<String> tagIDs = new ArrayList<>();
+            setApiIds(statement, apiIds);
 
+            try (ResultSet rs = statement.executeQuery()) {
                 while (rs.next()) {
-                    tagIDs.add(rs.getString("TAG_ID"));
-                }
-
-                if (!tagIDs.isEmpty()) {
-                    tags = TagDAOImpl.getTagsByIDs(connection, tagIDs);
+                    tags.computeIfAbsent(rs.getString("API_ID"), k -> new HashSet<>()).add(rs.getString("NAME"));
                 }
             }
         }
@@ -2406,17 +2788,19 @@ public class ApiDAOImpl implements ApiDAO {
         }
     }
 
-    private Set<String> getVisibleRoles(Connection connection, String apiID) throws SQLException {
-        Set<String> roles = new HashSet<>();
+    @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
+    private Map<String, Set<String>> getVisibleRolesForAPIs(Connection connection, List<String> apiIds)
+            throws SQLException {
+        Map<String, Set<String>> roles = new HashMap<>();
 
-        final String query = "SELECT ROLE FROM AM_API_VISIBLE_ROLES WHERE API_ID = ?";
+        final String query = "SELECT API_ID, ROLE FROM AM_API_VISIBLE_ROLES WHERE API_ID IN (" +
+                DAOUtil.getParameterString(apiIds.size()) + ")";
         try (PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setString(1, apiID);
-            statement.execute();
+            setApiIds(statement, apiIds);
 
-            try (ResultSet rs = statement.getResultSet()) {
+            try (ResultSet rs = statement.executeQuery()) {
                 while (rs.next()) {
-                    roles.add(rs.getString("ROLE"));
+                    roles.computeIfAbsent(rs.getString("API_ID"), k -> new HashSet<>()).add(rs.getString("ROLE"));
                 }
             }
         }
@@ -2670,6 +3054,41 @@ public class ApiDAOImpl implements ApiDAO {
         return uriTemplateSet;
     }
 
+    @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
+    private Map<String, Map<String, UriTemplate>> getUriTemplatesForAPIs(Connection connection, List<String> apiIds)
+            throws SQLException, IOException {
+        final String query = "SELECT operationMapping.OPERATION_ID AS OPERATION_ID,operationMapping.API_ID AS API_ID," +
+                "operationMapping.HTTP_METHOD AS HTTP_METHOD,operationMapping.URL_PATTERN AS URL_PATTERN," +
+                "operationMapping.AUTH_SCHEME AS AUTH_SCHEME,operationMapping.API_POLICY_ID AS API_POLICY_ID," +
+                "apiPolicy.NAME AS API_POLICY_NAME FROM AM_API_OPERATION_MAPPING operationMapping LEFT JOIN " +
+                "AM_API_POLICY apiPolicy ON operationMapping.API_POLICY_ID = apiPolicy.UUID WHERE " +
+                "operationMapping.API_ID IN (" + DAOUtil.getParameterString(apiIds.size()) + ")";
+        Map<String, Map<String, Map<String, Endpoint>>> operationEndpoints = getEndPointsForOperations(connection,
+                apiIds);
+        Map<String, Map<String, UriTemplate>> uriTemplates = new HashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            setApiIds(statement, apiIds);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    String apiId = rs.getString("API_ID");
+                    String operationId = rs.getString("OPERATION_ID");
+                    Map<String, Endpoint> endpoints = operationEndpoints.getOrDefault(apiId, Collections.emptyMap())
+                            .getOrDefault(operationId, new HashMap<>());
+                    UriTemplate.UriTemplateBuilder uriTemplateBuilder = new UriTemplate.UriTemplateBuilder()
+                            .uriTemplate(rs.getString("URL_PATTERN")).authType(rs.getString("AUTH_SCHEME"))
+                            .httpVerb(rs.getString("HTTP_METHOD")).templateId(operationId).endpoint(endpoints);
+                    if (StringUtils.isNotEmpty(rs.getString("API_POLICY_ID"))) {
+                        String apiPolicyName = rs.getString("API_POLICY_NAME");
+                        uriTemplateBuilder.policy(apiPolicyName != null ? new APIPolicy(apiPolicyName) : null);
+                    }
+                    uriTemplates.computeIfAbsent(apiId, k -> new HashMap<>())
+                            .put(operationId, uriTemplateBuilder.build());
+                }
+            }
+        }
+        return uriTemplates;
+    }
+
     private Policy getApiPolicyByUuid(Connection connection, String uuid) throws SQLException {
 
         String sqlQuery = "SELECT NAME from AM_API_POLICY WHERE UUID = ?";
@@ -2736,22 +3155,24 @@ public class ApiDAOImpl implements ApiDAO {
         }
     }
 
-    private Policy getApiPolicyByAPIId(Connection connection, String apiId) throws SQLException {
-        final String query = "SELECT amapipolicy.NAME AS POLICY_NAME FROM AM_API_POLICY_MAPPING apimpolicymapping," +
-                "AM_API_POLICY amapipolicy WHERE apimpolicymapping.API_POLICY_ID=amapipolicy.UUID " +
-                "AND apimpolicymapping.API_ID = ?";
-        Policy apiPolicy = null;
+    @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
+    private Map<String, Policy> getApiPoliciesForAPIs(Connection connection, List<String> apiIds)
+            throws SQLException {
+        final String query = "SELECT apimpolicymapping.API_ID AS API_ID, amapipolicy.NAME AS POLICY_NAME FROM " +
+                "AM_API_POLICY_MAPPING apimpolicymapping, AM_API_POLICY amapipolicy WHERE " +
+                "apimpolicymapping.API_POLICY_ID=amapipolicy.UUID AND apimpolicymapping.API_ID IN (" +
+                DAOUtil.getParameterString(apiIds.size()) + ")";
+        Map<String, Policy> apiPolicies = new HashMap<>();
         try (PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setString(1, apiId);
-            statement.execute();
+            setApiIds(statement, apiIds);
 
-            try (ResultSet rs = statement.getResultSet()) {
-                if (rs.next()) {
-                    apiPolicy = new APIPolicy(rs.getString("POLICY_NAME"));
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    apiPolicies.putIfAbsent(rs.getString("API_ID"), new APIPolicy(rs.getString("POLICY_NAME")));
                 }
             }
         }
-        return apiPolicy;
+        return apiPolicies;
     }
 
     private void deleteSubscriptionPolicies(Connection connection, String apiID) throws SQLException {
@@ -2762,18 +3183,21 @@ public class ApiDAOImpl implements ApiDAO {
         }
     }
 
-    private Set<Policy> getSubscripitonPolciesByAPIId(Connection connection, String apiId) throws SQLException {
-        final String query = "SELECT amPolcySub.NAME FROM AM_API_SUBS_POLICY_MAPPING apimsubmapping," +
-                "AM_SUBSCRIPTION_POLICY amPolcySub where apimsubmapping.SUBSCRIPTION_POLICY_ID=amPolcySub.UUID " +
-                "AND apimsubmapping.API_ID = ?";
-        Set<Policy> policies = new HashSet<>();
+    @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
+    private Map<String, Set<Policy>> getSubscriptionPoliciesForAPIs(Connection connection, List<String> apiIds)
+            throws SQLException {
+        final String query = "SELECT apimsubmapping.API_ID AS API_ID, amPolcySub.NAME AS NAME FROM " +
+                "AM_API_SUBS_POLICY_MAPPING apimsubmapping, AM_SUBSCRIPTION_POLICY amPolcySub where " +
+                "apimsubmapping.SUBSCRIPTION_POLICY_ID=amPolcySub.UUID AND apimsubmapping.API_ID IN (" +
+                DAOUtil.getParameterString(apiIds.size()) + ")";
+        Map<String, Set<Policy>> policies = new HashMap<>();
         try (PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setString(1, apiId);
-            statement.execute();
+            setApiIds(statement, apiIds);
 
-            try (ResultSet rs = statement.getResultSet()) {
+            try (ResultSet rs = statement.executeQuery()) {
                 while (rs.next()) {
-                    policies.add(new SubscriptionPolicy(rs.getString("NAME")));
+                    policies.computeIfAbsent(rs.getString("API_ID"), k -> new HashSet<>())
+                            .add(new SubscriptionPolicy(rs.getString("NAME")));
                 }
             }
         }
@@ -2808,24 +3232,26 @@ public class ApiDAOImpl implements ApiDAO {
     }
 
     /**
-     * Get additional properties from the database
+     * Get additional properties of APIs from the database
      *
      * @param connection SQL Connection
-     * @param apiID      ApiId of the API
+     * @param apiIds     ApiIds of the APIs
+     * @return additional properties keyed by ApiId
      * @throws SQLException If failed to get additional properties
      */
-    private List<AdditionalProperties> getAdditionalProperties(Connection connection, String apiID)
+    @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
+    private Map<String, List<AdditionalProperties>> getAdditionalPropertiesForAPIs(Connection connection,
+                                                                                   List<String> apiIds)
             throws SQLException {
 
-        final String query = "SELECT PROPERTY_KEY,PROPERTY_VALUE  FROM AM_API_ADDITIONAL_PROPERTIES" +
-                             " WHERE API_ID = ?";
-        List<AdditionalProperties> additionalProperties = new ArrayList<>();
+        final String query = "SELECT API_ID,PROPERTY_KEY,PROPERTY_VALUE FROM AM_API_ADDITIONAL_PROPERTIES" +
+                             " WHERE API_ID IN (" + DAOUtil.getParameterString(apiIds.size()) + ")";
+        Map<String, List<AdditionalProperties>> additionalProperties = new HashMap<>();
         try (PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setString(1, apiID);
-            statement.execute();
-            try (ResultSet rs = statement.getResultSet()) {
+            setApiIds(statement, apiIds);
+            try (ResultSet rs = statement.executeQuery()) {
                 while (rs.next()) {
-                    additionalProperties.add(
+                    additionalProperties.computeIfAbsent(rs.getString("API_ID"), k -> new ArrayList<>()).add(
                             new AdditionalProperties(
                                     rs.getString("PROPERTY_KEY"),
                                     rs.getString("PROPERTY_VALUE")
@@ -3213,16 +3639,13 @@ public class ApiDAOImpl implements ApiDAO {
     }
 
     /**
-     * This returns the json string containing the role permissions for a given API
+     * This returns the json string containing the role permissions of an API
      *
-     * @param connection - DB connection
-     * @param apiId      - apiId of the API
+     * @param permissionMap - permission map of the API
      * @return permission string
-     * @throws SQLException - if error occurred while getting permissionMap of API from DB
      */
-    private String getPermissionsStringForApi(Connection connection, String apiId) throws SQLException {
+    private String getPermissionsString(Map<String, Integer> permissionMap) {
         JSONArray permissionArray = new JSONArray();
-        Map<String, Integer> permissionMap = getPermissionMapForApi(connection, apiId);
         for (Map.Entry<String, Integer> entry : permissionMap.entrySet()) {
             JSONObject jsonObject = new JSONObject();
             jsonObject.put(APIMgtConstants.Permission.GROUP_ID, entry.getKey());
@@ -3238,25 +3661,29 @@ public class ApiDAOImpl implements ApiDAO {
     }
 
     /**
-     * This constructs and returns the API permissions map from the DB
+     * This constructs and returns the permission maps of the given APIs from the DB
      *
      * @param connection - DB connection
-     * @param apiId      - apiId of the API
-     * @return permission map for the API
-     * @throws SQLException - if error occurred while getting permissionMap of API from DB
+     * @param apiIds     - apiIds of the APIs
+     * @return permission maps keyed by apiId
+     * @throws SQLException - if error occurred while getting permissionMaps of APIs from DB
      */
-    private Map<String, Integer> getPermissionMapForApi(Connection connection, String apiId) throws SQLException {
-        Map<String, Integer> permissionMap = new HashMap();
-        final String query = "SELECT GROUP_ID,PERMISSION FROM AM_API_GROUP_PERMISSION WHERE API_ID=?";
+    @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
+    private Map<String, Map<String, Integer>> getPermissionMapsForAPIs(Connection connection, List<String> apiIds)
+            throws SQLException {
+        Map<String, Map<String, Integer>> permissionMaps = new HashMap<>();
+        final String query = "SELECT API_ID,GROUP_ID,PERMISSION FROM AM_API_GROUP_PERMISSION WHERE API_ID IN (" +
+                DAOUtil.getParameterString(apiIds.size()) + ")";
         try (PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            preparedStatement.setString(1, apiId);
+            setApiIds(preparedStatement, apiIds);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 while (resultSet.next()) {
-                    permissionMap.put(resultSet.getString("GROUP_ID"), resultSet.getInt("PERMISSION"));
+                    permissionMaps.computeIfAbsent(resultSet.getString("API_ID"), k -> new HashMap<>())
+                            .put(resultSet.getString("GROUP_ID"), resultSet.getInt("PERMISSION"));
                 }
             }
         }
-        return permissionMap;
+        return permissionMaps;
     }
 
     private Map<String, Endpoint> getEndPointsForApi(Connection connection, String apiId) throws SQLException,
@@ -3283,6 +3710,33 @@ public class ApiDAOImpl implements ApiDAO {
         return endpointMap;
     }
 
+    @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
+    private Map<String, Map<String, Endpoint>> getEndPointsForAPIs(Connection connection, List<String> apiIds)
+            throws SQLException, IOException {
+        Map<String, Map<String, Endpoint>> endpointMaps = new HashMap<>();
+        final String query = "SELECT AM_API_ENDPOINT_MAPPING.API_ID,AM_ENDPOINT.UUID,AM_ENDPOINT.NAME," +
+                "AM_ENDPOINT.SECURITY_CONFIGURATION,AM_ENDPOINT.APPLICABLE_LEVEL,AM_ENDPOINT.ENDPOINT_CONFIGURATION," +
+                "AM_ENDPOINT.TPS,AM_ENDPOINT.TYPE,AM_API_ENDPOINT_MAPPING.TYPE AS ENDPOINT_LEVEL FROM " +
+                "AM_API_ENDPOINT_MAPPING INNER JOIN AM_ENDPOINT ON " +
+                "AM_API_ENDPOINT_MAPPING.ENDPOINT_ID=AM_ENDPOINT.UUID WHERE AM_API_ENDPOINT_MAPPING.API_ID IN (" +
+                DAOUtil.getParameterString(apiIds.size()) + ")";
+        try (PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            setApiIds(preparedStatement, apiIds);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    Endpoint endpoint = constructEndPointDetails(resultSet);
+                    if (APIMgtConstants.GLOBAL_ENDPOINT.equals(endpoint.getApplicableLevel())) {
+                        endpoint = new Endpoint.Builder().id(endpoint.getId())
+                                .applicableLevel(APIMgtConstants.GLOBAL_ENDPOINT).build();
+                    }
+                    endpointMaps.computeIfAbsent(resultSet.getString("API_ID"), k -> new HashMap<>())
+                            .put(resultSet.getString("ENDPOINT_LEVEL"), endpoint);
+                }
+            }
+        }
+        return endpointMaps;
+    }
+
     private void addEndPointsForApi(Connection connection, String apiId, Map<String, Endpoint> endpointMap) throws
             SQLException {
         final String query = "INSERT INTO AM_API_ENDPOINT_MAPPING (API_ID,TYPE,ENDPOINT_ID) VALUES (?,?,?)";
@@ -3381,6 +3835,44 @@ public class ApiDAOImpl implements ApiDAO {
         return endpointMap;
     }
 
+    /**
+     * Get the endpoints of all operations of the given APIs
+     *
+     * @param connection DB connection
+     * @param apiIds     ids of the APIs
+     * @return endpoints keyed by API id, then by operation id and then by endpoint level
+     * @throws SQLException if error occurred while getting the endpoints from DB
+     * @throws IOException  if error occurred while reading the endpoint configurations
+     */
+    @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
+    private Map<String, Map<String, Map<String, Endpoint>>> getEndPointsForOperations(Connection connection,
+                                                                                      List<String> apiIds)
+            throws SQLException, IOException {
+        Map<String, Map<String, Map<String, Endpoint>>> endpointMaps = new HashMap<>();
+        final String query = "SELECT AM_API_RESOURCE_ENDPOINT.API_ID,AM_API_RESOURCE_ENDPOINT.OPERATION_ID," +
+                "AM_ENDPOINT.UUID,AM_ENDPOINT.NAME,AM_ENDPOINT.SECURITY_CONFIGURATION,AM_ENDPOINT.APPLICABLE_LEVEL," +
+                "AM_ENDPOINT.ENDPOINT_CONFIGURATION,AM_ENDPOINT.TPS,AM_ENDPOINT.TYPE," +
+                "AM_API_RESOURCE_ENDPOINT.TYPE AS ENDPOINT_LEVEL FROM AM_API_RESOURCE_ENDPOINT INNER JOIN AM_ENDPOINT" +
+                " ON AM_API_RESOURCE_ENDPOINT.ENDPOINT_ID=AM_ENDPOINT.UUID WHERE AM_API_RESOURCE_ENDPOINT.API_ID IN (" +
+                DAOUtil.getParameterString(apiIds.size()) + ")";
+        try (PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            setApiIds(preparedStatement, apiIds);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    Endpoint endpoint = constructEndPointDetails(resultSet);
+                    if (APIMgtConstants.API_SPECIFIC_ENDPOINT.equals(endpoint.getApplicableLevel())) {
+                        endpoint = new Endpoint.Builder().id(endpoint.getId())
+                                .applicableLevel(endpoint.getApplicableLevel()).build();
+                    }
+                    endpointMaps.computeIfAbsent(resultSet.getString("API_ID"), k -> new HashMap<>())
+                            .computeIfAbsent(resultSet.getString("OPERATION_ID"), k -> new HashMap<>())
+                            .put(resultSet.getString("ENDPOINT_LEVEL"), endpoint);
+                }
+            }
+        }
+        return endpointMaps;
+    }
+
     private void addEndPointsForOperation(Connection connection, String apiId, String operationId, Map<String,
             Endpoint> endpointMap) throws SQLException {
         final String query = "INSERT INTO AM_API_RESOURCE_ENDPOINT (API_ID,OPERATION_ID,TYPE,ENDPOINT_ID) " +
@@ -3465,6 +3957,33 @@ public class ApiDAOImpl implements ApiDAO {
         return labelNames;
     }
 
+    @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
+    private Map<String, List<String>> getLabelNamesForAPIs(Connection connection, List<String> apiIds, String type)
+            throws SQLException {
+        Map<String, List<String>> labelNames = new HashMap<>();
+
+        final String query = "SELECT AM_API_LABEL_MAPPING.API_ID, AM_LABELS.NAME FROM AM_API_LABEL_MAPPING INNER " +
+                "JOIN AM_LABELS ON AM_API_LABEL_MAPPING.LABEL_ID = AM_LABELS.LABEL_ID AND " +
+                "AM_API_LABEL_MAPPING.API_ID IN (" + DAOUtil.getParameterString(apiIds.size()) + ") " +
+                "AND AM_LABELS.TYPE_NAME = ?";
+
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            int index = setApiIds(statement, apiIds);
+            statement.setString(index, type);
+
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    labelNames.computeIfAbsent(rs.getString("API_ID"), k -> new ArrayList<>())
+                            .add(rs.getString("NAME"));
+                }
+            }
+        }
+        for (List<String> names : labelNames.values()) {
+            Collections.sort(names);
+        }
+        return labelNames;
+    }
+
     private Set<String> getTransports(Connection connection, String apiID) throws SQLException {
         Set<String> transports = new HashSet<>();
 
@@ -3483,6 +4002,27 @@ public class ApiDAOImpl implements ApiDAO {
         return transports;
     }
 
+    @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
+    private Map<String, Set<String>> getTransportsForAPIs(Connection connection, List<String> apiIds)
+            throws SQLException {
+        Map<String, Set<String>> transports = new HashMap<>();
+
+        final String query = "SELECT API_ID, TRANSPORT FROM AM_API_TRANSPORTS WHERE API_ID IN (" +
+                DAOUtil.getParameterString(apiIds.size()) + ")";
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            setApiIds(statement, apiIds);
+
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    transports.computeIfAbsent(rs.getString("API_ID"), k -> new HashSet<>())
+                            .add(rs.getString("TRANSPORT"));
+                }
+            }
+        }
+
+        return transports;
+    }
+
     private String getLabelIdByNameAndType(Connection connection, String name, String type) throws APIMgtDAOException {
 
         final String query = "SELECT LABEL_ID FROM AM_LABELS WHERE NAME = ? AND TYPE_NAME = ?";
@@ -3529,6 +4069,37 @@ public class ApiDAOImpl implements ApiDAO {
         return policies;
     }
 
+    /**
+     * Get the threat protection policy ids associated with each of the given APIs
+     *
+     * @param connection SQL Connection
+     * @param apiIds     ApiIds of the APIs
+     * @return Set of threat protection policy ids keyed by ApiId
+     * @throws SQLException If failed to retrieve the sets of ids
+     */
+    @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
+    private Map<String, Set<String>> getThreatProtectionPoliciesForAPIs(Connection connection, List<String> apiIds)
+            throws SQLException {
+        Map<String, Set<String>> policies = new HashMap<>();
+        if (apiIds.isEmpty()) {
+            return policies;
+        }
+        final String query = "SELECT API_ID, POLICY_ID FROM AM_THREAT_PROTECTION_MAPPING WHERE API_ID IN (" +
+                DAOUtil.getParameterString(apiIds.size()) + ")";
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            setApiIds(statement, apiIds);
+
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    policies.computeIfAbsent(rs.getString("API_ID"), k -> new HashSet<>())
+                            .add(rs.getString("POLICY_ID"));
+                }
+            }
+        }
+
+        return policies;
+    }
+
     private static boolean isApiTypesExist(Connection connection) throws SQLException {
         final String query = "SELECT 1 FROM AM_API_TYPES";
 
@@ -34,6 +34,7 @@ import org.wso2.carbon.apimgt.core.models.DedicatedGateway;
 import org.wso2.carbon.apimgt.core.models.DocumentInfo;
 import org.wso2.carbon.apimgt.core.models.Endpoint;
 import org.wso2.carbon.apimgt.core.models.FileApi;
+import org.wso2.carbon.apimgt.core.models.PageCursor;
 import org.wso2.carbon.apimgt.core.models.Rating;
 import org.wso2.carbon.apimgt.core.models.UriTemplate;
 import org.wso2.carbon.apimgt.core.util.APIFileUtils;
@@ -47,10 +48,15 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * File based implementation of the ApiDAO interface.
@@ -58,6 +64,7 @@ import java.util.Set;
 public class ApiFileDAOImpl implements ApiDAO {
 
     private static final Logger log = LoggerFactory.getLogger(ApiFileDAOImpl.class);
+    private static final Comparator<API> PAGE_ORDER = Comparator.comparing(API::getName).thenComparing(API::getId);
     private String storagePath;
 
     public ApiFileDAOImpl(String storagePath) {
@@ -652,6 +659,23 @@ public class ApiFileDAOImpl implements ApiDAO {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * @see ApiDAO#getCompositeAPIs(Set, String, PageCursor, int)
+     */
+    @Override
+    public List<CompositeAPI> getCompositeAPIs(Set<String> roles, String user, PageCursor after, int limit) {
+        // Composite APIs are not stored in the file system, so every page is empty
+        return new ArrayList<>();
+    }
+
+    /**
+     * @see ApiDAO#getAPIs(Set, String, PageCursor, int)
+     */
+    @Override
+    public List<API> getAPIs(Set<String> roles, String user, PageCursor after, int limit) throws APIMgtDAOException {
+        return getPage(getAPIs(roles, user), after, limit);
+    }
+
     /**
      * @see ApiDAO#getAPIsByStatus(Set)
      * @param statuses
@@ -668,6 +692,22 @@ public class ApiFileDAOImpl implements ApiDAO {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * @see ApiDAO#getAPIsByStatus(Set, Set, Set, PageCursor, int)
+     */
+    @Override
+    public List<API> getAPIsByStatus(Set<String> roles, Set<APIStatus> statuses, Set<String> labels,
+                                     PageCursor after, int limit) throws APIMgtDAOException {
+        Set<String> statusNames = new HashSet<>();
+        for (APIStatus status : statuses) {
+            statusNames.add(status.getStatus());
+        }
+        List<API> apiList = getAPIs(roles, null);
+        apiList.removeIf(api -> !statusNames.contains(api.getLifeCycleStatus()) || (!labels.isEmpty() &&
+                (api.getStoreLabels() == null || Collections.disjoint(api.getStoreLabels(), labels))));
+        return getPage(apiList, after, limit);
+    }
+
     /**
      * @see ApiDAO#searchAPIs(Set, String, String, int, int)
      */
@@ -793,6 +833,28 @@ public class ApiFileDAOImpl implements ApiDAO {
         return null;
     }
 
+    /**
+     * Get the APIs which come after a cursor, ordered by name and then by ID as the database backed DAO does
+     *
+     * @param apiList APIs in any order
+     * @param after   position of the last API of the previous page, or null to get the first page
+     * @param limit   maximum number of APIs to return, or zero to return every API after the cursor
+     * @return APIs of the page
+     */
+    private static List<API> getPage(List<API> apiList, PageCursor after, int limit) {
+        Stream<API> page = apiList.stream().sorted(PAGE_ORDER);
+        if (after != null) {
+            page = page.filter(api -> {
+                int sortKeyComparison = api.getName().compareTo(after.getSortKey());
+                return sortKeyComparison > 0 || (sortKeyComparison == 0 && api.getId().compareTo(after.getId()) > 0);
+            });
+        }
+        if (limit > 0) {
+            page = page.limit(limit);
+        }
+        return page.collect(Collectors.toList());
+    }
+
     private Object fetchObject(File file, Class c, FilenameFilter filenameFilter) {
         File[] files = (filenameFilter != null) ? file.listFiles(filenameFilter) : file.listFiles();
         if (files != null && files.length > 0) {
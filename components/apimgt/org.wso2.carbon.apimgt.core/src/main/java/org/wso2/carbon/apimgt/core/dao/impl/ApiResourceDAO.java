@@ -20,6 +20,7 @@
 
 package org.wso2.carbon.apimgt.core.dao.impl;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.apache.commons.io.IOUtils;
 import org.wso2.carbon.apimgt.core.dao.ApiType;
 import org.wso2.carbon.apimgt.core.models.ResourceCategory;
@@ -33,6 +34,9 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 class ApiResourceDAO {
 
@@ -129,6 +133,28 @@ class ApiResourceDAO {
         return null;
     }
 
+    @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
+    static Map<String, String> getTextValuesForCategory(Connection connection, List<String> apiIDs,
+                                                        ResourceCategory resourceCategory) throws SQLException {
+        Map<String, String> textValues = new HashMap<>();
+        final String query = "SELECT API_ID, RESOURCE_TEXT_VALUE FROM AM_API_RESOURCES WHERE " +
+                "RESOURCE_CATEGORY_ID = ? AND API_ID IN (" + DAOUtil.getParameterString(apiIDs.size()) + ")";
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setInt(1, ResourceCategoryDAO.getResourceCategoryID(connection, resourceCategory));
+            for (int i = 0; i < apiIDs.size(); ++i) {
+                statement.setString(i + 2, apiIDs.get(i));
+            }
+
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    textValues.putIfAbsent(rs.getString("API_ID"), rs.getString("RESOURCE_TEXT_VALUE"));
+                }
+            }
+        }
+
+        return textValues;
+    }
+
     static void updateTextValueForCategory(Connection connection, String apiID,
                                            ResourceCategory category,
                                            String resourceValue, String updatedBy) throws SQLException {
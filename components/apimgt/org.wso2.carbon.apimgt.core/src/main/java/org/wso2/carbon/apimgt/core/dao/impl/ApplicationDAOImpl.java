@@ -20,11 +20,13 @@
 
 package org.wso2.carbon.apimgt.core.dao.impl;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.wso2.carbon.apimgt.core.dao.ApplicationDAO;
 import org.wso2.carbon.apimgt.core.exception.APIMgtDAOException;
 import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
 import org.wso2.carbon.apimgt.core.models.Application;
 import org.wso2.carbon.apimgt.core.models.OAuthApplicationInfo;
+import org.wso2.carbon.apimgt.core.models.PageCursor;
 import org.wso2.carbon.apimgt.core.models.policy.ApplicationPolicy;
 import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
 
@@ -38,6 +40,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Default implementation of the ApplicationDAO interface. Uses SQL syntax that is common to H2 and MySQL DBs.
@@ -140,6 +143,38 @@ public class ApplicationDAOImpl implements ApplicationDAO {
         }
     }
 
+    /**
+     * Retrieves a page of the Applications that belong to a user, ordered by name and UUID.
+     *
+     * @param ownerId Username of user
+     * @param after   Position of the last Application of the previous page, or null to get the first page
+     * @param limit   The maximum number of results to be returned
+     * @return A list of {@link Application}
+     * @throws APIMgtDAOException   If failed to retrieve applications.
+     */
+    @Override
+    @SuppressFBWarnings("SQL_PREPARED_STATEMENT_GENERATED_FROM_NONCONSTANT_STRING")
+    public List<Application> getApplications(String ownerId, PageCursor after, int limit) throws APIMgtDAOException {
+        String getAppsPageQuery = GET_APPS_WITH_POLICY_QUERY + " AND APPLICATION.CREATED_BY = ?";
+        if (after != null) {
+            getAppsPageQuery += " AND " + DAOUtil.getPageCursorCondition("APPLICATION.NAME", "APPLICATION.UUID");
+        }
+        getAppsPageQuery += " ORDER BY APPLICATION.NAME, APPLICATION.UUID";
+        try (Connection conn = DAOUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(getAppsPageQuery)) {
+            ps.setString(1, ownerId);
+            if (after != null) {
+                DAOUtil.setPageCursorParameters(ps, 1, after);
+            }
+            ps.setMaxRows(limit);
+            try (ResultSet rs = ps.executeQuery()) {
+                return this.createApplicationsFromResultSet(rs);
+            }
+        } catch (SQLException ex) {
+            throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "getting applications for user " + ownerId, ex);
+        }
+    }
+
     /**
      * Retrieves summary data of all available Applications. This method supports result pagination and
      * ensures results returned are those that belong to the specified username
@@ -452,23 +487,28 @@ public class ApplicationDAOImpl implements ApplicationDAO {
     @Override
     public List<Application> getAllApplications() throws APIMgtDAOException {
         List<Application> applicationList = new ArrayList<>();
+        forEachApplication(applicationList::add);
+        return applicationList;
+    }
+
+    @Override
+    public void forEachApplication(Consumer<Application> consumer) throws APIMgtDAOException {
         try (Connection conn = DAOUtil.getConnection();
              PreparedStatement ps = conn.prepareStatement(GET_APPS_QUERY)) {
+            DAOUtil.setStreamingFetchSize(conn, ps);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
-                        String createdUser = rs.getString("CREATED_BY");
-                        Application application = new Application(rs.getString("NAME"), createdUser);
-                        application.setId(rs.getString("UUID"));
-                        application.setStatus(rs.getString("APPLICATION_STATUS"));
-                        application.setPolicy(new ApplicationPolicy(rs.getString("APPLICATION_POLICY_ID"), ""));
-                        applicationList.add(application);
-
+                    String createdUser = rs.getString("CREATED_BY");
+                    Application application = new Application(rs.getString("NAME"), createdUser);
+                    application.setId(rs.getString("UUID"));
+                    application.setStatus(rs.getString("APPLICATION_STATUS"));
+                    application.setPolicy(new ApplicationPolicy(rs.getString("APPLICATION_POLICY_ID"), ""));
+                    consumer.accept(application);
                 }
             }
         } catch (SQLException ex) {
             throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "getting all applications", ex);
         }
-        return applicationList;
     }
 
     private List<Application> createApplicationsFromResultSet(ResultSet rs) throws SQLException, APIMgtDAOException {
@@ -0,0 +1,786 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.dao.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.apimgt.core.dao.ApiDAO;
+import org.wso2.carbon.apimgt.core.dao.SearchType;
+import org.wso2.carbon.apimgt.core.dao.SecondarySearchType;
+import org.wso2.carbon.apimgt.core.exception.APIMgtDAOException;
+import org.wso2.carbon.apimgt.core.exception.GatewayException;
+import org.wso2.carbon.apimgt.core.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.core.models.API;
+import org.wso2.carbon.apimgt.core.models.APIStatus;
+import org.wso2.carbon.apimgt.core.models.Comment;
+import org.wso2.carbon.apimgt.core.models.CompositeAPI;
+import org.wso2.carbon.apimgt.core.models.DedicatedGateway;
+import org.wso2.carbon.apimgt.core.models.DocumentInfo;
+import org.wso2.carbon.apimgt.core.models.Endpoint;
+import org.wso2.carbon.apimgt.core.models.PageCursor;
+import org.wso2.carbon.apimgt.core.models.Rating;
+import org.wso2.carbon.apimgt.core.models.UriTemplate;
+import org.wso2.carbon.apimgt.core.models.events.APICacheInvalidationEvent;
+import org.wso2.carbon.apimgt.core.util.APIMgtConstants.APILCWorkflowStatus;
+import org.wso2.carbon.apimgt.core.util.BrokerUtil;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.CheckForNull;
+
+/**
+ * {@link ApiDAO} decorator which keeps the API models read from the data layer in memory.
+ * <p>
+ * APIs are cached by UUID along with their last updated time, and store listing pages are cached by their query
+ * parameters. Both caches are bounded and evict the least recently used entries. Every write made through this
+ * DAO invalidates the affected entries and announces them to the other nodes through an
+ * {@link InvalidationPublisher}, while changes made on other nodes are applied through {@link #invalidate(String)}
+ * and {@link #invalidateAll()} as their events are received. Entries also expire after a configured time, so
+ * changes which are not announced by an event are eventually visible.
+ * <p>
+ * Callers may modify the API objects they get (for example to set user specific permissions), so a copy of the
+ * cached API is returned for every read.
+ */
+public class CachingApiDAO implements ApiDAO {
+
+    private static final Logger log = LoggerFactory.getLogger(CachingApiDAO.class);
+
+    private final ApiDAO apiDAO;
+    private final InvalidationPublisher invalidationPublisher;
+    private final ExpiringCache<String, API> apiCache;
+    private final ExpiringCache<String, String> lastUpdatedTimeCache;
+    private final ExpiringCache<List<Object>, List<API>> listingCache;
+
+    /**
+     * Create a cache which does not announce its writes to other nodes, for a single node deployment
+     *
+     * @param apiDAO          DAO which reads from and writes to the data layer
+     * @param maxApiCount     maximum number of APIs kept in the cache
+     * @param maxListingCount maximum number of store listing pages kept in the cache
+     * @param expiryTime      time in seconds a cached entry is served before it is loaded again
+     */
+    public CachingApiDAO(ApiDAO apiDAO, int maxApiCount, int maxListingCount, int expiryTime) {
+        this(apiDAO, maxApiCount, maxListingCount, expiryTime, apiId -> {
+        });
+    }
+
+    /**
+     * @param apiDAO                DAO which reads from and writes to the data layer
+     * @param maxApiCount           maximum number of APIs kept in the cache
+     * @param maxListingCount       maximum number of store listing pages kept in the cache
+     * @param expiryTime            time in seconds a cached entry is served before it is loaded again
+     * @param invalidationPublisher announces the APIs changed through this DAO to the other nodes
+     */
+    public CachingApiDAO(ApiDAO apiDAO, int maxApiCount, int maxListingCount, int expiryTime,
+                         InvalidationPublisher invalidationPublisher) {
+        this.apiDAO = apiDAO;
+        this.invalidationPublisher = invalidationPublisher;
+        long expiryTimeMillis = TimeUnit.SECONDS.toMillis(expiryTime);
+        this.apiCache = new ExpiringCache<>(maxApiCount, expiryTimeMillis);
+        this.lastUpdatedTimeCache = new ExpiringCache<>(maxApiCount, expiryTimeMillis);
+        this.listingCache = new ExpiringCache<>(maxListingCount, expiryTimeMillis);
+    }
+
+    /**
+     * Remove an API from the cache along with all cached listings, since the API may appear in any of them.
+     *
+     * @param apiId UUID of the API
+     */
+    public void invalidate(String apiId) {
+        apiCache.remove(apiId);
+        lastUpdatedTimeCache.remove(apiId);
+        clearListings();
+    }
+
+    /**
+     * Remove every cached entry. Used for changes which may affect many APIs, such as updates to global endpoints
+     * or policies.
+     */
+    public void invalidateAll() {
+        apiCache.clear();
+        lastUpdatedTimeCache.clear();
+        clearListings();
+    }
+
+    /**
+     * Announce an invalidation to the other nodes through the broker, which
+     * {@link APICacheInvalidationListener} applies to their caches
+     *
+     * @param apiId UUID of the changed API, null if every cached API is to be removed
+     */
+    public static void publishInvalidationEvent(String apiId) {
+        String topic = ServiceReferenceHolder.getInstance().getAPIMConfiguration().getBrokerConfigurations()
+                .getApiCacheInvalidationTopic();
+        try {
+            BrokerUtil.publishToTopic(topic, new APICacheInvalidationEvent(apiId));
+        } catch (GatewayException e) {
+            // the data layer is already updated; other nodes see the change once their entries expire
+            log.error("Error occurred while announcing API cache invalidation for API: " + apiId, e);
+        }
+    }
+
+    private void invalidateAndPublish(String apiId) {
+        invalidate(apiId);
+        invalidationPublisher.publish(apiId);
+    }
+
+    private void invalidateAllAndPublish() {
+        invalidateAll();
+        invalidationPublisher.publish(null);
+    }
+
+    private void clearListings() {
+        listingCache.clear();
+    }
+
+    private List<API> getListing(List<Object> key, ListingLoader loader) throws APIMgtDAOException {
+        List<API> apis = listingCache.get(key);
+        if (apis == null) {
+            long generation = listingCache.getGeneration();
+            apis = loader.load();
+            if (apis == null) {
+                return null;
+            }
+            listingCache.put(key, apis, generation);
+        }
+        List<API> copies = new ArrayList<>(apis.size());
+        for (API api : apis) {
+            copies.add(copyOf(api));
+        }
+        return copies;
+    }
+
+    private static <T> Set<T> copyOf(Set<T> set) {
+        return set == null ? null : new HashSet<>(set);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static API copyOf(API api) {
+        API.APIBuilder builder = new API.APIBuilder(api)
+                .gatewayConfig(api.getGatewayConfig())
+                .updatedBy(api.getUpdatedBy())
+                .permissionMap(api.getPermissionMap() == null ? null : new HashMap<>(api.getPermissionMap()))
+                .scopes(api.getScopes() == null ? null : new ArrayList<>(api.getScopes()));
+        builder.setUserSpecificApiPermissions(api.getUserSpecificApiPermissions() == null ? null :
+                new ArrayList<>(api.getUserSpecificApiPermissions()));
+        return builder.build();
+    }
+
+    @Override
+    public boolean isAPIExists(String apiID) throws APIMgtDAOException {
+        return apiDAO.isAPIExists(apiID);
+    }
+
+    @Override
+    public API getAPI(String apiID) throws APIMgtDAOException {
+        API api = apiCache.get(apiID);
+        if (api == null) {
+            long generation = apiCache.getGeneration();
+            api = apiDAO.getAPI(apiID);
+            if (api == null) {
+                return null;
+            }
+            apiCache.put(apiID, api, generation);
+        }
+        return copyOf(api);
+    }
+
+    @Override
+    public API getAPISummary(String apiID) throws APIMgtDAOException {
+        return apiDAO.getAPISummary(apiID);
+    }
+
+    @Override
+    public CompositeAPI getCompositeAPISummary(String apiID) throws APIMgtDAOException {
+        return apiDAO.getCompositeAPISummary(apiID);
+    }
+
+    @Override
+    public CompositeAPI getCompositeAPI(String apiID) throws APIMgtDAOException {
+        return apiDAO.getCompositeAPI(apiID);
+    }
+
+    @Override
+    public List<CompositeAPI> getCompositeAPIs(Set<String> roles, String user, int offset, int limit)
+            throws APIMgtDAOException {
+        return apiDAO.getCompositeAPIs(roles, user, offset, limit);
+    }
+
+    @Override
+    public List<CompositeAPI> getCompositeAPIs(Set<String> roles, String user, PageCursor after, int limit)
+            throws APIMgtDAOException {
+        return apiDAO.getCompositeAPIs(roles, user, after, limit);
+    }
+
+    @Override
+    public String getLastUpdatedTimeOfAPI(String apiId) throws APIMgtDAOException {
+        String lastUpdatedTime = lastUpdatedTimeCache.get(apiId);
+        if (lastUpdatedTime == null) {
+            long generation = lastUpdatedTimeCache.getGeneration();
+            lastUpdatedTime = apiDAO.getLastUpdatedTimeOfAPI(apiId);
+            if (lastUpdatedTime != null) {
+                lastUpdatedTimeCache.put(apiId, lastUpdatedTime, generation);
+            }
+        }
+        return lastUpdatedTime;
+    }
+
+    @Override
+    public String getLastUpdatedTimeOfSwaggerDefinition(String apiId) throws APIMgtDAOException {
+        return apiDAO.getLastUpdatedTimeOfSwaggerDefinition(apiId);
+    }
+
+    @Override
+    public String getLastUpdatedTimeOfGatewayConfig(String apiId) throws APIMgtDAOException {
+        return apiDAO.getLastUpdatedTimeOfGatewayConfig(apiId);
+    }
+
+    @Override
+    public List<API> getAPIs(Set<String> roles, String user) throws APIMgtDAOException {
+        return apiDAO.getAPIs(roles, user);
+    }
+
+    @Override
+    public List<API> getAPIs(Set<String> roles, String user, PageCursor after, int limit) throws APIMgtDAOException {
+        return apiDAO.getAPIs(roles, user, after, limit);
+    }
+
+    @Override
+    public List<API> getAPIsByStatus(Set<APIStatus> statuses) throws APIMgtDAOException {
+        return apiDAO.getAPIsByStatus(statuses);
+    }
+
+    @Override
+    public List<API> getAPIsByStatus(Set<String> roles, Set<APIStatus> statuses, Set<String> labels)
+            throws APIMgtDAOException {
+        List<Object> key = Arrays.asList("getAPIsByStatus", copyOf(roles), copyOf(statuses), copyOf(labels));
+        return getListing(key, () -> apiDAO.getAPIsByStatus(roles, statuses, labels));
+    }
+
+    @Override
+    public List<API> getAPIsByStatus(Set<String> roles, Set<APIStatus> statuses, Set<String> labels,
+                                     PageCursor after, int limit) throws APIMgtDAOException {
+        List<Object> key = Arrays.asList("getAPIsByStatus", copyOf(roles), copyOf(statuses), copyOf(labels), after,
+                limit);
+        return getListing(key, () -> apiDAO.getAPIsByStatus(roles, statuses, labels, after, limit));
+    }
+
+    @Override
+    public List<API> searchAPIs(Set<String> roles, String user, String searchString, int offset, int limit)
+            throws APIMgtDAOException {
+        return apiDAO.searchAPIs(roles, user, searchString, offset, limit);
+    }
+
+    @Override
+    public List<API> searchAPIsByStoreLabel(Set<String> roles, String user, String searchString, int offset, int limit,
+                                            Set<String> labels) throws APIMgtDAOException {
+        List<Object> key = Arrays.asList("searchAPIsByStoreLabel", copyOf(roles), user, searchString, offset, limit,
+                copyOf(labels));
+        return getListing(key, () -> apiDAO.searchAPIsByStoreLabel(roles, user, searchString, offset, limit, labels));
+    }
+
+    @Override
+    public List<CompositeAPI> searchCompositeAPIs(Set<String> roles, String user, String searchString, int offset,
+                                                  int limit) throws APIMgtDAOException {
+        return apiDAO.searchCompositeAPIs(roles, user, searchString, offset, limit);
+    }
+
+    @Override
+    public List<API> attributeSearchAPIs(Set<String> roles, String user, Map<SearchType, String> attributeMap,
+                                         Map<SecondarySearchType, String> secondaryAttributeMap, int offset,
+                                         int limit, boolean expand) throws APIMgtDAOException {
+        return apiDAO.attributeSearchAPIs(roles, user, attributeMap, secondaryAttributeMap, offset, limit, expand);
+    }
+
+    @Override
+    public List<API> searchAPIsByAttributeInStore(Set<String> roles, Set<String> labels,
+                                                  Map<SearchType, String> attributeMap, int offset, int limit)
+            throws APIMgtDAOException {
+        List<Object> key = Arrays.asList("searchAPIsByAttributeInStore", copyOf(roles), copyOf(labels),
+                attributeMap == null ? null : new HashMap<>(attributeMap), offset, limit);
+        return getListing(key, () -> apiDAO.searchAPIsByAttributeInStore(roles, labels, attributeMap, offset, limit));
+    }
+
+    @Override
+    public boolean isAPINameExists(String apiName, String providerName) throws APIMgtDAOException {
+        return apiDAO.isAPINameExists(apiName, providerName);
+    }
+
+    @Override
+    public boolean isAPIContextExists(String contextName) throws APIMgtDAOException {
+        return apiDAO.isAPIContextExists(contextName);
+    }
+
+    @Override
+    public void addAPI(API api) throws APIMgtDAOException {
+        apiDAO.addAPI(api);
+        invalidateAndPublish(api.getId());
+    }
+
+    @Override
+    public void addApplicationAssociatedAPI(CompositeAPI api) throws APIMgtDAOException {
+        apiDAO.addApplicationAssociatedAPI(api);
+        invalidateAndPublish(api.getId());
+    }
+
+    @Override
+    public void updateAPI(String apiID, API substituteAPI) throws APIMgtDAOException {
+        apiDAO.updateAPI(apiID, substituteAPI);
+        invalidateAndPublish(apiID);
+    }
+
+    @Override
+    public void deleteAPI(String apiID) throws APIMgtDAOException {
+        apiDAO.deleteAPI(apiID);
+        invalidateAndPublish(apiID);
+    }
+
+    @Override
+    public void deleteCompositeApi(String apiId) throws APIMgtDAOException {
+        apiDAO.deleteCompositeApi(apiId);
+        invalidateAndPublish(apiId);
+    }
+
+    @Override
+    public String getApiSwaggerDefinition(String apiID) throws APIMgtDAOException {
+        return apiDAO.getApiSwaggerDefinition(apiID);
+    }
+
+    @Override
+    public String getCompositeApiSwaggerDefinition(String apiID) throws APIMgtDAOException {
+        return apiDAO.getCompositeApiSwaggerDefinition(apiID);
+    }
+
+    @Override
+    public InputStream getImage(String apiID) throws APIMgtDAOException {
+        return apiDAO.getImage(apiID);
+    }
+
+    @Override
+    public void updateImage(String apiID, InputStream image, String dataType, String updatedBy)
+            throws APIMgtDAOException {
+        apiDAO.updateImage(apiID, image, dataType, updatedBy);
+        invalidateAndPublish(apiID);
+    }
+
+    @Override
+    public void changeLifeCycleStatus(String apiID, String status) throws APIMgtDAOException {
+        apiDAO.changeLifeCycleStatus(apiID, status);
+        invalidateAndPublish(apiID);
+    }
+
+    @Override
+    public List<DocumentInfo> getDocumentsInfoList(String apiID) throws APIMgtDAOException {
+        return apiDAO.getDocumentsInfoList(apiID);
+    }
+
+    @Override
+    @CheckForNull
+    public DocumentInfo getDocumentInfo(String resourceID) throws APIMgtDAOException {
+        return apiDAO.getDocumentInfo(resourceID);
+    }
+
+    @Override
+    @CheckForNull
+    public InputStream getDocumentFileContent(String resourceID) throws APIMgtDAOException {
+        return apiDAO.getDocumentFileContent(resourceID);
+    }
+
+    @Override
+    @CheckForNull
+    public String getDocumentInlineContent(String resourceID) throws APIMgtDAOException {
+        return apiDAO.getDocumentInlineContent(resourceID);
+    }
+
+    @Override
+    public void addDocumentInfo(String apiId, DocumentInfo documentInfo) throws APIMgtDAOException {
+        apiDAO.addDocumentInfo(apiId, documentInfo);
+    }
+
+    @Override
+    public void addDocumentFileContent(String resourceID, InputStream content, String dataType, String updatedBy)
+            throws APIMgtDAOException {
+        apiDAO.addDocumentFileContent(resourceID, content, dataType, updatedBy);
+    }
+
+    @Override
+    public void updateDocumentInfo(String apiId, DocumentInfo documentInfo, String updatedBy)
+            throws APIMgtDAOException {
+        apiDAO.updateDocumentInfo(apiId, documentInfo, updatedBy);
+    }
+
+    @Override
+    public void addDocumentInlineContent(String resourceID, String content, String updatedBy)
+            throws APIMgtDAOException {
+        apiDAO.addDocumentInlineContent(resourceID, content, updatedBy);
+    }
+
+    @Override
+    public void deleteDocument(String resourceID) throws APIMgtDAOException {
+        apiDAO.deleteDocument(resourceID);
+    }
+
+    @Override
+    public void deprecateOlderVersions(String identifier) {
+        apiDAO.deprecateOlderVersions(identifier);
+        invalidateAllAndPublish();
+    }
+
+    @Override
+    public boolean isDocumentExist(String apiId, DocumentInfo documentInfo) throws APIMgtDAOException {
+        return apiDAO.isDocumentExist(apiId, documentInfo);
+    }
+
+    @Override
+    public void addEndpoint(Endpoint endpoint) throws APIMgtDAOException {
+        apiDAO.addEndpoint(endpoint);
+    }
+
+    @Override
+    public boolean deleteEndpoint(String endpointId) throws APIMgtDAOException {
+        boolean result = apiDAO.deleteEndpoint(endpointId);
+        invalidateAllAndPublish();
+        return result;
+    }
+
+    @Override
+    public boolean updateEndpoint(Endpoint endpoint) throws APIMgtDAOException {
+        boolean result = apiDAO.updateEndpoint(endpoint);
+        invalidateAllAndPublish();
+        return result;
+    }
+
+    @Override
+    public Endpoint getEndpoint(String endpointId) throws APIMgtDAOException {
+        return apiDAO.getEndpoint(endpointId);
+    }
+
+    @Override
+    public Endpoint getEndpointByName(String name) throws APIMgtDAOException {
+        return apiDAO.getEndpointByName(name);
+    }
+
+    @Override
+    public List<Endpoint> getEndpoints() throws APIMgtDAOException {
+        return apiDAO.getEndpoints();
+    }
+
+    @Override
+    public void updateApiDefinition(String apiID, String swaggerDefinition, String updatedBy)
+            throws APIMgtDAOException {
+        apiDAO.updateApiDefinition(apiID, swaggerDefinition, updatedBy);
+        invalidateAndPublish(apiID);
+    }
+
+    @Override
+    public boolean isWSDLArchiveExists(String apiId) throws APIMgtDAOException {
+        return apiDAO.isWSDLArchiveExists(apiId);
+    }
+
+    @Override
+    public boolean isWSDLExists(String apiId) throws APIMgtDAOException {
+        return apiDAO.isWSDLExists(apiId);
+    }
+
+    @Override
+    public String getWSDL(String apiId) throws APIMgtDAOException {
+        return apiDAO.getWSDL(apiId);
+    }
+
+    @Override
+    public InputStream getWSDLArchive(String apiId) throws APIMgtDAOException {
+        return apiDAO.getWSDLArchive(apiId);
+    }
+
+    @Override
+    public void addOrUpdateWSDL(String apiId, byte[] wsdlContent, String createdBy) throws APIMgtDAOException {
+        apiDAO.addOrUpdateWSDL(apiId, wsdlContent, createdBy);
+        invalidateAndPublish(apiId);
+    }
+
+    @Override
+    public void addOrUpdateWSDLArchive(String apiID, InputStream inputStream, String updatedBy)
+            throws APIMgtDAOException {
+        apiDAO.addOrUpdateWSDLArchive(apiID, inputStream, updatedBy);
+        invalidateAndPublish(apiID);
+    }
+
+    @Override
+    public void removeWSDL(String apiId) throws APIMgtDAOException {
+        apiDAO.removeWSDL(apiId);
+        invalidateAndPublish(apiId);
+    }
+
+    @Override
+    public void removeWSDLArchiveOfAPI(String apiId) throws APIMgtDAOException {
+        apiDAO.removeWSDLArchiveOfAPI(apiId);
+        invalidateAndPublish(apiId);
+    }
+
+    @Override
+    public String getGatewayConfigOfAPI(String apiID) throws APIMgtDAOException {
+        return apiDAO.getGatewayConfigOfAPI(apiID);
+    }
+
+    @Override
+    public InputStream getCompositeAPIGatewayConfig(String apiID) throws APIMgtDAOException {
+        return apiDAO.getCompositeAPIGatewayConfig(apiID);
+    }
+
+    @Override
+    public void updateGatewayConfig(String apiID, String gatewayConfig, String updatedBy) throws APIMgtDAOException {
+        apiDAO.updateGatewayConfig(apiID, gatewayConfig, updatedBy);
+        invalidateAndPublish(apiID);
+    }
+
+    @Override
+    public void updateCompositeAPIGatewayConfig(String apiID, InputStream gatewayConfig, String updatedBy)
+            throws APIMgtDAOException {
+        apiDAO.updateCompositeAPIGatewayConfig(apiID, gatewayConfig, updatedBy);
+    }
+
+    @Override
+    public String getLastUpdatedTimeOfDocument(String documentId) throws APIMgtDAOException {
+        return apiDAO.getLastUpdatedTimeOfDocument(documentId);
+    }
+
+    @Override
+    public String getLastUpdatedTimeOfDocumentContent(String apiId, String documentId) throws APIMgtDAOException {
+        return apiDAO.getLastUpdatedTimeOfDocumentContent(apiId, documentId);
+    }
+
+    @Override
+    public String getLastUpdatedTimeOfAPIThumbnailImage(String apiId) throws APIMgtDAOException {
+        return apiDAO.getLastUpdatedTimeOfAPIThumbnailImage(apiId);
+    }
+
+    @Override
+    public String getLastUpdatedTimeOfEndpoint(String endpointId) throws APIMgtDAOException {
+        return apiDAO.getLastUpdatedTimeOfEndpoint(endpointId);
+    }
+
+    @Override
+    public void updateAPIWorkflowStatus(String apiID, APILCWorkflowStatus workflowStatus) throws APIMgtDAOException {
+        apiDAO.updateAPIWorkflowStatus(apiID, workflowStatus);
+        invalidateAndPublish(apiID);
+    }
+
+    @Override
+    public Comment getCommentByUUID(String commentId, String apiId) throws APIMgtDAOException {
+        return apiDAO.getCommentByUUID(commentId, apiId);
+    }
+
+    @Override
+    public void addComment(Comment comment, String apiId) throws APIMgtDAOException {
+        apiDAO.addComment(comment, apiId);
+    }
+
+    @Override
+    public void deleteComment(String commentId, String apiId) throws APIMgtDAOException {
+        apiDAO.deleteComment(commentId, apiId);
+    }
+
+    @Override
+    public void updateComment(Comment comment, String commentId, String apiId) throws APIMgtDAOException {
+        apiDAO.updateComment(comment, commentId, apiId);
+    }
+
+    @Override
+    public List<Comment> getCommentsForApi(String apiId) throws APIMgtDAOException {
+        return apiDAO.getCommentsForApi(apiId);
+    }
+
+    @Override
+    public String getLastUpdatedTimeOfComment(String commentId) throws APIMgtDAOException {
+        return apiDAO.getLastUpdatedTimeOfComment(commentId);
+    }
+
+    @Override
+    public List<UriTemplate> getResourcesOfApi(String apiContext, String apiVersion) throws APIMgtDAOException {
+        return apiDAO.getResourcesOfApi(apiContext, apiVersion);
+    }
+
+    @Override
+    public boolean isEndpointExist(String name) throws APIMgtDAOException {
+        return apiDAO.isEndpointExist(name);
+    }
+
+    @Override
+    public boolean isEndpointAssociated(String endpointId) throws APIMgtDAOException {
+        return apiDAO.isEndpointAssociated(endpointId);
+    }
+
+    @Override
+    public List<API> getAPIsByStatus(List<String> gatewayLabels, String status) throws APIMgtDAOException {
+        return apiDAO.getAPIsByStatus(gatewayLabels, status);
+    }
+
+    @Override
+    public List<API> getAPIsByGatewayLabel(List<String> gatewayLabels) throws APIMgtDAOException {
+        return apiDAO.getAPIsByGatewayLabel(gatewayLabels);
+    }
+
+    @Override
+    public void addRating(String apiId, Rating rating) throws APIMgtDAOException {
+        apiDAO.addRating(apiId, rating);
+    }
+
+    @Override
+    public void updateRating(String apiId, String ratingId, Rating ratingFromPayload) throws APIMgtDAOException {
+        apiDAO.updateRating(apiId, ratingId, ratingFromPayload);
+    }
+
+    @Override
+    public Rating getUserRatingForApiFromUser(String apiId, String userId) throws APIMgtDAOException {
+        return apiDAO.getUserRatingForApiFromUser(apiId, userId);
+    }
+
+    @Override
+    public Rating getRatingByUUID(String apiId, String ratingId) throws APIMgtDAOException {
+        return apiDAO.getRatingByUUID(apiId, ratingId);
+    }
+
+    @Override
+    public double getAverageRating(String apiId) throws APIMgtDAOException {
+        return apiDAO.getAverageRating(apiId);
+    }
+
+    @Override
+    public List<Rating> getRatingsListForApi(String apiId) throws APIMgtDAOException {
+        return apiDAO.getRatingsListForApi(apiId);
+    }
+
+    @Override
+    public List<String> getUUIDsOfGlobalEndpoints() throws APIMgtDAOException {
+        return apiDAO.getUUIDsOfGlobalEndpoints();
+    }
+
+    @Override
+    public String getEndpointConfig(String endpointId) throws APIMgtDAOException {
+        return apiDAO.getEndpointConfig(endpointId);
+    }
+
+    @Override
+    public boolean isAPIVersionsExist(String apiName) throws APIMgtDAOException {
+        return apiDAO.isAPIVersionsExist(apiName);
+    }
+
+    @Override
+    public void updateDedicatedGateway(DedicatedGateway dedicatedGateway, List<String> labels)
+            throws APIMgtDAOException {
+        apiDAO.updateDedicatedGateway(dedicatedGateway, labels);
+        invalidateAndPublish(dedicatedGateway.getApiId());
+    }
+
+    @Override
+    public DedicatedGateway getDedicatedGateway(String apiId) throws APIMgtDAOException {
+        return apiDAO.getDedicatedGateway(apiId);
+    }
+
+    /**
+     * Announces the APIs changed through this DAO to the other nodes, so that they remove them from their caches
+     */
+    @FunctionalInterface
+    public interface InvalidationPublisher {
+
+        /**
+         * @param apiId UUID of the changed API, null if every cached API is to be removed
+         */
+        void publish(String apiId);
+    }
+
+    /**
+     * Loads a listing page from the data layer
+     */
+    private interface ListingLoader {
+        List<API> load() throws APIMgtDAOException;
+    }
+
+    /**
+     * Size bounded, least recently used cache whose entries expire after a fixed time.
+     * <p>
+     * A generation counter is advanced on every removal, so that a value loaded before a concurrent invalidation is
+     * not put into the cache after the invalidation has happened.
+     */
+    private static final class ExpiringCache<K, V> {
+        private final long expiryTimeMillis;
+        private final LinkedHashMap<K, CacheEntry<V>> entries;
+        private long generation;
+
+        ExpiringCache(int maxSize, long expiryTimeMillis) {
+            this.expiryTimeMillis = expiryTimeMillis;
+            this.entries = new LinkedHashMap<K, CacheEntry<V>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+
+        synchronized V get(K key) {
+            CacheEntry<V> entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiryTime < System.currentTimeMillis()) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.value;
+        }
+
+        synchronized long getGeneration() {
+            return generation;
+        }
+
+        synchronized void put(K key, V value, long loadedGeneration) {
+            if (loadedGeneration == generation) {
+                entries.put(key, new CacheEntry<>(value, System.currentTimeMillis() + expiryTimeMillis));
+            }
+        }
+
+        synchronized void remove(K key) {
+            generation++;
+            entries.remove(key);
+        }
+
+        synchronized void clear() {
+            generation++;
+            entries.clear();
+        }
+    }
+
+    private static final class CacheEntry<V> {
+        private final V value;
+        private final long expiryTime;
+
+        CacheEntry(V value, long expiryTime) {
+            this.value = value;
+            this.expiryTime = expiryTime;
+        }
+    }
+}
@@ -22,11 +22,15 @@ package org.wso2.carbon.apimgt.core.dao.impl;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.wso2.carbon.apimgt.core.configuration.models.APICacheConfigurations;
+import org.wso2.carbon.apimgt.core.configuration.models.SearchIndexConfigurations;
+import org.wso2.carbon.apimgt.core.dao.APISearchIndex;
 import org.wso2.carbon.apimgt.core.dao.APISubscriptionDAO;
 import org.wso2.carbon.apimgt.core.dao.AnalyticsDAO;
 import org.wso2.carbon.apimgt.core.dao.ApiDAO;
 import org.wso2.carbon.apimgt.core.dao.ApplicationDAO;
 import org.wso2.carbon.apimgt.core.dao.FunctionDAO;
+import org.wso2.carbon.apimgt.core.dao.GatewayChangeLogDAO;
 import org.wso2.carbon.apimgt.core.dao.LabelDAO;
 import org.wso2.carbon.apimgt.core.dao.PolicyDAO;
 import org.wso2.carbon.apimgt.core.dao.SystemApplicationDao;
@@ -38,8 +42,10 @@ import org.wso2.carbon.apimgt.core.exception.APIMgtDAOException;
 import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
 import org.wso2.carbon.apimgt.core.internal.ServiceReferenceHolder;
 
-import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
 
 /**
  * Constructs DB vendor specific DAO implementations in a transparent manner.
@@ -58,6 +64,12 @@ public class DAOFactory {
     private static final String EDITOR_SAVE_PATH = "editorSavePath";
     private static final String EDITOR_MODE = "editorMode";
 
+    /**
+     * DAO instances shared across requests, keyed by the DAO interface. The DAO implementations are stateless and
+     * thread safe, so a single instance per DAO type is enough for the configured datasource.
+     */
+    private static final ConcurrentMap<Class<?>, Object> daoInstances = new ConcurrentHashMap<>();
+
     public ApiDAO getApiDAO() throws APIMgtDAOException {
         ApiDAO apiDAO = null;
 
@@ -73,199 +85,113 @@ public class DAOFactory {
             }
         }
 
-        try (Connection connection = DAOUtil.getConnection()) {
-            String driverName = connection.getMetaData().getDriverName();
+        return getDAO(ApiDAO.class, driverName -> {
+            ApiDAOImpl apiDAOImpl = getApiDAOImpl();
+            return apiDAOImpl == null ? null : withCache(apiDAOImpl);
+        });
+    }
 
+    /**
+     * Get the DB backed API DAO which the DAO returned by {@link #getApiDAO()} reads from and writes to
+     *
+     * @return API DAO of the DB vendor, null if the DB vendor has no implementation of it
+     * @throws APIMgtDAOException In case of unhandled DB type or SQLException
+     */
+    ApiDAOImpl getApiDAOImpl() throws APIMgtDAOException {
+        return getDAO(ApiDAOImpl.class, driverName -> {
             if (driverName.contains(MYSQL)) {
-                apiDAO = new ApiDAOImpl(new MysqlSQLStatements());
+                return new ApiDAOImpl(new MysqlSQLStatements(), createSearchIndex());
             } else if (driverName.contains(H2)) {
-                apiDAO = new ApiDAOImpl(new H2SQLStatements());
-
-            } else if (driverName.contains(DB2)) {
-
+                return new ApiDAOImpl(new H2SQLStatements(), createSearchIndex());
             } else if (driverName.contains(MS_SQL) || driverName.contains(MICROSOFT)) {
-                apiDAO = new ApiDAOImpl(new MssqlSQLStatements());
+                return new ApiDAOImpl(new MssqlSQLStatements(), createSearchIndex());
             } else if (driverName.contains(POSTGRE)) {
-                apiDAO = new ApiDAOImpl(new PostgresSQLStatements());
-
+                return new ApiDAOImpl(new PostgresSQLStatements(), createSearchIndex());
             } else if (driverName.contains(ORACLE)) {
-                apiDAO = new ApiDAOImpl(new OracleSQLStatements());
-
-            } else {
-                throw new APIMgtDAOException("Unhandled DB driver: " + driverName + " detected",
-                        ExceptionCodes.APIM_DAO_EXCEPTION);
+                return new ApiDAOImpl(new OracleSQLStatements(), createSearchIndex());
             }
-        } catch (SQLException e) {
-            throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "getting ApiDAO", e);
-        }
-
-        return apiDAO;
+            return createForVendor(driverName, () -> null);
+        });
     }
 
-    public ApplicationDAO getApplicationDAO() throws APIMgtDAOException {
-        ApplicationDAO appDAO = null;
-
-        try (Connection connection = DAOUtil.getConnection()) {
-            String driverName = connection.getMetaData().getDriverName();
+    /**
+     * Load all APIs to the API search index, if it is enabled, so that the first API search does not wait for it
+     *
+     * @throws APIMgtDAOException if error occurred while getting the APIs from DB
+     */
+    public void loadSearchIndex() throws APIMgtDAOException {
+        ApiDAOImpl apiDAOImpl = getApiDAOImpl();
+        if (apiDAOImpl != null) {
+            apiDAOImpl.loadSearchIndex();
+        }
+    }
 
-            if (driverName.contains(MYSQL) || driverName.contains(H2)) {
-                appDAO = new ApplicationDAOImpl();
-            } else if (driverName.contains(DB2)) {
+    /**
+     * Create the configured API search index, if full text API search is served from the index
+     *
+     * @return search index, or null if API search is done in the database
+     * @throws APIMgtDAOException if the configured search index cannot be created
+     */
+    private static APISearchIndex createSearchIndex() throws APIMgtDAOException {
+        SearchIndexConfigurations searchIndexConfigs = ServiceReferenceHolder.getInstance().getAPIMConfiguration()
+                .getSearchIndexConfigurations();
+        if (!searchIndexConfigs.isEnabled()) {
+            return null;
+        }
+        String className = searchIndexConfigs.getSearchIndexImplClass();
+        try {
+            return (APISearchIndex) Class.forName(className).newInstance();
+        } catch (ClassNotFoundException | InstantiationException | IllegalAccessException | ClassCastException e) {
+            String errorMessage = "Error occurred while creating API search index of class: " + className;
+            log.error(errorMessage, e);
+            throw new APIMgtDAOException(errorMessage, e, ExceptionCodes.APIM_DAO_EXCEPTION);
+        }
+    }
 
-            } else if (driverName.contains(MS_SQL) || driverName.contains(MICROSOFT)) {
-                appDAO = new ApplicationDAOImpl();
-            } else if (driverName.contains(POSTGRE)) {
-                appDAO = new ApplicationDAOImpl();
-            } else if (driverName.contains(ORACLE)) {
-                appDAO = new ApplicationDAOImpl();
-            } else {
-                throw new APIMgtDAOException("Unhandled DB driver: " + driverName + " detected",
-                        ExceptionCodes.APIM_DAO_EXCEPTION);
-            }
-        } catch (SQLException e) {
-            throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "getting ApplicationDAO", e);
+    /**
+     * Put the API model cache in front of the given DAO, if it is enabled.
+     *
+     * @param apiDAO DAO which accesses the data layer
+     * @return cached DAO, or the given DAO if the cache is disabled
+     */
+    private static ApiDAO withCache(ApiDAO apiDAO) {
+        APICacheConfigurations cacheConfigs = ServiceReferenceHolder.getInstance().getAPIMConfiguration()
+                .getApiCacheConfigurations();
+        if (!cacheConfigs.isEnabled()) {
+            return apiDAO;
         }
+        return new CachingApiDAO(apiDAO, cacheConfigs.getMaxApiCount(), cacheConfigs.getMaxListingCount(),
+                cacheConfigs.getExpiryTime(), CachingApiDAO::publishInvalidationEvent);
+    }
 
-        return appDAO;
+    public ApplicationDAO getApplicationDAO() throws APIMgtDAOException {
+        return getDAO(ApplicationDAO.class, driverName -> createForVendor(driverName, ApplicationDAOImpl::new));
     }
 
     public APISubscriptionDAO getAPISubscriptionDAO() throws APIMgtDAOException {
-        APISubscriptionDAO apiSubscriptionDAO = null;
-
-        try (Connection connection = DAOUtil.getConnection()) {
-            String driverName = connection.getMetaData().getDriverName();
-
-            if (driverName.contains(MYSQL) || driverName.contains(H2)) {
-                apiSubscriptionDAO = new APISubscriptionDAOImpl();
-            } else if (driverName.contains(DB2)) {
-
-            } else if (driverName.contains(MS_SQL) || driverName.contains(MICROSOFT)) {
-                apiSubscriptionDAO = new APISubscriptionDAOImpl();
-
-            } else if (driverName.contains(POSTGRE)) {
-                apiSubscriptionDAO = new APISubscriptionDAOImpl();
-
-            } else if (driverName.contains(ORACLE)) {
-                apiSubscriptionDAO = new APISubscriptionDAOImpl();
-            } else {
-                throw new APIMgtDAOException("Unhandled DB driver: " + driverName + " detected",
-                        ExceptionCodes.APIM_DAO_EXCEPTION);
-            }
-        } catch (SQLException e) {
-            throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "getting APISubscriptionDAO", e);
-        }
-
-        return apiSubscriptionDAO;
+        return getDAO(APISubscriptionDAO.class,
+                driverName -> createForVendor(driverName, APISubscriptionDAOImpl::new));
     }
 
     public PolicyDAO getPolicyDAO() throws APIMgtDAOException {
-        PolicyDAO policyDAO = null;
-
-        try (Connection connection = DAOUtil.getConnection()) {
-            String driverName = connection.getMetaData().getDriverName();
-
-            if (driverName.contains(MYSQL) || driverName.contains(H2)) {
-                policyDAO = new PolicyDAOImpl();
-            } else if (driverName.contains(DB2)) {
-
-            } else if (driverName.contains(MS_SQL) || driverName.contains(MICROSOFT)) {
-                policyDAO = new PolicyDAOImpl();
-
-            } else if (driverName.contains(POSTGRE)) {
-                policyDAO = new PolicyDAOImpl();
-
-            } else if (driverName.contains(ORACLE)) {
-                policyDAO = new PolicyDAOImpl();
-            } else {
-                throw new APIMgtDAOException("Unhandled DB driver: " + driverName + " detected",
-                        ExceptionCodes.APIM_DAO_EXCEPTION);
-            }
-        } catch (SQLException e) {
-            throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "getting PolicyDAO", e);
-        }
-
-        return policyDAO;
+        return getDAO(PolicyDAO.class, driverName -> createForVendor(driverName, PolicyDAOImpl::new));
     }
 
     public TagDAO getTagDAO() throws APIMgtDAOException {
-        TagDAO tagDAO = null;
-
-        try (Connection connection = DAOUtil.getConnection()) {
-            String driverName = connection.getMetaData().getDriverName();
-
-            if (driverName.contains(MYSQL) || driverName.contains(H2)) {
-                tagDAO = new TagDAOImpl();
-            } else if (driverName.contains(DB2)) {
-
-            } else if (driverName.contains(MS_SQL) || driverName.contains(MICROSOFT)) {
-                tagDAO = new TagDAOImpl();
-            } else if (driverName.contains(POSTGRE)) {
-                tagDAO = new TagDAOImpl();
-            } else if (driverName.contains(ORACLE)) {
-                tagDAO = new TagDAOImpl();
-            } else {
-                throw new APIMgtDAOException("Unhandled DB driver: " + driverName + " detected",
-                        ExceptionCodes.APIM_DAO_EXCEPTION);
-            }
-        } catch (SQLException e) {
-            throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "getting TagDAO", e);
-        }
-
-        return tagDAO;
+        return getDAO(TagDAO.class, driverName -> createForVendor(driverName, TagDAOImpl::new));
     }
 
     public LabelDAO getLabelDAO() throws APIMgtDAOException {
-        LabelDAO labelDAO = null;
-
-        try (Connection connection = DAOUtil.getConnection()) {
-            String driverName = connection.getMetaData().getDriverName();
-
-            if (driverName.contains(MYSQL) || driverName.contains(H2)) {
-                labelDAO = new LabelDAOImpl();
-            } else if (driverName.contains(DB2)) {
-
-            } else if (driverName.contains(MS_SQL) || driverName.contains(MICROSOFT)) {
-                labelDAO = new LabelDAOImpl();
-            } else if (driverName.contains(POSTGRE)) {
-                labelDAO = new LabelDAOImpl();
-            } else if (driverName.contains(ORACLE)) {
-                labelDAO = new LabelDAOImpl();
-            } else {
-                throw new APIMgtDAOException("Unhandled DB driver: " + driverName + " detected",
-                        ExceptionCodes.APIM_DAO_EXCEPTION);
-            }
-        } catch (SQLException e) {
-            throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "getting LabelDAO", e);
-        }
-
-        return labelDAO;
+        return getDAO(LabelDAO.class, driverName -> createForVendor(driverName, LabelDAOImpl::new));
     }
 
     public WorkflowDAO getWorkflowDAO() throws APIMgtDAOException {
-        WorkflowDAO workflowDAO = null;
-
-        try (Connection connection = DAOUtil.getConnection()) {
-            String driverName = connection.getMetaData().getDriverName();
-
-            if (driverName.contains(MYSQL) || driverName.contains(H2)) {
-                workflowDAO = new WorkflowDAOImpl();
-            } else if (driverName.contains(DB2)) {
-
-            } else if (driverName.contains(MS_SQL) || driverName.contains(MICROSOFT)) {
-                workflowDAO = new WorkflowDAOImpl();
-            } else if (driverName.contains(POSTGRE)) {
-                workflowDAO = new WorkflowDAOImpl();
-            } else if (driverName.contains(ORACLE)) {
-                workflowDAO = new WorkflowDAOImpl();
-            } else {
-                throw new APIMgtDAOException("Unhandled DB driver: " + driverName + " detected",
-                        ExceptionCodes.APIM_DAO_EXCEPTION);
-            }
-        } catch (SQLException e) {
-            throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "getting WorkflowDAO", e);
-        }
+        return getDAO(WorkflowDAO.class, driverName -> createForVendor(driverName, WorkflowDAOImpl::new));
+    }
 
-        return workflowDAO;
+    public GatewayChangeLogDAO getGatewayChangeLogDAO() throws APIMgtDAOException {
+        return getDAO(GatewayChangeLogDAO.class,
+                driverName -> createForVendor(driverName, GatewayChangeLogDAOImpl::new));
     }
 
     /**
@@ -275,32 +201,7 @@ public class DAOFactory {
      * @throws APIMgtDAOException In case of unhandled DB type or SQLException
      */
     public FunctionDAO getFunctionDAO() throws APIMgtDAOException {
-        FunctionDAO functionDAO = null;
-
-        try (Connection connection = DAOUtil.getConnection()) {
-            String driverName = connection.getMetaData().getDriverName();
-
-            if (driverName.contains(MYSQL) || driverName.contains(H2)) {
-                functionDAO = new FunctionDAOImpl();
-            } else if (driverName.contains(DB2)) {
-
-            } else if (driverName.contains(MS_SQL) || driverName.contains(MICROSOFT)) {
-                functionDAO = new FunctionDAOImpl();
-
-            } else if (driverName.contains(POSTGRE)) {
-                functionDAO = new FunctionDAOImpl();
-
-            } else if (driverName.contains(ORACLE)) {
-                functionDAO = new FunctionDAOImpl();
-            } else {
-                throw new APIMgtDAOException("Unhandled DB driver: " + driverName + " detected",
-                        ExceptionCodes.APIM_DAO_EXCEPTION);
-            }
-        } catch (SQLException e) {
-            throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "getting FunctionDAO", e);
-        }
-
-        return functionDAO;
+        return getDAO(FunctionDAO.class, driverName -> createForVendor(driverName, FunctionDAOImpl::new));
     }
 
     /**
@@ -310,54 +211,100 @@ public class DAOFactory {
      * @throws APIMgtDAOException if error during getting analytics database connection
      */
     public AnalyticsDAO getAnalyticsDAO() throws APIMgtDAOException {
-        AnalyticsDAO analyticsDAO;
         boolean isAnalyticsEnabled = ServiceReferenceHolder.getInstance().getAPIMConfiguration()
                 .getAnalyticsConfigurations().isEnabled();
-        if (isAnalyticsEnabled) {
-            try (Connection connection = DAOUtil.getAnalyticsConnection()) {
-                analyticsDAO = getAnalyticsDaoImplForVendor(connection);
-            } catch (SQLException e) {
-                throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "getting FunctionDAO", e);
-            }
-        } else {
-            // if analytics is not enabled create a normal AMDB data connection to check db driver
-            try (Connection connection = DAOUtil.getConnection()) {
-                analyticsDAO = getAnalyticsDaoImplForVendor(connection);
-            } catch (SQLException e) {
-                throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "getting FunctionDAO", e);
-            }
-        }
-        return analyticsDAO;
+        // if analytics is not enabled the AMDB driver is used to check the DB vendor
+        DriverNameLookup driverNameLookup = isAnalyticsEnabled ? DAOUtil::getAnalyticsDriverName :
+                DAOUtil::getDriverName;
+        return getDAO(AnalyticsDAO.class, driverNameLookup,
+                driverName -> createForVendor(driverName, AnalyticsDAOImpl::new));
     }
 
     public ThreatProtectionDAO getThreatProtectionDAO() {
         return new ThreatProtectionDAOImpl();
     }
 
-    private AnalyticsDAO getAnalyticsDaoImplForVendor(Connection connection)
-            throws SQLException, APIMgtDAOException {
-        AnalyticsDAO analyticsDAO = null;
-        String driverName = connection.getMetaData().getDriverName();
-        if (driverName.contains(MYSQL) || driverName.contains(H2)) {
-            analyticsDAO = new AnalyticsDAOImpl();
-        } else if (driverName.contains(DB2)) {
+    public SystemApplicationDao getSystemApplicationDao() throws APIMgtDAOException {
+        return new SystemApplicationDaoImpl();
+    }
 
-        } else if (driverName.contains(MS_SQL) || driverName.contains(MICROSOFT)) {
-            analyticsDAO = new AnalyticsDAOImpl();
+    /**
+     * Get the shared instance of a DAO, creating it for the DB vendor of the datasource if it does not exist yet.
+     *
+     * @param daoType    DAO interface
+     * @param daoCreator creates the DAO implementation for a given DB driver name
+     * @param <T>        type of the DAO
+     * @return DAO instance, null if the DB vendor has no implementation of the DAO
+     * @throws APIMgtDAOException In case of unhandled DB type or SQLException
+     */
+    private static <T> T getDAO(Class<T> daoType, DAOCreator<T> daoCreator) throws APIMgtDAOException {
+        return getDAO(daoType, DAOUtil::getDriverName, daoCreator);
+    }
 
-        } else if (driverName.contains(POSTGRE)) {
-            analyticsDAO = new AnalyticsDAOImpl();
+    /**
+     * Get the shared instance of a DAO, creating it for the DB vendor of the given datasource if it does not exist
+     * yet.
+     *
+     * @param daoType          DAO interface
+     * @param driverNameLookup returns the driver name of the datasource the DAO accesses
+     * @param daoCreator       creates the DAO implementation for a given DB driver name
+     * @param <T>              type of the DAO
+     * @return DAO instance, null if the DB vendor has no implementation of the DAO
+     * @throws APIMgtDAOException In case of unhandled DB type or SQLException
+     */
+    private static <T> T getDAO(Class<T> daoType, DriverNameLookup driverNameLookup, DAOCreator<T> daoCreator)
+            throws APIMgtDAOException {
+        Object dao = daoInstances.get(daoType);
+        if (dao == null) {
+            T createdDAO;
+            try {
+                createdDAO = daoCreator.create(driverNameLookup.getDriverName());
+            } catch (SQLException e) {
+                throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "getting " + daoType.getSimpleName(), e);
+            }
+            if (createdDAO == null) {
+                return null;
+            }
+            dao = daoInstances.putIfAbsent(daoType, createdDAO);
+            if (dao == null) {
+                dao = createdDAO;
+            }
+        }
+        return daoType.cast(dao);
+    }
 
-        } else if (driverName.contains(ORACLE)) {
-            analyticsDAO = new AnalyticsDAOImpl();
-        } else {
-            throw new APIMgtDAOException("Unhandled DB Type detected");
+    private static <T> T createForVendor(String driverName, Supplier<T> daoSupplier) throws APIMgtDAOException {
+        if (driverName.contains(DB2)) {
+            return null;
+        } else if (driverName.contains(MYSQL) || driverName.contains(H2) || driverName.contains(MS_SQL)
+                || driverName.contains(MICROSOFT) || driverName.contains(POSTGRE) || driverName.contains(ORACLE)) {
+            return daoSupplier.get();
         }
-        return analyticsDAO;
+        throw new APIMgtDAOException("Unhandled DB driver: " + driverName + " detected",
+                ExceptionCodes.APIM_DAO_EXCEPTION);
     }
 
-    public SystemApplicationDao getSystemApplicationDao() throws APIMgtDAOException {
-        return new SystemApplicationDaoImpl();
+    /**
+     * Remove the shared DAO instances, so that they are created again for the DB vendor of a new datasource.
+     */
+    static void clearDAOInstances() {
+        daoInstances.clear();
+    }
+
+    /**
+     * Creates a DAO implementation for a DB driver
+     *
+     * @param <T> type of the DAO
+     */
+    private interface DAOCreator<T> {
+        T create(String driverName) throws APIMgtDAOException;
+    }
+
+    /**
+     * Looks up the driver name of a datasource
+     */
+    private interface DriverNameLookup {
+        String getDriverName() throws SQLException;
     }
 
     public void setup() throws APIMgtDAOException {
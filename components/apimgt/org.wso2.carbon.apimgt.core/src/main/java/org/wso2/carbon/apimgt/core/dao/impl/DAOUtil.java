@@ -23,8 +23,10 @@ package org.wso2.carbon.apimgt.core.dao.impl;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.wso2.carbon.apimgt.core.models.PageCursor;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -38,8 +40,12 @@ import java.util.Locale;
 public class DAOUtil {
     private static final Logger log = LoggerFactory.getLogger(DAOUtil.class);
     protected static final String DB_NAME_POSTGRESQL = "PostgreSQL";
+    private static final String DB_NAME_MYSQL = "MySQL";
+    private static final int STREAMING_FETCH_SIZE = 1000;
     private static DataSource dataSource;
     private static DataSource analyticsDataSource;
+    private static volatile String driverName;
+    private static volatile String analyticsDriverName;
 
     static final String DAO_ERROR_PREFIX = "Error occurred in DAO layer while ";
 
@@ -49,6 +55,11 @@ public class DAOUtil {
         }
 
         DAOUtil.dataSource = dataSource;
+        try {
+            getDriverName();
+        } catch (SQLException e) {
+            log.warn("Could not detect the DB driver of the datasource, detection will be retried on first use", e);
+        }
     }
 
     public static synchronized void initializeAnalyticsDataSource(DataSource analyticsDataSource) {
@@ -87,6 +98,50 @@ public class DAOUtil {
     }
 
 
+    /**
+     * Get the driver name of the datasource, which identifies the DB vendor. The driver name is read from the
+     * connection metadata once and reused, instead of borrowing a connection for each lookup.
+     *
+     * @return driver name of the datasource
+     * @throws SQLException if failed to get a connection to read the driver name
+     */
+    static String getDriverName() throws SQLException {
+        String name = driverName;
+        if (name != null) {
+            return name;
+        }
+        synchronized (DAOUtil.class) {
+            if (driverName == null) {
+                try (Connection connection = getConnection()) {
+                    driverName = connection.getMetaData().getDriverName();
+                }
+            }
+            return driverName;
+        }
+    }
+
+    /**
+     * Get the driver name of the analytics datasource, read from the connection metadata once and reused like
+     * {@link #getDriverName()}
+     *
+     * @return driver name of the analytics datasource
+     * @throws SQLException if failed to get a connection to read the driver name
+     */
+    static String getAnalyticsDriverName() throws SQLException {
+        String name = analyticsDriverName;
+        if (name != null) {
+            return name;
+        }
+        synchronized (DAOUtil.class) {
+            if (analyticsDriverName == null) {
+                try (Connection connection = getAnalyticsConnection()) {
+                    analyticsDriverName = connection.getMetaData().getDriverName();
+                }
+            }
+            return analyticsDriverName;
+        }
+    }
+
     /**
      * Get is auto commit enabled
      *
@@ -112,6 +167,48 @@ public class DAOUtil {
         return String.join(",", questionMarks);
     }
 
+    /**
+     * Returns the condition which selects the rows that come after a page cursor when rows are ordered by
+     * {@code sortColumn} and then by the unique {@code idColumn}. Parameters are set with
+     * {@link #setPageCursorParameters(PreparedStatement, int, PageCursor)}.
+     *
+     * @param sortColumn column holding the sort key
+     * @param idColumn   column holding the unique id
+     * @return SQL condition
+     */
+    static String getPageCursorCondition(String sortColumn, String idColumn) {
+        return "(" + sortColumn + " > ? OR (" + sortColumn + " = ? AND " + idColumn + " > ?))";
+    }
+
+    static int setPageCursorParameters(PreparedStatement statement, int index, PageCursor after)
+            throws SQLException {
+        statement.setString(++index, after.getSortKey());
+        statement.setString(++index, after.getSortKey());
+        statement.setString(++index, after.getId());
+        return index;
+    }
+
+    /**
+     * Configure a query to fetch its result set from the DB in batches while the rows are read, instead of loading
+     * all rows to memory when the query is executed. MySQL Connector/J only streams rows when the fetch size is
+     * {@link Integer#MIN_VALUE} and PostgreSQL only uses a cursor when auto commit is disabled.
+     *
+     * @param connection connection the statement was prepared on
+     * @param statement  forward only, read only statement of the query
+     * @throws SQLException if failed to configure the statement
+     */
+    static void setStreamingFetchSize(Connection connection, PreparedStatement statement) throws SQLException {
+        String driver = getDriverName();
+        if (driver.contains(DB_NAME_MYSQL)) {
+            statement.setFetchSize(Integer.MIN_VALUE);
+            return;
+        }
+        if (driver.contains(DB_NAME_POSTGRESQL)) {
+            connection.setAutoCommit(false);
+        }
+        statement.setFetchSize(STREAMING_FETCH_SIZE);
+    }
+
     static List<String> commaSeperatedStringToList(String strValue) {
         if (strValue != null && !strValue.isEmpty()) {
             return Arrays.asList(strValue.split("\\s*,\\s*"));
@@ -137,8 +234,10 @@ public class DAOUtil {
         return autoGeneratedColumnName;
     }
 
-    public static void clearDataSource() {
+    public static synchronized void clearDataSource() {
         dataSource = null;
+        driverName = null;
+        DAOFactory.clearDAOInstances();
     }
 
     public static void clearAnalyticsDataSource() {
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.dao.impl;
+
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.apimgt.core.dao.GatewayChangeLogDAO;
+import org.wso2.carbon.apimgt.core.exception.APIMgtDAOException;
+import org.wso2.carbon.apimgt.core.models.events.GatewayChange;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * Implementation of {@link GatewayChangeLogDAO}.
+ * <p>
+ * Revisions are taken from the single row of AM_GATEWAY_CHANGE_REVISION, which is incremented in the same
+ * transaction that inserts the change. The row stays locked until that transaction ends, so a change can only get
+ * a revision after every change with a lower revision has been committed or rolled back. A reader which sees a
+ * revision therefore already sees every revision below it, and following the log with {@code REVISION > since}
+ * never skips a change. Auto increment columns give no such guarantee, as their values are assigned before commit.
+ */
+public class GatewayChangeLogDAOImpl implements GatewayChangeLogDAO {
+    private static final Logger log = LoggerFactory.getLogger(GatewayChangeLogDAOImpl.class);
+    private static final String REVISION_COLUMN = "REVISION";
+
+    @Override
+    public long addChange(String eventType, String event) throws APIMgtDAOException {
+        final String incrementQuery = "UPDATE AM_GATEWAY_CHANGE_REVISION SET REVISION = REVISION + 1 WHERE ID = 1";
+        final String revisionQuery = "SELECT REVISION FROM AM_GATEWAY_CHANGE_REVISION WHERE ID = 1";
+        final String insertQuery = "INSERT INTO AM_GATEWAY_CHANGE_LOG (REVISION, EVENT_TYPE, EVENT, CREATED_TIME) "
+                + "VALUES (?,?,?,?)";
+        byte[] eventBytes = event.getBytes(StandardCharsets.UTF_8);
+        try (Connection connection = DAOUtil.getConnection()) {
+            try {
+                connection.setAutoCommit(false);
+                long revision;
+                try (PreparedStatement statement = connection.prepareStatement(incrementQuery)) {
+                    log.debug("Executing query: {} ", incrementQuery);
+                    if (statement.executeUpdate() != 1) {
+                        throw new SQLException("Gateway change revision counter is not initialized");
+                    }
+                }
+                try (PreparedStatement statement = connection.prepareStatement(revisionQuery);
+                     ResultSet rs = statement.executeQuery()) {
+                    if (!rs.next()) {
+                        throw new SQLException("Gateway change revision counter is not initialized");
+                    }
+                    revision = rs.getLong(REVISION_COLUMN);
+                }
+                try (PreparedStatement statement = connection.prepareStatement(insertQuery)) {
+                    statement.setLong(1, revision);
+                    statement.setString(2, eventType);
+                    statement.setBinaryStream(3, new ByteArrayInputStream(eventBytes), eventBytes.length);
+                    statement.setTimestamp(4, Timestamp.from(Instant.now()), getUTCCalendar());
+                    log.debug("Executing query: {} ", insertQuery);
+                    statement.executeUpdate();
+                }
+                connection.commit();
+                return revision;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(DAOUtil.isAutoCommit());
+            }
+        } catch (SQLException e) {
+            throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "adding gateway change of event: " + eventType,
+                    e);
+        }
+    }
+
+    @Override
+    public List<GatewayChange> getChangesSince(long revision, int limit) throws APIMgtDAOException {
+        final String query = "SELECT REVISION, EVENT_TYPE, EVENT, CREATED_TIME FROM AM_GATEWAY_CHANGE_LOG "
+                + "WHERE REVISION > ? ORDER BY REVISION";
+        try (Connection connection = DAOUtil.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setLong(1, revision);
+            if (limit > 0) {
+                statement.setMaxRows(limit);
+            }
+            List<GatewayChange> changes = new ArrayList<>();
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    changes.add(createGatewayChange(rs));
+                }
+            }
+            return changes;
+        } catch (SQLException | IOException e) {
+            throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "getting gateway changes since revision: "
+                    + revision, e);
+        }
+    }
+
+    @Override
+    public long getLatestRevision() throws APIMgtDAOException {
+        final String query = "SELECT MAX(REVISION) FROM AM_GATEWAY_CHANGE_LOG";
+        try (Connection connection = DAOUtil.getConnection();
+             PreparedStatement statement = connection.prepareStatement(query);
+             ResultSet rs = statement.executeQuery()) {
+            // MAX of an empty table is null, which getLong returns as 0
+            return rs.next() ? rs.getLong(1) : 0;
+        } catch (SQLException e) {
+            throw new APIMgtDAOException(DAOUtil.DAO_ERROR_PREFIX + "getting latest gateway change revision", e);
+        }
+    }
+
+    private static GatewayChange createGatewayChange(ResultSet rs) throws SQLException, IOException {
+        String event;
+        try (InputStream eventStream = rs.getBinaryStream("EVENT")) {
+            event = IOUtils.toString(eventStream, StandardCharsets.UTF_8);
+        }
+        return new GatewayChange(rs.getLong(REVISION_COLUMN), rs.getString("EVENT_TYPE"), event,
+                rs.getTimestamp("CREATED_TIME", getUTCCalendar()).toInstant());
+    }
+
+    private static Calendar getUTCCalendar() {
+        return Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+    }
+}
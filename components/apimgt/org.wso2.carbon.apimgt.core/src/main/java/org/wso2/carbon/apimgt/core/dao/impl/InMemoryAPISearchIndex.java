@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.dao.impl;
+
+import org.wso2.carbon.apimgt.core.dao.APISearchIndex;
+import org.wso2.carbon.apimgt.core.models.API;
+import org.wso2.carbon.apimgt.core.models.APIStatus;
+import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * {@link APISearchIndex} which keeps an inverted index of API name, context, version, provider, description, tags
+ * and labels in memory.
+ * <p>
+ * Indexed text is split into lower case alphanumeric terms. An API matches a search string if every term of the
+ * search string is a prefix of one of its terms.
+ */
+public class InMemoryAPISearchIndex implements APISearchIndex {
+
+    private static final Comparator<IndexedAPI> NAME_ORDER = Comparator.comparing((IndexedAPI api) -> api.name)
+            .thenComparing(api -> api.id);
+
+    private Map<String, IndexedAPI> apis = new HashMap<>();
+    private NavigableMap<String, Set<String>> postings = new TreeMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void addOrUpdateAPI(API api) {
+        IndexedAPI indexedAPI = new IndexedAPI(api);
+        lock.writeLock().lock();
+        try {
+            removeFromPostings(apis.put(indexedAPI.id, indexedAPI));
+            addToPostings(postings, indexedAPI);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void removeAPI(String apiId) {
+        lock.writeLock().lock();
+        try {
+            removeFromPostings(apis.remove(apiId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void replaceAllAPIs(Collection<API> apiList) {
+        Map<String, IndexedAPI> newApis = new HashMap<>();
+        NavigableMap<String, Set<String>> newPostings = new TreeMap<>();
+        for (API api : apiList) {
+            IndexedAPI indexedAPI = new IndexedAPI(api);
+            newApis.put(indexedAPI.id, indexedAPI);
+            addToPostings(newPostings, indexedAPI);
+        }
+        lock.writeLock().lock();
+        try {
+            apis = newApis;
+            postings = newPostings;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<String> searchAPIs(Set<String> roles, String user, String searchString, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            List<IndexedAPI> matches = new ArrayList<>();
+            for (IndexedAPI api : findMatches(searchString)) {
+                if (api.isViewableBy(roles, user)) {
+                    matches.add(api);
+                }
+            }
+            return page(matches, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<String> searchAPIsByStoreLabel(Set<String> roles, String searchString, int offset, int limit,
+                                               Set<String> labels) {
+        lock.readLock().lock();
+        try {
+            List<IndexedAPI> matches = new ArrayList<>();
+            for (IndexedAPI api : findMatches(searchString)) {
+                if (api.isVisibleInStore(roles, labels)) {
+                    matches.add(api);
+                }
+            }
+            return page(matches, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void addToPostings(Map<String, Set<String>> postings, IndexedAPI api) {
+        for (String term : api.terms) {
+            postings.computeIfAbsent(term, key -> new HashSet<>()).add(api.id);
+        }
+    }
+
+    private void removeFromPostings(IndexedAPI api) {
+        if (api == null) {
+            return;
+        }
+        for (String term : api.terms) {
+            Set<String> apiIds = postings.get(term);
+            if (apiIds != null) {
+                apiIds.remove(api.id);
+                if (apiIds.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private Collection<IndexedAPI> findMatches(String searchString) {
+        Set<String> searchTerms = tokenize(searchString);
+        if (searchTerms.isEmpty()) {
+            return apis.values();
+        }
+        Set<String> matchingIds = null;
+        for (String searchTerm : searchTerms) {
+            Set<String> termMatches = new HashSet<>();
+            for (Set<String> apiIds : postings.subMap(searchTerm, true, searchTerm + Character.MAX_VALUE, true)
+                    .values()) {
+                termMatches.addAll(apiIds);
+            }
+            if (matchingIds == null) {
+                matchingIds = termMatches;
+            } else {
+                matchingIds.retainAll(termMatches);
+            }
+            if (matchingIds.isEmpty()) {
+                return Collections.emptyList();
+            }
+        }
+        List<IndexedAPI> matches = new ArrayList<>(matchingIds.size());
+        for (String apiId : matchingIds) {
+            matches.add(apis.get(apiId));
+        }
+        return matches;
+    }
+
+    private static List<String> page(List<IndexedAPI> matches, int offset, int limit) {
+        if (offset >= matches.size() || limit <= 0) {
+            return new ArrayList<>();
+        }
+        matches.sort(NAME_ORDER);
+        int start = Math.max(0, offset);
+        List<String> apiIds = new ArrayList<>();
+        for (IndexedAPI api : matches.subList(start, (int) Math.min((long) start + limit, matches.size()))) {
+            apiIds.add(api.id);
+        }
+        return apiIds;
+    }
+
+    private static Set<String> tokenize(String text) {
+        Set<String> terms = new HashSet<>();
+        if (text == null) {
+            return terms;
+        }
+        for (String term : text.toLowerCase(Locale.ENGLISH).split("[^a-z0-9]+")) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Searchable terms of an API along with the attributes its visibility depends on
+     */
+    private static final class IndexedAPI {
+        private final String id;
+        private final String name;
+        private final String provider;
+        private final String lifeCycleStatus;
+        private final API.Visibility visibility;
+        private final Set<String> visibleRoles;
+        private final Set<String> storeLabels;
+        private final Map<String, Integer> permissionMap;
+        private final Set<String> terms = new HashSet<>();
+
+        @SuppressWarnings("unchecked")
+        private IndexedAPI(API api) {
+            this.id = api.getId();
+            this.name = api.getName() == null ? "" : api.getName();
+            this.provider = api.getProvider();
+            this.lifeCycleStatus = api.getLifeCycleStatus();
+            this.visibility = api.getVisibility();
+            this.visibleRoles = copyOf(api.getVisibleRoles());
+            this.storeLabels = copyOf(api.getStoreLabels());
+            this.permissionMap = api.getPermissionMap() == null ? Collections.emptyMap() :
+                    new HashMap<>((Map<String, Integer>) api.getPermissionMap());
+
+            terms.addAll(tokenize(api.getName()));
+            terms.addAll(tokenize(api.getContext()));
+            terms.addAll(tokenize(api.getVersion()));
+            terms.addAll(tokenize(api.getProvider()));
+            terms.addAll(tokenize(api.getDescription()));
+            if (api.getTags() != null) {
+                for (String tag : api.getTags()) {
+                    terms.addAll(tokenize(tag));
+                }
+            }
+            for (String label : storeLabels) {
+                terms.addAll(tokenize(label));
+            }
+            if (api.getGatewayLabels() != null) {
+                for (String label : api.getGatewayLabels()) {
+                    terms.addAll(tokenize(label));
+                }
+            }
+        }
+
+        private static Set<String> copyOf(Collection<String> values) {
+            return values == null ? Collections.emptySet() : new HashSet<>(values);
+        }
+
+        private boolean isViewableBy(Set<String> roles, String user) {
+            if (permissionMap.isEmpty() || (provider != null && provider.equals(user))) {
+                return true;
+            }
+            for (String role : roles) {
+                Integer permission = permissionMap.get(role);
+                if (permission != null && permission >= APIMgtConstants.Permission.READ_PERMISSION) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean isVisibleInStore(Set<String> roles, Set<String> labels) {
+            if (!APIStatus.PUBLISHED.getStatus().equals(lifeCycleStatus)
+                    && !APIStatus.PROTOTYPED.getStatus().equals(lifeCycleStatus)) {
+                return false;
+            }
+            if (labels.isEmpty() ? storeLabels.isEmpty() : Collections.disjoint(storeLabels, labels)) {
+                return false;
+            }
+            return visibility == API.Visibility.PUBLIC
+                    || (visibility == API.Visibility.RESTRICTED && !Collections.disjoint(visibleRoles, roles));
+        }
+    }
+}
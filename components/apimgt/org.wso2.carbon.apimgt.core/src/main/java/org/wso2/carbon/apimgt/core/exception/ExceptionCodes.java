@@ -169,6 +169,7 @@ public enum ExceptionCodes implements ErrorHandler {
     LAST_UPDATED_TIME_RETRIEVAL_ERROR(900702, "Error while retrieving last access time for the resource", 500,
             "Error while retrieving last access time for the resource"),
     INVALID_DATE_TIME_STAMP(900703, "Invalid timestamp value", 400, "Timestamp should be in ISO8601 format"),
+    INVALID_PAGE_TOKEN(900704, "Invalid page token", 400, "The provided page token is malformed"),
 
 
     // Oauth related codes
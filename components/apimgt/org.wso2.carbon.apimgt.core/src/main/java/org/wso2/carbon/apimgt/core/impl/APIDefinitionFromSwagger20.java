@@ -43,7 +43,6 @@ import io.swagger.models.parameters.PathParameter;
 import io.swagger.models.parameters.QueryParameter;
 import io.swagger.models.properties.Property;
 import io.swagger.models.properties.StringProperty;
-import io.swagger.parser.SwaggerParser;
 import io.swagger.util.Json;
 import org.apache.commons.lang3.StringUtils;
 import org.json.simple.JSONArray;
@@ -93,12 +92,12 @@ public class APIDefinitionFromSwagger20 implements APIDefinition {
 
     private static final Logger log = LoggerFactory.getLogger(APIDefinitionFromSwagger20.class);
     private static Map<String, Map<String, Object>> localConfigMap = new ConcurrentHashMap<>();
+    private static final Map<String, RestAPIScopeIndex> scopeIndexes = new ConcurrentHashMap<>();
 
     @Override
     public String getScopeOfResourcePath(Swagger resourceConfigsJSON, Request request,
                                          Method resourceMethod) throws APIManagementException {
 
-        String basepath = resourceConfigsJSON.getBasePath();
         String verb = (String) request.getProperty(APIMgtConstants.HTTP_METHOD);
 
         if (resourceMethod == null || verb == null) {
@@ -107,93 +106,50 @@ public class APIDefinitionFromSwagger20 implements APIDefinition {
             log.error(message);
             throw new APIManagementException(message, ExceptionCodes.SWAGGER_URL_MALFORMED);
         }
-        String apiPrefix = resourceMethod.getDeclaringClass().getAnnotation(javax.ws.rs.ApplicationPath.class).value();
-        String pathTemplate = "";
-        if (resourceMethod.getAnnotation(javax.ws.rs.Path.class) != null) {
-            pathTemplate = resourceMethod.getAnnotation(javax.ws.rs.Path.class).value();
-        }
-        String nameSpace = getNamespaceFromBasePath(basepath);
-        if (basepath.contains(APIMgtConstants.APPType.PUBLISHER)) {
-            nameSpace = APIMgtConstants.NAMESPACE_PUBLISHER_API;
-        } else if (basepath.contains(APIMgtConstants.APPType.STORE)) {
-            nameSpace = APIMgtConstants.NAMESPACE_STORE_API;
-        } else if (basepath.contains(APIMgtConstants.APPType.ADMIN)) {
-            nameSpace = APIMgtConstants.NAMESPACE_ADMIN_API;
-        } else if (basepath.contains(APIMgtConstants.APPType.ANALYTICS)) {
-            nameSpace = APIMgtConstants.NAMESPACE_ANALYTICS_API;
-        }
-
-        //if namespace is not available in local cache add it.
-        if (nameSpace != null && !localConfigMap.containsKey(nameSpace)) {
-            localConfigMap.put(nameSpace, new ConcurrentHashMap<>());
+        RestAPIScopeIndex scopeIndex = getScopeIndex(resourceConfigsJSON);
+        if (scopeIndex == null) {
+            return null;
         }
+        RestAPIScopeIndex.ResourceScopes scopes = scopeIndex.getScopes(resourceMethod, verb);
+        return scopes == null ? null : scopes.getScopes();
+    }
 
-        if (nameSpace != null && localConfigMap.containsKey(nameSpace) && localConfigMap.get(nameSpace).isEmpty()) {
-            populateConfigMapForScope(resourceConfigsJSON, nameSpace);
+    /**
+     * Get the resource to scope mapping of a management REST API. The mapping is compiled once per REST API, from
+     * the Swagger definition of the REST API and the mappings configured in the deployment.yaml.
+     *
+     * @param restAPISwagger Swagger definition of the publisher, store, admin or analytics REST API
+     * @return resource to scope mapping of the REST API, null if the base path is not of a management REST API
+     */
+    public static RestAPIScopeIndex getScopeIndex(Swagger restAPISwagger) {
+        String nameSpace = getNamespaceFromBasePath(restAPISwagger.getBasePath());
+        if (nameSpace == null) {
+            return null;
         }
-
-        String resourceConfig = verb + "_" + apiPrefix + pathTemplate;
-        if (localConfigMap.get(nameSpace).containsKey(resourceConfig)) {
-            return localConfigMap.get(nameSpace).get(resourceConfig).toString();
+        RestAPIScopeIndex scopeIndex = scopeIndexes.get(nameSpace);
+        if (scopeIndex == null) {
+            scopeIndex = scopeIndexes.computeIfAbsent(nameSpace, key -> RestAPIScopeIndex.build(restAPISwagger,
+                    ServiceReferenceHolder.getInstance().getRestAPIConfigurationMap(key)));
         }
-        return null;
+        return scopeIndex;
     }
 
-
     /**
-     * This method populates resource to scope mappings into localConfigMap
+     * This method populates the configurations of a REST API defined in the deployment.yaml into localConfigMap.
+     * Resource to scope mappings are compiled separately by {@link #getScopeIndex(Swagger)}.
      *
      * @param swagger   swagger oc of the apis
      * @param namespace namespace unique identifier of the api
      */
     private void populateConfigMapForScope(Swagger swagger, String namespace) {
-        //todo: Keep polulateConfigMapForScope and remove populateConfigMapForScopes after finalizing yamls
-        // todo: -without vendor extensions.
-        Map<String, String> configMap = ServiceReferenceHolder.getInstance().getRestAPIConfigurationMap(namespace);
-        //update local cache with configs defined in configuration file(dep.yaml)
-        if (!localConfigMap.containsKey(namespace)) {
-            localConfigMap.put(namespace, new ConcurrentHashMap<>());
-        }
-        if (configMap != null) {
-            localConfigMap.get(namespace).putAll(configMap);
-        }
-        //update local cache with the resource to scope mapping read from swagger
-        if (swagger != null) {
-            List<String> globalScopeList = new ArrayList<>();
-            List<SecurityRequirement> securityRequirementList = swagger.getSecurity();
-            if (securityRequirementList != null) {
-                for (SecurityRequirement securityRequirement : securityRequirementList) {
-                    Map<String, List<String>> security = securityRequirement.getRequirements();
-                    if (security.containsKey(APIMgtConstants.OAUTH2SECURITY)) {
-                        globalScopeList.addAll(security.get(APIMgtConstants.OAUTH2SECURITY));
-                    }
-                }
+        localConfigMap.computeIfAbsent(namespace, key -> {
+            Map<String, Object> namespaceConfigs = new ConcurrentHashMap<>();
+            Map<String, String> configMap = ServiceReferenceHolder.getInstance().getRestAPIConfigurationMap(key);
+            if (configMap != null) {
+                namespaceConfigs.putAll(configMap);
             }
-            for (Map.Entry<String, Path> entry : swagger.getPaths().entrySet()) {
-                Path resource = entry.getValue();
-                Map<HttpMethod, Operation> operationsMap = resource.getOperationMap();
-                for (Map.Entry<HttpMethod, Operation> httpVerbEntry : operationsMap.entrySet()) {
-                    List<Map<String, List<String>>> security = httpVerbEntry.getValue().getSecurity();
-                    if (security != null) {
-                        for (Map<String, List<String>> securityRequirement : security) {
-                            if (securityRequirement.containsKey(APIMgtConstants.OAUTH2SECURITY)) {
-                                List<String> scope = securityRequirement.get(APIMgtConstants.OAUTH2SECURITY);
-
-                                String path = httpVerbEntry.getKey() + "_" + entry.getKey();
-                                if (!localConfigMap.get(namespace).containsKey(path)) {
-                                    localConfigMap.get(namespace).put(path, convertListTostring(scope));
-                                }
-                            }
-                        }
-                    } else {
-                        String path = httpVerbEntry.getKey() + "_" + entry.getKey();
-                        if (!localConfigMap.get(namespace).containsKey(path)) {
-                            localConfigMap.get(namespace).put(path, convertListTostring(globalScopeList));
-                        }
-                    }
-                }
-            }
-        }
+            return namespaceConfigs;
+        });
     }
 
     @Override
@@ -201,8 +157,8 @@ public class APIDefinitionFromSwagger20 implements APIDefinition {
             throws APIManagementException {
 
         List<APIResource> apiResources = new ArrayList<>();
-        SwaggerParser swaggerParser = new SwaggerParser();
-        Swagger swagger = swaggerParser.parse(resourceConfigsJSON.toString());
+        String definition = resourceConfigsJSON.toString();
+        Swagger swagger = SwaggerDefinitionCache.getInstance().get(definition);
         Map<String, Path> resourceList = swagger.getPaths();
         String securityName = getOauthSecurityName(swagger);
         if (swagger.getSecurityDefinitions() != null) {
@@ -218,7 +174,8 @@ public class APIDefinitionFromSwagger20 implements APIDefinition {
                     if (security != null) {
                         for (Map<String, List<String>> securityMap : security) {
                             if (securityMap.containsKey(securityName)) {
-                                apiResourceBuilder.scopes(securityMap.get(securityName));
+                                // the parsed definition is shared, the scope list of the resource is not
+                                apiResourceBuilder.scopes(new ArrayList<>(securityMap.get(securityName)));
                             }
                         }
                     }
@@ -229,7 +186,7 @@ public class APIDefinitionFromSwagger20 implements APIDefinition {
             }
         }
         resourceConfigsJSON.setLength(0);
-        resourceConfigsJSON.append(Json.pretty(swagger));
+        resourceConfigsJSON.append(SwaggerDefinitionCache.getInstance().getSerialized(definition));
         return apiResources;
     }
 
@@ -274,8 +231,7 @@ public class APIDefinitionFromSwagger20 implements APIDefinition {
     public Map<String, String> getScopesFromSecurityDefinition(String resourceConfigJSON) throws
             APIManagementException {
 
-        SwaggerParser swaggerParser = new SwaggerParser();
-        Swagger swagger = swaggerParser.parse(resourceConfigJSON);
+        Swagger swagger = SwaggerDefinitionCache.getInstance().get(resourceConfigJSON);
         Map<String, String> scopes = new HashMap<>();
         Map<String, SecuritySchemeDefinition> securityDefinitions = swagger.getSecurityDefinitions();
         if (securityDefinitions != null) {
@@ -313,8 +269,7 @@ public class APIDefinitionFromSwagger20 implements APIDefinition {
     public Map<String, Scope> getScopesFromSecurityDefinitionForWebApps(String resourceConfigJSON) throws
             APIManagementException {
 
-        SwaggerParser swaggerParser = new SwaggerParser();
-        Swagger swagger = swaggerParser.parse(resourceConfigJSON);
+        Swagger swagger = SwaggerDefinitionCache.getInstance().get(resourceConfigJSON);
         String basePath = swagger.getBasePath();
         String nameSpace = getNamespaceFromBasePath(basePath);
         Map<String, String> scopes;
@@ -348,8 +303,7 @@ public class APIDefinitionFromSwagger20 implements APIDefinition {
     @Override
     public List<String> getGlobalAssignedScopes(String resourceConfigJson) throws APIManagementException {
 
-        SwaggerParser swaggerParser = new SwaggerParser();
-        Swagger swagger = swaggerParser.parse(resourceConfigJson);
+        Swagger swagger = SwaggerDefinitionCache.getInstance().get(resourceConfigJson);
         String securityName = getOauthSecurityName(swagger);
         Set<String> scopes = new HashSet<>();
         List<SecurityRequirement> securityRequirements = swagger.getSecurity();
@@ -389,8 +343,7 @@ public class APIDefinitionFromSwagger20 implements APIDefinition {
     @Override
     public String generateMergedResourceDefinition(String resourceConfigJson, API api) {
 
-        SwaggerParser swaggerParser = new SwaggerParser();
-        Swagger swagger = swaggerParser.parse(resourceConfigJson);
+        Swagger swagger = SwaggerDefinitionCache.getInstance().parse(resourceConfigJson);
         addSecuritySchemeToSwaggerDefinition(swagger, api);
         setSwaggerSchemes(swagger, api.getTransport());
         String securityName = getOauthSecurityName(swagger);
@@ -443,7 +396,7 @@ public class APIDefinitionFromSwagger20 implements APIDefinition {
             });
         }
 
-        return Json.pretty(swagger);
+        return SwaggerDefinitionCache.getInstance().serialize(swagger);
     }
 
     private void addSecuritySchemeToSwaggerDefinition(Swagger swagger, API api) {
@@ -550,8 +503,7 @@ public class APIDefinitionFromSwagger20 implements APIDefinition {
     @Override
     public Map<String, Scope> getScopes(String resourceConfigsJSON) throws APIManagementException {
 
-        SwaggerParser swaggerParser = new SwaggerParser();
-        Swagger swagger = swaggerParser.parse(resourceConfigsJSON);
+        Swagger swagger = SwaggerDefinitionCache.getInstance().get(resourceConfigsJSON);
         if (swagger.getVendorExtensions() != null) {
             String basePath = swagger.getBasePath();
             String nameSpace = getNamespaceFromBasePath(basePath);
@@ -629,7 +581,7 @@ public class APIDefinitionFromSwagger20 implements APIDefinition {
      * @return String namespace value
      *
      * */
-    private String getNamespaceFromBasePath(String basePath) {
+    private static String getNamespaceFromBasePath(String basePath) {
 
         if (basePath.contains(APIMgtConstants.APPType.PUBLISHER)) {
             return APIMgtConstants.NAMESPACE_PUBLISHER_API;
@@ -637,6 +589,8 @@ public class APIDefinitionFromSwagger20 implements APIDefinition {
             return APIMgtConstants.NAMESPACE_STORE_API;
         } else if (basePath.contains(APIMgtConstants.APPType.ADMIN)) {
             return APIMgtConstants.NAMESPACE_ADMIN_API;
+        } else if (basePath.contains(APIMgtConstants.APPType.ANALYTICS)) {
+            return APIMgtConstants.NAMESPACE_ANALYTICS_API;
         }
         return null;
     }
@@ -792,8 +746,7 @@ public class APIDefinitionFromSwagger20 implements APIDefinition {
     public API.APIBuilder generateApiFromSwaggerResource(String provider, String apiDefinition) throws
             APIManagementException {
 
-        SwaggerParser swaggerParser = new SwaggerParser();
-        Swagger swagger = swaggerParser.parse(apiDefinition);
+        Swagger swagger = SwaggerDefinitionCache.getInstance().get(apiDefinition);
 
         if (swagger == null) {
             throw new APIManagementException("Swagger could not be generated from provided API definition");
@@ -831,8 +784,7 @@ public class APIDefinitionFromSwagger20 implements APIDefinition {
     public CompositeAPI.Builder generateCompositeApiFromSwaggerResource(String provider, String apiDefinition)
             throws APIManagementException {
 
-        SwaggerParser swaggerParser = new SwaggerParser();
-        Swagger swagger = swaggerParser.parse(apiDefinition);
+        Swagger swagger = SwaggerDefinitionCache.getInstance().get(apiDefinition);
 
         if (swagger == null) {
             throw new APIManagementException("Swagger could not be generated from provided API definition");
@@ -866,8 +818,7 @@ public class APIDefinitionFromSwagger20 implements APIDefinition {
     @Override
     public String removeScopeFromSwaggerDefinition(String resourceConfigJSON, String name) {
 
-        SwaggerParser swaggerParser = new SwaggerParser();
-        Swagger swagger = swaggerParser.parse(resourceConfigJSON);
+        Swagger swagger = SwaggerDefinitionCache.getInstance().parse(resourceConfigJSON);
         Map<String, SecuritySchemeDefinition> securitySchemeDefinitionMap = swagger.getSecurityDefinitions();
         if (securitySchemeDefinitionMap != null && !securitySchemeDefinitionMap.isEmpty()) {
             OAuth2Definition oAuth2Definition = (OAuth2Definition) securitySchemeDefinitionMap.get(APIMgtConstants
@@ -929,14 +880,13 @@ public class APIDefinitionFromSwagger20 implements APIDefinition {
                 }
             }
         }
-        return Json.pretty(swagger);
+        return SwaggerDefinitionCache.getInstance().serialize(swagger);
     }
 
     @Override
     public String updateScopesOnSwaggerDefinition(String resourceConfigJSON, Scope scope) {
 
-        SwaggerParser swaggerParser = new SwaggerParser();
-        Swagger swagger = swaggerParser.parse(resourceConfigJSON);
+        Swagger swagger = SwaggerDefinitionCache.getInstance().parse(resourceConfigJSON);
         Map<String, SecuritySchemeDefinition> securitySchemeDefinitionMap = swagger.getSecurityDefinitions();
         if (securitySchemeDefinitionMap != null && !securitySchemeDefinitionMap.isEmpty()) {
             OAuth2Definition oAuth2Definition = (OAuth2Definition) securitySchemeDefinitionMap.get(APIMgtConstants
@@ -949,7 +899,7 @@ public class APIDefinitionFromSwagger20 implements APIDefinition {
                 }
             }
         }
-        return Json.pretty(swagger);
+        return SwaggerDefinitionCache.getInstance().serialize(swagger);
     }
 
     @Override
@@ -957,8 +907,7 @@ public class APIDefinitionFromSwagger20 implements APIDefinition {
 
         KeyMgtConfigurations keyManagerConfigs = ServiceReferenceHolder.getInstance().getAPIMConfiguration()
                 .getKeyManagerConfigs();
-        SwaggerParser swaggerParser = new SwaggerParser();
-        Swagger swagger = swaggerParser.parse(resourceConfigJSON);
+        Swagger swagger = SwaggerDefinitionCache.getInstance().parse(resourceConfigJSON);
         Map<String, SecuritySchemeDefinition> securitySchemeDefinitionMap = swagger.getSecurityDefinitions();
 
         if (securitySchemeDefinitionMap != null && !securitySchemeDefinitionMap.isEmpty() &&
@@ -986,7 +935,7 @@ public class APIDefinitionFromSwagger20 implements APIDefinition {
                 swagger.setSecurityDefinitions(securitySchemeDefinitionMap);
             }
         }
-        return Json.pretty(swagger);
+        return SwaggerDefinitionCache.getInstance().serialize(swagger);
 
     }
 
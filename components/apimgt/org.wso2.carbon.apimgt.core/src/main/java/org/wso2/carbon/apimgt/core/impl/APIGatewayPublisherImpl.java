@@ -18,11 +18,15 @@
 */
 package org.wso2.carbon.apimgt.core.impl;
 
+import com.google.gson.Gson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.wso2.carbon.apimgt.core.api.APIGateway;
 import org.wso2.carbon.apimgt.core.configuration.models.APIMConfigurations;
 import org.wso2.carbon.apimgt.core.configuration.models.ContainerBasedGatewayConfiguration;
+import org.wso2.carbon.apimgt.core.dao.GatewayChangeLogDAO;
+import org.wso2.carbon.apimgt.core.dao.impl.DAOFactory;
+import org.wso2.carbon.apimgt.core.exception.APIMgtDAOException;
 import org.wso2.carbon.apimgt.core.exception.ContainerBasedGatewayException;
 import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
 import org.wso2.carbon.apimgt.core.exception.GatewayException;
@@ -57,7 +61,16 @@ import java.util.Map;
 public class APIGatewayPublisherImpl implements APIGateway {
 
     private static final Logger log = LoggerFactory.getLogger(APIGatewayPublisherImpl.class);
+    private static final Gson gson = new Gson();
     private ContainerBasedGatewayGenerator containerBasedGatewayGenerator;
+    private volatile GatewayChangeLogDAO gatewayChangeLogDAO;
+
+    public APIGatewayPublisherImpl() {
+    }
+
+    APIGatewayPublisherImpl(GatewayChangeLogDAO gatewayChangeLogDAO) {
+        this.gatewayChangeLogDAO = gatewayChangeLogDAO;
+    }
 
     @Override
     public void addAPI(API api) throws GatewayException {
@@ -217,6 +230,7 @@ public class APIGatewayPublisherImpl implements APIGateway {
     private void publishToPublisherTopic(GatewayEvent gatewayDTO) throws GatewayException {
         APIMConfigurations apimConfigurations = ServiceReferenceHolder.getInstance().getAPIMConfiguration();
         String publisherTopic = apimConfigurations.getBrokerConfigurations().getPublisherTopic();
+        recordChange(gatewayDTO);
         BrokerUtil.publishToTopic(publisherTopic, gatewayDTO);
         if (log.isDebugEnabled()) {
             log.debug("Gateway event : " + gatewayDTO.getEventType() + " has been published to publisher topic : " +
@@ -233,6 +247,7 @@ public class APIGatewayPublisherImpl implements APIGateway {
     private void publishToStoreTopic(GatewayEvent gatewayDTO) throws GatewayException {
         APIMConfigurations apimConfigurations = ServiceReferenceHolder.getInstance().getAPIMConfiguration();
         String storeTopic = apimConfigurations.getBrokerConfigurations().getStoreTopic();
+        recordChange(gatewayDTO);
         BrokerUtil.publishToTopic(storeTopic, gatewayDTO);
         if (log.isDebugEnabled()) {
             log.debug("Gateway event : " + gatewayDTO.getEventType() + " has been published to store topic : " +
@@ -240,6 +255,42 @@ public class APIGatewayPublisherImpl implements APIGateway {
         }
     }
 
+    /**
+     * Record an event in the gateway change log, so that gateways which miss the event on the broker can catch up
+     * with it later. The entity change the event describes has already been committed, so the event is published
+     * even if it could not be recorded; a gateway which misses such an event gets the change when it reloads its
+     * snapshot from the core.
+     *
+     * @param gatewayDTO gateway data transfer object
+     */
+    private void recordChange(GatewayEvent gatewayDTO) {
+        try {
+            GatewayChangeLogDAO changeLogDAO = getGatewayChangeLogDAO();
+            if (changeLogDAO == null) {
+                return;
+            }
+            long revision = changeLogDAO.addChange(gatewayDTO.getEventType(), gson.toJson(gatewayDTO));
+            if (log.isDebugEnabled()) {
+                log.debug("Gateway event : " + gatewayDTO.getEventType() + " has been recorded with revision : " +
+                        revision);
+            }
+        } catch (APIMgtDAOException e) {
+            log.error("Error while recording gateway event : " + gatewayDTO.getEventType() + " in the change log, "
+                    + "the event will be published without a revision", e);
+        }
+    }
+
+    private GatewayChangeLogDAO getGatewayChangeLogDAO() throws APIMgtDAOException {
+        if (gatewayChangeLogDAO == null) {
+            synchronized (this) {
+                if (gatewayChangeLogDAO == null) {
+                    gatewayChangeLogDAO = new DAOFactory().getGatewayChangeLogDAO();
+                }
+            }
+        }
+        return gatewayChangeLogDAO;
+    }
+
     /**
      * Publish event to throttle topic
      *
@@ -250,6 +301,7 @@ public class APIGatewayPublisherImpl implements APIGateway {
         APIMConfigurations apimConfigurations = ServiceReferenceHolder.getInstance().getAPIMConfiguration();
         String storeTopic = apimConfigurations.getBrokerConfigurations().getStoreTopic();
         String throttleTopic = apimConfigurations.getBrokerConfigurations().getThrottleTopic();
+        recordChange(gatewayDTO);
         BrokerUtil.publishToTopic(throttleTopic, gatewayDTO);
         if (log.isDebugEnabled()) {
             log.debug("Gateway event : " + gatewayDTO.getEventType() + " has been published to store topic : " +
@@ -31,6 +31,7 @@ import org.wso2.carbon.apimgt.core.api.Analyzer;
 import org.wso2.carbon.apimgt.core.api.IdentityProvider;
 import org.wso2.carbon.apimgt.core.api.KeyManager;
 import org.wso2.carbon.apimgt.core.api.UserNameMapper;
+import org.wso2.carbon.apimgt.core.configuration.models.IdentityProviderConfigurations;
 import org.wso2.carbon.apimgt.core.dao.impl.DAOFactory;
 import org.wso2.carbon.apimgt.core.exception.APIManagementException;
 import org.wso2.carbon.apimgt.core.exception.APIMgtDAOException;
@@ -56,6 +57,7 @@ public class APIManagerFactory {
     private APIGateway apiGateway;
     private APILifecycleManager apiLifecycleManager;
     private UserNameMapper userNameMapper;
+    private final DAOFactory daoFactory = new DAOFactory();
 
     private APIManagerFactory() {
 
@@ -73,12 +75,12 @@ public class APIManagerFactory {
     private APIPublisher newProvider(String username) throws APIManagementException {
         try {
             APIPublisherImpl apiPublisher = new APIPublisherImpl(username, getIdentityProvider(), getKeyManager(),
-                    new DAOFactory(), geApiLifecycleManager(), new GatewaySourceGeneratorImpl(), new
+                    daoFactory, geApiLifecycleManager(), new GatewaySourceGeneratorImpl(), new
                     APIGatewayPublisherImpl(), new UserNameMapperImpl());
 
             // Register all the observers which need to observe 'Publisher' component
             apiPublisher.registerObserver(new EventLogger());
-            apiPublisher.registerObserver(new FunctionTrigger(new DAOFactory().getFunctionDAO(),
+            apiPublisher.registerObserver(new FunctionTrigger(daoFactory.getFunctionDAO(),
                     new RestCallUtilImpl()));
 
             return apiPublisher;
@@ -90,7 +92,7 @@ public class APIManagerFactory {
     }
 
     private APIMgtAdminServiceImpl newAPIMgtAdminService() throws APIManagementException {
-        return new APIMgtAdminServiceImpl(new DAOFactory(), new APIGatewayPublisherImpl());
+        return new APIMgtAdminServiceImpl(daoFactory, new APIGatewayPublisherImpl());
     }
 
     private APIStore newConsumer(String username) throws APIManagementException {
@@ -99,12 +101,12 @@ public class APIManagerFactory {
         // }
         try {
             APIStoreImpl userAwareAPIStore = new APIStoreImpl(username, getIdentityProvider(), getKeyManager(),
-                    new DAOFactory(), new GatewaySourceGeneratorImpl(), new APIGatewayPublisherImpl(), new
+                    daoFactory, new GatewaySourceGeneratorImpl(), new APIGatewayPublisherImpl(), new
                     UserNameMapperImpl());
 
             // Register all the observers which need to observe 'Store' component
             userAwareAPIStore.registerObserver(new EventLogger());
-            userAwareAPIStore.registerObserver(new FunctionTrigger(new DAOFactory().getFunctionDAO(),
+            userAwareAPIStore.registerObserver(new FunctionTrigger(daoFactory.getFunctionDAO(),
                     new RestCallUtilImpl()));
 
             return userAwareAPIStore;
@@ -140,7 +142,7 @@ public class APIManagerFactory {
 
     private Analyzer newAnalyzer(String username) throws APIMgtDAOException {
         try {
-            AnalyzerImpl analyzer = new AnalyzerImpl(username, new DAOFactory().getAnalyticsDAO());
+            AnalyzerImpl analyzer = new AnalyzerImpl(username, daoFactory.getAnalyticsDAO());
             return analyzer;
         } catch (APIMgtDAOException e) {
             throw new APIMgtDAOException("Couldn't Create Analyzer", ExceptionCodes.APIMGT_DAO_EXCEPTION);
@@ -192,9 +194,15 @@ public class APIManagerFactory {
     public IdentityProvider getIdentityProvider() throws IdentityProviderException {
         if (identityProvider == null) {
             try {
-                identityProvider = (IdentityProvider) Class.forName(ServiceReferenceHolder.getInstance()
-                        .getAPIMConfiguration().getIdentityProviderConfigs().getIdentityProviderImplClass())
-                        .newInstance();
+                IdentityProviderConfigurations identityProviderConfigs = ServiceReferenceHolder.getInstance()
+                        .getAPIMConfiguration().getIdentityProviderConfigs();
+                IdentityProvider provider = (IdentityProvider) Class.forName(identityProviderConfigs
+                        .getIdentityProviderImplClass()).newInstance();
+                if (identityProviderConfigs.isCacheEnabled()) {
+                    provider = new CachingIdentityProvider(provider, identityProviderConfigs.getCacheExpiryTime(),
+                            identityProviderConfigs.getCacheMaxSize());
+                }
+                identityProvider = provider;
             } catch (InstantiationException | IllegalAccessException | ClassNotFoundException e) {
                 throw new IdentityProviderException("Error occurred while initializing identity provider", e,
                         ExceptionCodes.IDP_INITIALIZATION_FAILED);
@@ -30,6 +30,7 @@ import org.wso2.carbon.apimgt.core.api.WorkflowResponse;
 import org.wso2.carbon.apimgt.core.dao.APISubscriptionDAO;
 import org.wso2.carbon.apimgt.core.dao.ApiDAO;
 import org.wso2.carbon.apimgt.core.dao.ApplicationDAO;
+import org.wso2.carbon.apimgt.core.dao.GatewayChangeLogDAO;
 import org.wso2.carbon.apimgt.core.dao.LabelDAO;
 import org.wso2.carbon.apimgt.core.dao.PolicyDAO;
 import org.wso2.carbon.apimgt.core.dao.ThreatProtectionDAO;
@@ -46,10 +47,13 @@ import org.wso2.carbon.apimgt.core.models.Application;
 import org.wso2.carbon.apimgt.core.models.BlockConditions;
 import org.wso2.carbon.apimgt.core.models.Endpoint;
 import org.wso2.carbon.apimgt.core.models.Label;
+import org.wso2.carbon.apimgt.core.models.PageCursor;
+import org.wso2.carbon.apimgt.core.models.PagedResults;
 import org.wso2.carbon.apimgt.core.models.PolicyValidationData;
 import org.wso2.carbon.apimgt.core.models.RegistrationSummary;
 import org.wso2.carbon.apimgt.core.models.SubscriptionValidationData;
 import org.wso2.carbon.apimgt.core.models.UriTemplate;
+import org.wso2.carbon.apimgt.core.models.events.GatewayChange;
 import org.wso2.carbon.apimgt.core.models.policy.APIPolicy;
 import org.wso2.carbon.apimgt.core.models.policy.ApplicationPolicy;
 import org.wso2.carbon.apimgt.core.models.policy.CustomPolicy;
@@ -62,6 +66,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Implementation of APIMgtAdminService
@@ -102,6 +107,10 @@ public class APIMgtAdminServiceImpl implements APIMgtAdminService {
         return daoFactory.getWorkflowDAO();
     }
 
+    protected GatewayChangeLogDAO getGatewayChangeLogDAO() throws APIMgtDAOException {
+        return daoFactory.getGatewayChangeLogDAO();
+    }
+
     public ThreatProtectionDAO getThreatProtectionDAO() {
         return daoFactory.getThreatProtectionDAO();
     }
@@ -136,6 +145,56 @@ public class APIMgtAdminServiceImpl implements APIMgtAdminService {
         return getAPISubscriptionDAO().getAPISubscriptionsOfAPIForValidation(limit);
     }
 
+    @Override
+    public PagedResults<SubscriptionValidationData> getAPISubscriptions(int limit, String after)
+            throws APIManagementException {
+        PageCursor afterCursor = null;
+        if (!StringUtils.isEmpty(after)) {
+            try {
+                afterCursor = PageCursor.fromToken(after);
+            } catch (IllegalArgumentException e) {
+                String errorMessage = "Invalid page token: " + after;
+                log.error(errorMessage, e);
+                throw new APIManagementException(errorMessage, e, ExceptionCodes.INVALID_PAGE_TOKEN);
+            }
+        }
+        return getAPISubscriptionDAO().getAPISubscriptionsOfAPIForValidation(afterCursor, limit);
+    }
+
+    @Override
+    public void forEachAPISubscription(Consumer<SubscriptionValidationData> consumer)
+            throws APIManagementException {
+        try {
+            getAPISubscriptionDAO().forEachAPISubscriptionForValidation(consumer);
+        } catch (APIMgtDAOException e) {
+            String errorMessage = "Couldn't retrieve API subscriptions";
+            log.error(errorMessage, e);
+            throw new APIManagementException(errorMessage, e, e.getErrorHandler());
+        }
+    }
+
+    @Override
+    public List<GatewayChange> getGatewayChanges(long since, int limit) throws APIManagementException {
+        try {
+            return getGatewayChangeLogDAO().getChangesSince(since, limit);
+        } catch (APIMgtDAOException e) {
+            String errorMessage = "Couldn't retrieve gateway changes since revision: " + since;
+            log.error(errorMessage, e);
+            throw new APIManagementException(errorMessage, e, e.getErrorHandler());
+        }
+    }
+
+    @Override
+    public long getLatestGatewayChangeRevision() throws APIManagementException {
+        try {
+            return getGatewayChangeLogDAO().getLatestRevision();
+        } catch (APIMgtDAOException e) {
+            String errorMessage = "Couldn't retrieve latest gateway change revision";
+            log.error(errorMessage, e);
+            throw new APIManagementException(errorMessage, e, e.getErrorHandler());
+        }
+    }
+
     @Override
     public List<SubscriptionValidationData> getAPISubscriptionsOfApi(String apiContext, String apiVersion)
             throws APIManagementException {
@@ -570,6 +629,17 @@ public class APIMgtAdminServiceImpl implements APIMgtAdminService {
         }
     }
 
+    @Override
+    public void forEachApplication(Consumer<Application> consumer) throws APIManagementException {
+        try {
+            getApplicationDAO().forEachApplication(consumer);
+        } catch (APIMgtDAOException ex) {
+            String msg = "Error occurred while getting the Application list";
+            log.error(msg, ex);
+            throw new APIManagementException(msg, ExceptionCodes.APIMGT_DAO_EXCEPTION);
+        }
+    }
+
     @Override
     public List<Endpoint> getAllEndpoints() throws APIManagementException {
         try {
@@ -76,6 +76,8 @@ import org.wso2.carbon.apimgt.core.models.Endpoint;
 import org.wso2.carbon.apimgt.core.models.Event;
 import org.wso2.carbon.apimgt.core.models.Label;
 import org.wso2.carbon.apimgt.core.models.LifeCycleEvent;
+import org.wso2.carbon.apimgt.core.models.PageCursor;
+import org.wso2.carbon.apimgt.core.models.PagedResults;
 import org.wso2.carbon.apimgt.core.models.Provider;
 import org.wso2.carbon.apimgt.core.models.Scope;
 import org.wso2.carbon.apimgt.core.models.Subscription;
@@ -639,8 +641,9 @@ public class APIPublisherImpl extends AbstractAPIManager implements APIPublisher
                     createUriTemplateList(apiBuilder, true);
                     validateApiPolicy(apiBuilder.getApiPolicy());
                     validateSubscriptionPolicies(apiBuilder);
-                    String updatedSwagger = apiDefinitionFromSwagger20.generateMergedResourceDefinition(getApiDAO()
-                            .getApiSwaggerDefinition(apiBuilder.getId()), apiBuilder.build());
+                    String existingSwagger = getApiDAO().getApiSwaggerDefinition(apiBuilder.getId());
+                    String updatedSwagger = apiDefinitionFromSwagger20.generateMergedResourceDefinition(existingSwagger,
+                            apiBuilder.build());
                     String gatewayConfig = getApiGatewayConfig(apiBuilder.getId());
                     GatewaySourceGenerator gatewaySourceGenerator = getGatewaySourceGenerator();
                     APIConfigContext apiConfigContext = new APIConfigContext(apiBuilder.build(), config
@@ -667,7 +670,7 @@ public class APIPublisherImpl extends AbstractAPIManager implements APIPublisher
                                 isRolesExist(apiRoleList);
                                 getApiDAO().updateAPI(api.getId(), api);
                             }
-                            getApiDAO().updateApiDefinition(api.getId(), updatedSwagger, api.getUpdatedBy());
+                            updateApiDefinition(api.getId(), existingSwagger, updatedSwagger, api.getUpdatedBy());
                             getApiDAO().updateGatewayConfig(api.getId(), updatedGatewayConfig, api.getUpdatedBy());
                         } else {
                             throw new APIManagementException("Context already Exist", ExceptionCodes
@@ -683,7 +686,7 @@ public class APIPublisherImpl extends AbstractAPIManager implements APIPublisher
                             //if the API has role based visibility, update the API with role checking
                             getApiDAO().updateAPI(api.getId(), api);
                         }
-                        getApiDAO().updateApiDefinition(api.getId(), updatedSwagger, api.getUpdatedBy());
+                        updateApiDefinition(api.getId(), existingSwagger, updatedSwagger, api.getUpdatedBy());
                         getApiDAO().updateGatewayConfig(api.getId(), updatedGatewayConfig, api.getUpdatedBy());
                     }
                     if (log.isDebugEnabled()) {
@@ -1499,15 +1502,9 @@ public class APIPublisherImpl extends AbstractAPIManager implements APIPublisher
 
         List<API> apiResults;
         String user = getUsername();
-        Set<String> roles = new HashSet<>();
 
         try {
-            //TODO: Need to validate users roles against results returned
-            if (!"admin".equals(user)) {
-                //Whenever call identity provider should convert pseudo name to actual name
-                String userId = getIdentityProvider().getIdOfUser(user);
-                roles = new HashSet<>(getIdentityProvider().getRoleIdsOfUser(userId));
-            }
+            Set<String> roles = getRoleIdsOfUser(user);
             if (query != null && !query.isEmpty()) {
 
                 String[] attributes = query.split(ATTRIBUTE_DELIMITER);
@@ -1555,6 +1552,38 @@ public class APIPublisherImpl extends AbstractAPIManager implements APIPublisher
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PagedResults<API> getAPIs(int limit, String after) throws APIManagementException {
+        PageCursor cursor = getPageCursor(after);
+        int pageSize = Math.max(1, limit);
+        String user = getUsername();
+        try {
+            List<API> apiResults = getApiDAO().getAPIs(getRoleIdsOfUser(user), user, cursor, pageSize + 1);
+            return PagedResults.of(apiResults, pageSize, api -> new PageCursor(api.getName(), api.getId()));
+        } catch (APIMgtDAOException e) {
+            String errorMsg = "Error occurred while retrieving APIs";
+            log.error(errorMsg, e);
+            throw new APIManagementException(errorMsg, e, e.getErrorHandler());
+        } catch (IdentityProviderException e) {
+            String errorMsg = "Error occurred while calling SCIM endpoint to retrieve user " + user + "'s information";
+            log.error(errorMsg, e);
+            throw new APIManagementException(errorMsg, e, e.getErrorHandler());
+        }
+    }
+
+    private Set<String> getRoleIdsOfUser(String user) throws IdentityProviderException {
+        //TODO: Need to validate users roles against results returned
+        if ("admin".equals(user)) {
+            return new HashSet<>();
+        }
+        //Whenever call identity provider should convert pseudo name to actual name
+        String userId = getIdentityProvider().getIdOfUser(user);
+        return new HashSet<>(getIdentityProvider().getRoleIdsOfUser(userId));
+    }
+
     /**
      * Update the subscription status
      *
@@ -1845,8 +1874,9 @@ public class APIPublisherImpl extends AbstractAPIManager implements APIPublisher
     public void saveSwagger20Definition(String apiId, String jsonText) throws APIManagementException {
         try {
             Instant localDateTime = Instant.now();
+            String existingSwagger = getApiSwaggerDefinition(apiId);
             Map<String, String> oldScopes = apiDefinitionFromSwagger20.getScopesFromSecurityDefinition
-                    (getApiSwaggerDefinition(apiId));
+                    (existingSwagger);
             Map<String, String> newScopes = apiDefinitionFromSwagger20.getScopesFromSecurityDefinition(jsonText);
             Map<String, String> updatedScopes = new HashMap<>(newScopes);
             updatedScopes.keySet().retainAll(oldScopes.keySet());
@@ -1889,7 +1919,7 @@ public class APIPublisherImpl extends AbstractAPIManager implements APIPublisher
             String updatedGatewayConfig = gatewaySourceGenerator
                     .getGatewayConfigFromSwagger(existingGatewayConfig, jsonText);
             getApiDAO().updateAPI(apiId, api);
-            getApiDAO().updateApiDefinition(apiId, jsonText, getUsername());
+            updateApiDefinition(apiId, existingSwagger, jsonText, getUsername());
             getApiDAO().updateGatewayConfig(apiId, updatedGatewayConfig, getUsername());
         } catch (APIMgtDAOException e) {
             String errorMsg = "Couldn't update the Swagger Definition";
@@ -2524,7 +2554,7 @@ public class APIPublisherImpl extends AbstractAPIManager implements APIPublisher
         if (!scopeMap.containsKey(scope.getName())) {
             if (getKeyManager().registerScope(scope)) {
                 String updatedSwagger = apiDefinitionFromSwagger20.addScopeToSwaggerDefinition(swagger, scope);
-                getApiDAO().updateApiDefinition(apiId, updatedSwagger, getUsername());
+                updateApiDefinition(apiId, swagger, updatedSwagger, getUsername());
             } else {
                 throw new APIManagementException("Scope already registered", ExceptionCodes.SCOPE_ALREADY_REGISTERED);
             }
@@ -2541,7 +2571,7 @@ public class APIPublisherImpl extends AbstractAPIManager implements APIPublisher
             if (getKeyManager().updateScope(scope)) {
                 String updatedSwaggerDefinition = new APIDefinitionFromSwagger20().updateScopesOnSwaggerDefinition
                         (swagger, scope);
-                getApiDAO().updateApiDefinition(apiId, updatedSwaggerDefinition, getUsername());
+                updateApiDefinition(apiId, swagger, updatedSwaggerDefinition, getUsername());
             }
         } else {
             throw new APIManagementException("Scope couldn't found by name: " + scope.getName(), ExceptionCodes
@@ -2557,7 +2587,7 @@ public class APIPublisherImpl extends AbstractAPIManager implements APIPublisher
             String scopeDeletedApiDefinition = apiDefinitionFromSwagger20.removeScopeFromSwaggerDefinition(swagger,
                     scopeName);
             if (getKeyManager().deleteScope(scopeName)) {
-                getApiDAO().updateApiDefinition(apiId, scopeDeletedApiDefinition, getUsername());
+                updateApiDefinition(apiId, swagger, scopeDeletedApiDefinition, getUsername());
             }
 
         } else {
@@ -2573,6 +2603,21 @@ public class APIPublisherImpl extends AbstractAPIManager implements APIPublisher
      * @throws APIMgtResourceNotFoundException if API does not exist
      * @throws APIMgtDAOException              if error occurred while accessing data layer
      */
+    /**
+     * Replace the swagger definition of an API and remove the replaced definition from the parsed definition cache
+     *
+     * @param apiId              UUID of the API
+     * @param existingDefinition definition being replaced
+     * @param apiDefinition      new definition
+     * @param updatedBy          user who updated the definition
+     * @throws APIMgtDAOException if failed to update the definition
+     */
+    private void updateApiDefinition(String apiId, String existingDefinition, String apiDefinition, String updatedBy)
+            throws APIMgtDAOException {
+        getApiDAO().updateApiDefinition(apiId, apiDefinition, updatedBy);
+        SwaggerDefinitionCache.getInstance().invalidate(existingDefinition);
+    }
+
     private void failIfApiNotExists(String apiId) throws APIMgtResourceNotFoundException, APIMgtDAOException {
         if (!getApiDAO().isAPIExists(apiId)) {
             String errorMsg = "api not found for the id : " + apiId;
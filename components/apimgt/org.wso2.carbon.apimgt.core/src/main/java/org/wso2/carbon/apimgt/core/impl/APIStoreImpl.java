@@ -55,6 +55,7 @@ import org.wso2.carbon.apimgt.core.exception.APINotFoundException;
 import org.wso2.carbon.apimgt.core.exception.APIRatingException;
 import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
 import org.wso2.carbon.apimgt.core.exception.GatewayException;
+import org.wso2.carbon.apimgt.core.exception.IdentityProviderException;
 import org.wso2.carbon.apimgt.core.exception.LabelException;
 import org.wso2.carbon.apimgt.core.exception.WorkflowException;
 import org.wso2.carbon.apimgt.core.internal.ServiceReferenceHolder;
@@ -71,6 +72,8 @@ import org.wso2.carbon.apimgt.core.models.Event;
 import org.wso2.carbon.apimgt.core.models.Label;
 import org.wso2.carbon.apimgt.core.models.OAuthAppRequest;
 import org.wso2.carbon.apimgt.core.models.OAuthApplicationInfo;
+import org.wso2.carbon.apimgt.core.models.PageCursor;
+import org.wso2.carbon.apimgt.core.models.PagedResults;
 import org.wso2.carbon.apimgt.core.models.Rating;
 import org.wso2.carbon.apimgt.core.models.Subscription;
 import org.wso2.carbon.apimgt.core.models.SubscriptionResponse;
@@ -1472,18 +1475,8 @@ public class APIStoreImpl extends AbstractAPIManager implements APIStore, APIMOb
         List<API> apiResults = null;
 
         try {
-            Set<String> labelIds = new HashSet<>();
-            for (String label : labels) {
-                String labelId = getLabelDAO().getLabelIdByNameAndType(label, APIMgtConstants.LABEL_TYPE_STORE);
-                labelIds.add(labelId);
-            }
-            Set<String> roles = new HashSet<>();
-            if (!APIMgtConstants.ANONYMOUS_USER.equals(getUsername())) {
-                String userId = getIdentityProvider().getIdOfUser(getUsername());
-                if (userId != null) {
-                    roles = new HashSet<>(getIdentityProvider().getRoleNamesOfUser(userId));
-                }
-            }
+            Set<String> labelIds = getStoreLabelIds(labels);
+            Set<String> roles = getRoleNamesOfLoggedInUser();
             if (query != null && !query.isEmpty()) {
                 String[] attributes = query.split(",");
                 Map<SearchType, String> attributeMap = new EnumMap<>(SearchType.class);
@@ -1524,6 +1517,46 @@ public class APIStoreImpl extends AbstractAPIManager implements APIStore, APIMOb
         return apiResults;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PagedResults<API> getAPIsByStoreLabels(int limit, String after, Set<String> labels)
+            throws APIManagementException {
+        PageCursor cursor = getPageCursor(after);
+        int pageSize = Math.max(1, limit);
+        try {
+            Set<APIStatus> statuses = EnumSet.of(APIStatus.PUBLISHED, APIStatus.PROTOTYPED);
+            List<API> apiResults = getApiDAO().getAPIsByStatus(getRoleNamesOfLoggedInUser(), statuses,
+                    getStoreLabelIds(labels), cursor, pageSize + 1);
+            return PagedResults.of(apiResults, pageSize, api -> new PageCursor(api.getName(), api.getId()));
+        } catch (APIMgtDAOException e) {
+            String errorMsg = "Error occurred while retrieving APIs";
+            log.error(errorMsg, e);
+            throw new APIManagementException(errorMsg, e, e.getErrorHandler());
+        }
+    }
+
+    private Set<String> getStoreLabelIds(Set<String> labels) throws APIMgtDAOException {
+        Set<String> labelIds = new HashSet<>();
+        for (String label : labels) {
+            String labelId = getLabelDAO().getLabelIdByNameAndType(label, APIMgtConstants.LABEL_TYPE_STORE);
+            labelIds.add(labelId);
+        }
+        return labelIds;
+    }
+
+    private Set<String> getRoleNamesOfLoggedInUser() throws IdentityProviderException {
+        Set<String> roles = new HashSet<>();
+        if (!APIMgtConstants.ANONYMOUS_USER.equals(getUsername())) {
+            String userId = getIdentityProvider().getIdOfUser(getUsername());
+            if (userId != null) {
+                roles = new HashSet<>(getIdentityProvider().getRoleNamesOfUser(userId));
+            }
+        }
+        return roles;
+    }
+
     @Override
     public List<CompositeAPI> searchCompositeAPIs(String query, int offset, int limit) throws APIManagementException {
         List<CompositeAPI> apiResults;
@@ -54,6 +54,7 @@ import org.wso2.carbon.apimgt.core.models.Application;
 import org.wso2.carbon.apimgt.core.models.DocumentContent;
 import org.wso2.carbon.apimgt.core.models.DocumentInfo;
 import org.wso2.carbon.apimgt.core.models.Label;
+import org.wso2.carbon.apimgt.core.models.PageCursor;
 import org.wso2.carbon.apimgt.core.models.Subscription;
 import org.wso2.carbon.apimgt.core.util.APIUtils;
 import org.wso2.carbon.apimgt.core.workflow.Workflow;
@@ -589,6 +590,26 @@ public abstract class AbstractAPIManager implements APIManager {
         return apiLifecycleManager;
     }
 
+    /**
+     * Decode the page token sent by a client
+     *
+     * @param pageToken page token returned with the previous page of a listing, or null for the first page
+     * @return cursor of the page, or null for the first page
+     * @throws APIManagementException if the token is malformed
+     */
+    protected final PageCursor getPageCursor(String pageToken) throws APIManagementException {
+        if (StringUtils.isEmpty(pageToken)) {
+            return null;
+        }
+        try {
+            return PageCursor.fromToken(pageToken);
+        } catch (IllegalArgumentException e) {
+            String message = "Invalid page token: " + pageToken;
+            log.error(message, e);
+            throw new APIManagementException(message, e, ExceptionCodes.INVALID_PAGE_TOKEN);
+        }
+    }
+
     protected final void handleResourceAlreadyExistsException(String msg) throws APIMgtResourceAlreadyExistsException {
         log.error(msg);
         throw new APIMgtResourceAlreadyExistsException(msg);
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.impl;
+
+import org.wso2.carbon.apimgt.core.api.IdentityProvider;
+import org.wso2.carbon.apimgt.core.exception.IdentityProviderException;
+import org.wso2.carbon.apimgt.core.exception.KeyManagementException;
+import org.wso2.carbon.apimgt.core.models.API;
+import org.wso2.carbon.apimgt.core.models.AccessTokenInfo;
+import org.wso2.carbon.apimgt.core.models.AccessTokenRequest;
+import org.wso2.carbon.apimgt.core.models.KeyManagerConfiguration;
+import org.wso2.carbon.apimgt.core.models.OAuthAppRequest;
+import org.wso2.carbon.apimgt.core.models.OAuthApplicationInfo;
+import org.wso2.carbon.apimgt.core.models.Scope;
+import org.wso2.carbon.apimgt.core.models.User;
+import org.wso2.carbon.apimgt.core.util.LoadingCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link IdentityProvider} decorator which caches user IDs, roles of users and role ID/name mappings, so that
+ * permission filtered queries do not call the identity provider for every request.
+ * <p>
+ * Entries expire after a configured time and each cache is bounded in size, evicting its least recently used entries
+ * when full. Concurrent lookups of the same key share a single call to the identity provider. Key manager operations
+ * are not cached.
+ * <p>
+ * Users and roles are managed in the identity provider itself, so changes to them are not seen by this class and the
+ * expiry time is the only bound on how long a changed user or role is served from the cache. Only the user ID lookup
+ * of a user registered through this class is removed from the cache.
+ */
+public class CachingIdentityProvider implements IdentityProvider {
+
+    private final IdentityProvider identityProvider;
+    private final LoadingCache<String, String> userIdCache;
+    private final LoadingCache<String, String> emailCache;
+    private final LoadingCache<String, List<String>> roleNamesCache;
+    private final LoadingCache<String, List<String>> roleIdsCache;
+    private final LoadingCache<String, Boolean> validRoleCache;
+    private final LoadingCache<String, String> roleIdCache;
+    private final LoadingCache<String, String> roleNameCache;
+
+    /**
+     * @param identityProvider identity provider which is called on cache misses
+     * @param expiryTime       time in seconds an entry is served before it is retrieved again
+     * @param maxSize          maximum number of entries kept in each cache
+     */
+    public CachingIdentityProvider(IdentityProvider identityProvider, int expiryTime, int maxSize) {
+        this.identityProvider = identityProvider;
+        long expiryTimeMillis = TimeUnit.SECONDS.toMillis(expiryTime);
+        this.userIdCache = LoadingCache.expireAfterLoad(maxSize, expiryTimeMillis);
+        this.emailCache = LoadingCache.expireAfterLoad(maxSize, expiryTimeMillis);
+        this.roleNamesCache = LoadingCache.expireAfterLoad(maxSize, expiryTimeMillis);
+        this.roleIdsCache = LoadingCache.expireAfterLoad(maxSize, expiryTimeMillis);
+        this.validRoleCache = LoadingCache.expireAfterLoad(maxSize, expiryTimeMillis);
+        this.roleIdCache = LoadingCache.expireAfterLoad(maxSize, expiryTimeMillis);
+        this.roleNameCache = LoadingCache.expireAfterLoad(maxSize, expiryTimeMillis);
+    }
+
+    @Override
+    public String getIdOfUser(String userName) throws IdentityProviderException {
+        return userIdCache.get(userName, identityProvider::getIdOfUser);
+    }
+
+    @Override
+    public String getEmailOfUser(String userId) throws IdentityProviderException {
+        return emailCache.get(userId, identityProvider::getEmailOfUser);
+    }
+
+    @Override
+    public List<String> getRoleNamesOfUser(String userId) throws IdentityProviderException {
+        return copyOf(roleNamesCache.get(userId, identityProvider::getRoleNamesOfUser));
+    }
+
+    @Override
+    public boolean isValidRole(String roleName) throws IdentityProviderException {
+        return validRoleCache.get(roleName, identityProvider::isValidRole);
+    }
+
+    @Override
+    public List<String> getRoleIdsOfUser(String userId) throws IdentityProviderException {
+        return copyOf(roleIdsCache.get(userId, identityProvider::getRoleIdsOfUser));
+    }
+
+    @Override
+    public String getRoleId(String roleName) throws IdentityProviderException {
+        return roleIdCache.get(roleName, identityProvider::getRoleId);
+    }
+
+    @Override
+    public String getRoleName(String roleId) throws IdentityProviderException {
+        return roleNameCache.get(roleId, identityProvider::getRoleName);
+    }
+
+    @Override
+    public void registerUser(User user) throws IdentityProviderException {
+        identityProvider.registerUser(user);
+        userIdCache.remove(user.getUsername());
+    }
+
+    private static List<String> copyOf(List<String> list) {
+        return list == null ? null : new ArrayList<>(list);
+    }
+
+    @Override
+    public OAuthApplicationInfo createApplication(OAuthAppRequest oauthAppRequest) throws KeyManagementException {
+        return identityProvider.createApplication(oauthAppRequest);
+    }
+
+    @Override
+    public OAuthApplicationInfo updateApplication(OAuthApplicationInfo oAuthApplicationInfo)
+            throws KeyManagementException {
+        return identityProvider.updateApplication(oAuthApplicationInfo);
+    }
+
+    @Override
+    public void deleteApplication(String consumerKey) throws KeyManagementException {
+        identityProvider.deleteApplication(consumerKey);
+    }
+
+    @Override
+    public OAuthApplicationInfo retrieveApplication(String consumerKey) throws KeyManagementException {
+        return identityProvider.retrieveApplication(consumerKey);
+    }
+
+    @Override
+    public AccessTokenInfo getNewAccessToken(AccessTokenRequest tokenRequest) throws KeyManagementException {
+        return identityProvider.getNewAccessToken(tokenRequest);
+    }
+
+    @Override
+    public AccessTokenInfo getTokenMetaData(String accessToken) throws KeyManagementException {
+        return identityProvider.getTokenMetaData(accessToken);
+    }
+
+    @Override
+    public KeyManagerConfiguration getKeyManagerConfiguration() throws KeyManagementException {
+        return identityProvider.getKeyManagerConfiguration();
+    }
+
+    @Override
+    public void revokeAccessToken(String accessToken, String clientId, String clientSecret)
+            throws KeyManagementException {
+        identityProvider.revokeAccessToken(accessToken, clientId, clientSecret);
+    }
+
+    @Override
+    public void loadConfiguration(KeyManagerConfiguration configuration) throws KeyManagementException {
+        identityProvider.loadConfiguration(configuration);
+    }
+
+    @Override
+    public boolean registerNewResource(API api, Map resourceAttributes) throws KeyManagementException {
+        return identityProvider.registerNewResource(api, resourceAttributes);
+    }
+
+    @Override
+    public Map getResourceByApiId(String apiId) throws KeyManagementException {
+        return identityProvider.getResourceByApiId(apiId);
+    }
+
+    @Override
+    public boolean updateRegisteredResource(API api, Map resourceAttributes) throws KeyManagementException {
+        return identityProvider.updateRegisteredResource(api, resourceAttributes);
+    }
+
+    @Override
+    public void deleteRegisteredResourceByAPIId(String apiID) throws KeyManagementException {
+        identityProvider.deleteRegisteredResourceByAPIId(apiID);
+    }
+
+    @Override
+    public void deleteMappedApplication(String consumerKey) throws KeyManagementException {
+        identityProvider.deleteMappedApplication(consumerKey);
+    }
+
+    @Override
+    public boolean registerScope(Scope scope) throws KeyManagementException {
+        return identityProvider.registerScope(scope);
+    }
+
+    @Override
+    public Scope retrieveScope(String name) throws KeyManagementException {
+        return identityProvider.retrieveScope(name);
+    }
+
+    @Override
+    public boolean updateScope(Scope scope) throws KeyManagementException {
+        return identityProvider.updateScope(scope);
+    }
+
+    @Override
+    public boolean deleteScope(String name) throws KeyManagementException {
+        return identityProvider.deleteScope(name);
+    }
+}
@@ -45,6 +45,7 @@ import org.wso2.carbon.apimgt.core.models.OAuthApplicationInfo;
 import org.wso2.carbon.apimgt.core.models.Scope;
 import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
 import org.wso2.carbon.apimgt.core.util.KeyManagerConstants;
+import org.wso2.carbon.apimgt.core.util.TokenRevocationNotifier;
 
 import java.io.IOException;
 import java.util.Map;
@@ -421,6 +422,7 @@ public class DefaultKeyManagerImpl implements KeyManager {
 //                    + " Error Response Body: " + response.body().toString(),
 //                    ExceptionCodes.ACCESS_TOKEN_REVOKE_FAILED);
 //        }
+        TokenRevocationNotifier.notifyTokenRevoked(accessToken);
     }
 
     @Override
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.impl;
+
+import io.swagger.models.HttpMethod;
+import io.swagger.models.Operation;
+import io.swagger.models.Path;
+import io.swagger.models.SecurityRequirement;
+import io.swagger.models.Swagger;
+import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.ws.rs.ApplicationPath;
+
+/**
+ * Resource to scope mapping of a management REST API (publisher, store, admin or analytics), compiled once from the
+ * REST API Swagger definition and the resource to scope mappings configured in the deployment.yaml. Mappings
+ * configured in the deployment.yaml take precedence over the Swagger definition.
+ * <p>
+ * The resource path of each MSF4J resource method is resolved from its JAX-RS annotations on its first request and
+ * memoized together with the scopes of each HTTP verb the method is bound to, so authorizing a request is a single
+ * lookup by method and verb. Generated resource methods are bound to OPTIONS as well as to their own verb.
+ */
+public final class RestAPIScopeIndex {
+
+    private static final String KEY_SEPARATOR = "_";
+    private static final String SCOPE_SEPARATOR = " ";
+
+    private final Map<String, ResourceScopes> scopesByResource;
+    private final Map<Method, MethodScopes> scopesByMethod = new ConcurrentHashMap<>();
+
+    private RestAPIScopeIndex(Map<String, ResourceScopes> scopesByResource) {
+        this.scopesByResource = scopesByResource;
+    }
+
+    /**
+     * Compile the resource to scope mapping of a REST API
+     *
+     * @param swagger          Swagger definition of the REST API, may be null
+     * @param configuredScopes resource to scope mappings configured in the deployment.yaml, keyed by
+     *                         {verb}_{resourcePath}, may be null
+     * @return index of the scopes of each resource
+     */
+    public static RestAPIScopeIndex build(Swagger swagger, Map<String, String> configuredScopes) {
+        Map<String, ResourceScopes> scopesByResource = new HashMap<>();
+        if (configuredScopes != null) {
+            for (Map.Entry<String, String> entry : configuredScopes.entrySet()) {
+                if (entry.getValue() != null) {
+                    scopesByResource.put(entry.getKey(), new ResourceScopes(entry.getValue()));
+                }
+            }
+        }
+        if (swagger != null && swagger.getPaths() != null) {
+            List<String> globalScopeList = new ArrayList<>();
+            List<SecurityRequirement> securityRequirementList = swagger.getSecurity();
+            if (securityRequirementList != null) {
+                for (SecurityRequirement securityRequirement : securityRequirementList) {
+                    Map<String, List<String>> security = securityRequirement.getRequirements();
+                    if (security.containsKey(APIMgtConstants.OAUTH2SECURITY)) {
+                        globalScopeList.addAll(security.get(APIMgtConstants.OAUTH2SECURITY));
+                    }
+                }
+            }
+            ResourceScopes globalScopes = new ResourceScopes(
+                    APIDefinitionFromSwagger20.convertListTostring(globalScopeList));
+            for (Map.Entry<String, Path> entry : swagger.getPaths().entrySet()) {
+                for (Map.Entry<HttpMethod, Operation> httpVerbEntry : entry.getValue().getOperationMap().entrySet()) {
+                    String resourceKey = httpVerbEntry.getKey() + KEY_SEPARATOR + entry.getKey();
+                    List<Map<String, List<String>>> security = httpVerbEntry.getValue().getSecurity();
+                    if (security == null) {
+                        scopesByResource.putIfAbsent(resourceKey, globalScopes);
+                        continue;
+                    }
+                    for (Map<String, List<String>> securityRequirement : security) {
+                        if (securityRequirement.containsKey(APIMgtConstants.OAUTH2SECURITY)) {
+                            scopesByResource.putIfAbsent(resourceKey, new ResourceScopes(APIDefinitionFromSwagger20
+                                    .convertListTostring(securityRequirement.get(APIMgtConstants.OAUTH2SECURITY))));
+                        }
+                    }
+                }
+            }
+        }
+        return new RestAPIScopeIndex(Collections.unmodifiableMap(scopesByResource));
+    }
+
+    /**
+     * Get the scopes of the resource served by a resource method
+     *
+     * @param resourceMethod MSF4J resource method serving the request
+     * @param httpVerb       HTTP verb of the request
+     * @return scopes of the resource, null if the resource is not defined
+     */
+    public ResourceScopes getScopes(Method resourceMethod, String httpVerb) {
+        MethodScopes methodScopes = scopesByMethod.get(resourceMethod);
+        if (methodScopes == null) {
+            methodScopes = scopesByMethod.computeIfAbsent(resourceMethod, this::compile);
+        }
+        if (methodScopes.scopesByVerb.containsKey(httpVerb)) {
+            return methodScopes.scopesByVerb.get(httpVerb);
+        }
+        return scopesByResource.get(httpVerb + KEY_SEPARATOR + methodScopes.resourcePath);
+    }
+
+    /**
+     * Get the scopes of a resource
+     *
+     * @param httpVerb     HTTP verb of the resource
+     * @param resourcePath path of the resource, relative to the base path of the REST API
+     * @return scopes of the resource, null if the resource is not defined
+     */
+    public ResourceScopes getScopes(String httpVerb, String resourcePath) {
+        return scopesByResource.get(httpVerb + KEY_SEPARATOR + resourcePath);
+    }
+
+    private MethodScopes compile(Method resourceMethod) {
+        String resourcePath = resourceMethod.getDeclaringClass().getAnnotation(ApplicationPath.class).value();
+        javax.ws.rs.Path path = resourceMethod.getAnnotation(javax.ws.rs.Path.class);
+        if (path != null) {
+            resourcePath += path.value();
+        }
+        Map<String, ResourceScopes> scopesByVerb = new HashMap<>();
+        for (Annotation annotation : resourceMethod.getAnnotations()) {
+            javax.ws.rs.HttpMethod httpMethod = annotation.annotationType().getAnnotation(javax.ws.rs.HttpMethod.class);
+            if (httpMethod != null) {
+                scopesByVerb.put(httpMethod.value(),
+                        scopesByResource.get(httpMethod.value() + KEY_SEPARATOR + resourcePath));
+            }
+        }
+        return new MethodScopes(resourcePath, scopesByVerb);
+    }
+
+    /**
+     * Scopes of a resource. Any one of the scopes authorizes a request to the resource.
+     */
+    public static final class ResourceScopes {
+        private final String scopes;
+        private final Set<String> scopeSet;
+
+        private ResourceScopes(String scopes) {
+            this.scopes = scopes;
+            Set<String> scopeSet = new HashSet<>();
+            for (String scope : scopes.split(SCOPE_SEPARATOR)) {
+                if (!scope.isEmpty()) {
+                    scopeSet.add(scope.toLowerCase(Locale.ENGLISH));
+                }
+            }
+            this.scopeSet = Collections.unmodifiableSet(scopeSet);
+        }
+
+        /**
+         * @return space separated scopes of the resource
+         */
+        public String getScopes() {
+            return scopes;
+        }
+
+        /**
+         * @return true if the resource does not require a scope
+         */
+        public boolean isEmpty() {
+            return scopeSet.isEmpty();
+        }
+
+        /**
+         * Check whether one of the given scopes authorizes a request to the resource. Scopes are compared ignoring
+         * case.
+         *
+         * @param grantedScopes scopes granted to the request
+         * @return true if one of the granted scopes is a scope of the resource
+         */
+        public boolean isAnyGranted(Collection<String> grantedScopes) {
+            for (String grantedScope : grantedScopes) {
+                if (scopeSet.contains(grantedScope.toLowerCase(Locale.ENGLISH))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Resource path of a resource method and the scopes of each HTTP verb it is bound to. Verbs without scopes are
+     * mapped to null.
+     */
+    private static final class MethodScopes {
+        private final String resourcePath;
+        private final Map<String, ResourceScopes> scopesByVerb;
+
+        private MethodScopes(String resourcePath, Map<String, ResourceScopes> scopesByVerb) {
+            this.resourcePath = resourcePath;
+            this.scopesByVerb = scopesByVerb;
+        }
+    }
+}
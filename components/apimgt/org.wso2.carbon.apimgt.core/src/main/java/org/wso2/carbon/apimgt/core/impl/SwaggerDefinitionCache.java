@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.impl;
+
+import io.swagger.models.Swagger;
+import io.swagger.parser.SwaggerParser;
+import io.swagger.util.Json;
+import org.wso2.carbon.apimgt.core.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.core.util.HashUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache of parsed swagger definitions, so that the definition of an API is parsed once even though several
+ * {@link APIDefinitionFromSwagger20} operations are applied to it while serving a single request.
+ * <p>
+ * Definitions are keyed by a SHA-256 hash of their content, so a changed definition is never served from an entry
+ * of its previous content. The cache is bounded in size and evicts the least recently used definitions; definitions
+ * replaced through the publisher are removed as soon as they are replaced.
+ * <p>
+ * Cached models are shared and must not be modified. Operations which modify a definition parse a private copy with
+ * {@link #parse(String)}, and put the modified model into the cache along with its serialized form once they are
+ * done, since that is the definition which is read next.
+ */
+final class SwaggerDefinitionCache {
+
+    private static volatile SwaggerDefinitionCache instance = null;
+
+    private final LinkedHashMap<String, CachedDefinition> definitions;
+    private final int maxSize;
+
+    /**
+     * @param maxSize maximum number of definitions kept in the cache, 0 disables the cache
+     */
+    SwaggerDefinitionCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.definitions = new LinkedHashMap<String, CachedDefinition>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedDefinition> eldest) {
+                return size() > SwaggerDefinitionCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Get the cache sized by the API cache configurations
+     *
+     * @return swagger definition cache
+     */
+    static SwaggerDefinitionCache getInstance() {
+        if (instance == null) {
+            synchronized (SwaggerDefinitionCache.class) {
+                if (instance == null) {
+                    instance = new SwaggerDefinitionCache(ServiceReferenceHolder.getInstance().getAPIMConfiguration()
+                            .getApiCacheConfigurations().getMaxSwaggerDefinitionCount());
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Get the parsed model of a definition, parsing it if it is not cached. The returned model is shared and must
+     * not be modified.
+     *
+     * @param definition swagger definition
+     * @return parsed definition, null if the definition could not be parsed
+     */
+    Swagger get(String definition) {
+        return getDefinition(definition).swagger;
+    }
+
+    /**
+     * Get a definition in the form the parsed model is serialized to
+     *
+     * @param definition swagger definition
+     * @return serialized parsed definition
+     */
+    String getSerialized(String definition) {
+        CachedDefinition cachedDefinition = getDefinition(definition);
+        String serialized = cachedDefinition.serialized;
+        if (serialized == null) {
+            serialized = Json.pretty(cachedDefinition.swagger);
+            cachedDefinition.serialized = serialized;
+        }
+        return serialized;
+    }
+
+    /**
+     * Parse a definition into a model which is not shared, for operations which modify the definition
+     *
+     * @param definition swagger definition
+     * @return parsed definition
+     */
+    Swagger parse(String definition) {
+        return new SwaggerParser().parse(definition);
+    }
+
+    /**
+     * Serialize a modified definition and cache the model as the parsed form of the result. The model must not be
+     * modified afterwards.
+     *
+     * @param swagger modified definition
+     * @return serialized definition
+     */
+    String serialize(Swagger swagger) {
+        String serialized = Json.pretty(swagger);
+        if (maxSize > 0 && swagger != null) {
+            CachedDefinition cachedDefinition = new CachedDefinition(swagger);
+            cachedDefinition.serialized = serialized;
+            put(HashUtils.sha256(serialized), cachedDefinition);
+        }
+        return serialized;
+    }
+
+    /**
+     * Remove a definition from the cache
+     *
+     * @param definition swagger definition
+     */
+    void invalidate(String definition) {
+        if (definition != null && maxSize > 0) {
+            String key = HashUtils.sha256(definition);
+            synchronized (this) {
+                definitions.remove(key);
+            }
+        }
+    }
+
+    /**
+     * @return number of cached definitions
+     */
+    synchronized int size() {
+        return definitions.size();
+    }
+
+    private CachedDefinition getDefinition(String definition) {
+        if (maxSize <= 0) {
+            return new CachedDefinition(parse(definition));
+        }
+        String key = HashUtils.sha256(definition);
+        CachedDefinition cachedDefinition;
+        synchronized (this) {
+            cachedDefinition = definitions.get(key);
+        }
+        if (cachedDefinition == null) {
+            // Definitions are parsed outside the lock; a definition parsed concurrently is simply parsed twice
+            cachedDefinition = new CachedDefinition(parse(definition));
+            if (cachedDefinition.swagger != null) {
+                put(key, cachedDefinition);
+            }
+        }
+        return cachedDefinition;
+    }
+
+    private synchronized void put(String key, CachedDefinition cachedDefinition) {
+        definitions.put(key, cachedDefinition);
+    }
+
+    private static final class CachedDefinition {
+        private final Swagger swagger;
+        private volatile String serialized;
+
+        private CachedDefinition(Swagger swagger) {
+            this.swagger = swagger;
+        }
+    }
+}
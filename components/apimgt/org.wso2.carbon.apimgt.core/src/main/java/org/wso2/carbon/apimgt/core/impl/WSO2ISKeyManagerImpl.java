@@ -31,6 +31,7 @@ import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
 import org.wso2.carbon.apimgt.core.exception.KeyManagementException;
 import org.wso2.carbon.apimgt.core.models.AccessTokenInfo;
 import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
+import org.wso2.carbon.apimgt.core.util.TokenRevocationNotifier;
 
 import java.io.IOException;
 import java.util.Map;
@@ -91,6 +92,7 @@ public class WSO2ISKeyManagerImpl extends DefaultKeyManagerImpl {
             if (log.isDebugEnabled()) {
                 log.debug("Successfully revoked access token: " + accessToken);
             }
+            TokenRevocationNotifier.notifyTokenRevoked(accessToken);
         } else {
             throw new KeyManagementException("Token revocation failed. HTTP error code: " + response.status()
                     + " Error Response Body: " + response.body().toString(),
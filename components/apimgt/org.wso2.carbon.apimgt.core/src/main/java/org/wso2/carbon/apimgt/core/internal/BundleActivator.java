@@ -32,11 +32,14 @@ import org.osgi.service.jndi.JNDIContextManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.wso2.carbon.apimgt.core.api.Broker;
+import org.wso2.carbon.apimgt.core.configuration.models.APIMConfigurations;
+import org.wso2.carbon.apimgt.core.dao.impl.APICacheInvalidationListener;
 import org.wso2.carbon.apimgt.core.dao.impl.DAOFactory;
 import org.wso2.carbon.apimgt.core.dao.impl.DAOUtil;
 import org.wso2.carbon.apimgt.core.dao.impl.DataSource;
 import org.wso2.carbon.apimgt.core.dao.impl.DataSourceImpl;
 import org.wso2.carbon.apimgt.core.exception.APIManagementException;
+import org.wso2.carbon.apimgt.core.exception.APIMgtDAOException;
 import org.wso2.carbon.apimgt.core.impl.BrokerImpl;
 import org.wso2.carbon.apimgt.core.impl.ContainerBasedGatewayConfigBuilder;
 import org.wso2.carbon.apimgt.core.impl.FileEncryptionUtility;
@@ -64,6 +67,7 @@ public class BundleActivator {
     private static final Logger log = LoggerFactory.getLogger(BundleActivator.class);
     private JNDIContextManager jndiContextManager;
     private ConfigProvider configProvider;
+    private final APICacheInvalidationListener apiCacheInvalidationListener = new APICacheInvalidationListener();
 
     @Activate
     protected void start(BundleContext bundleContext) {
@@ -88,6 +92,14 @@ public class BundleActivator {
             BrokerManager.start(ctx, configProvider);
             Broker broker = new BrokerImpl();
             BrokerUtil.initialize(broker);
+            APIMConfigurations apimConfigurations = ServiceReferenceHolder.getInstance().getAPIMConfiguration();
+            if (apimConfigurations.getApiCacheConfigurations().isEnabled()
+                    || apimConfigurations.getSearchIndexConfigurations().isEnabled()) {
+                apiCacheInvalidationListener.start();
+            }
+            if (apimConfigurations.getSearchIndexConfigurations().isEnabled()) {
+                loadSearchIndex();
+            }
         } catch (NamingException e) {
             log.error("Error occurred while jndi lookup", e);
         } catch (Exception e) {
@@ -119,8 +131,19 @@ public class BundleActivator {
 
     }
 
+    private void loadSearchIndex() {
+        try {
+            new DAOFactory().loadSearchIndex();
+        } catch (APIMgtDAOException e) {
+            log.error("Error occurred while loading APIs to the search index, they will be loaded on the first search",
+                    e);
+        }
+    }
+
     @Deactivate
     protected void stop(BundleContext bundleContext) {
+        apiCacheInvalidationListener.stop();
+        BrokerUtil.shutdown();
         try {
             BrokerManager.stop();
         } catch (Exception e) {
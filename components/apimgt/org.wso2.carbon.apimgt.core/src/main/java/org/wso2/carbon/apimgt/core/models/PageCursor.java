@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.models;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Position of the last item of a page in a keyset paginated listing. Listings are ordered by a sort key and then by
+ * the unique id of the item, so the next page starts right after the ({@code sortKey}, {@code id}) pair of the last
+ * item returned.
+ */
+public final class PageCursor {
+    private static final char SEPARATOR = '\n';
+
+    private final String sortKey;
+    private final String id;
+
+    public PageCursor(String sortKey, String id) {
+        this.sortKey = Objects.requireNonNull(sortKey, "sortKey");
+        this.id = Objects.requireNonNull(id, "id");
+    }
+
+    public String getSortKey() {
+        return sortKey;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Encode the cursor as an opaque, URL safe token
+     *
+     * @return token which can be passed back to {@link #fromToken(String)}
+     */
+    public String toToken() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((sortKey + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token created by {@link #toToken()}
+     *
+     * @param token opaque cursor token
+     * @return decoded cursor
+     * @throws IllegalArgumentException if the token is not a valid cursor token
+     */
+    public static PageCursor fromToken(String token) {
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("Page token is empty");
+        }
+        String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        int separatorIndex = decoded.lastIndexOf(SEPARATOR);
+        if (separatorIndex < 0 || separatorIndex == decoded.length() - 1) {
+            throw new IllegalArgumentException("Malformed page token: " + token);
+        }
+        return new PageCursor(decoded.substring(0, separatorIndex), decoded.substring(separatorIndex + 1));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PageCursor)) {
+            return false;
+        }
+        PageCursor that = (PageCursor) o;
+        return sortKey.equals(that.sortKey) && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sortKey, id);
+    }
+}
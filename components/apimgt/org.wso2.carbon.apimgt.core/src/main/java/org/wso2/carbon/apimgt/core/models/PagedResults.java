@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.models;
+
+import java.util.List;
+import java.util.function.Function;
+import javax.annotation.CheckForNull;
+
+/**
+ * A page of a keyset paginated listing along with the token of the next page
+ *
+ * @param <T> type of the listed items
+ */
+public final class PagedResults<T> {
+    private final List<T> results;
+    private final String next;
+
+    public PagedResults(List<T> results, String next) {
+        this.results = results;
+        this.next = next;
+    }
+
+    /**
+     * Build a page from the results of a query which fetched one item more than the page size. The extra item is
+     * only used to decide whether there is a next page and is dropped from the page.
+     *
+     * @param results  query results, at most {@code limit + 1} items
+     * @param limit    page size
+     * @param toCursor returns the cursor of an item
+     * @param <T>      type of the listed items
+     * @return page with at most {@code limit} items
+     */
+    public static <T> PagedResults<T> of(List<T> results, int limit, Function<T, PageCursor> toCursor) {
+        if (results.size() <= limit) {
+            return new PagedResults<>(results, null);
+        }
+        List<T> page = results.subList(0, limit);
+        return new PagedResults<>(page, toCursor.apply(page.get(limit - 1)).toToken());
+    }
+
+    public List<T> getResults() {
+        return results;
+    }
+
+    /**
+     * @return opaque token of the next page, or null if this is the last page
+     */
+    @CheckForNull
+    public String getNext() {
+        return next;
+    }
+}
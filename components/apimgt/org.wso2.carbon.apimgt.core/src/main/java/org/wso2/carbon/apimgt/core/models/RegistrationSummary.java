@@ -73,6 +73,7 @@ public class RegistrationSummary {
         private String tokenEndpoint;
         private String revokeEndpoint;
         private String introspectEndpoint;
+        private String userInfoEndpoint;
         private Credentials credentials;
 
         KeyManagerInfo(KeyMgtConfigurations keyMgtConfigurations) {
@@ -80,6 +81,7 @@ public class RegistrationSummary {
             this.tokenEndpoint = keyMgtConfigurations.getTokenEndpoint();
             this.revokeEndpoint = keyMgtConfigurations.getRevokeEndpoint();
             this.introspectEndpoint = keyMgtConfigurations.getIntrospectEndpoint();
+            this.userInfoEndpoint = keyMgtConfigurations.getUserInfoEndpoint();
             this.credentials = new Credentials(keyMgtConfigurations.getKeyManagerCredentials());
         }
 
@@ -99,6 +101,10 @@ public class RegistrationSummary {
             return introspectEndpoint;
         }
 
+        public String getUserInfoEndpoint() {
+            return userInfoEndpoint;
+        }
+
         public Credentials getCredentials() {
             return credentials;
         }
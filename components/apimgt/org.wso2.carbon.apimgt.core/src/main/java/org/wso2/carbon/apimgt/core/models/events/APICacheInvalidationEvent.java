@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.models.events;
+
+import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
+
+/**
+ * Holds the API to be removed from the API caches of the other nodes after it is changed on one node
+ */
+public class APICacheInvalidationEvent extends GatewayEvent {
+    private String apiId;
+
+    /**
+     * @param apiId UUID of the changed API, null if every cached API is to be removed
+     */
+    public APICacheInvalidationEvent(String apiId) {
+        super(APIMgtConstants.GatewayEventTypes.API_CACHE_INVALIDATE);
+        this.apiId = apiId;
+    }
+
+    public String getApiId() {
+        return apiId;
+    }
+
+    public void setApiId(String apiId) {
+        this.apiId = apiId;
+    }
+}
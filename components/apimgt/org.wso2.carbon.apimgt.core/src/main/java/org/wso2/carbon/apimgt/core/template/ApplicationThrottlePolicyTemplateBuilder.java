@@ -23,7 +23,6 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.velocity.Template;
 import org.apache.velocity.VelocityContext;
-import org.apache.velocity.app.VelocityEngine;
 import org.wso2.carbon.apimgt.core.models.policy.ApplicationPolicy;
 
 import java.io.StringWriter;
@@ -55,8 +54,7 @@ public class ApplicationThrottlePolicyTemplateBuilder extends ThrottlePolicyTemp
         }
         //get velocity template for Application policy and generate the template
         StringWriter writer = new StringWriter();
-        VelocityEngine velocityengine = initVelocityEngine();
-        Template template = velocityengine.getTemplate(getTemplatePathForApplication());
+        Template template = VelocityTemplateEngine.getTemplate(getTemplatePathForApplication());
         VelocityContext context = new VelocityContext();
         setConstantContext(context);
         //set values for velocity context
@@ -21,10 +21,6 @@ package org.wso2.carbon.apimgt.core.template;
 
 import org.apache.velocity.Template;
 import org.apache.velocity.VelocityContext;
-import org.apache.velocity.app.VelocityEngine;
-import org.apache.velocity.runtime.RuntimeConstants;
-import org.apache.velocity.runtime.log.CommonsLogLogChute;
-import org.apache.velocity.runtime.resource.loader.ClasspathResourceLoader;
 import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
 import org.wso2.carbon.apimgt.core.util.ContainerBasedGatewayConstants;
 
@@ -39,8 +35,6 @@ public class ContainerBasedGatewayTemplateBuilder {
 
     protected String cmsTemplateLocation = APIMgtConstants.RESOURCES + File.separator + APIMgtConstants.TEMPLATES +
             File.separator + ContainerBasedGatewayConstants.CONTAINER_GATEWAY_TEMPLATES + File.separator;
-    public static final String CLASS_PATH = "classpath";
-    public static final String CLASS_PATH_RESOURCE_LOADER = "classpath.resource.loader.class";
 
     /**
      * Set velocity context for Gateway Service.
@@ -58,20 +52,6 @@ public class ContainerBasedGatewayTemplateBuilder {
         return context;
     }
 
-    /**
-     * Init velocity engine.
-     *
-     * @return Velocity engine for service template
-     */
-    private VelocityEngine initVelocityEngine() {
-        VelocityEngine velocityEngine = new VelocityEngine();
-        velocityEngine.setProperty(RuntimeConstants.RESOURCE_LOADER, CLASS_PATH);
-        velocityEngine.setProperty(CLASS_PATH_RESOURCE_LOADER, ClasspathResourceLoader.class.getName());
-        velocityEngine.setProperty(VelocityEngine.RUNTIME_LOG_LOGSYSTEM, new CommonsLogLogChute());
-        velocityEngine.init();
-        return velocityEngine;
-    }
-
     /**
      * Generate template for given template values
      *
@@ -82,9 +62,8 @@ public class ContainerBasedGatewayTemplateBuilder {
     public String generateTemplate(Map<String, String> templateValues, String template) {
 
         StringWriter writer = new StringWriter();
-        VelocityEngine velocityengine = initVelocityEngine();
         String templateLocation = cmsTemplateLocation + template;
-        Template generateTemplate = velocityengine.getTemplate(templateLocation);
+        Template generateTemplate = VelocityTemplateEngine.getTemplate(templateLocation);
         VelocityContext context = setVelocityContextValues(templateValues);
         generateTemplate.merge(context, writer);
         return writer.toString();
@@ -22,7 +22,6 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.velocity.Template;
 import org.apache.velocity.VelocityContext;
-import org.apache.velocity.app.VelocityEngine;
 import org.wso2.carbon.apimgt.core.models.policy.CustomPolicy;
 
 import java.io.StringWriter;
@@ -55,8 +54,7 @@ public class CustomThrottlePolicyTemplateBuilder extends ThrottlePolicyTemplateB
         //get velocity template for custom throttle policy and generate the template
         StringWriter writer = new StringWriter();
         VelocityContext context = new VelocityContext();
-        VelocityEngine velocityengine = initVelocityEngine();
-        Template template = velocityengine.getTemplate(getTemplatePathForGlobal());
+        Template template = VelocityTemplateEngine.getTemplate(getTemplatePathForGlobal());
         setConstantContext(context);
         //set values for velocity context
         context.put(POLICY, customPolicy);
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.template;
+
+import org.apache.velocity.Template;
+import org.apache.velocity.app.VelocityEngine;
+import org.apache.velocity.runtime.RuntimeConstants;
+import org.apache.velocity.runtime.log.CommonsLogLogChute;
+import org.apache.velocity.runtime.resource.loader.ClasspathResourceLoader;
+import org.apache.velocity.runtime.resource.loader.FileResourceLoader;
+
+/**
+ * Velocity engine shared by the gateway config, endpoint, throttle policy and container gateway templates.
+ * <p>
+ * Templates are parsed once and the parsed templates are cached by the engine. A template is loaded from the file
+ * system, relative to the working directory, if it exists there and the file is checked for modifications at most
+ * once every {@link #MODIFICATION_CHECK_INTERVAL_SECONDS} seconds, so edits to the templates of a running server are
+ * picked up without a restart. Otherwise the template bundled in the class path is used.
+ */
+public final class VelocityTemplateEngine {
+
+    static final int MODIFICATION_CHECK_INTERVAL_SECONDS = 60;
+    private static final String FILE_LOADER = "file";
+    private static final String CLASS_PATH_LOADER = "classpath";
+    private static final VelocityEngine velocityEngine = createVelocityEngine(MODIFICATION_CHECK_INTERVAL_SECONDS);
+
+    private VelocityTemplateEngine() {
+    }
+
+    /**
+     * Get a parsed template
+     *
+     * @param templatePath path of the template
+     * @return parsed template, which can be merged concurrently
+     * @throws org.apache.velocity.exception.ResourceNotFoundException if the template is not found
+     * @throws org.apache.velocity.exception.ParseErrorException      if the template has a syntax error
+     */
+    public static Template getTemplate(String templatePath) {
+        return velocityEngine.getTemplate(templatePath);
+    }
+
+    /**
+     * Get the shared velocity engine
+     *
+     * @return initialized velocity engine
+     */
+    static VelocityEngine getVelocityEngine() {
+        return velocityEngine;
+    }
+
+    /**
+     * Create a velocity engine which loads templates from the file system or the class path
+     *
+     * @param modificationCheckInterval seconds between checks of a template file for modifications
+     * @return initialized velocity engine
+     */
+    static VelocityEngine createVelocityEngine(int modificationCheckInterval) {
+        VelocityEngine engine = new VelocityEngine();
+        engine.setProperty(RuntimeConstants.RESOURCE_LOADER, FILE_LOADER + "," + CLASS_PATH_LOADER);
+        engine.setProperty(FILE_LOADER + ".resource.loader.class", FileResourceLoader.class.getName());
+        engine.setProperty(RuntimeConstants.FILE_RESOURCE_LOADER_PATH, ".");
+        engine.setProperty(RuntimeConstants.FILE_RESOURCE_LOADER_CACHE, Boolean.TRUE.toString());
+        // resource loader settings are read as strings
+        engine.setProperty(FILE_LOADER + ".resource.loader.modificationCheckInterval",
+                String.valueOf(modificationCheckInterval));
+        engine.setProperty(CLASS_PATH_LOADER + ".resource.loader.class", ClasspathResourceLoader.class.getName());
+        engine.setProperty(CLASS_PATH_LOADER + ".resource.loader.cache", Boolean.TRUE.toString());
+        engine.setProperty(VelocityEngine.RUNTIME_LOG_LOGSYSTEM, new CommonsLogLogChute());
+        engine.init();
+        return engine;
+    }
+}
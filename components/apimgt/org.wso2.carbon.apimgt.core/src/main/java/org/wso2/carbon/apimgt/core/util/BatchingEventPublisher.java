@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.apimgt.core.exception.BrokerException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import javax.jms.JMSException;
+
+/**
+ * Publishes broker events from a bounded queue in batches on a background thread. A batch which fails is retried
+ * from the first unpublished event, waiting twice as long before each retry.
+ */
+final class BatchingEventPublisher {
+    private static final Logger log = LoggerFactory.getLogger(BatchingEventPublisher.class);
+    private static final long POLL_INTERVAL = 100;
+    private static final long MAX_RETRY_INTERVAL = 30000;
+    private static final long SHUTDOWN_TIMEOUT = 10000;
+
+    private final BlockingQueue<PendingEvent> pendingEvents;
+    private final int batchSize;
+    private final int retryCount;
+    private final long retryInterval;
+    private final Thread publisherThread;
+    private volatile boolean running = true;
+
+    BatchingEventPublisher(int queueSize, int batchSize, int retryCount, long retryInterval) {
+        this.pendingEvents = new ArrayBlockingQueue<>(Math.max(1, queueSize));
+        this.batchSize = Math.max(1, batchSize);
+        this.retryCount = Math.max(0, retryCount);
+        this.retryInterval = Math.max(1, retryInterval);
+        this.publisherThread = new Thread(this::publishPendingEvents, "BrokerEventPublisher");
+        this.publisherThread.setDaemon(true);
+    }
+
+    void start() {
+        publisherThread.start();
+    }
+
+    /**
+     * Stop accepting events, and wait for the queued events to be published
+     */
+    void stop() {
+        running = false;
+        try {
+            publisherThread.join(SHUTDOWN_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (publisherThread.isAlive()) {
+            publisherThread.interrupt();
+            log.warn(pendingEvents.size() + " broker events were not published before shutdown");
+        }
+    }
+
+    /**
+     * Queue an event to be published
+     *
+     * @param topicName topic name
+     * @param message   serialized event
+     * @return false if the queue is full or the publisher is stopped
+     */
+    boolean offer(String topicName, String message) {
+        return running && pendingEvents.offer(new PendingEvent(topicName, message));
+    }
+
+    int getPendingEventCount() {
+        return pendingEvents.size();
+    }
+
+    private void publishPendingEvents() {
+        List<PendingEvent> batch = new ArrayList<>(batchSize);
+        while (running || !pendingEvents.isEmpty()) {
+            try {
+                PendingEvent event = pendingEvents.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+                if (event == null) {
+                    continue;
+                }
+                batch.add(event);
+                pendingEvents.drainTo(batch, batchSize - 1);
+                publishBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void publishBatch(List<PendingEvent> batch) throws InterruptedException {
+        Map<String, List<String>> messagesByTopic = new LinkedHashMap<>();
+        for (PendingEvent event : batch) {
+            messagesByTopic.computeIfAbsent(event.topicName, topic -> new ArrayList<>()).add(event.message);
+        }
+        for (Map.Entry<String, List<String>> entry : messagesByTopic.entrySet()) {
+            publishWithRetry(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void publishWithRetry(String topicName, List<String> messages) throws InterruptedException {
+        int published = 0;
+        int attempt = 0;
+        long waitTime = retryInterval;
+        while (published < messages.size()) {
+            BrokerUtil.PooledPublisher publisher = null;
+            try {
+                publisher = BrokerUtil.borrowPublisher(topicName);
+                while (published < messages.size()) {
+                    publisher.publish(messages.get(published));
+                    published++;
+                }
+                BrokerUtil.releasePublisher(topicName, publisher);
+            } catch (JMSException | BrokerException e) {
+                if (publisher != null) {
+                    BrokerUtil.discardPublisher(publisher);
+                }
+                if (attempt >= retryCount) {
+                    int failed = messages.size() - published;
+                    BrokerUtil.recordFailedEvents(failed);
+                    log.error("Error occurred while publishing " + failed + " events to JMS topic : " + topicName
+                            + " after " + attempt + " retries", e);
+                    return;
+                }
+                attempt++;
+                if (log.isDebugEnabled()) {
+                    log.debug("Retrying to publish events to JMS topic : " + topicName + " in " + waitTime + "ms");
+                }
+                try {
+                    Thread.sleep(waitTime);
+                } catch (InterruptedException ex) {
+                    BrokerUtil.recordFailedEvents(messages.size() - published);
+                    throw ex;
+                }
+                waitTime = Math.min(waitTime * 2, MAX_RETRY_INTERVAL);
+            }
+        }
+    }
+
+    private static final class PendingEvent {
+        private final String topicName;
+        private final String message;
+
+        private PendingEvent(String topicName, String message) {
+            this.topicName = topicName;
+            this.message = message;
+        }
+    }
+}
@@ -22,25 +22,51 @@ import com.google.gson.Gson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.wso2.carbon.apimgt.core.api.Broker;
+import org.wso2.carbon.apimgt.core.configuration.models.BrokerConfigurations;
 import org.wso2.carbon.apimgt.core.exception.BrokerException;
 import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
 import org.wso2.carbon.apimgt.core.exception.GatewayException;
+import org.wso2.carbon.apimgt.core.internal.ServiceReferenceHolder;
 import org.wso2.carbon.apimgt.core.models.events.GatewayEvent;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.jms.JMSException;
+import javax.jms.MessageListener;
 import javax.jms.Session;
-import javax.jms.TextMessage;
 import javax.jms.Topic;
 import javax.jms.TopicConnection;
 import javax.jms.TopicPublisher;
 import javax.jms.TopicSession;
+import javax.jms.TopicSubscriber;
 
 /**
  * The util class to handle broker related operations
+ * <p>
+ * Events are published over a single long lived broker connection. Sessions are not thread safe, so each topic has
+ * a pool of idle session/publisher pairs which are borrowed for a publish and returned afterwards. When a publish
+ * fails the connection is closed along with all pooled publishers, and a new connection is opened for the next
+ * publish. If asynchronous publishing is enabled in the broker configurations, events are queued and published in
+ * batches by a background thread instead.
  */
 public class BrokerUtil {
     private static final Logger log = LoggerFactory.getLogger(BrokerUtil.class);
+    private static final Gson gson = new Gson();
+    private static final ConcurrentMap<String, BlockingQueue<PooledPublisher>> publisherPools =
+            new ConcurrentHashMap<>();
+    private static final AtomicLong publishedEventCount = new AtomicLong();
+    private static final AtomicLong failedEventCount = new AtomicLong();
+    private static final AtomicLong totalPublishLatency = new AtomicLong();
     private static Broker broker;
+    private static volatile int publisherPoolSize = 1;
+    private static volatile TopicConnection publisherConnection;
+    private static volatile BatchingEventPublisher batchingEventPublisher;
 
     /**
      * Initialize Broker Utils
@@ -52,6 +78,46 @@ public class BrokerUtil {
             return;
         }
         BrokerUtil.broker = broker;
+        BrokerConfigurations brokerConfigurations = ServiceReferenceHolder.getInstance().getAPIMConfiguration()
+                .getBrokerConfigurations();
+        publisherPoolSize = Math.max(1, brokerConfigurations.getPublisherPoolSize());
+        if (brokerConfigurations.isAsyncPublishingEnabled()) {
+            BatchingEventPublisher eventPublisher = new BatchingEventPublisher(
+                    brokerConfigurations.getAsyncPublishQueueSize(), brokerConfigurations.getAsyncPublishBatchSize(),
+                    brokerConfigurations.getAsyncPublishRetryCount(),
+                    brokerConfigurations.getAsyncPublishRetryInterval());
+            eventPublisher.start();
+            batchingEventPublisher = eventPublisher;
+        }
+    }
+
+    /**
+     * Publish the queued events and close the broker connection used for publishing
+     */
+    public static void shutdown() {
+        BatchingEventPublisher eventPublisher = batchingEventPublisher;
+        batchingEventPublisher = null;
+        if (eventPublisher != null) {
+            eventPublisher.stop();
+        }
+        TopicConnection connection = publisherConnection;
+        if (connection != null) {
+            resetPublisherConnection(connection);
+        }
+    }
+
+    /**
+     * Publish the queued events, close the broker connection and forget the broker, so that the broker utils can be
+     * initialized again
+     */
+    static void clear() {
+        // the lock is taken after the shutdown, as the batching publisher needs it to publish the queued events
+        shutdown();
+        synchronized (BrokerUtil.class) {
+            broker = null;
+            publisherPools.clear();
+            publisherPoolSize = 1;
+        }
     }
 
     /**
@@ -61,51 +127,203 @@ public class BrokerUtil {
      * @param gatewayEvent    topic message data object
      */
     public static void publishToTopic(String topicName, GatewayEvent gatewayEvent) throws GatewayException {
-        TopicSession topicSession = null;
-        Topic topic = null;
-        TopicPublisher topicPublisher = null;
-        TopicConnection topicConnection = null;
-        try {
-            topicConnection = getTopicConnection();
-            topicConnection.start();
-            topicSession = topicConnection.createTopicSession(false, Session.AUTO_ACKNOWLEDGE);
+        String message = gson.toJson(gatewayEvent);
+        BatchingEventPublisher eventPublisher = batchingEventPublisher;
+        if (eventPublisher != null) {
+            if (!eventPublisher.offer(topicName, message)) {
+                failedEventCount.incrementAndGet();
+                String errorMessage = "Asynchronous publishing queue is full, could not publish " +
+                        gatewayEvent.getEventType() + " event to JMS topic : " + topicName;
+                log.error(errorMessage);
+                throw new GatewayException(errorMessage, ExceptionCodes.GATEWAY_EXCEPTION);
+            }
+            return;
+        }
 
-            topic = topicSession.createTopic(topicName);
-            topicPublisher = topicSession.createPublisher(topic);
-            TextMessage textMessage = topicSession.createTextMessage(new Gson().toJson(gatewayEvent));
-            topicPublisher.publish(textMessage);
+        PooledPublisher publisher = null;
+        try {
+            publisher = borrowPublisher(topicName);
+            publisher.publish(message);
+            releasePublisher(topicName, publisher);
         } catch (JMSException e) {
+            failedEventCount.incrementAndGet();
+            if (publisher != null) {
+                discardPublisher(publisher);
+            }
             String errorMessage = "Error occurred while publishing " + gatewayEvent.getEventType() + " event to JMS " +
                     "topic :" + topicName;
             log.error(errorMessage, e);
             throw new GatewayException(errorMessage, ExceptionCodes.GATEWAY_EXCEPTION);
         } catch (BrokerException e) {
+            failedEventCount.incrementAndGet();
             String errorMessage = "Error occurred while obtaining broker topic connection for topic : " + topicName;
             log.error(errorMessage, e);
             throw new GatewayException(errorMessage, ExceptionCodes.GATEWAY_EXCEPTION);
-        } finally {
-            if (topicPublisher != null) {
+        }
+    }
 
-                try {
-                    topicPublisher.close();
-                } catch (JMSException e) {
-                    log.error("Error occurred while closing topic publisher for topic : " + topicName);
-                }
-            }
-            if (topicSession != null) {
-                try {
-                    topicSession.close();
-                } catch (JMSException e) {
-                    log.error("Error occurred while closing topic session for topic : " + topicName);
-                }
-            }
+    /**
+     * Subscribe a listener to a broker topic. The returned connection stays open and delivers messages to the
+     * listener until it is closed by the caller.
+     *
+     * @param topicName       subscribing topic name
+     * @param messageListener listener which receives the messages published to the topic
+     * @return topic connection of the subscription
+     * @throws BrokerException if the subscription cannot be created
+     */
+    public static TopicConnection subscribeToTopic(String topicName, MessageListener messageListener)
+            throws BrokerException {
+        TopicConnection topicConnection = null;
+        try {
+            topicConnection = getTopicConnection();
+            TopicSession topicSession = topicConnection.createTopicSession(false, Session.AUTO_ACKNOWLEDGE);
+            Topic topic = topicSession.createTopic(topicName);
+            TopicSubscriber topicSubscriber = topicSession.createSubscriber(topic);
+            topicSubscriber.setMessageListener(messageListener);
+            topicConnection.start();
+            return topicConnection;
+        } catch (JMSException e) {
             if (topicConnection != null) {
                 try {
                     topicConnection.close();
-                } catch (JMSException e) {
+                } catch (JMSException ex) {
                     log.error("Error occurred while closing topic connection for topic : " + topicName);
                 }
             }
+            String errorMessage = "Error occurred while subscribing to JMS topic : " + topicName;
+            log.error(errorMessage, e);
+            throw new BrokerException(errorMessage, ExceptionCodes.BROKER_EXCEPTION);
+        }
+    }
+
+    /**
+     * @return number of events published to the broker
+     */
+    public static long getPublishedEventCount() {
+        return publishedEventCount.get();
+    }
+
+    /**
+     * @return number of events which could not be published to the broker
+     */
+    public static long getFailedEventCount() {
+        return failedEventCount.get();
+    }
+
+    /**
+     * @return average time in milliseconds taken to publish an event to the broker
+     */
+    public static double getAveragePublishLatency() {
+        long published = publishedEventCount.get();
+        if (published == 0) {
+            return 0;
+        }
+        return (double) totalPublishLatency.get() / published / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * @return number of events waiting to be published asynchronously
+     */
+    public static int getPendingEventCount() {
+        BatchingEventPublisher eventPublisher = batchingEventPublisher;
+        return eventPublisher == null ? 0 : eventPublisher.getPendingEventCount();
+    }
+
+    static void recordFailedEvents(int count) {
+        failedEventCount.addAndGet(count);
+    }
+
+    /**
+     * Borrow an idle publisher of a topic, or create one on the shared broker connection if there is none
+     *
+     * @param topicName topic name
+     * @return publisher of the topic, which should be given back with {@link #releasePublisher} or
+     * {@link #discardPublisher}
+     * @throws BrokerException If there is a failure to init broker connection factory
+     * @throws JMSException    If there is a failure to create the publisher
+     */
+    static PooledPublisher borrowPublisher(String topicName) throws BrokerException, JMSException {
+        PooledPublisher publisher = getPublisherPool(topicName).poll();
+        if (publisher != null) {
+            return publisher;
+        }
+        TopicConnection connection = getPublisherConnection();
+        TopicSession topicSession = connection.createTopicSession(false, Session.AUTO_ACKNOWLEDGE);
+        try {
+            Topic topic = topicSession.createTopic(topicName);
+            return new PooledPublisher(connection, topicSession, topicSession.createPublisher(topic));
+        } catch (JMSException e) {
+            topicSession.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Return a publisher to the pool of its topic after a successful publish
+     *
+     * @param topicName topic name
+     * @param publisher publisher borrowed for the topic
+     */
+    static void releasePublisher(String topicName, PooledPublisher publisher) {
+        boolean[] pooled = new boolean[1];
+        // the connection is checked while the pool is locked, so that a reset of the connection cannot drain the
+        // pool between the check and adding the publisher
+        publisherPools.computeIfPresent(topicName, (topic, pool) -> {
+            pooled[0] = publisher.connection == publisherConnection && pool.offer(publisher);
+            return pool;
+        });
+        if (!pooled[0]) {
+            publisher.close();
+        }
+    }
+
+    /**
+     * Close a publisher which failed to publish, along with the broker connection it was created on
+     *
+     * @param publisher publisher which failed
+     */
+    static void discardPublisher(PooledPublisher publisher) {
+        publisher.close();
+        resetPublisherConnection(publisher.connection);
+    }
+
+    private static BlockingQueue<PooledPublisher> getPublisherPool(String topicName) {
+        return publisherPools.computeIfAbsent(topicName, topic -> new ArrayBlockingQueue<>(publisherPoolSize));
+    }
+
+    private static synchronized TopicConnection getPublisherConnection() throws BrokerException, JMSException {
+        if (publisherConnection == null) {
+            TopicConnection connection = getTopicConnection();
+            connection.setExceptionListener(e -> {
+                log.error("Broker connection used for publishing failed", e);
+                resetPublisherConnection(connection);
+            });
+            connection.start();
+            publisherConnection = connection;
+        }
+        return publisherConnection;
+    }
+
+    private static synchronized void resetPublisherConnection(TopicConnection failedConnection) {
+        if (publisherConnection != failedConnection) {
+            return;
+        }
+        publisherConnection = null;
+        List<PooledPublisher> idlePublishers = new ArrayList<>();
+        for (String topicName : publisherPools.keySet()) {
+            // publishers released concurrently are either added before the pool is drained, or see the reset
+            publisherPools.computeIfPresent(topicName, (topic, pool) -> {
+                pool.drainTo(idlePublishers);
+                return pool;
+            });
+        }
+        for (PooledPublisher publisher : idlePublishers) {
+            publisher.close();
+        }
+        try {
+            failedConnection.close();
+        } catch (JMSException e) {
+            log.error("Error occurred while closing broker topic connection", e);
         }
     }
 
@@ -125,5 +343,39 @@ public class BrokerUtil {
         return broker.getTopicConnection();
     }
 
-}
+    /**
+     * Session and publisher of a topic, used by one thread at a time
+     */
+    static final class PooledPublisher {
+        private final TopicConnection connection;
+        private final TopicSession topicSession;
+        private final TopicPublisher topicPublisher;
+
+        private PooledPublisher(TopicConnection connection, TopicSession topicSession,
+                                TopicPublisher topicPublisher) {
+            this.connection = connection;
+            this.topicSession = topicSession;
+            this.topicPublisher = topicPublisher;
+        }
+
+        void publish(String message) throws JMSException {
+            long startTime = System.nanoTime();
+            topicPublisher.publish(topicSession.createTextMessage(message));
+            totalPublishLatency.addAndGet(System.nanoTime() - startTime);
+            publishedEventCount.incrementAndGet();
+        }
 
+        private void close() {
+            try {
+                topicPublisher.close();
+            } catch (JMSException e) {
+                log.error("Error occurred while closing topic publisher", e);
+            }
+            try {
+                topicSession.close();
+            } catch (JMSException e) {
+                log.error("Error occurred while closing topic session", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * Hashes used as cache keys, so that the cached content, or secrets such as access tokens, are not kept as keys.
+ */
+public class HashUtils {
+    private static final String SHA_256 = "SHA-256";
+
+    private HashUtils() {
+    }
+
+    /**
+     * Get the SHA-256 hash of a value
+     *
+     * @param value value to be hashed
+     * @return Base64 encoded SHA-256 hash of the UTF-8 bytes of the value
+     */
+    public static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(SHA_256);
+            return Base64.getEncoder().encodeToString(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(SHA_256 + " is not supported", e);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Size bounded, least recently used cache which loads missing or expired values with a single call per key, even
+ * when the key is requested by many threads at once. Threads requesting a key which is being loaded wait for the
+ * result of that load, or its failure. Failed loads are not cached.
+ * <p>
+ * The expiry time of a value is decided by an {@link ExpiryPolicy} when the value is loaded, and values which are
+ * already expired when loaded are not cached. When the cache is full, the least recently used entry is evicted.
+ *
+ * @param <K> type of the key
+ * @param <V> type of the value
+ */
+public final class LoadingCache<K, V> {
+    private final LinkedHashMap<K, CacheEntry<V>> entries;
+    private final ExpiryPolicy<V> expiryPolicy;
+
+    /**
+     * @param maxSize      maximum number of entries kept in the cache
+     * @param expiryPolicy policy deciding the expiry time of loaded values
+     */
+    public LoadingCache(int maxSize, ExpiryPolicy<V> expiryPolicy) {
+        this.expiryPolicy = expiryPolicy;
+        this.entries = new LinkedHashMap<K, CacheEntry<V>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * @param maxSize          maximum number of entries kept in the cache
+     * @param expiryTimeMillis time in milliseconds a value is served after it is loaded
+     * @param <K>              type of the key
+     * @param <V>              type of the value
+     * @return cache whose values expire a fixed time after they are loaded
+     */
+    public static <K, V> LoadingCache<K, V> expireAfterLoad(int maxSize, long expiryTimeMillis) {
+        return new LoadingCache<>(maxSize, (value, loadTime) -> loadTime + expiryTimeMillis);
+    }
+
+    /**
+     * Get the value of a key, loading it if it is not cached or expired
+     *
+     * @param key    key
+     * @param loader loader called on cache misses
+     * @param <E>    type of the exception thrown by the loader
+     * @return value of the key
+     * @throws E if the loader failed, either in this call or in a concurrent call this call waited for
+     */
+    public <E extends Exception> V get(K key, Loader<K, V, E> loader) throws E {
+        long now = System.currentTimeMillis();
+        CacheEntry<V> entry;
+        boolean cached;
+        synchronized (this) {
+            entry = entries.get(key);
+            cached = entry != null && entry.expiryTime >= now;
+            if (!cached) {
+                entry = new CacheEntry<>();
+                entries.put(key, entry);
+            }
+        }
+        return cached ? LoadingCache.<V, E>await(entry) : load(key, entry, loader, now);
+    }
+
+    /**
+     * @param key key to remove
+     */
+    public synchronized void remove(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Remove every entry
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * @return number of entries, including entries being loaded
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private <E extends Exception> V load(K key, CacheEntry<V> entry, Loader<K, V, E> loader, long loadTime)
+            throws E {
+        V value;
+        try {
+            value = loader.load(key);
+        } catch (Exception e) {
+            removeEntry(key, entry);
+            entry.value.completeExceptionally(e);
+            throw e;
+        }
+        entry.value.complete(value);
+        long expiryTime = expiryPolicy.getExpiryTime(value, loadTime);
+        if (expiryTime > System.currentTimeMillis()) {
+            entry.expiryTime = expiryTime;
+        } else {
+            removeEntry(key, entry);
+        }
+        return value;
+    }
+
+    private synchronized void removeEntry(K key, CacheEntry<V> entry) {
+        if (entries.get(key) == entry) {
+            entries.remove(key);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V, E extends Exception> V await(CacheEntry<V> entry) throws E {
+        try {
+            return entry.value.join();
+        } catch (CompletionException e) {
+            // completed exceptionally only by the loader, which throws E or unchecked exceptions
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw (E) cause;
+        }
+    }
+
+    /**
+     * Loads the value of a key
+     *
+     * @param <K> type of the key
+     * @param <V> type of the value
+     * @param <E> type of the exception thrown on failure
+     */
+    @FunctionalInterface
+    public interface Loader<K, V, E extends Exception> {
+
+        /**
+         * @param key key
+         * @return value of the key
+         * @throws E if failed to load the value
+         */
+        V load(K key) throws E;
+    }
+
+    /**
+     * Decides how long a loaded value is served
+     *
+     * @param <V> type of the value
+     */
+    @FunctionalInterface
+    public interface ExpiryPolicy<V> {
+
+        /**
+         * @param value    loaded value
+         * @param loadTime time in milliseconds the load started at
+         * @return time in milliseconds since the epoch the value expires at, the value is not cached if this is not
+         * in the future
+         */
+        long getExpiryTime(V value, long loadTime);
+    }
+
+    private static final class CacheEntry<V> {
+        private final CompletableFuture<V> value = new CompletableFuture<>();
+        // Entries being loaded are not expired, so concurrent requests wait for the result
+        private volatile long expiryTime = Long.MAX_VALUE;
+    }
+}
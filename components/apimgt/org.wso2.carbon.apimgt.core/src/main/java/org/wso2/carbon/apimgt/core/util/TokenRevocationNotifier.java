@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.apimgt.core.api.TokenRevocationListener;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Notifies the registered {@link TokenRevocationListener}s of access tokens revoked by the key managers.
+ */
+public final class TokenRevocationNotifier {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationNotifier.class);
+    private static final List<TokenRevocationListener> listeners = new CopyOnWriteArrayList<>();
+
+    private TokenRevocationNotifier() {
+    }
+
+    /**
+     * Register a listener of revoked tokens
+     *
+     * @param listener listener to register
+     */
+    public static void addListener(TokenRevocationListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Remove a registered listener of revoked tokens
+     *
+     * @param listener listener to remove
+     */
+    public static void removeListener(TokenRevocationListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Notify the registered listeners of a revoked token. A failing listener does not stop the others from being
+     * notified.
+     *
+     * @param accessToken revoked access token
+     */
+    public static void notifyTokenRevoked(String accessToken) {
+        if (accessToken == null) {
+            return;
+        }
+        for (TokenRevocationListener listener : listeners) {
+            try {
+                listener.tokenRevoked(accessToken);
+            } catch (RuntimeException e) {
+                log.error("Error while notifying token revocation to " + listener.getClass().getName(), e);
+            }
+        }
+    }
+}
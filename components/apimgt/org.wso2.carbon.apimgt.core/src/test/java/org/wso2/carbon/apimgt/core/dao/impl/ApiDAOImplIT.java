@@ -27,6 +27,7 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 import org.wso2.carbon.apimgt.core.SampleTestObjectCreator;
 import org.wso2.carbon.apimgt.core.TestUtil;
+import org.wso2.carbon.apimgt.core.dao.AnalyticsDAO;
 import org.wso2.carbon.apimgt.core.dao.ApiDAO;
 import org.wso2.carbon.apimgt.core.dao.LabelDAO;
 import org.wso2.carbon.apimgt.core.dao.PolicyDAO;
@@ -41,6 +42,7 @@ import org.wso2.carbon.apimgt.core.models.DedicatedGateway;
 import org.wso2.carbon.apimgt.core.models.DocumentInfo;
 import org.wso2.carbon.apimgt.core.models.Endpoint;
 import org.wso2.carbon.apimgt.core.models.Label;
+import org.wso2.carbon.apimgt.core.models.PageCursor;
 import org.wso2.carbon.apimgt.core.models.Rating;
 import org.wso2.carbon.apimgt.core.models.UriTemplate;
 import org.wso2.carbon.apimgt.core.util.APIComparator;
@@ -56,6 +58,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.HashMap;
@@ -541,6 +544,34 @@ public class ApiDAOImplIT extends DAOIntegrationTestBase {
                 TestUtil.printDiff(apiList, expectedAPIs));
     }
 
+    @Test(description = "Tests getting the APIs page by page")
+    public void testGetAPIsPaginated() throws Exception {
+        ApiDAO apiDAO = new DAOFactory().getApiDAO();
+
+        API api1 = SampleTestObjectCreator.createDefaultAPI().build();
+        testAddGetEndpoint();
+        apiDAO.addAPI(api1);
+        API api2 = SampleTestObjectCreator.createAlternativeAPI().build();
+        apiDAO.addAPI(api2);
+
+        List<API> expectedAPIs = new ArrayList<>();
+        expectedAPIs.add(SampleTestObjectCreator.copyAPISummary(api1));
+        expectedAPIs.add(SampleTestObjectCreator.copyAPISummary(api2));
+        expectedAPIs.sort(Comparator.comparing(API::getName).thenComparing(API::getId));
+
+        List<API> firstPage = apiDAO.getAPIs(new HashSet<>(), ADMIN, null, 1);
+        Assert.assertEquals(firstPage.size(), 1);
+        Assert.assertEquals(firstPage.get(0).getId(), expectedAPIs.get(0).getId());
+
+        PageCursor cursor = new PageCursor(firstPage.get(0).getName(), firstPage.get(0).getId());
+        List<API> secondPage = apiDAO.getAPIs(new HashSet<>(), ADMIN, cursor, 1);
+        Assert.assertEquals(secondPage.size(), 1);
+        Assert.assertEquals(secondPage.get(0).getId(), expectedAPIs.get(1).getId());
+
+        cursor = new PageCursor(secondPage.get(0).getName(), secondPage.get(0).getId());
+        Assert.assertTrue(apiDAO.getAPIs(new HashSet<>(), ADMIN, cursor, 1).isEmpty());
+    }
+
     @Test(description = "Tests getting the APIs when the user has roles assigned")
     public void testGetAPIsWithUserRoles() throws Exception {
         ApiDAO apiDAO = new DAOFactory().getApiDAO();
@@ -1141,6 +1172,54 @@ public class ApiDAOImplIT extends DAOIntegrationTestBase {
         Assert.assertTrue(apiList.size() > 0);
     }
 
+    @Test(description = "DAO instances are reused without probing the datasource for the DB vendor")
+    public void testDAOInstancesAreReused() throws Exception {
+        ApiDAO apiDAO = new DAOFactory().getApiDAO();
+        PolicyDAO policyDAO = new DAOFactory().getPolicyDAO();
+        AnalyticsDAO analyticsDAO = new DAOFactory().getAnalyticsDAO();
+        Assert.assertSame(new DAOFactory().getApiDAO(), apiDAO);
+        Assert.assertSame(new DAOFactory().getPolicyDAO(), policyDAO);
+        Assert.assertSame(new DAOFactory().getAnalyticsDAO(), analyticsDAO);
+    }
+
+    @Test(description = "Retrieve details of paginated data of all available APIs that match the given search criteria")
+    public void testAttributeSearchAPIsExpanded() throws Exception {
+        ApiDAO apiDAO = new DAOFactory().getApiDAO();
+        testAddGetEndpoint();
+        API api = SampleTestObjectCreator.createDefaultAPI().build();
+        apiDAO.addAPI(api);
+        Set<String> roles = new HashSet<>();
+        Map<SearchType, String> attributeMap = new EnumMap<>(SearchType.class);
+        attributeMap.put(SearchType.fromString("name"), api.getName());
+        List<API> apiList = apiDAO.attributeSearchAPIs(roles, api.getProvider(), attributeMap, null, 0, 2, true);
+        Assert.assertEquals(apiList.size(), 1);
+        API apiFromDB = apiDAO.getAPI(api.getId());
+        Assert.assertTrue(apiFromDB.equals(apiList.get(0)), TestUtil.printDiff(apiFromDB, apiList.get(0)));
+    }
+
+    @Test(description = "Retrieve details of several APIs that match the given search criteria in one batch")
+    public void testAttributeSearchMultipleAPIsExpanded() throws Exception {
+        ApiDAO apiDAO = new DAOFactory().getApiDAO();
+        testAddGetEndpoint();
+        API api1 = SampleTestObjectCreator.createDefaultAPI().build();
+        apiDAO.addAPI(api1);
+        API api2 = SampleTestObjectCreator.createAlternativeAPI().build();
+        apiDAO.addAPI(api2);
+        Set<String> roles = new HashSet<>();
+        Map<SearchType, String> attributeMap = new EnumMap<>(SearchType.class);
+        attributeMap.put(SearchType.PROVIDER, api1.getProvider());
+        List<API> apiList = apiDAO.attributeSearchAPIs(roles, api1.getProvider(), attributeMap, null, 0, 10, true);
+        Assert.assertEquals(apiList.size(), 2);
+        Set<String> apiIds = new HashSet<>();
+        for (API api : apiList) {
+            // child table rows of the batch are matched to the API they belong to
+            API apiFromDB = apiDAO.getAPI(api.getId());
+            Assert.assertTrue(apiFromDB.equals(api), TestUtil.printDiff(apiFromDB, api));
+            apiIds.add(api.getId());
+        }
+        Assert.assertEquals(apiIds, new HashSet<>(Arrays.asList(api1.getId(), api2.getId())));
+    }
+
     @Test(description = "Get image from API")
     public void testGetImage() throws Exception {
         ApiDAO apiDAO = new DAOFactory().getApiDAO();
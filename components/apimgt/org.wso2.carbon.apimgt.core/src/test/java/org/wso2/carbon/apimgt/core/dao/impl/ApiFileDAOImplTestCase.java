@@ -30,12 +30,17 @@ import org.wso2.carbon.apimgt.core.SampleTestObjectCreator;
 import org.wso2.carbon.apimgt.core.TestUtil;
 import org.wso2.carbon.apimgt.core.dao.ApiDAO;
 import org.wso2.carbon.apimgt.core.models.API;
+import org.wso2.carbon.apimgt.core.models.APIStatus;
+import org.wso2.carbon.apimgt.core.models.PageCursor;
 import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 
 
 public class ApiFileDAOImplTestCase {
@@ -138,4 +143,32 @@ public class ApiFileDAOImplTestCase {
         InputStream image = apiDAO.getImage(api.getId());
         Assert.assertNotNull(image);
     }
+
+    @Test(description = "Get pages of APIs after a cursor")
+    public void testGetAPIsAfterCursor() throws Exception {
+        ApiDAO apiDAO = new DAOFactory().getApiDAO();
+        API apiA = SampleTestObjectCreator.createDefaultAPI().name("ApiA").context("/apiA")
+                .lifeCycleStatus(APIStatus.PUBLISHED.getStatus()).build();
+        API apiB = SampleTestObjectCreator.createDefaultAPI().name("ApiB").context("/apiB")
+                .lifeCycleStatus(APIStatus.CREATED.getStatus()).build();
+        API apiC = SampleTestObjectCreator.createDefaultAPI().name("ApiC").context("/apiC")
+                .lifeCycleStatus(APIStatus.PUBLISHED.getStatus()).build();
+        apiDAO.addAPI(apiC);
+        apiDAO.addAPI(apiA);
+        apiDAO.addAPI(apiB);
+
+        List<API> firstPage = apiDAO.getAPIs(new HashSet<>(), ADMIN, null, 2);
+        Assert.assertEquals(firstPage.size(), 2);
+        Assert.assertEquals(firstPage.get(0).getId(), apiA.getId());
+        Assert.assertEquals(firstPage.get(1).getId(), apiB.getId());
+        List<API> secondPage = apiDAO.getAPIs(new HashSet<>(), ADMIN, new PageCursor("ApiB", apiB.getId()), 2);
+        Assert.assertEquals(secondPage.size(), 1);
+        Assert.assertEquals(secondPage.get(0).getId(), apiC.getId());
+
+        List<API> publishedAPIs = apiDAO.getAPIsByStatus(new HashSet<>(),
+                Collections.singleton(APIStatus.PUBLISHED), new HashSet<>(), new PageCursor("ApiA", apiA.getId()), 2);
+        Assert.assertEquals(publishedAPIs.size(), 1);
+        Assert.assertEquals(publishedAPIs.get(0).getId(), apiC.getId());
+        Assert.assertTrue(apiDAO.getCompositeAPIs(new HashSet<>(), ADMIN, null, 2).isEmpty());
+    }
 }
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.dao.impl;
+
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.apimgt.core.SampleTestObjectCreator;
+import org.wso2.carbon.apimgt.core.dao.ApiDAO;
+import org.wso2.carbon.apimgt.core.models.API;
+import org.wso2.carbon.apimgt.core.models.APIStatus;
+import org.wso2.carbon.apimgt.core.models.DedicatedGateway;
+import org.wso2.carbon.apimgt.core.util.APIMgtConstants.APILCWorkflowStatus;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+public class CachingApiDAOTestCase {
+
+    @Test
+    public void testGetAPIServedFromCache() throws Exception {
+        ApiDAO apiDAO = Mockito.mock(ApiDAO.class);
+        API api = SampleTestObjectCreator.createDefaultAPI().build();
+        Mockito.when(apiDAO.getAPI(api.getId())).thenReturn(api);
+        CachingApiDAO cachingApiDAO = new CachingApiDAO(apiDAO, 10, 10, 300);
+
+        API first = cachingApiDAO.getAPI(api.getId());
+        API second = cachingApiDAO.getAPI(api.getId());
+
+        Mockito.verify(apiDAO, Mockito.times(1)).getAPI(api.getId());
+        Assert.assertEquals(first, api);
+        Assert.assertEquals(second, api);
+        Assert.assertNotSame(first, second);
+    }
+
+    @Test
+    public void testCachedAPINotAffectedByCallerChanges() throws Exception {
+        ApiDAO apiDAO = Mockito.mock(ApiDAO.class);
+        API api = SampleTestObjectCreator.createDefaultAPI().build();
+        Mockito.when(apiDAO.getAPI(api.getId())).thenReturn(api);
+        CachingApiDAO cachingApiDAO = new CachingApiDAO(apiDAO, 10, 10, 300);
+
+        cachingApiDAO.getAPI(api.getId()).setUserSpecificApiPermissions(Collections.singletonList("UPDATE"));
+
+        Assert.assertNotEquals(cachingApiDAO.getAPI(api.getId()).getUserSpecificApiPermissions(),
+                Collections.singletonList("UPDATE"));
+    }
+
+    @Test
+    public void testAPIInvalidatedOnUpdate() throws Exception {
+        ApiDAO apiDAO = Mockito.mock(ApiDAO.class);
+        API api = SampleTestObjectCreator.createDefaultAPI().build();
+        API updatedAPI = SampleTestObjectCreator.createDefaultAPI().id(api.getId()).description("updated").build();
+        Mockito.when(apiDAO.getAPI(api.getId())).thenReturn(api, updatedAPI);
+        CachingApiDAO cachingApiDAO = new CachingApiDAO(apiDAO, 10, 10, 300);
+
+        cachingApiDAO.getAPI(api.getId());
+        cachingApiDAO.updateAPI(api.getId(), updatedAPI);
+
+        Assert.assertEquals(cachingApiDAO.getAPI(api.getId()).getDescription(), "updated");
+        Mockito.verify(apiDAO, Mockito.times(2)).getAPI(api.getId());
+    }
+
+    @Test
+    public void testAPIInvalidatedOnLifeCycleChange() throws Exception {
+        ApiDAO apiDAO = Mockito.mock(ApiDAO.class);
+        API api = SampleTestObjectCreator.createDefaultAPI().build();
+        Mockito.when(apiDAO.getAPI(api.getId())).thenReturn(api);
+        Mockito.when(apiDAO.getLastUpdatedTimeOfAPI(api.getId())).thenReturn("1");
+        CachingApiDAO cachingApiDAO = new CachingApiDAO(apiDAO, 10, 10, 300);
+
+        cachingApiDAO.getAPI(api.getId());
+        cachingApiDAO.getLastUpdatedTimeOfAPI(api.getId());
+        cachingApiDAO.changeLifeCycleStatus(api.getId(), APIStatus.PUBLISHED.getStatus());
+        cachingApiDAO.getAPI(api.getId());
+        cachingApiDAO.getLastUpdatedTimeOfAPI(api.getId());
+
+        Mockito.verify(apiDAO, Mockito.times(2)).getAPI(api.getId());
+        Mockito.verify(apiDAO, Mockito.times(2)).getLastUpdatedTimeOfAPI(api.getId());
+    }
+
+    @Test
+    public void testStoreListingInvalidatedOnAPIChange() throws Exception {
+        ApiDAO apiDAO = Mockito.mock(ApiDAO.class);
+        API api = SampleTestObjectCreator.createDefaultAPI().build();
+        Set<String> roles = Collections.singleton("subscriber");
+        Set<APIStatus> statuses = Collections.singleton(APIStatus.PUBLISHED);
+        Set<String> labels = Collections.singleton("Default");
+        Mockito.when(apiDAO.getAPIsByStatus(roles, statuses, labels)).thenReturn(Collections.singletonList(api));
+        CachingApiDAO cachingApiDAO = new CachingApiDAO(apiDAO, 10, 10, 300);
+
+        List<API> apis = cachingApiDAO.getAPIsByStatus(roles, statuses, labels);
+        cachingApiDAO.getAPIsByStatus(roles, statuses, labels);
+        Mockito.verify(apiDAO, Mockito.times(1)).getAPIsByStatus(roles, statuses, labels);
+        Assert.assertEquals(apis.size(), 1);
+        Assert.assertEquals(apis.get(0), api);
+
+        cachingApiDAO.deleteAPI(api.getId());
+        cachingApiDAO.getAPIsByStatus(roles, statuses, labels);
+        Mockito.verify(apiDAO, Mockito.times(2)).getAPIsByStatus(roles, statuses, labels);
+    }
+
+    @Test
+    public void testCacheIsBounded() throws Exception {
+        ApiDAO apiDAO = Mockito.mock(ApiDAO.class);
+        API first = SampleTestObjectCreator.createDefaultAPI().build();
+        API second = SampleTestObjectCreator.createUniqueAPI().build();
+        Mockito.when(apiDAO.getAPI(first.getId())).thenReturn(first);
+        Mockito.when(apiDAO.getAPI(second.getId())).thenReturn(second);
+        CachingApiDAO cachingApiDAO = new CachingApiDAO(apiDAO, 1, 1, 300);
+
+        cachingApiDAO.getAPI(first.getId());
+        cachingApiDAO.getAPI(second.getId());
+        cachingApiDAO.getAPI(first.getId());
+
+        Mockito.verify(apiDAO, Mockito.times(2)).getAPI(first.getId());
+        Mockito.verify(apiDAO, Mockito.times(1)).getAPI(second.getId());
+    }
+
+    @Test
+    public void testInvalidateAll() throws Exception {
+        ApiDAO apiDAO = Mockito.mock(ApiDAO.class);
+        API api = SampleTestObjectCreator.createDefaultAPI().build();
+        Mockito.when(apiDAO.getAPI(api.getId())).thenReturn(api);
+        CachingApiDAO cachingApiDAO = new CachingApiDAO(apiDAO, 10, 10, 300);
+
+        cachingApiDAO.getAPI(api.getId());
+        cachingApiDAO.invalidateAll();
+        cachingApiDAO.getAPI(api.getId());
+
+        Mockito.verify(apiDAO, Mockito.times(2)).getAPI(api.getId());
+    }
+
+    @DataProvider(name = "apiWrites")
+    public Object[][] apiWrites() {
+        return new Object[][]{
+                {"updateAPI", (CacheWrite) (dao, apiId) ->
+                        dao.updateAPI(apiId, SampleTestObjectCreator.createDefaultAPI().id(apiId).build())},
+                {"deleteAPI", (CacheWrite) CachingApiDAO::deleteAPI},
+                {"deleteCompositeApi", (CacheWrite) CachingApiDAO::deleteCompositeApi},
+                {"updateImage", (CacheWrite) (dao, apiId) ->
+                        dao.updateImage(apiId, new ByteArrayInputStream(new byte[0]), "image/png", "admin")},
+                {"changeLifeCycleStatus", (CacheWrite) (dao, apiId) ->
+                        dao.changeLifeCycleStatus(apiId, APIStatus.PUBLISHED.getStatus())},
+                {"updateApiDefinition", (CacheWrite) (dao, apiId) -> dao.updateApiDefinition(apiId, "{}", "admin")},
+                {"addOrUpdateWSDL", (CacheWrite) (dao, apiId) -> dao.addOrUpdateWSDL(apiId, new byte[0], "admin")},
+                {"addOrUpdateWSDLArchive", (CacheWrite) (dao, apiId) ->
+                        dao.addOrUpdateWSDLArchive(apiId, new ByteArrayInputStream(new byte[0]), "admin")},
+                {"removeWSDL", (CacheWrite) CachingApiDAO::removeWSDL},
+                {"removeWSDLArchiveOfAPI", (CacheWrite) CachingApiDAO::removeWSDLArchiveOfAPI},
+                {"updateGatewayConfig", (CacheWrite) (dao, apiId) -> dao.updateGatewayConfig(apiId, "", "admin")},
+                {"updateAPIWorkflowStatus", (CacheWrite) (dao, apiId) ->
+                        dao.updateAPIWorkflowStatus(apiId, APILCWorkflowStatus.APPROVED)},
+                {"updateDedicatedGateway", (CacheWrite) (dao, apiId) -> {
+                    DedicatedGateway dedicatedGateway = new DedicatedGateway();
+                    dedicatedGateway.setApiId(apiId);
+                    dao.updateDedicatedGateway(dedicatedGateway, Collections.emptyList());
+                }}
+        };
+    }
+
+    @Test(dataProvider = "apiWrites")
+    public void testAPIWriteInvalidatesAndPublishesAPI(String write, CacheWrite cacheWrite) throws Exception {
+        ApiDAO apiDAO = Mockito.mock(ApiDAO.class);
+        API api = SampleTestObjectCreator.createDefaultAPI().build();
+        Mockito.when(apiDAO.getAPI(api.getId())).thenReturn(api);
+        List<String> published = new ArrayList<>();
+        CachingApiDAO cachingApiDAO = new CachingApiDAO(apiDAO, 10, 10, 300, published::add);
+
+        cachingApiDAO.getAPI(api.getId());
+        cacheWrite.apply(cachingApiDAO, api.getId());
+        cachingApiDAO.getAPI(api.getId());
+
+        Mockito.verify(apiDAO, Mockito.times(2)).getAPI(api.getId());
+        Assert.assertEquals(published, Collections.singletonList(api.getId()), write);
+    }
+
+    @DataProvider(name = "sharedWrites")
+    public Object[][] sharedWrites() {
+        return new Object[][]{
+                {"deprecateOlderVersions", (CacheWrite) (dao, apiId) -> dao.deprecateOlderVersions(apiId)},
+                {"deleteEndpoint", (CacheWrite) (dao, apiId) ->
+                        dao.deleteEndpoint(SampleTestObjectCreator.createMockEndpoint().getId())},
+                {"updateEndpoint", (CacheWrite) (dao, apiId) ->
+                        dao.updateEndpoint(SampleTestObjectCreator.createUpdatedEndpoint())}
+        };
+    }
+
+    @Test(dataProvider = "sharedWrites")
+    public void testSharedWriteInvalidatesAndPublishesAllAPIs(String write, CacheWrite cacheWrite) throws Exception {
+        ApiDAO apiDAO = Mockito.mock(ApiDAO.class);
+        API api = SampleTestObjectCreator.createDefaultAPI().build();
+        Mockito.when(apiDAO.getAPI(api.getId())).thenReturn(api);
+        List<String> published = new ArrayList<>();
+        CachingApiDAO cachingApiDAO = new CachingApiDAO(apiDAO, 10, 10, 300, published::add);
+
+        cachingApiDAO.getAPI(api.getId());
+        cacheWrite.apply(cachingApiDAO, api.getId());
+        cachingApiDAO.getAPI(api.getId());
+
+        Mockito.verify(apiDAO, Mockito.times(2)).getAPI(api.getId());
+        Assert.assertEquals(published, Collections.singletonList(null), write);
+    }
+
+    @Test
+    public void testAddAPIPublishesListingInvalidation() throws Exception {
+        ApiDAO apiDAO = Mockito.mock(ApiDAO.class);
+        API api = SampleTestObjectCreator.createDefaultAPI().build();
+        Set<String> roles = Collections.singleton("subscriber");
+        Set<APIStatus> statuses = Collections.singleton(APIStatus.PUBLISHED);
+        Set<String> labels = Collections.singleton("Default");
+        List<String> published = new ArrayList<>();
+        CachingApiDAO cachingApiDAO = new CachingApiDAO(apiDAO, 10, 10, 300, published::add);
+
+        cachingApiDAO.getAPIsByStatus(roles, statuses, labels);
+        cachingApiDAO.addAPI(api);
+        cachingApiDAO.getAPIsByStatus(roles, statuses, labels);
+
+        Mockito.verify(apiDAO, Mockito.times(2)).getAPIsByStatus(roles, statuses, labels);
+        Assert.assertEquals(published, Collections.singletonList(api.getId()));
+    }
+
+    @Test
+    public void testLocalInvalidationIsNotPublished() throws Exception {
+        List<String> published = new ArrayList<>();
+        CachingApiDAO cachingApiDAO = new CachingApiDAO(Mockito.mock(ApiDAO.class), 10, 10, 300, published::add);
+
+        cachingApiDAO.invalidate("apiId");
+        cachingApiDAO.invalidateAll();
+
+        Assert.assertTrue(published.isEmpty());
+    }
+
+    /**
+     * A write through the caching DAO, applied to a given API
+     */
+    interface CacheWrite {
+        void apply(CachingApiDAO cachingApiDAO, String apiId) throws Exception;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.dao.impl;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.apimgt.core.dao.GatewayChangeLogDAO;
+import org.wso2.carbon.apimgt.core.models.events.GatewayChange;
+import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class GatewayChangeLogDAOImplIT extends DAOIntegrationTestBase {
+
+    @Test
+    public void testAddAndGetChanges() throws Exception {
+        GatewayChangeLogDAO gatewayChangeLogDAO = new DAOFactory().getGatewayChangeLogDAO();
+        long startRevision = gatewayChangeLogDAO.getLatestRevision();
+
+        String subscriptionEvent = "{\"eventType\":\"SUBSCRIPTION_CREATE\",\"subscriptionsList\":[]}";
+        String policyEvent = "{\"eventType\":\"POLICY_CREATE\",\"name\":\"Gold\"}";
+        long subscriptionRevision = gatewayChangeLogDAO.addChange(
+                APIMgtConstants.GatewayEventTypes.SUBSCRIPTION_CREATE, subscriptionEvent);
+        long policyRevision = gatewayChangeLogDAO.addChange(APIMgtConstants.GatewayEventTypes.POLICY_CREATE,
+                policyEvent);
+        Assert.assertTrue(subscriptionRevision > startRevision);
+        Assert.assertTrue(policyRevision > subscriptionRevision);
+        Assert.assertEquals(gatewayChangeLogDAO.getLatestRevision(), policyRevision);
+
+        List<GatewayChange> changes = gatewayChangeLogDAO.getChangesSince(startRevision, 0);
+        Assert.assertEquals(changes.size(), 2);
+        Assert.assertEquals(changes.get(0).getRevision(), subscriptionRevision);
+        Assert.assertEquals(changes.get(0).getEventType(), APIMgtConstants.GatewayEventTypes.SUBSCRIPTION_CREATE);
+        Assert.assertEquals(changes.get(0).getEvent(), subscriptionEvent);
+        Assert.assertNotNull(changes.get(0).getCreatedTime());
+        Assert.assertEquals(changes.get(1).getRevision(), policyRevision);
+        Assert.assertEquals(changes.get(1).getEvent(), policyEvent);
+
+        //limit the number of changes
+        changes = gatewayChangeLogDAO.getChangesSince(startRevision, 1);
+        Assert.assertEquals(changes.size(), 1);
+        Assert.assertEquals(changes.get(0).getRevision(), subscriptionRevision);
+
+        //a gateway which is up to date gets no changes
+        Assert.assertTrue(gatewayChangeLogDAO.getChangesSince(policyRevision, 0).isEmpty());
+    }
+
+    @Test
+    public void testConcurrentChangesAreVisibleInRevisionOrder() throws Exception {
+        GatewayChangeLogDAO gatewayChangeLogDAO = new DAOFactory().getGatewayChangeLogDAO();
+        long startRevision = gatewayChangeLogDAO.getLatestRevision();
+        int writers = 4;
+        int changesPerWriter = 20;
+        String event = "{\"eventType\":\"POLICY_CREATE\",\"name\":\"Gold\"}";
+
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < writers; i++) {
+            results.add(executor.submit(() -> {
+                for (int j = 0; j < changesPerWriter; j++) {
+                    gatewayChangeLogDAO.addChange(APIMgtConstants.GatewayEventTypes.POLICY_CREATE, event);
+                }
+                return null;
+            }));
+        }
+        //a reader following the log while changes are being added never sees a gap in the revisions
+        long seen = startRevision;
+        while (seen < startRevision + writers * changesPerWriter) {
+            boolean writersDone = results.stream().allMatch(Future::isDone);
+            List<GatewayChange> changes = gatewayChangeLogDAO.getChangesSince(seen, 0);
+            for (GatewayChange change : changes) {
+                Assert.assertEquals(change.getRevision(), seen + 1);
+                seen = change.getRevision();
+            }
+            if (changes.isEmpty() && writersDone) {
+                break;
+            }
+        }
+        for (Future<?> result : results) {
+            result.get(1, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+        Assert.assertEquals(gatewayChangeLogDAO.getLatestRevision(), startRevision + writers * changesPerWriter);
+    }
+}
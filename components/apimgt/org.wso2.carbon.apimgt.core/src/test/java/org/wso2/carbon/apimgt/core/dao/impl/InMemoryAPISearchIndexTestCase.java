@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.dao.impl;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.apimgt.core.models.API;
+import org.wso2.carbon.apimgt.core.models.APIStatus;
+import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class InMemoryAPISearchIndexTestCase {
+
+    private static final Set<String> NO_ROLES = Collections.emptySet();
+    private static final Set<String> ALL_LABELS = Collections.emptySet();
+
+    private static API.APIBuilder createAPI(String id, String name, String description) {
+        return new API.APIBuilder("admin", name, "1.0.0")
+                .id(id)
+                .context("/" + name.toLowerCase())
+                .description(description)
+                .lifeCycleStatus(APIStatus.PUBLISHED.getStatus())
+                .tags(new HashSet<>(Collections.singletonList("climate")))
+                .storeLabels(Collections.singletonList("Public"))
+                .visibility(API.Visibility.PUBLIC)
+                .visibleRoles(new HashSet<>())
+                .permissionMap(new HashMap<>());
+    }
+
+    @Test
+    public void testSearchByPrefixOfAnyField() {
+        InMemoryAPISearchIndex searchIndex = new InMemoryAPISearchIndex();
+        searchIndex.addOrUpdateAPI(createAPI("1", "WeatherAPI", "Get Weather Info").build());
+        searchIndex.addOrUpdateAPI(createAPI("2", "StockAPI", "Get stock quotes").tags(new HashSet<>()).build());
+
+        Assert.assertEquals(searchIndex.searchAPIs(NO_ROLES, "admin", "weath", 0, 10),
+                Collections.singletonList("1"));
+        Assert.assertEquals(searchIndex.searchAPIs(NO_ROLES, "admin", "QUOTES", 0, 10),
+                Collections.singletonList("2"));
+        Assert.assertEquals(searchIndex.searchAPIs(NO_ROLES, "admin", "clim", 0, 10),
+                Collections.singletonList("1"));
+        Assert.assertEquals(searchIndex.searchAPIs(NO_ROLES, "admin", "get info", 0, 10),
+                Collections.singletonList("1"));
+        Assert.assertEquals(searchIndex.searchAPIs(NO_ROLES, "admin", "get", 0, 10), Arrays.asList("2", "1"));
+        Assert.assertTrue(searchIndex.searchAPIs(NO_ROLES, "admin", "unknown", 0, 10).isEmpty());
+    }
+
+    @Test
+    public void testResultsArePagedInNameOrder() {
+        InMemoryAPISearchIndex searchIndex = new InMemoryAPISearchIndex();
+        searchIndex.addOrUpdateAPI(createAPI("1", "Charlie", "sample").build());
+        searchIndex.addOrUpdateAPI(createAPI("2", "Alpha", "sample").build());
+        searchIndex.addOrUpdateAPI(createAPI("3", "Bravo", "sample").build());
+
+        Assert.assertEquals(searchIndex.searchAPIs(NO_ROLES, "admin", "sample", 0, 2), Arrays.asList("2", "3"));
+        Assert.assertEquals(searchIndex.searchAPIs(NO_ROLES, "admin", "sample", 2, 2),
+                Collections.singletonList("1"));
+        Assert.assertTrue(searchIndex.searchAPIs(NO_ROLES, "admin", "sample", 3, 2).isEmpty());
+    }
+
+    @Test
+    public void testUpdateAndRemove() {
+        InMemoryAPISearchIndex searchIndex = new InMemoryAPISearchIndex();
+        searchIndex.addOrUpdateAPI(createAPI("1", "WeatherAPI", "Get Weather Info").build());
+        searchIndex.addOrUpdateAPI(createAPI("1", "WeatherAPI", "Get Forecast").build());
+
+        Assert.assertTrue(searchIndex.searchAPIs(NO_ROLES, "admin", "info", 0, 10).isEmpty());
+        Assert.assertEquals(searchIndex.searchAPIs(NO_ROLES, "admin", "forecast", 0, 10),
+                Collections.singletonList("1"));
+
+        searchIndex.removeAPI("1");
+        Assert.assertTrue(searchIndex.searchAPIs(NO_ROLES, "admin", "weather", 0, 10).isEmpty());
+    }
+
+    @Test
+    public void testReplaceAllAPIs() {
+        InMemoryAPISearchIndex searchIndex = new InMemoryAPISearchIndex();
+        searchIndex.addOrUpdateAPI(createAPI("1", "WeatherAPI", "Get Weather Info").build());
+
+        searchIndex.replaceAllAPIs(Arrays.asList(createAPI("2", "StockAPI", "Get stock quotes").build(),
+                createAPI("3", "NewsAPI", "Get news").build()));
+
+        Assert.assertTrue(searchIndex.searchAPIs(NO_ROLES, "admin", "weather", 0, 10).isEmpty());
+        Assert.assertEquals(searchIndex.searchAPIs(NO_ROLES, "admin", "get", 0, 10), Arrays.asList("3", "2"));
+    }
+
+    @Test
+    public void testPublisherSearchIsPermissionFiltered() {
+        Map<String, Integer> permissionMap = new HashMap<>();
+        permissionMap.put("developer", APIMgtConstants.Permission.READ_PERMISSION);
+        InMemoryAPISearchIndex searchIndex = new InMemoryAPISearchIndex();
+        searchIndex.addOrUpdateAPI(createAPI("1", "WeatherAPI", "Get Weather Info").permissionMap(permissionMap)
+                .build());
+
+        Assert.assertEquals(searchIndex.searchAPIs(NO_ROLES, "admin", "weather", 0, 10),
+                Collections.singletonList("1"));
+        Assert.assertEquals(searchIndex.searchAPIs(Collections.singleton("developer"), "john", "weather", 0, 10),
+                Collections.singletonList("1"));
+        Assert.assertTrue(searchIndex.searchAPIs(Collections.singleton("tester"), "john", "weather", 0, 10)
+                .isEmpty());
+    }
+
+    @Test
+    public void testStoreSearchIsFilteredByStatusVisibilityAndLabels() {
+        InMemoryAPISearchIndex searchIndex = new InMemoryAPISearchIndex();
+        searchIndex.addOrUpdateAPI(createAPI("1", "WeatherAPI", "sample").build());
+        searchIndex.addOrUpdateAPI(createAPI("2", "CreatedAPI", "sample")
+                .lifeCycleStatus(APIStatus.CREATED.getStatus()).build());
+        searchIndex.addOrUpdateAPI(createAPI("3", "RestrictedAPI", "sample").visibility(API.Visibility.RESTRICTED)
+                .visibleRoles(new HashSet<>(Collections.singletonList("subscriber"))).build());
+        searchIndex.addOrUpdateAPI(createAPI("4", "UnlabeledAPI", "sample").storeLabels(Collections.emptyList())
+                .build());
+        searchIndex.addOrUpdateAPI(createAPI("5", "PrivateLabelAPI", "sample")
+                .storeLabels(Collections.singletonList("Private")).build());
+
+        Assert.assertEquals(searchIndex.searchAPIsByStoreLabel(NO_ROLES, "sample", 0, 10, ALL_LABELS),
+                Arrays.asList("5", "1"));
+        List<String> subscriberResults = searchIndex.searchAPIsByStoreLabel(Collections.singleton("subscriber"),
+                "sample", 0, 10, Collections.singleton("Public"));
+        Assert.assertEquals(subscriberResults, Arrays.asList("3", "1"));
+    }
+}
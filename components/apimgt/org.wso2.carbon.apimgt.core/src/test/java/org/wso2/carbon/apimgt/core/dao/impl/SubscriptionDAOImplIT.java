@@ -27,6 +27,8 @@ import org.wso2.carbon.apimgt.core.dao.ApplicationDAO;
 import org.wso2.carbon.apimgt.core.exception.APIMgtDAOException;
 import org.wso2.carbon.apimgt.core.models.API;
 import org.wso2.carbon.apimgt.core.models.Application;
+import org.wso2.carbon.apimgt.core.models.PageCursor;
+import org.wso2.carbon.apimgt.core.models.PagedResults;
 import org.wso2.carbon.apimgt.core.models.Subscription;
 import org.wso2.carbon.apimgt.core.models.SubscriptionValidationData;
 import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
@@ -34,7 +36,9 @@ import org.wso2.carbon.apimgt.core.util.ETagUtils;
 import org.wso2.carbon.apimgt.core.util.KeyManagerConstants;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.wso2.carbon.apimgt.core.SampleTestObjectCreator.goldSubscriptionPolicy;
@@ -227,6 +231,67 @@ public class SubscriptionDAOImplIT extends DAOIntegrationTestBase {
         }
     }
 
+    @Test
+    public void testGetSubscriptionsForValidationPaginated() throws Exception {
+        ApisAndApps apisAndApps = createApisAppsAndSubscriptions();
+
+        APISubscriptionDAO subscriptionDAO = new DAOFactory().getAPISubscriptionDAO();
+        ApplicationDAO applicationDAO = new DAOFactory().getApplicationDAO();
+        for (int i = 0; i < apisAndApps.getApps().size(); i++) {
+            registerOAuthAppForApplication(applicationDAO, "client-key-for-app-" + (i + 1),
+                    apisAndApps.getApps().get(i).getId());
+        }
+
+        //page through all 9 subscriptions, 4 at a time
+        List<SubscriptionValidationData> subscriptions = new ArrayList<>();
+        PagedResults<SubscriptionValidationData> page = subscriptionDAO.getAPISubscriptionsOfAPIForValidation(null, 4);
+        subscriptions.addAll(page.getResults());
+        Assert.assertEquals(page.getResults().size(), 4);
+        Assert.assertNotNull(page.getNext());
+        page = subscriptionDAO.getAPISubscriptionsOfAPIForValidation(PageCursor.fromToken(page.getNext()), 4);
+        subscriptions.addAll(page.getResults());
+        Assert.assertEquals(page.getResults().size(), 4);
+        Assert.assertNotNull(page.getNext());
+        page = subscriptionDAO.getAPISubscriptionsOfAPIForValidation(PageCursor.fromToken(page.getNext()), 4);
+        subscriptions.addAll(page.getResults());
+        Assert.assertEquals(page.getResults().size(), 1);
+        Assert.assertNull(page.getNext());
+
+        //pages should not overlap and should be ordered by consumer key
+        Set<String> subscriptionKeys = new HashSet<>();
+        String previousConsumerKey = "";
+        for (SubscriptionValidationData subscription : subscriptions) {
+            Assert.assertTrue(subscriptionKeys.add(subscription.getConsumerKey() + subscription.getApiContext()));
+            Assert.assertTrue(previousConsumerKey.compareTo(subscription.getConsumerKey()) <= 0);
+            previousConsumerKey = subscription.getConsumerKey();
+        }
+        Assert.assertEquals(subscriptions.size(), subscriptionDAO.getAPISubscriptionsOfAPIForValidation(-1).size());
+        Assert.assertNull(subscriptionDAO.getAPISubscriptionsOfAPIForValidation(null, -1).getNext());
+    }
+
+    @Test
+    public void testForEachSubscriptionForValidation() throws Exception {
+        ApisAndApps apisAndApps = createApisAppsAndSubscriptions();
+
+        APISubscriptionDAO subscriptionDAO = new DAOFactory().getAPISubscriptionDAO();
+        ApplicationDAO applicationDAO = new DAOFactory().getApplicationDAO();
+        for (int i = 0; i < apisAndApps.getApps().size(); i++) {
+            registerOAuthAppForApplication(applicationDAO, "client-key-for-app-" + (i + 1),
+                    apisAndApps.getApps().get(i).getId());
+        }
+
+        //streamed subscriptions should be the same as the listed subscriptions
+        Set<String> streamedKeys = new HashSet<>();
+        subscriptionDAO.forEachAPISubscriptionForValidation(
+                subscription -> streamedKeys.add(subscription.getConsumerKey() + subscription.getApiContext()));
+        Set<String> listedKeys = new HashSet<>();
+        for (SubscriptionValidationData subscription : subscriptionDAO.getAPISubscriptionsOfAPIForValidation(-1)) {
+            listedKeys.add(subscription.getConsumerKey() + subscription.getApiContext());
+        }
+        Assert.assertEquals(streamedKeys.size(), 9);
+        Assert.assertEquals(streamedKeys, listedKeys);
+    }
+
     private void registerOAuthAppForApplication(ApplicationDAO applicationDAO, String clientKey, String appId)
             throws APIMgtDAOException {
         applicationDAO.addApplicationKeys(appId, KeyManagerConstants.OAUTH_CLIENT_PRODUCTION, clientKey);
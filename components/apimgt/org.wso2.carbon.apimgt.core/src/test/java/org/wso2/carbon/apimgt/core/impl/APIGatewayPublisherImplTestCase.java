@@ -24,10 +24,15 @@ import org.testng.Assert;
 import org.wso2.carbon.apimgt.core.SampleTestObjectCreator;
 import org.wso2.carbon.apimgt.core.api.Broker;
 import org.wso2.carbon.apimgt.core.configuration.models.ContainerBasedGatewayConfiguration;
+import org.wso2.carbon.apimgt.core.dao.GatewayChangeLogDAO;
+import org.wso2.carbon.apimgt.core.exception.APIMgtDAOException;
 import org.wso2.carbon.apimgt.core.exception.ContainerBasedGatewayException;
 import org.wso2.carbon.apimgt.core.exception.GatewayException;
 import org.wso2.carbon.apimgt.core.models.API;
 import org.wso2.carbon.apimgt.core.models.APIStatus;
+import org.wso2.carbon.apimgt.core.models.PolicyValidationData;
+import org.wso2.carbon.apimgt.core.models.SubscriptionValidationData;
+import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
 import org.wso2.carbon.apimgt.core.util.BrokerUtil;
 import org.wso2.carbon.config.ConfigurationException;
 import org.wso2.carbon.config.provider.ConfigProvider;
@@ -172,6 +177,49 @@ public class APIGatewayPublisherImplTestCase {
         apiGatewayPublisher.deleteAPI(api);
     }
 
-}
+    @Test
+    public void testSubscriptionEventRecordedInChangeLog() throws Exception {
+        GatewayChangeLogDAO gatewayChangeLogDAO = Mockito.mock(GatewayChangeLogDAO.class);
+        APIGatewayPublisherImpl apiGatewayPublisher = new APIGatewayPublisherImpl(gatewayChangeLogDAO);
+        Broker broker = Mockito.mock(BrokerImpl.class, Mockito.RETURNS_DEEP_STUBS);
+        BrokerUtil.initialize(broker);
+
+        List<SubscriptionValidationData> subscriptions = new ArrayList<>();
+        subscriptions.add(new SubscriptionValidationData("/weather", "1.0.0", "consumer-key"));
+        apiGatewayPublisher.addAPISubscription(subscriptions);
+        Mockito.verify(gatewayChangeLogDAO, Mockito.times(1)).addChange(
+                Mockito.eq(APIMgtConstants.GatewayEventTypes.SUBSCRIPTION_CREATE),
+                Mockito.contains("consumer-key"));
+    }
 
+    @Test
+    public void testAPIEventRecordedInChangeLog() throws Exception {
+        GatewayChangeLogDAO gatewayChangeLogDAO = Mockito.mock(GatewayChangeLogDAO.class);
+        APIGatewayPublisherImpl apiGatewayPublisher = new APIGatewayPublisherImpl(gatewayChangeLogDAO);
+        Broker broker = Mockito.mock(BrokerImpl.class, Mockito.RETURNS_DEEP_STUBS);
+        BrokerUtil.initialize(broker);
 
+        API api = SampleTestObjectCreator.createDefaultAPI().lifeCycleStatus(APIStatus.PUBLISHED.getStatus())
+                .hasOwnGateway(false).build();
+        apiGatewayPublisher.deleteAPI(api);
+        Mockito.verify(gatewayChangeLogDAO, Mockito.times(1)).addChange(
+                Mockito.eq(APIMgtConstants.GatewayEventTypes.API_DELETE), Mockito.contains(api.getId()));
+    }
+
+    @Test
+    public void testPolicyEventPublishedWhenChangeLogFails() throws Exception {
+        GatewayChangeLogDAO gatewayChangeLogDAO = Mockito.mock(GatewayChangeLogDAO.class);
+        Mockito.when(gatewayChangeLogDAO.addChange(Mockito.anyString(), Mockito.anyString()))
+                .thenThrow(new APIMgtDAOException("Error while adding change"));
+        APIGatewayPublisherImpl apiGatewayPublisher = new APIGatewayPublisherImpl(gatewayChangeLogDAO);
+        Broker broker = Mockito.mock(BrokerImpl.class, Mockito.RETURNS_DEEP_STUBS);
+        BrokerUtil.initialize(broker);
+
+        long publishedEventCount = BrokerUtil.getPublishedEventCount();
+        PolicyValidationData policyValidationData = new PolicyValidationData("policy-id", "Gold", false);
+        apiGatewayPublisher.addPolicy(policyValidationData);
+        Mockito.verify(gatewayChangeLogDAO, Mockito.times(1)).addChange(
+                Mockito.eq(APIMgtConstants.GatewayEventTypes.POLICY_CREATE), Mockito.anyString());
+        Assert.assertEquals(BrokerUtil.getPublishedEventCount(), publishedEventCount + 1);
+    }
+}
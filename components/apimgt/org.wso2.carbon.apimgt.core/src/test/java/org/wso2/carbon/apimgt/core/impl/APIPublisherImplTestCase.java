@@ -60,6 +60,8 @@ import org.wso2.carbon.apimgt.core.models.DocumentInfo;
 import org.wso2.carbon.apimgt.core.models.Endpoint;
 import org.wso2.carbon.apimgt.core.models.Event;
 import org.wso2.carbon.apimgt.core.models.Label;
+import org.wso2.carbon.apimgt.core.models.PageCursor;
+import org.wso2.carbon.apimgt.core.models.PagedResults;
 import org.wso2.carbon.apimgt.core.models.Scope;
 import org.wso2.carbon.apimgt.core.models.Subscription;
 import org.wso2.carbon.apimgt.core.models.UriTemplate;
@@ -762,6 +764,42 @@ public class APIPublisherImplTestCase {
         Mockito.verify(apiDAO, Mockito.times(1)).getAPIs(new HashSet<String>(), USER);
     }
 
+    @Test(description = "Get APIs page by page")
+    public void testGetAPIsPaginated() throws APIManagementException {
+
+        ApiDAO apiDAO = Mockito.mock(ApiDAO.class);
+        DAOFactory daoFactory = Mockito.mock(DAOFactory.class);
+        Mockito.when(daoFactory.getApiDAO()).thenReturn(apiDAO);
+        APIPublisherImpl apiPublisher = getApiPublisherImpl(daoFactory);
+        API api1 = SampleTestObjectCreator.createDefaultAPI().name("api1").build();
+        API api2 = SampleTestObjectCreator.createDefaultAPI().name("api2").build();
+        API api3 = SampleTestObjectCreator.createDefaultAPI().name("api3").build();
+        Mockito.when(apiDAO.getAPIs(new HashSet<>(), USER, null, 3)).thenReturn(Arrays.asList(api1, api2, api3));
+        PageCursor cursor = new PageCursor(api2.getName(), api2.getId());
+        Mockito.when(apiDAO.getAPIs(new HashSet<>(), USER, cursor, 3)).thenReturn(Collections.singletonList(api3));
+
+        PagedResults<API> firstPage = apiPublisher.getAPIs(2, null);
+        Assert.assertEquals(firstPage.getResults(), Arrays.asList(api1, api2));
+        Assert.assertEquals(firstPage.getNext(), cursor.toToken());
+
+        PagedResults<API> lastPage = apiPublisher.getAPIs(2, firstPage.getNext());
+        Assert.assertEquals(lastPage.getResults(), Collections.singletonList(api3));
+        Assert.assertNull(lastPage.getNext());
+    }
+
+    @Test(description = "Get APIs with an invalid page token")
+    public void testGetAPIsInvalidPageToken() throws APIManagementException {
+
+        DAOFactory daoFactory = Mockito.mock(DAOFactory.class);
+        APIPublisherImpl apiPublisher = getApiPublisherImpl(daoFactory);
+        try {
+            apiPublisher.getAPIs(2, "invalid");
+            Assert.fail("Invalid page token was accepted");
+        } catch (APIManagementException e) {
+            Assert.assertEquals(e.getErrorHandler(), ExceptionCodes.INVALID_PAGE_TOKEN);
+        }
+    }
+
     @Test(description = "Exception when searching APIs")
     public void testSearchAPIsException() throws APIManagementException {
 
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.impl;
+
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.apimgt.core.api.IdentityProvider;
+import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
+import org.wso2.carbon.apimgt.core.exception.IdentityProviderException;
+import org.wso2.carbon.apimgt.core.models.User;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class CachingIdentityProviderTestCase {
+
+    private static final String USER_NAME = "john";
+    private static final String USER_ID = "a42b4760-120d-432e-8042-4a7f12e3346f";
+
+    @Test
+    public void testUserIdAndRolesServedFromCache() throws Exception {
+        IdentityProvider identityProvider = Mockito.mock(IdentityProvider.class);
+        Mockito.when(identityProvider.getIdOfUser(USER_NAME)).thenReturn(USER_ID);
+        Mockito.when(identityProvider.getRoleNamesOfUser(USER_ID)).thenReturn(Arrays.asList("admin", "subscriber"));
+        Mockito.when(identityProvider.getRoleId("admin")).thenReturn("cfbde56e-4352-498e-b6dc-85a6f1f8b058");
+        CachingIdentityProvider cachingIdentityProvider = new CachingIdentityProvider(identityProvider, 300, 100);
+
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(cachingIdentityProvider.getIdOfUser(USER_NAME), USER_ID);
+            Assert.assertEquals(cachingIdentityProvider.getRoleNamesOfUser(USER_ID),
+                    Arrays.asList("admin", "subscriber"));
+            Assert.assertEquals(cachingIdentityProvider.getRoleId("admin"), "cfbde56e-4352-498e-b6dc-85a6f1f8b058");
+        }
+
+        Mockito.verify(identityProvider, Mockito.times(1)).getIdOfUser(USER_NAME);
+        Mockito.verify(identityProvider, Mockito.times(1)).getRoleNamesOfUser(USER_ID);
+        Mockito.verify(identityProvider, Mockito.times(1)).getRoleId("admin");
+    }
+
+    @Test
+    public void testCachedRolesNotAffectedByCallerChanges() throws Exception {
+        IdentityProvider identityProvider = Mockito.mock(IdentityProvider.class);
+        Mockito.when(identityProvider.getRoleNamesOfUser(USER_ID)).thenReturn(new ArrayList<>(Arrays.asList("admin")));
+        CachingIdentityProvider cachingIdentityProvider = new CachingIdentityProvider(identityProvider, 300, 100);
+
+        cachingIdentityProvider.getRoleNamesOfUser(USER_ID).add("creator");
+
+        Assert.assertEquals(cachingIdentityProvider.getRoleNamesOfUser(USER_ID), Arrays.asList("admin"));
+    }
+
+    @Test
+    public void testExpiredEntriesAreRetrievedAgain() throws Exception {
+        IdentityProvider identityProvider = Mockito.mock(IdentityProvider.class);
+        Mockito.when(identityProvider.getRoleNamesOfUser(USER_ID)).thenReturn(Arrays.asList("admin"),
+                Arrays.asList("admin", "creator"));
+        CachingIdentityProvider cachingIdentityProvider = new CachingIdentityProvider(identityProvider, 0, 100);
+
+        cachingIdentityProvider.getRoleNamesOfUser(USER_ID);
+
+        Assert.assertEquals(cachingIdentityProvider.getRoleNamesOfUser(USER_ID), Arrays.asList("admin", "creator"));
+        Mockito.verify(identityProvider, Mockito.times(2)).getRoleNamesOfUser(USER_ID);
+    }
+
+    @Test
+    public void testRegisterUserRemovesCachedId() throws Exception {
+        IdentityProvider identityProvider = Mockito.mock(IdentityProvider.class);
+        Mockito.when(identityProvider.getIdOfUser(USER_NAME)).thenReturn(null, USER_ID);
+        CachingIdentityProvider cachingIdentityProvider = new CachingIdentityProvider(identityProvider, 300, 100);
+        User user = new User();
+        user.setUsername(USER_NAME);
+
+        cachingIdentityProvider.getIdOfUser(USER_NAME);
+        cachingIdentityProvider.registerUser(user);
+
+        Assert.assertEquals(cachingIdentityProvider.getIdOfUser(USER_NAME), USER_ID);
+        Mockito.verify(identityProvider).registerUser(user);
+    }
+
+    @Test
+    public void testFailuresAreNotCached() throws Exception {
+        IdentityProvider identityProvider = Mockito.mock(IdentityProvider.class);
+        Mockito.when(identityProvider.getIdOfUser(USER_NAME))
+                .thenThrow(new IdentityProviderException("SCIM endpoint unavailable",
+                        ExceptionCodes.RESOURCE_RETRIEVAL_FAILED))
+                .thenReturn(USER_ID);
+        CachingIdentityProvider cachingIdentityProvider = new CachingIdentityProvider(identityProvider, 300, 100);
+
+        try {
+            cachingIdentityProvider.getIdOfUser(USER_NAME);
+            Assert.fail("Identity provider failure was not propagated");
+        } catch (IdentityProviderException e) {
+            Assert.assertEquals(e.getMessage(), "SCIM endpoint unavailable");
+        }
+        Assert.assertEquals(cachingIdentityProvider.getIdOfUser(USER_NAME), USER_ID);
+    }
+
+    @Test
+    public void testExpiredEntriesAreLoadedAgain() throws Exception {
+        IdentityProvider identityProvider = Mockito.mock(IdentityProvider.class);
+        Mockito.when(identityProvider.getRoleName("cfbde56e")).thenReturn("admin");
+        CachingIdentityProvider cachingIdentityProvider = new CachingIdentityProvider(identityProvider, 0, 100);
+
+        cachingIdentityProvider.getRoleName("cfbde56e");
+        Thread.sleep(5);
+        cachingIdentityProvider.getRoleName("cfbde56e");
+
+        Mockito.verify(identityProvider, Mockito.times(2)).getRoleName("cfbde56e");
+    }
+
+    @Test
+    public void testConcurrentLookupsShareSingleCall() throws Exception {
+        IdentityProvider identityProvider = Mockito.mock(IdentityProvider.class);
+        CountDownLatch lookupStarted = new CountDownLatch(1);
+        CountDownLatch releaseLookup = new CountDownLatch(1);
+        Mockito.when(identityProvider.getIdOfUser(USER_NAME)).thenAnswer(invocation -> {
+            lookupStarted.countDown();
+            releaseLookup.await(10, TimeUnit.SECONDS);
+            return USER_ID;
+        });
+        CachingIdentityProvider cachingIdentityProvider = new CachingIdentityProvider(identityProvider, 300, 100);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executorService.submit(() -> cachingIdentityProvider.getIdOfUser(USER_NAME)));
+            Assert.assertTrue(lookupStarted.await(10, TimeUnit.SECONDS));
+            for (int i = 0; i < 3; i++) {
+                results.add(executorService.submit(() -> cachingIdentityProvider.getIdOfUser(USER_NAME)));
+            }
+            releaseLookup.countDown();
+            for (Future<String> result : results) {
+                Assert.assertEquals(result.get(10, TimeUnit.SECONDS), USER_ID);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        Mockito.verify(identityProvider, Mockito.times(1)).getIdOfUser(USER_NAME);
+    }
+}
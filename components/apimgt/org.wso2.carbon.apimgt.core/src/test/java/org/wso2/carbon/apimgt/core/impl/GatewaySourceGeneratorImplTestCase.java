@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.impl;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.apimgt.core.SampleTestObjectCreator;
+import org.wso2.carbon.apimgt.core.api.GatewaySourceGenerator;
+import org.wso2.carbon.apimgt.core.models.API;
+import org.wso2.carbon.apimgt.core.models.UriTemplate;
+import org.wso2.carbon.apimgt.core.template.APIConfigContext;
+import org.wso2.carbon.apimgt.core.template.dto.TemplateBuilderDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test cases for generating gateway configs from templates.
+ */
+public class GatewaySourceGeneratorImplTestCase {
+
+    private static final String PACKAGE_NAME = "deployment.org.wso2.apim";
+
+    @Test
+    public void testGetConfigStringFromTemplate() throws Exception {
+        GatewaySourceGenerator gatewaySourceGenerator = new GatewaySourceGeneratorImpl();
+        API apiOne = SampleTestObjectCreator.createUniqueAPI().build();
+        API apiTwo = SampleTestObjectCreator.createUniqueAPI().build();
+
+        gatewaySourceGenerator.setApiConfigContext(new APIConfigContext(apiOne, PACKAGE_NAME));
+        String configOne = gatewaySourceGenerator.getConfigStringFromTemplate(getResources(apiOne));
+        gatewaySourceGenerator.setApiConfigContext(new APIConfigContext(apiTwo, PACKAGE_NAME));
+        String configTwo = gatewaySourceGenerator.getConfigStringFromTemplate(getResources(apiTwo));
+        Assert.assertNotEquals(configOne, configTwo);
+        Assert.assertTrue(configOne.contains(apiOne.getContext()));
+
+        // the cached template is merged again with the context of the first API
+        gatewaySourceGenerator.setApiConfigContext(new APIConfigContext(apiOne, PACKAGE_NAME));
+        Assert.assertEquals(gatewaySourceGenerator.getConfigStringFromTemplate(getResources(apiOne)), configOne);
+    }
+
+    private static List<TemplateBuilderDTO> getResources(API api) {
+        List<TemplateBuilderDTO> resources = new ArrayList<>();
+        for (UriTemplate uriTemplate : api.getUriTemplates().values()) {
+            TemplateBuilderDTO dto = new TemplateBuilderDTO();
+            dto.setTemplateId(uriTemplate.getTemplateId());
+            dto.setUriTemplate(uriTemplate.getUriTemplate());
+            dto.setHttpVerb(uriTemplate.getHttpVerb());
+            resources.add(dto);
+        }
+        return resources;
+    }
+}
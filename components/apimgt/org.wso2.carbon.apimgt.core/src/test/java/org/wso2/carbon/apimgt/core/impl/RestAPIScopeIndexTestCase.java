@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.impl;
+
+import io.swagger.models.Operation;
+import io.swagger.models.Path;
+import io.swagger.models.SecurityRequirement;
+import io.swagger.models.Swagger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import javax.ws.rs.ApplicationPath;
+import javax.ws.rs.DELETE;
+import javax.ws.rs.GET;
+import javax.ws.rs.OPTIONS;
+import javax.ws.rs.POST;
+
+public class RestAPIScopeIndexTestCase {
+
+    @Test
+    public void testScopesOfResourceMethods() throws Exception {
+        RestAPIScopeIndex scopeIndex = RestAPIScopeIndex.build(createSwagger(), null);
+
+        RestAPIScopeIndex.ResourceScopes scopes = scopeIndex.getScopes(ApisApi.class.getMethod("apisGet"), "GET");
+        Assert.assertEquals(scopes.getScopes(), "apim:api_view");
+        Assert.assertSame(scopeIndex.getScopes(ApisApi.class.getMethod("apisGet"), "GET"), scopes);
+
+        scopes = scopeIndex.getScopes(ApisApi.class.getMethod("apisApiIdGet"), "GET");
+        Assert.assertEquals(scopes.getScopes(), "apim:api_view apim:api_create");
+        Assert.assertTrue(scopes.isAnyGranted(Collections.singletonList("APIM:API_CREATE")));
+        Assert.assertFalse(scopes.isAnyGranted(Arrays.asList("apim:subscribe", "apim:api_publish")));
+
+        scopes = scopeIndex.getScopes(ApisApi.class.getMethod("apisApiIdDelete"), "DELETE");
+        Assert.assertEquals(scopes.getScopes(), "apim:api_create");
+    }
+
+    @Test
+    public void testGlobalAndUndefinedScopes() throws Exception {
+        RestAPIScopeIndex scopeIndex = RestAPIScopeIndex.build(createSwagger(), null);
+
+        // operations without security use the scopes of the swagger
+        RestAPIScopeIndex.ResourceScopes scopes = scopeIndex.getScopes(ApisApi.class.getMethod("apisPost"), "POST");
+        Assert.assertEquals(scopes.getScopes(), "apim:api_create");
+
+        Assert.assertNull(scopeIndex.getScopes(ApisApi.class.getMethod("apisUndefinedGet"), "GET"));
+        Assert.assertNull(scopeIndex.getScopes(ApisApi.class.getMethod("apisGet"), "PUT"));
+        Assert.assertNull(scopeIndex.getScopes(ApisApi.class.getMethod("apisGet"), "OPTIONS"));
+        Assert.assertEquals(scopeIndex.getScopes("GET", "/apis").getScopes(), "apim:api_view");
+    }
+
+    @Test
+    public void testConfiguredScopesOverrideSwagger() throws Exception {
+        Map<String, String> configuredScopes = new HashMap<>();
+        configuredScopes.put("GET_/apis", "apim:api_list");
+        configuredScopes.put("GET_/apis/undefined", "");
+        RestAPIScopeIndex scopeIndex = RestAPIScopeIndex.build(createSwagger(), configuredScopes);
+
+        Assert.assertEquals(scopeIndex.getScopes(ApisApi.class.getMethod("apisGet"), "GET").getScopes(),
+                "apim:api_list");
+        Assert.assertTrue(scopeIndex.getScopes(ApisApi.class.getMethod("apisUndefinedGet"), "GET").isEmpty());
+        Assert.assertEquals(scopeIndex.getScopes(ApisApi.class.getMethod("apisApiIdGet"), "GET").getScopes(),
+                "apim:api_view apim:api_create");
+    }
+
+    private static Swagger createSwagger() {
+        Swagger swagger = new Swagger().basePath("/api/am/publisher/v1.0");
+        swagger.addSecurity(new SecurityRequirement().requirement(APIMgtConstants.OAUTH2SECURITY,
+                Collections.singletonList("apim:api_create")));
+        Operation apisGet = new Operation();
+        apisGet.addSecurity(APIMgtConstants.OAUTH2SECURITY, Collections.singletonList("apim:api_view"));
+        swagger.path("/apis", new Path().get(apisGet).post(new Operation()));
+        Operation apiGet = new Operation();
+        apiGet.addSecurity(APIMgtConstants.OAUTH2SECURITY, Arrays.asList("apim:api_view", "apim:api_create"));
+        Operation apiDelete = new Operation();
+        apiDelete.addSecurity(APIMgtConstants.OAUTH2SECURITY, Collections.singletonList("apim:api_create"));
+        swagger.path("/apis/{apiId}", new Path().get(apiGet).delete(apiDelete));
+        return swagger;
+    }
+
+    @ApplicationPath("/apis")
+    public static class ApisApi {
+
+        @OPTIONS
+        @GET
+        public void apisGet() {
+        }
+
+        @OPTIONS
+        @POST
+        public void apisPost() {
+        }
+
+        @OPTIONS
+        @GET
+        @javax.ws.rs.Path("/{apiId}")
+        public void apisApiIdGet() {
+        }
+
+        @OPTIONS
+        @DELETE
+        @javax.ws.rs.Path("/{apiId}")
+        public void apisApiIdDelete() {
+        }
+
+        @OPTIONS
+        @GET
+        @javax.ws.rs.Path("/undefined")
+        public void apisUndefinedGet() {
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.impl;
+
+import io.swagger.models.Info;
+import io.swagger.models.Swagger;
+import io.swagger.util.Json;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class SwaggerDefinitionCacheTestCase {
+
+    @Test
+    public void testParsedDefinitionIsShared() throws Exception {
+        SwaggerDefinitionCache cache = new SwaggerDefinitionCache(10);
+        Swagger swagger = cache.get(createDefinition("PizzaShackAPI"));
+        Assert.assertEquals(swagger.getInfo().getTitle(), "PizzaShackAPI");
+        Assert.assertSame(cache.get(createDefinition("PizzaShackAPI")), swagger);
+        Assert.assertNotSame(cache.get(createDefinition("WeatherAPI")), swagger);
+        Assert.assertEquals(cache.size(), 2);
+
+        Assert.assertSame(cache.getSerialized(createDefinition("PizzaShackAPI")),
+                cache.getSerialized(createDefinition("PizzaShackAPI")));
+    }
+
+    @Test
+    public void testModifiedDefinitionIsCached() throws Exception {
+        SwaggerDefinitionCache cache = new SwaggerDefinitionCache(10);
+        String definition = createDefinition("PizzaShackAPI");
+        Swagger sharedSwagger = cache.get(definition);
+
+        Swagger swagger = cache.parse(definition);
+        Assert.assertNotSame(swagger, sharedSwagger);
+        swagger.getInfo().setTitle("UpdatedPizzaShackAPI");
+        String updatedDefinition = cache.serialize(swagger);
+
+        Assert.assertEquals(sharedSwagger.getInfo().getTitle(), "PizzaShackAPI");
+        Assert.assertSame(cache.get(updatedDefinition), swagger);
+        Assert.assertSame(cache.getSerialized(updatedDefinition), updatedDefinition);
+        Assert.assertEquals(cache.size(), 2);
+    }
+
+    @Test
+    public void testInvalidateAndBoundedSize() throws Exception {
+        SwaggerDefinitionCache cache = new SwaggerDefinitionCache(2);
+        Swagger swagger = cache.get(createDefinition("API1"));
+        cache.invalidate(createDefinition("API1"));
+        Assert.assertEquals(cache.size(), 0);
+        Assert.assertNotSame(cache.get(createDefinition("API1")), swagger);
+
+        cache.get(createDefinition("API2"));
+        cache.get(createDefinition("API3"));
+        Assert.assertEquals(cache.size(), 2);
+    }
+
+    @Test
+    public void testDisabledCache() throws Exception {
+        SwaggerDefinitionCache cache = new SwaggerDefinitionCache(0);
+        Swagger swagger = cache.get(createDefinition("PizzaShackAPI"));
+        Assert.assertEquals(swagger.getInfo().getTitle(), "PizzaShackAPI");
+        Assert.assertNotSame(cache.get(createDefinition("PizzaShackAPI")), swagger);
+        cache.serialize(swagger);
+        Assert.assertEquals(cache.size(), 0);
+    }
+
+    private static String createDefinition(String title) {
+        Swagger swagger = new Swagger().info(new Info().title(title).version("1.0.0")).basePath("/" + title);
+        return Json.pretty(swagger);
+    }
+}
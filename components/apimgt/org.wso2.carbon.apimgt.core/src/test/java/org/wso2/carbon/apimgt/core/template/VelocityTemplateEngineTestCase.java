@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.template;
+
+import org.apache.velocity.Template;
+import org.apache.velocity.VelocityContext;
+import org.apache.velocity.app.VelocityEngine;
+import org.apache.velocity.exception.ResourceNotFoundException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.UUID;
+
+/**
+ * Test cases for the shared velocity engine of the templates.
+ */
+public class VelocityTemplateEngineTestCase {
+
+    private static final String POLICY_TEMPLATE = "resources" + File.separator + "template" + File.separator
+            + "policy_templates" + File.separator + "throttle_policy_template_app.xml";
+
+    @Test
+    public void testTemplateParsedOnce() {
+        Template template = VelocityTemplateEngine.getTemplate(POLICY_TEMPLATE);
+        Assert.assertSame(VelocityTemplateEngine.getTemplate(POLICY_TEMPLATE), template);
+    }
+
+    @Test
+    public void testTemplateLoadedFromFileSystem() throws Exception {
+        File templateFile = new File("target", "velocity-" + UUID.randomUUID() + ".xml");
+        Assert.assertTrue(templateFile.getParentFile().exists() || templateFile.getParentFile().mkdirs());
+        Files.write(templateFile.toPath(), "Hello $name".getBytes(StandardCharsets.UTF_8));
+        templateFile.deleteOnExit();
+
+        VelocityContext context = new VelocityContext();
+        context.put("name", "gateway");
+        StringWriter writer = new StringWriter();
+        VelocityTemplateEngine.getTemplate(templateFile.getPath()).merge(context, writer);
+        Assert.assertEquals(writer.toString(), "Hello gateway");
+    }
+
+    @Test
+    public void testModifiedTemplateIsReloaded() throws Exception {
+        File templateFile = new File("target", "velocity-" + UUID.randomUUID() + ".xml");
+        Assert.assertTrue(templateFile.getParentFile().exists() || templateFile.getParentFile().mkdirs());
+        Files.write(templateFile.toPath(), "Hello $name".getBytes(StandardCharsets.UTF_8));
+        templateFile.deleteOnExit();
+        VelocityEngine engine = VelocityTemplateEngine.createVelocityEngine(1);
+        VelocityContext context = new VelocityContext();
+        context.put("name", "gateway");
+
+        StringWriter writer = new StringWriter();
+        engine.getTemplate(templateFile.getPath()).merge(context, writer);
+        Assert.assertEquals(writer.toString(), "Hello gateway");
+
+        long lastModified = templateFile.lastModified();
+        Files.write(templateFile.toPath(), "Bye $name".getBytes(StandardCharsets.UTF_8));
+        // file systems with a coarse timestamp may not see the rewrite as a modification
+        Assert.assertTrue(templateFile.setLastModified(lastModified + 2000));
+        Thread.sleep(1500);
+
+        writer = new StringWriter();
+        engine.getTemplate(templateFile.getPath()).merge(context, writer);
+        Assert.assertEquals(writer.toString(), "Bye gateway");
+    }
+
+    @Test(expectedExceptions = ResourceNotFoundException.class)
+    public void testTemplateNotFound() {
+        VelocityTemplateEngine.getTemplate("resources" + File.separator + "template" + File.separator + "missing.xml");
+    }
+}
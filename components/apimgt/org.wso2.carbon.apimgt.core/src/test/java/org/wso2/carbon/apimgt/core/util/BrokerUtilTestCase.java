@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.util;
+
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.apimgt.core.api.Broker;
+import org.wso2.carbon.apimgt.core.configuration.models.APIMConfigurations;
+import org.wso2.carbon.apimgt.core.configuration.models.BrokerConfigurations;
+import org.wso2.carbon.apimgt.core.exception.GatewayException;
+import org.wso2.carbon.apimgt.core.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.core.models.events.GatewayEvent;
+import org.wso2.carbon.config.provider.ConfigProvider;
+
+import javax.jms.JMSException;
+import javax.jms.TextMessage;
+import javax.jms.Topic;
+import javax.jms.TopicConnection;
+import javax.jms.TopicPublisher;
+import javax.jms.TopicSession;
+
+/**
+ * Test cases for {@link BrokerUtil}
+ */
+public class BrokerUtilTestCase {
+    private static final String TOPIC = "testTopic";
+
+    private Broker broker;
+    private TopicConnection topicConnection;
+    private TopicSession topicSession;
+    private TopicPublisher topicPublisher;
+    private BrokerConfigurations brokerConfigurations;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        BrokerUtil.clear();
+        broker = Mockito.mock(Broker.class);
+        topicConnection = Mockito.mock(TopicConnection.class);
+        topicSession = Mockito.mock(TopicSession.class);
+        topicPublisher = Mockito.mock(TopicPublisher.class);
+        Topic topic = Mockito.mock(Topic.class);
+        Mockito.when(broker.getTopicConnection()).thenReturn(topicConnection);
+        Mockito.when(topicConnection.createTopicSession(Mockito.anyBoolean(), Mockito.anyInt()))
+                .thenReturn(topicSession);
+        Mockito.when(topicSession.createTopic(TOPIC)).thenReturn(topic);
+        Mockito.when(topicSession.createPublisher(topic)).thenReturn(topicPublisher);
+        Mockito.when(topicSession.createTextMessage(Mockito.anyString()))
+                .thenReturn(Mockito.mock(TextMessage.class));
+
+        brokerConfigurations = new BrokerConfigurations();
+        brokerConfigurations.setAsyncPublishRetryInterval(1);
+        APIMConfigurations apimConfigurations = new APIMConfigurations();
+        apimConfigurations.setBrokerConfigurations(brokerConfigurations);
+        ConfigProvider configProvider = Mockito.mock(ConfigProvider.class);
+        Mockito.when(configProvider.getConfigurationObject(APIMConfigurations.class)).thenReturn(apimConfigurations);
+        ServiceReferenceHolder.getInstance().setConfigProvider(configProvider);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        BrokerUtil.clear();
+        // a provider without configurations brings back the defaults for the tests which follow
+        ServiceReferenceHolder.getInstance().setConfigProvider(Mockito.mock(ConfigProvider.class));
+    }
+
+    @Test(description = "Publish before the broker utils are initialized")
+    public void testPublishBeforeInitialize() throws Exception {
+        try {
+            BrokerUtil.publishToTopic(TOPIC, new GatewayEvent("TEST"));
+            Assert.fail("Publishing without a broker should fail");
+        } catch (GatewayException e) {
+            Assert.assertTrue(e.getMessage().contains(TOPIC));
+        }
+        Mockito.verifyZeroInteractions(broker);
+    }
+
+    @Test(description = "Publishers are reused over a single broker connection")
+    public void testPublishersArePooled() throws Exception {
+        BrokerUtil.initialize(broker);
+        long published = BrokerUtil.getPublishedEventCount();
+
+        for (int i = 0; i < 3; i++) {
+            BrokerUtil.publishToTopic(TOPIC, new GatewayEvent("TEST"));
+        }
+
+        Mockito.verify(broker, Mockito.times(1)).getTopicConnection();
+        Mockito.verify(topicConnection, Mockito.times(1)).createTopicSession(false, TopicSession.AUTO_ACKNOWLEDGE);
+        Mockito.verify(topicPublisher, Mockito.times(3)).publish(Mockito.any(TextMessage.class));
+        Assert.assertEquals(BrokerUtil.getPublishedEventCount(), published + 3);
+        Assert.assertTrue(BrokerUtil.getAveragePublishLatency() >= 0);
+        Assert.assertEquals(BrokerUtil.getPendingEventCount(), 0);
+    }
+
+    @Test(description = "A failed publish closes the broker connection, and the next publish opens a new one")
+    public void testFailedPublishResetsConnection() throws Exception {
+        BrokerUtil.initialize(broker);
+        long failed = BrokerUtil.getFailedEventCount();
+        Mockito.doThrow(new JMSException("broker down")).doNothing().when(topicPublisher)
+                .publish(Mockito.any(TextMessage.class));
+
+        try {
+            BrokerUtil.publishToTopic(TOPIC, new GatewayEvent("TEST"));
+            Assert.fail("Publishing should fail when the broker fails");
+        } catch (GatewayException e) {
+            Assert.assertEquals(BrokerUtil.getFailedEventCount(), failed + 1);
+        }
+        Mockito.verify(topicConnection, Mockito.times(1)).close();
+
+        BrokerUtil.publishToTopic(TOPIC, new GatewayEvent("TEST"));
+        Mockito.verify(broker, Mockito.times(2)).getTopicConnection();
+        Assert.assertEquals(BrokerUtil.getFailedEventCount(), failed + 1);
+    }
+
+    @Test(description = "A publisher released after its connection is reset is closed instead of being pooled")
+    public void testPublisherOfResetConnectionIsNotPooled() throws Exception {
+        BrokerUtil.initialize(broker);
+        BrokerUtil.PooledPublisher publisher = BrokerUtil.borrowPublisher(TOPIC);
+        BrokerUtil.discardPublisher(BrokerUtil.borrowPublisher(TOPIC));
+        Mockito.verify(topicConnection, Mockito.times(1)).close();
+
+        BrokerUtil.releasePublisher(TOPIC, publisher);
+        Mockito.verify(topicPublisher, Mockito.times(2)).close();
+
+        // the next publish creates a publisher on a new connection
+        BrokerUtil.publishToTopic(TOPIC, new GatewayEvent("TEST"));
+        Mockito.verify(broker, Mockito.times(2)).getTopicConnection();
+        Mockito.verify(topicConnection, Mockito.times(3)).createTopicSession(false, TopicSession.AUTO_ACKNOWLEDGE);
+    }
+
+    @Test(description = "Events are published asynchronously in batches")
+    public void testAsyncPublishing() throws Exception {
+        brokerConfigurations.setAsyncPublishingEnabled(true);
+        brokerConfigurations.setAsyncPublishBatchSize(10);
+        BrokerUtil.initialize(broker);
+        long published = BrokerUtil.getPublishedEventCount();
+
+        for (int i = 0; i < 5; i++) {
+            BrokerUtil.publishToTopic(TOPIC, new GatewayEvent("TEST"));
+        }
+        BrokerUtil.shutdown();
+
+        Mockito.verify(topicPublisher, Mockito.times(5)).publish(Mockito.any(TextMessage.class));
+        Mockito.verify(topicConnection, Mockito.times(1)).createTopicSession(false, TopicSession.AUTO_ACKNOWLEDGE);
+        Assert.assertEquals(BrokerUtil.getPublishedEventCount(), published + 5);
+        Assert.assertEquals(BrokerUtil.getPendingEventCount(), 0);
+    }
+
+    @Test(description = "A failed asynchronous batch is retried from the first unpublished event")
+    public void testAsyncPublishingIsRetried() throws Exception {
+        brokerConfigurations.setAsyncPublishingEnabled(true);
+        brokerConfigurations.setAsyncPublishRetryCount(1);
+        BrokerUtil.initialize(broker);
+        long published = BrokerUtil.getPublishedEventCount();
+        long failed = BrokerUtil.getFailedEventCount();
+        Mockito.doThrow(new JMSException("broker down")).doNothing().when(topicPublisher)
+                .publish(Mockito.any(TextMessage.class));
+
+        BrokerUtil.publishToTopic(TOPIC, new GatewayEvent("TEST"));
+        BrokerUtil.shutdown();
+
+        Mockito.verify(topicPublisher, Mockito.times(2)).publish(Mockito.any(TextMessage.class));
+        Mockito.verify(broker, Mockito.times(2)).getTopicConnection();
+        Assert.assertEquals(BrokerUtil.getPublishedEventCount(), published + 1);
+        Assert.assertEquals(BrokerUtil.getFailedEventCount(), failed);
+    }
+
+    @Test(description = "Events of a batch which fails after all retries are counted as failed")
+    public void testAsyncPublishingFailsAfterRetries() throws Exception {
+        brokerConfigurations.setAsyncPublishingEnabled(true);
+        brokerConfigurations.setAsyncPublishRetryCount(1);
+        BrokerUtil.initialize(broker);
+        long failed = BrokerUtil.getFailedEventCount();
+        Mockito.doThrow(new JMSException("broker down")).when(topicPublisher)
+                .publish(Mockito.any(TextMessage.class));
+
+        BrokerUtil.publishToTopic(TOPIC, new GatewayEvent("TEST"));
+        BrokerUtil.shutdown();
+
+        Mockito.verify(topicPublisher, Mockito.times(2)).publish(Mockito.any(TextMessage.class));
+        Assert.assertEquals(BrokerUtil.getFailedEventCount(), failed + 1);
+    }
+}
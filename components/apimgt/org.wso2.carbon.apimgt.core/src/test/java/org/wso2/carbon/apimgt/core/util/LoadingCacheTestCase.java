@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.carbon.apimgt.core.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test cases for {@link LoadingCache}
+ */
+public class LoadingCacheTestCase {
+
+    @Test(description = "Cached values are served without loading them again")
+    public void testValueIsCached() throws Exception {
+        LoadingCache<String, String> cache = LoadingCache.expireAfterLoad(10, TimeUnit.MINUTES.toMillis(5));
+        AtomicInteger loads = new AtomicInteger();
+        Assert.assertEquals(cache.get("key", key -> key + loads.incrementAndGet()), "key1");
+        Assert.assertEquals(cache.get("key", key -> key + loads.incrementAndGet()), "key1");
+        Assert.assertEquals(loads.get(), 1);
+        cache.remove("key");
+        Assert.assertEquals(cache.get("key", key -> key + loads.incrementAndGet()), "key2");
+    }
+
+    @Test(description = "Least recently used entries are evicted when the cache is full")
+    public void testLeastRecentlyUsedEntryIsEvicted() throws Exception {
+        LoadingCache<String, String> cache = LoadingCache.expireAfterLoad(2, TimeUnit.MINUTES.toMillis(5));
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("a", key -> key + loads.incrementAndGet());
+        cache.get("b", key -> key + loads.incrementAndGet());
+        cache.get("a", key -> key + loads.incrementAndGet());
+        cache.get("c", key -> key + loads.incrementAndGet());
+        Assert.assertEquals(cache.size(), 2);
+        Assert.assertEquals(cache.get("a", key -> key + loads.incrementAndGet()), "a1");
+        Assert.assertEquals(cache.get("b", key -> key + loads.incrementAndGet()), "b4");
+    }
+
+    @Test(description = "Values expired by the expiry policy are loaded again")
+    public void testExpiredValueIsLoadedAgain() throws Exception {
+        LoadingCache<String, Integer> cache = new LoadingCache<>(10,
+                (value, loadTime) -> value > 0 ? loadTime + TimeUnit.MINUTES.toMillis(5) : 0);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("expired", key -> -loads.incrementAndGet());
+        cache.get("expired", key -> -loads.incrementAndGet());
+        Assert.assertEquals(loads.get(), 2);
+        Assert.assertEquals(cache.size(), 0);
+    }
+
+    @Test(description = "Failed loads are propagated and not cached")
+    public void testFailedLoadIsNotCached() throws Exception {
+        LoadingCache<String, String> cache = LoadingCache.expireAfterLoad(10, TimeUnit.MINUTES.toMillis(5));
+        try {
+            cache.get("key", key -> {
+                throw new IOException("Loading failed");
+            });
+            Assert.fail("Load failure was not propagated");
+        } catch (IOException e) {
+            Assert.assertEquals(e.getMessage(), "Loading failed");
+        }
+        Assert.assertEquals(cache.size(), 0);
+        Assert.assertEquals(cache.get("key", key -> "value"), "value");
+    }
+
+    @Test(description = "Concurrent requests of a key share a single load")
+    public void testConcurrentLoadsAreShared() throws Exception {
+        LoadingCache<String, String> cache = LoadingCache.expireAfterLoad(10, TimeUnit.MINUTES.toMillis(5));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<String> first = executor.submit(() -> cache.get("key", key -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                release.await();
+                return "value";
+            }));
+            loading.await();
+            Future<String> second = executor.submit(() -> cache.get("key", key -> {
+                loads.incrementAndGet();
+                return "other";
+            }));
+            release.countDown();
+            Assert.assertEquals(first.get(10, TimeUnit.SECONDS), "value");
+            Assert.assertEquals(second.get(10, TimeUnit.SECONDS), "value");
+            Assert.assertEquals(loads.get(), 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
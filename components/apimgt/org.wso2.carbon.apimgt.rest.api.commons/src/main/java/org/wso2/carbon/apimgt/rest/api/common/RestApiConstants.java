@@ -64,6 +64,9 @@ public class RestApiConstants {
     public static final String HEADER_CONTENT_TYPE = "Content-Type";
 
     public static final String RESOURCE_PATH_APIS = "/apis";
+    public static final String AFTER_PARAM = "{after}";
+    public static final String APIS_GET_PAGINATION_URL =
+            RESOURCE_PATH_APIS + "?limit=" + LIMIT_PARAM + "&after=" + AFTER_PARAM;
     public static final String RESOURCE_PATH_COMPOSITE_APIS = "/composite-apis";
     public static final String SUBRESOURCE_PATH_COMMENTS = "/comments";
     public static final String SUBRESOURCE_PATH_RATINGS = "/ratings";
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.rest.api.common.impl;
+
+import org.wso2.carbon.apimgt.core.api.TokenRevocationListener;
+import org.wso2.carbon.apimgt.core.configuration.APIMConfigurationService;
+import org.wso2.carbon.apimgt.core.configuration.models.KeyMgtConfigurations;
+import org.wso2.carbon.apimgt.core.exception.APIManagementException;
+import org.wso2.carbon.apimgt.core.models.AccessTokenInfo;
+import org.wso2.carbon.apimgt.core.util.HashUtils;
+import org.wso2.carbon.apimgt.core.util.LoadingCache;
+import org.wso2.carbon.apimgt.core.util.TokenRevocationNotifier;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache of the access tokens validated by {@link OAuth2Authenticator}, so that the management REST APIs do not call
+ * the key manager for every request.
+ * <p>
+ * Entries are keyed by a SHA-256 hash of the token, so the tokens themselves are not kept in memory. A valid token is
+ * served until it expires, or for at most the configured maximum expiry time. Tokens which are not valid, or whose
+ * expiry is not known, are not cached.
+ * <p>
+ * Revocations are only seen by the node the token is revoked through, so a revoked token stays valid on the other
+ * nodes of a cluster for up to the maximum expiry time. The cache is therefore disabled unless it is enabled in the
+ * key manager configurations.
+ */
+public class AccessTokenInfoCache implements TokenRevocationListener {
+
+    private static volatile AccessTokenInfoCache instance = null;
+    private static volatile boolean initialized = false;
+
+    private final LoadingCache<String, AccessTokenInfo> tokens;
+
+    /**
+     * @param maxExpiryTime maximum time in seconds a token is served from the cache
+     * @param maxSize       maximum number of tokens kept in the cache
+     */
+    public AccessTokenInfoCache(int maxExpiryTime, int maxSize) {
+        long maxExpiryTimeMillis = TimeUnit.SECONDS.toMillis(maxExpiryTime);
+        this.tokens = new LoadingCache<>(maxSize,
+                (accessTokenInfo, loadTime) -> getExpiryTime(accessTokenInfo, loadTime, maxExpiryTimeMillis));
+    }
+
+    /**
+     * Get the cache configured in the key manager configurations. The cache is registered to be notified of revoked
+     * tokens when it is created.
+     *
+     * @return token cache, null if token caching is disabled
+     */
+    public static AccessTokenInfoCache getInstance() {
+        if (!initialized) {
+            synchronized (AccessTokenInfoCache.class) {
+                if (!initialized) {
+                    KeyMgtConfigurations keyMgtConfigs = APIMConfigurationService.getInstance()
+                            .getApimConfigurations().getKeyManagerConfigs();
+                    if (keyMgtConfigs.isTokenCacheEnabled()) {
+                        AccessTokenInfoCache cache = new AccessTokenInfoCache(
+                                keyMgtConfigs.getTokenCacheMaxExpiryTime(), keyMgtConfigs.getTokenCacheMaxSize());
+                        TokenRevocationNotifier.addListener(cache);
+                        instance = cache;
+                    }
+                    initialized = true;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Get the information of a token, validating the token if it is not cached. Concurrent validations of the same
+     * token share a single call to the key manager. The returned information is shared between requests and must
+     * not be modified.
+     *
+     * @param accessToken access token
+     * @param validator   validator called on cache misses
+     * @return information of the token
+     * @throws APIManagementException if the validator failed
+     */
+    public AccessTokenInfo get(String accessToken, TokenValidator validator) throws APIManagementException {
+        return tokens.get(HashUtils.sha256(accessToken), key -> validator.validate(accessToken));
+    }
+
+    @Override
+    public void tokenRevoked(String accessToken) {
+        tokens.remove(HashUtils.sha256(accessToken));
+    }
+
+    /**
+     * Remove every cached token
+     */
+    public void clear() {
+        tokens.clear();
+    }
+
+    /**
+     * @return number of tokens in the cache, including tokens being validated
+     */
+    public int size() {
+        return tokens.size();
+    }
+
+    private static long getExpiryTime(AccessTokenInfo accessTokenInfo, long loadTime, long maxExpiryTimeMillis) {
+        if (accessTokenInfo == null || !accessTokenInfo.isTokenValid() || accessTokenInfo.getExpiryTime() <= 0) {
+            return 0;
+        }
+        // Introspection responses give the expiry time in seconds since the epoch
+        return Math.min(TimeUnit.SECONDS.toMillis(accessTokenInfo.getExpiryTime()), loadTime + maxExpiryTimeMillis);
+    }
+
+    /**
+     * Validates access tokens with the key manager
+     */
+    @FunctionalInterface
+    public interface TokenValidator {
+
+        /**
+         * @param accessToken access token
+         * @return information of the token
+         * @throws APIManagementException if failed to validate the token
+         */
+        AccessTokenInfo validate(String accessToken) throws APIManagementException;
+    }
+}
@@ -21,14 +21,13 @@ package org.wso2.carbon.apimgt.rest.api.common.impl;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.swagger.models.Swagger;
-import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.wso2.carbon.apimgt.core.api.APIDefinition;
 import org.wso2.carbon.apimgt.core.configuration.APIMConfigurationService;
 import org.wso2.carbon.apimgt.core.exception.APIManagementException;
 import org.wso2.carbon.apimgt.core.impl.APIDefinitionFromSwagger20;
 import org.wso2.carbon.apimgt.core.impl.APIManagerFactory;
+import org.wso2.carbon.apimgt.core.impl.RestAPIScopeIndex;
 import org.wso2.carbon.apimgt.core.models.AccessTokenInfo;
 import org.wso2.carbon.apimgt.rest.api.common.APIConstants;
 import org.wso2.carbon.apimgt.rest.api.common.RestApiConstants;
@@ -45,7 +44,6 @@ import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
-import java.util.Optional;
 import javax.ws.rs.core.HttpHeaders;
 
 /**
@@ -130,22 +128,14 @@ public class OAuth2Authenticator implements RESTAPIAuthenticator {
         String path = (String) request.getProperty(APIConstants.REQUEST_URL);
         log.debug("Invoking rest api resource path {} {} to check anonymous permission.", verb, path);
         if (restAPIResource != null) {
-            APIDefinition apiDefinition = new APIDefinitionFromSwagger20();
-            try {
-                String apiResourceDefinitionScopes = apiDefinition.getScopeOfResourcePath(restAPIResource, request,
-                        serviceMethodInfo);
-                if (StringUtils.isEmpty(apiResourceDefinitionScopes)) {
-                    log.debug("Scope not defined in swagger for matching resource {} and verb {}. Hence consider as " +
-                            "anonymous permission.", path, verb);
-                    return true;
-                }
-                log.debug("Scope defined in swagger for resource {} and verb {}.", path, verb);
-            } catch (APIManagementException e) {
-                String message = "Error while validating scopes for matching resource " + path + " and verb "
-                        + verb + " for anonymous permission.";
-                log.error(message, e);
-                throw new RestAPIAuthSecurityException(message, ExceptionCodes.INVALID_SCOPE);
+            RestAPIScopeIndex.ResourceScopes apiResourceDefinitionScopes = getResourceScopes(restAPIResource, verb,
+                    serviceMethodInfo);
+            if (apiResourceDefinitionScopes == null || apiResourceDefinitionScopes.isEmpty()) {
+                log.debug("Scope not defined in swagger for matching resource {} and verb {}. Hence consider as " +
+                        "anonymous permission.", path, verb);
+                return true;
             }
+            log.debug("Scope defined in swagger for resource {} and verb {}.", path, verb);
         } else {
             String message = "Rest API resource could not be found for request path '" + path
                     + "' while checking for anonymous permission.";
@@ -237,6 +227,29 @@ public class OAuth2Authenticator implements RESTAPIAuthenticator {
         return (token2 != null);
     }
 
+    /**
+     * Get the scopes of the REST API resource served by a resource method
+     *
+     * @param restAPIResource   swagger definition of the REST API
+     * @param verb              HTTP verb of the request
+     * @param serviceMethodInfo resource method serving the request
+     * @return scopes of the resource, null if the resource is not defined in the swagger
+     * @throws RestAPIAuthSecurityException if the HTTP verb or resource method of the request is not available
+     */
+    private RestAPIScopeIndex.ResourceScopes getResourceScopes(Swagger restAPIResource, String verb,
+                                                              Method serviceMethodInfo)
+            throws RestAPIAuthSecurityException {
+
+        if (serviceMethodInfo == null || verb == null) {
+            String message = "Could not read required properties from HTTP Request. HTTP_METHOD=" + verb +
+                    " resourceTemplate=" + serviceMethodInfo;
+            log.error(message);
+            throw new RestAPIAuthSecurityException(message, ExceptionCodes.INVALID_SCOPE);
+        }
+        RestAPIScopeIndex scopeIndex = APIDefinitionFromSwagger20.getScopeIndex(restAPIResource);
+        return scopeIndex == null ? null : scopeIndex.getScopes(serviceMethodInfo, verb);
+    }
+
     private Swagger getRestAPISwagger(Request request) {
 
         String basePath = (String) request.getProperty(RestAPIConstants.ELECTED_BASE_PATH);
@@ -272,34 +285,18 @@ public class OAuth2Authenticator implements RESTAPIAuthenticator {
         if (scopesToValidate != null && scopesArr.length > 0) {
             final List<String> scopes = Arrays.asList(scopesArr);
             if (restAPIResource != null) {
-                APIDefinition apiDefinition = new APIDefinitionFromSwagger20();
-                try {
-                    String apiResourceDefinitionScopes = apiDefinition.getScopeOfResourcePath(restAPIResource, request,
-                            serviceMethodInfo);
-                    if (StringUtils.isEmpty(apiResourceDefinitionScopes)) {
-                        if (log.isDebugEnabled()) {
-                            log.debug("Scope not defined in swagger for matching resource " + path + " and verb "
-                                    + verb + " . Hence consider as anonymous permission and let request to continue.");
-                        }
-                        // scope validation gets through if no scopes found in the api definition
-                        authorized[0] = true;
-                    } else {
-                        Arrays.stream(apiResourceDefinitionScopes.split(" "))
-                                .forEach(scopeKey -> {
-                                    Optional<String> key = scopes.stream().filter(scp -> {
-                                        return scp.equalsIgnoreCase(scopeKey);
-                                    }).findAny();
-                                    if (key.isPresent()) {
-                                        authorized[0] = true;  //scope validation success if one of the
-                                        // apiResourceDefinitionScopes found.
-                                    }
-                                });
+                RestAPIScopeIndex.ResourceScopes apiResourceDefinitionScopes = getResourceScopes(restAPIResource,
+                        verb, serviceMethodInfo);
+                if (apiResourceDefinitionScopes == null || apiResourceDefinitionScopes.isEmpty()) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Scope not defined in swagger for matching resource " + path + " and verb "
+                                + verb + " . Hence consider as anonymous permission and let request to continue.");
                     }
-
-                } catch (APIManagementException e) {
-                    String message = "Error while validating scopes";
-                    log.error(message, e);
-                    throw new RestAPIAuthSecurityException(message, ExceptionCodes.INVALID_SCOPE);
+                    // scope validation gets through if no scopes found in the api definition
+                    authorized[0] = true;
+                } else {
+                    //scope validation success if one of the apiResourceDefinitionScopes found.
+                    authorized[0] = apiResourceDefinitionScopes.isAnyGranted(scopes);
                 }
             } else {
                 if (log.isDebugEnabled()) {
@@ -342,7 +339,8 @@ public class OAuth2Authenticator implements RESTAPIAuthenticator {
     }
 
     /**
-     * Validated the given accessToken with an external key server.
+     * Validated the given accessToken with an external key server. Valid tokens are served from the
+     * {@link AccessTokenInfoCache} until they expire or are revoked, if token caching is enabled.
      *
      * @param accessToken AccessToken to be validated.
      * @return the response from the key manager server.
@@ -350,6 +348,11 @@ public class OAuth2Authenticator implements RESTAPIAuthenticator {
     private AccessTokenInfo getValidatedTokenResponse(String accessToken) throws RestAPIAuthSecurityException {
 
         try {
+            AccessTokenInfoCache accessTokenInfoCache = AccessTokenInfoCache.getInstance();
+            if (accessTokenInfoCache != null) {
+                return accessTokenInfoCache.get(accessToken,
+                        token -> APIManagerFactory.getInstance().getIdentityProvider().getTokenMetaData(token));
+            }
             AccessTokenInfo accessTokenInfo = APIManagerFactory.getInstance().getIdentityProvider()
                     .getTokenMetaData(accessToken);
             return accessTokenInfo;
@@ -301,6 +301,20 @@ public class RestApiUtil {
         return paginatedURL;
     }
 
+    /**
+     * Returns the url of the next page of APIs, for a listing paginated with page tokens
+     *
+     * @param limit max number of objects returned
+     * @param after token of the next page
+     * @return constructed paginated url
+     */
+    public static String getAPIPaginatedURL(Integer limit, String after) {
+        String paginatedURL = RestApiConstants.APIS_GET_PAGINATION_URL;
+        paginatedURL = paginatedURL.replace(RestApiConstants.LIMIT_PARAM, String.valueOf(limit));
+        paginatedURL = paginatedURL.replace(RestApiConstants.AFTER_PARAM, after);
+        return paginatedURL;
+    }
+
     /**
      * Returns the gateway config retrieve url
      *
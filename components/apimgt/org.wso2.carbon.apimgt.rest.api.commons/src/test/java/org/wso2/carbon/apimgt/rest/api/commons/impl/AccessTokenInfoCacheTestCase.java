@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.rest.api.commons.impl;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.apimgt.core.exception.APIManagementException;
+import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
+import org.wso2.carbon.apimgt.core.models.AccessTokenInfo;
+import org.wso2.carbon.apimgt.core.util.TokenRevocationNotifier;
+import org.wso2.carbon.apimgt.rest.api.common.impl.AccessTokenInfoCache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AccessTokenInfoCacheTestCase {
+
+    @Test
+    public void testValidTokenIsCached() throws Exception {
+        AccessTokenInfoCache cache = new AccessTokenInfoCache(300, 100);
+        AtomicInteger validations = new AtomicInteger();
+        AccessTokenInfoCache.TokenValidator validator = token -> {
+            validations.incrementAndGet();
+            return createTokenInfo(true, TimeUnit.HOURS.toSeconds(1));
+        };
+
+        AccessTokenInfo first = cache.get("token1", validator);
+        AccessTokenInfo second = cache.get("token1", validator);
+        Assert.assertSame(second, first);
+        Assert.assertEquals(first.getEndUserName(), "admin");
+        Assert.assertEquals(validations.get(), 1);
+
+        cache.get("token2", validator);
+        Assert.assertEquals(validations.get(), 2);
+        Assert.assertEquals(cache.size(), 2);
+    }
+
+    @Test
+    public void testInvalidAndExpiredTokensAreNotCached() throws Exception {
+        AccessTokenInfoCache cache = new AccessTokenInfoCache(300, 100);
+        AtomicInteger validations = new AtomicInteger();
+
+        cache.get("inactive", token -> {
+            validations.incrementAndGet();
+            return createTokenInfo(false, TimeUnit.HOURS.toSeconds(1));
+        });
+        cache.get("inactive", token -> {
+            validations.incrementAndGet();
+            return createTokenInfo(false, TimeUnit.HOURS.toSeconds(1));
+        });
+        Assert.assertEquals(validations.get(), 2);
+
+        cache.get("expired", token -> {
+            validations.incrementAndGet();
+            return createTokenInfo(true, -1);
+        });
+        cache.get("expired", token -> {
+            validations.incrementAndGet();
+            return createTokenInfo(true, -1);
+        });
+        Assert.assertEquals(validations.get(), 4);
+        Assert.assertEquals(cache.size(), 0);
+    }
+
+    @Test
+    public void testMaxExpiryTime() throws Exception {
+        AccessTokenInfoCache cache = new AccessTokenInfoCache(0, 100);
+        AtomicInteger validations = new AtomicInteger();
+        AccessTokenInfoCache.TokenValidator validator = token -> {
+            validations.incrementAndGet();
+            return createTokenInfo(true, TimeUnit.HOURS.toSeconds(1));
+        };
+
+        cache.get("token", validator);
+        cache.get("token", validator);
+        Assert.assertEquals(validations.get(), 2);
+    }
+
+    @Test
+    public void testRevokedTokenIsRemoved() throws Exception {
+        AccessTokenInfoCache cache = new AccessTokenInfoCache(300, 100);
+        AtomicInteger validations = new AtomicInteger();
+        AccessTokenInfoCache.TokenValidator validator = token -> {
+            validations.incrementAndGet();
+            return createTokenInfo(true, TimeUnit.HOURS.toSeconds(1));
+        };
+        TokenRevocationNotifier.addListener(cache);
+        try {
+            cache.get("token", validator);
+            cache.get("other", validator);
+            TokenRevocationNotifier.notifyTokenRevoked("token");
+            Assert.assertEquals(cache.size(), 1);
+
+            cache.get("token", validator);
+            cache.get("other", validator);
+            Assert.assertEquals(validations.get(), 3);
+        } finally {
+            TokenRevocationNotifier.removeListener(cache);
+        }
+    }
+
+    @Test
+    public void testSizeIsBounded() throws Exception {
+        AccessTokenInfoCache cache = new AccessTokenInfoCache(300, 10);
+        for (int i = 0; i < 50; i++) {
+            cache.get("token" + i, token -> createTokenInfo(true, TimeUnit.HOURS.toSeconds(1)));
+        }
+        Assert.assertEquals(cache.size(), 10);
+    }
+
+    @Test
+    public void testFailedValidationIsNotCached() throws Exception {
+        AccessTokenInfoCache cache = new AccessTokenInfoCache(300, 100);
+        try {
+            cache.get("token", token -> {
+                throw new APIManagementException("Key manager is not reachable", ExceptionCodes.AUTH_GENERAL_ERROR);
+            });
+            Assert.fail("Validation failure was not propagated");
+        } catch (APIManagementException e) {
+            Assert.assertEquals(e.getMessage(), "Key manager is not reachable");
+        }
+        Assert.assertEquals(cache.size(), 0);
+        AccessTokenInfo accessTokenInfo = cache.get("token", token -> createTokenInfo(true,
+                TimeUnit.HOURS.toSeconds(1)));
+        Assert.assertTrue(accessTokenInfo.isTokenValid());
+    }
+
+    private static AccessTokenInfo createTokenInfo(boolean valid, long expiresInSeconds) {
+        AccessTokenInfo accessTokenInfo = new AccessTokenInfo();
+        accessTokenInfo.setTokenValid(valid);
+        accessTokenInfo.setEndUserName("admin");
+        accessTokenInfo.setScopes("apim:api_view");
+        accessTokenInfo.setExpiryTime(TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + expiresInSeconds);
+        return accessTokenInfo;
+    }
+}
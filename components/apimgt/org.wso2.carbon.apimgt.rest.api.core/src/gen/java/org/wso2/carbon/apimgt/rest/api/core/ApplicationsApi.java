@@ -59,11 +59,12 @@ public class ApplicationsApi implements Microservice  {
         @io.swagger.annotations.ApiResponse(code = 404, message = "Not Found. The resource to be updated does not exist. ", response = ApplicationListDTO.class),
         
         @io.swagger.annotations.ApiResponse(code = 406, message = "Not Acceptable. The requested media type is not supported ", response = ApplicationListDTO.class) })
-    public Response applicationsGet(@ApiParam(value = "Media types acceptable for the response. Default is application/json. " , defaultValue="application/json")@HeaderParam("Accept") String accept
+    public Response applicationsGet(@ApiParam(value = "Whether the list should be streamed as it is read, instead of being built in memory before it is sent. Streamed responses are gzip compressed if the client accepts gzip encoding. ", defaultValue="false") @DefaultValue("false") @QueryParam("stream") Boolean stream
+,@ApiParam(value = "Media types acceptable for the response. Default is application/json. " , defaultValue="application/json")@HeaderParam("Accept") String accept
  ,@Context Request request)
     throws NotFoundException {
         accept=accept==null?String.valueOf("application/json"):accept;
         
-        return delegate.applicationsGet(accept,request);
+        return delegate.applicationsGet(stream,accept,request);
     }
 }
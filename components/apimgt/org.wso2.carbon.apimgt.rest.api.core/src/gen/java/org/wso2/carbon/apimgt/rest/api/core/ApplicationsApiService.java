@@ -19,6 +19,7 @@ import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
 
 public abstract class ApplicationsApiService {
-    public abstract Response applicationsGet(String accept
+    public abstract Response applicationsGet(Boolean stream
+ ,String accept
   ,Request request) throws NotFoundException;
 }
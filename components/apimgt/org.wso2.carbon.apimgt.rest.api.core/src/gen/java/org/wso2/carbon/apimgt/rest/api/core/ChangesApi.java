@@ -0,0 +1,69 @@
+package org.wso2.carbon.apimgt.rest.api.core;
+
+
+import io.swagger.annotations.ApiParam;
+
+import org.wso2.carbon.apimgt.rest.api.core.dto.ErrorDTO;
+import org.wso2.carbon.apimgt.rest.api.core.dto.GatewayChangeListDTO;
+import org.wso2.carbon.apimgt.rest.api.core.factories.ChangesApiServiceFactory;
+
+import org.wso2.msf4j.Microservice;
+import org.wso2.msf4j.Request;
+import org.wso2.msf4j.formparam.FileInfo;
+import org.wso2.msf4j.formparam.FormDataParam;
+import org.osgi.service.component.annotations.Component;
+
+import java.io.InputStream;
+import javax.ws.rs.ApplicationPath;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.FormParam;
+import javax.ws.rs.GET;
+import javax.ws.rs.HEAD;
+import javax.ws.rs.OPTIONS;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.POST;
+import javax.ws.rs.PUT;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.Response;
+
+@Component(
+    name = "org.wso2.carbon.apimgt.rest.api.core.ChangesApi",
+    service = Microservice.class,
+    immediate = true
+)
+@Path("/api/am/core/v1.[\\d]+/changes")
+@Consumes({ "application/json" })
+@Produces({ "application/json" })
+@ApplicationPath("/changes")
+@io.swagger.annotations.Api(description = "the changes API")
+public class ChangesApi implements Microservice  {
+   private final ChangesApiService delegate = ChangesApiServiceFactory.getChangesApi();
+
+    @OPTIONS
+    @GET
+    
+    @Consumes({ "application/json" })
+    @Produces({ "application/json" })
+    @io.swagger.annotations.ApiOperation(value = "Get the subscription, application and policy changes published to gateways ", notes = "Get the subscription, application and policy events published to gateways after a given revision of the gateway change log, in the order of their revisions. A gateway which reconnects replays these events to catch up with the events it has missed. If the since parameter is not given, only the latest revision is returned. A gateway which loads a full snapshot gets this revision before it starts loading the snapshot and follows the change log from it, so that no change made while the snapshot is loaded is missed. Changes replayed this way may already be part of the snapshot, so they are applied idempotently. ", response = GatewayChangeListDTO.class, tags={ "Gateway Changes", })
+    @io.swagger.annotations.ApiResponses(value = { 
+        @io.swagger.annotations.ApiResponse(code = 200, message = "OK. The list of changes. ", response = GatewayChangeListDTO.class),
+        
+        @io.swagger.annotations.ApiResponse(code = 400, message = "Bad Request. Invalid request or validation error ", response = GatewayChangeListDTO.class),
+        
+        @io.swagger.annotations.ApiResponse(code = 406, message = "Not Acceptable. The requested media type is not supported ", response = GatewayChangeListDTO.class) })
+    public Response changesGet(@ApiParam(value = "Last revision of the gateway change log seen by the gateway. Changes with a greater revision are returned. ") @QueryParam("since") Long since
+,@ApiParam(value = "Number of entities that should be retrieved. ") @QueryParam("limit") Integer limit
+,@ApiParam(value = "Media types acceptable for the response. Default is application/json. " , defaultValue="application/json")@HeaderParam("Accept") String accept
+ ,@Context Request request)
+    throws NotFoundException {
+        accept=accept==null?String.valueOf("application/json"):accept;
+        
+        return delegate.changesGet(since,limit,accept,request);
+    }
+}
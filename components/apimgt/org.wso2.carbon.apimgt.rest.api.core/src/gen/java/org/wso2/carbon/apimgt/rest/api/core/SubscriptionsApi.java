@@ -62,11 +62,13 @@ public class SubscriptionsApi implements Microservice  {
     public Response subscriptionsGet(@ApiParam(value = "Context of the API. ") @QueryParam("apiContext") String apiContext
 ,@ApiParam(value = "Version of the API. ") @QueryParam("apiVersion") String apiVersion
 ,@ApiParam(value = "Number of entities that should be retrieved. ") @QueryParam("limit") Integer limit
+,@ApiParam(value = "Token of the page to retrieve, as returned in the next field of the previous page. ") @QueryParam("after") String after
+,@ApiParam(value = "Whether the list should be streamed as it is read, instead of being built in memory before it is sent. Streamed responses are gzip compressed if the client accepts gzip encoding. ", defaultValue="false") @DefaultValue("false") @QueryParam("stream") Boolean stream
 ,@ApiParam(value = "Media types acceptable for the response. Default is application/json. " , defaultValue="application/json")@HeaderParam("Accept") String accept
  ,@Context Request request)
     throws NotFoundException {
         accept=accept==null?String.valueOf("application/json"):accept;
         
-        return delegate.subscriptionsGet(apiContext,apiVersion,limit,accept,request);
+        return delegate.subscriptionsGet(apiContext,apiVersion,limit,after,stream,accept,request);
     }
 }
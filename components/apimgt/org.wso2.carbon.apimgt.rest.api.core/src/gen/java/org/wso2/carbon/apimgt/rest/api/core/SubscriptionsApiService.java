@@ -22,6 +22,8 @@ public abstract class SubscriptionsApiService {
     public abstract Response subscriptionsGet(String apiContext
  ,String apiVersion
  ,Integer limit
+ ,String after
+ ,Boolean stream
  ,String accept
   ,Request request) throws NotFoundException;
 }
@@ -0,0 +1,118 @@
+package org.wso2.carbon.apimgt.rest.api.core.dto;
+
+
+import com.google.gson.annotations.SerializedName;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.Objects;
+
+/**
+ * GatewayChangeDTO
+ */
+public class GatewayChangeDTO   {
+  @SerializedName("revision")
+  private Long revision = null;
+
+  @SerializedName("eventType")
+  private String eventType = null;
+
+  @SerializedName("event")
+  private Object event = null;
+
+  public GatewayChangeDTO revision(Long revision) {
+    this.revision = revision;
+    return this;
+  }
+
+   /**
+   * Revision of the change in the gateway change log. 
+   * @return revision
+  **/
+  @ApiModelProperty(example = "1", value = "Revision of the change in the gateway change log. ")
+  public Long getRevision() {
+    return revision;
+  }
+
+  public void setRevision(Long revision) {
+    this.revision = revision;
+  }
+
+  public GatewayChangeDTO eventType(String eventType) {
+    this.eventType = eventType;
+    return this;
+  }
+
+   /**
+   * Type of the event published to gateways. 
+   * @return eventType
+  **/
+  @ApiModelProperty(example = "SUBSCRIPTION_CREATE", value = "Type of the event published to gateways. ")
+  public String getEventType() {
+    return eventType;
+  }
+
+  public void setEventType(String eventType) {
+    this.eventType = eventType;
+  }
+
+  public GatewayChangeDTO event(Object event) {
+    this.event = event;
+    return this;
+  }
+
+   /**
+   * Event as published to gateways. 
+   * @return event
+  **/
+  @ApiModelProperty(value = "Event as published to gateways. ")
+  public Object getEvent() {
+    return event;
+  }
+
+  public void setEvent(Object event) {
+    this.event = event;
+  }
+
+
+  @Override
+  public boolean equals(java.lang.Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    GatewayChangeDTO gatewayChange = (GatewayChangeDTO) o;
+    return Objects.equals(this.revision, gatewayChange.revision) &&
+        Objects.equals(this.eventType, gatewayChange.eventType) &&
+        Objects.equals(this.event, gatewayChange.event);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(revision, eventType, event);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class GatewayChangeDTO {\n");
+    
+    sb.append("    revision: ").append(toIndentedString(revision)).append("\n");
+    sb.append("    eventType: ").append(toIndentedString(eventType)).append("\n");
+    sb.append("    event: ").append(toIndentedString(event)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(java.lang.Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
@@ -0,0 +1,126 @@
+package org.wso2.carbon.apimgt.rest.api.core.dto;
+
+
+import com.google.gson.annotations.SerializedName;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.ArrayList;
+import java.util.List;
+import org.wso2.carbon.apimgt.rest.api.core.dto.GatewayChangeDTO;
+import java.util.Objects;
+
+/**
+ * GatewayChangeListDTO
+ */
+public class GatewayChangeListDTO   {
+  @SerializedName("count")
+  private Integer count = null;
+
+  @SerializedName("revision")
+  private Long revision = null;
+
+  @SerializedName("list")
+  private List<GatewayChangeDTO> list = new ArrayList<GatewayChangeDTO>();
+
+  public GatewayChangeListDTO count(Integer count) {
+    this.count = count;
+    return this;
+  }
+
+   /**
+   * Number of changes returned. 
+   * @return count
+  **/
+  @ApiModelProperty(example = "1", value = "Number of changes returned. ")
+  public Integer getCount() {
+    return count;
+  }
+
+  public void setCount(Integer count) {
+    this.count = count;
+  }
+
+  public GatewayChangeListDTO revision(Long revision) {
+    this.revision = revision;
+    return this;
+  }
+
+   /**
+   * Revision to send as the since parameter to get the changes which follow this list. 
+   * @return revision
+  **/
+  @ApiModelProperty(example = "1", value = "Revision to send as the since parameter to get the changes which follow this list. ")
+  public Long getRevision() {
+    return revision;
+  }
+
+  public void setRevision(Long revision) {
+    this.revision = revision;
+  }
+
+  public GatewayChangeListDTO list(List<GatewayChangeDTO> list) {
+    this.list = list;
+    return this;
+  }
+
+  public GatewayChangeListDTO addListItem(GatewayChangeDTO listItem) {
+    this.list.add(listItem);
+    return this;
+  }
+
+   /**
+   * Get list
+   * @return list
+  **/
+  @ApiModelProperty(value = "")
+  public List<GatewayChangeDTO> getList() {
+    return list;
+  }
+
+  public void setList(List<GatewayChangeDTO> list) {
+    this.list = list;
+  }
+
+
+  @Override
+  public boolean equals(java.lang.Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    GatewayChangeListDTO gatewayChangeList = (GatewayChangeListDTO) o;
+    return Objects.equals(this.count, gatewayChangeList.count) &&
+        Objects.equals(this.revision, gatewayChangeList.revision) &&
+        Objects.equals(this.list, gatewayChangeList.list);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(count, revision, list);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class GatewayChangeListDTO {\n");
+    
+    sb.append("    count: ").append(toIndentedString(count)).append("\n");
+    sb.append("    revision: ").append(toIndentedString(revision)).append("\n");
+    sb.append("    list: ").append(toIndentedString(list)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(java.lang.Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
@@ -23,6 +23,9 @@ public class KeyManagerInfoDTO   {
   @SerializedName("introspectEndpoint")
   private String introspectEndpoint = null;
 
+  @SerializedName("userInfoEndpoint")
+  private String userInfoEndpoint = null;
+
   @SerializedName("credentials")
   private CredentialsDTO credentials = null;
 
@@ -98,6 +101,24 @@ public class KeyManagerInfoDTO   {
     this.introspectEndpoint = introspectEndpoint;
   }
 
+  public KeyManagerInfoDTO userInfoEndpoint(String userInfoEndpoint) {
+    this.userInfoEndpoint = userInfoEndpoint;
+    return this;
+  }
+
+   /**
+   * Get userInfoEndpoint
+   * @return userInfoEndpoint
+  **/
+  @ApiModelProperty(example = "https://localhost:9443/api/auth/oidc/v1.0/userinfo", value = "")
+  public String getUserInfoEndpoint() {
+    return userInfoEndpoint;
+  }
+
+  public void setUserInfoEndpoint(String userInfoEndpoint) {
+    this.userInfoEndpoint = userInfoEndpoint;
+  }
+
   public KeyManagerInfoDTO credentials(CredentialsDTO credentials) {
     this.credentials = credentials;
     return this;
@@ -130,12 +151,13 @@ public class KeyManagerInfoDTO   {
         Objects.equals(this.tokenEndpoint, keyManagerInfo.tokenEndpoint) &&
         Objects.equals(this.revokeEndpoint, keyManagerInfo.revokeEndpoint) &&
         Objects.equals(this.introspectEndpoint, keyManagerInfo.introspectEndpoint) &&
+        Objects.equals(this.userInfoEndpoint, keyManagerInfo.userInfoEndpoint) &&
         Objects.equals(this.credentials, keyManagerInfo.credentials);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(dcrEndpoint, tokenEndpoint, revokeEndpoint, introspectEndpoint, credentials);
+    return Objects.hash(dcrEndpoint, tokenEndpoint, revokeEndpoint, introspectEndpoint, userInfoEndpoint, credentials);
   }
 
   @Override
@@ -147,6 +169,7 @@ public class KeyManagerInfoDTO   {
     sb.append("    tokenEndpoint: ").append(toIndentedString(tokenEndpoint)).append("\n");
     sb.append("    revokeEndpoint: ").append(toIndentedString(revokeEndpoint)).append("\n");
     sb.append("    introspectEndpoint: ").append(toIndentedString(introspectEndpoint)).append("\n");
+    sb.append("    userInfoEndpoint: ").append(toIndentedString(userInfoEndpoint)).append("\n");
     sb.append("    credentials: ").append(toIndentedString(credentials)).append("\n");
     sb.append("}");
     return sb.toString();
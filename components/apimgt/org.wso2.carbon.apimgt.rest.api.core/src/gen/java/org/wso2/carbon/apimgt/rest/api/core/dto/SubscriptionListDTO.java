@@ -16,6 +16,9 @@ public class SubscriptionListDTO   {
   @SerializedName("list")
   private List<SubscriptionDTO> list = new ArrayList<SubscriptionDTO>();
 
+  @SerializedName("next")
+  private String next = null;
+
   public SubscriptionListDTO list(List<SubscriptionDTO> list) {
     this.list = list;
     return this;
@@ -39,6 +42,24 @@ public class SubscriptionListDTO   {
     this.list = list;
   }
 
+  public SubscriptionListDTO next(String next) {
+    this.next = next;
+    return this;
+  }
+
+   /**
+   * Token of the next page of subscriptions, to be sent as the after parameter. Not set for the last page. 
+   * @return next
+  **/
+  @ApiModelProperty(value = "Token of the next page of subscriptions, to be sent as the after parameter. Not set for the last page. ")
+  public String getNext() {
+    return next;
+  }
+
+  public void setNext(String next) {
+    this.next = next;
+  }
+
 
   @Override
   public boolean equals(java.lang.Object o) {
@@ -49,12 +70,13 @@ public class SubscriptionListDTO   {
       return false;
     }
     SubscriptionListDTO subscriptionList = (SubscriptionListDTO) o;
-    return Objects.equals(this.list, subscriptionList.list);
+    return Objects.equals(this.list, subscriptionList.list) &&
+        Objects.equals(this.next, subscriptionList.next);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(list);
+    return Objects.hash(list, next);
   }
 
   @Override
@@ -63,6 +85,7 @@ public class SubscriptionListDTO   {
     sb.append("class SubscriptionListDTO {\n");
     
     sb.append("    list: ").append(toIndentedString(list)).append("\n");
+    sb.append("    next: ").append(toIndentedString(next)).append("\n");
     sb.append("}");
     return sb.toString();
   }
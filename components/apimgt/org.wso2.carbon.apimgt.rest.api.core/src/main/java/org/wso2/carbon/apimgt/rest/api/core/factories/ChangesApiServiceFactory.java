@@ -0,0 +1,26 @@
+package org.wso2.carbon.apimgt.rest.api.core.factories;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.apimgt.core.exception.APIManagementException;
+import org.wso2.carbon.apimgt.rest.api.common.util.RestApiUtil;
+import org.wso2.carbon.apimgt.rest.api.core.ChangesApiService;
+import org.wso2.carbon.apimgt.rest.api.core.impl.ChangesApiServiceImpl;
+
+public class ChangesApiServiceFactory {
+    private static ChangesApiService service;
+
+    private static final Logger log = LoggerFactory.getLogger(ChangesApiServiceFactory.class);
+
+    static {
+        try {
+            service = new ChangesApiServiceImpl(RestApiUtil.getAPIMgtAdminService());
+        } catch (APIManagementException e) {
+            log.error("Error when initializing ChangesApiService", e);
+        }
+    }
+
+    public static ChangesApiService getChangesApi() {
+        return service;
+    }
+}
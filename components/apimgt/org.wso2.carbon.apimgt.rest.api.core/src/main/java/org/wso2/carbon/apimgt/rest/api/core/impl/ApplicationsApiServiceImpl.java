@@ -29,8 +29,10 @@ import org.wso2.carbon.apimgt.core.models.Application;
 import org.wso2.carbon.apimgt.rest.api.common.util.RestApiUtil;
 import org.wso2.carbon.apimgt.rest.api.core.ApplicationsApiService;
 import org.wso2.carbon.apimgt.rest.api.core.NotFoundException;
+import org.wso2.carbon.apimgt.rest.api.core.dto.ApplicationDTO;
 import org.wso2.carbon.apimgt.rest.api.core.dto.ApplicationListDTO;
 import org.wso2.carbon.apimgt.rest.api.core.utils.MappingUtil;
+import org.wso2.carbon.apimgt.rest.api.core.utils.StreamingResponseUtil;
 import org.wso2.msf4j.Request;
 
 import java.util.HashMap;
@@ -46,8 +48,12 @@ public class ApplicationsApiServiceImpl extends ApplicationsApiService {
     }
 
     @Override
-    public Response applicationsGet(String accept
+    public Response applicationsGet(Boolean stream, String accept
             , Request request) throws NotFoundException {
+        if (Boolean.TRUE.equals(stream)) {
+            return StreamingResponseUtil.streamList(request, ApplicationDTO.class, consumer -> apiMgtAdminService
+                    .forEachApplication(application -> consumer.accept(MappingUtil.toApplicationDTO(application))));
+        }
         try {
             List<Application> applicationList = apiMgtAdminService.getAllApplications();
             ApplicationListDTO applicationListDTO = new ApplicationListDTO();
@@ -0,0 +1,65 @@
+package org.wso2.carbon.apimgt.rest.api.core.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.apimgt.core.api.APIMgtAdminService;
+import org.wso2.carbon.apimgt.core.exception.APIManagementException;
+import org.wso2.carbon.apimgt.core.models.events.GatewayChange;
+import org.wso2.carbon.apimgt.rest.api.common.dto.ErrorDTO;
+import org.wso2.carbon.apimgt.rest.api.common.util.RestApiUtil;
+import org.wso2.carbon.apimgt.rest.api.core.ChangesApiService;
+import org.wso2.carbon.apimgt.rest.api.core.NotFoundException;
+import org.wso2.carbon.apimgt.rest.api.core.dto.GatewayChangeListDTO;
+import org.wso2.carbon.apimgt.rest.api.core.utils.MappingUtil;
+import org.wso2.msf4j.Request;
+
+import java.util.Collections;
+import java.util.List;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+/**
+ * Service for retrieving the changes of the gateway change log
+ */
+public class ChangesApiServiceImpl extends ChangesApiService {
+    private APIMgtAdminService apiMgtAdminService;
+    private static final Logger log = LoggerFactory.getLogger(ChangesApiServiceImpl.class);
+
+    public ChangesApiServiceImpl(APIMgtAdminService apiMgtAdminService) {
+        this.apiMgtAdminService = apiMgtAdminService;
+    }
+
+    /**
+     * Retrieve the gateway events published after a revision of the gateway change log
+     *
+     * @param since   Last revision seen by the gateway, if null only the latest revision is returned
+     * @param limit   Maximum number of changes to return
+     * @param accept  Accept header value
+     * @param request msf4j request object
+     * @return Changes with a revision greater than the given revision
+     * @throws NotFoundException If failed to retrieve the changes
+     */
+    @Override
+    public Response changesGet(Long since, Integer limit, String accept, Request request) throws NotFoundException {
+        try {
+            GatewayChangeListDTO gatewayChangeListDTO;
+            if (since == null) {
+                long latestRevision = apiMgtAdminService.getLatestGatewayChangeRevision();
+                gatewayChangeListDTO = MappingUtil.fromGatewayChangesToListDTO(Collections.emptyList(),
+                        latestRevision);
+            } else {
+                List<GatewayChange> changes = apiMgtAdminService.getGatewayChanges(since,
+                        limit == null ? -1 : limit);
+                gatewayChangeListDTO = MappingUtil.fromGatewayChangesToListDTO(changes, since);
+            }
+            return Response.ok(gatewayChangeListDTO).build();
+        } catch (APIManagementException e) {
+            String errorMessage = "Error while retrieving gateway changes";
+            ErrorDTO errorDTO = RestApiUtil.getErrorDTO(e.getErrorHandler());
+            log.error(errorMessage, e);
+            return Response.status(e.getErrorHandler().getHttpStatusCode()).header(HttpHeaders.CONTENT_TYPE,
+                    MediaType.APPLICATION_JSON).entity(errorDTO).build();
+        }
+    }
+}
@@ -5,6 +5,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.wso2.carbon.apimgt.core.api.APIMgtAdminService;
 import org.wso2.carbon.apimgt.core.exception.APIManagementException;
+import org.wso2.carbon.apimgt.core.models.PagedResults;
 import org.wso2.carbon.apimgt.core.models.SubscriptionValidationData;
 import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
 import org.wso2.carbon.apimgt.core.util.APIUtils;
@@ -12,8 +13,10 @@ import org.wso2.carbon.apimgt.rest.api.common.dto.ErrorDTO;
 import org.wso2.carbon.apimgt.rest.api.common.util.RestApiUtil;
 import org.wso2.carbon.apimgt.rest.api.core.NotFoundException;
 import org.wso2.carbon.apimgt.rest.api.core.SubscriptionsApiService;
+import org.wso2.carbon.apimgt.rest.api.core.dto.SubscriptionDTO;
 import org.wso2.carbon.apimgt.rest.api.core.dto.SubscriptionListDTO;
 import org.wso2.carbon.apimgt.rest.api.core.utils.MappingUtil;
+import org.wso2.carbon.apimgt.rest.api.core.utils.StreamingResponseUtil;
 import org.wso2.msf4j.Request;
 
 import java.util.HashMap;
@@ -37,23 +40,35 @@ public class SubscriptionsApiServiceImpl extends SubscriptionsApiService {
      * @param apiContext Context of the API
      * @param apiVersion API version
      * @param limit      Limit value
+     * @param after      Token of the page of subscriptions of all APIs to retrieve
+     * @param stream     Whether the subscriptions of all APIs should be streamed instead of being paged
      * @return Subscriptions of the API
      * @throws NotFoundException If failed to retrieve subscriptions
      */
     @Override
     public Response subscriptionsGet(String apiContext, String apiVersion,
-                                     Integer limit, String accept,
+                                     Integer limit, String after, Boolean stream, String accept,
                                      Request request) throws NotFoundException {
         try {
-            List<SubscriptionValidationData> subscriptionsOfApi;
+            SubscriptionListDTO subscriptionsList = new SubscriptionListDTO();
             if (StringUtils.isEmpty(apiContext) || StringUtils.isEmpty(apiVersion)) {
+                if (Boolean.TRUE.equals(stream)) {
+                    APIUtils.logDebug("API Context or version is null or empty. Streaming subscriptions of all APIs",
+                            log);
+                    return StreamingResponseUtil.streamList(request, SubscriptionDTO.class,
+                            consumer -> apiMgtAdminService.forEachAPISubscription(
+                                    subscription -> consumer.accept(MappingUtil.toSubscriptionDTO(subscription))));
+                }
                 APIUtils.logDebug("API Context or version is null or empty. Retrieving subscriptions of all APIs", log);
-                subscriptionsOfApi = apiMgtAdminService.getAPISubscriptions(limit);
+                PagedResults<SubscriptionValidationData> subscriptions = apiMgtAdminService
+                        .getAPISubscriptions(limit == null ? -1 : limit, after);
+                subscriptionsList.setList(MappingUtil.convertToSubscriptionListDto(subscriptions.getResults()));
+                subscriptionsList.setNext(subscriptions.getNext());
             } else {
-                subscriptionsOfApi = apiMgtAdminService.getAPISubscriptionsOfApi(apiContext, apiVersion);
+                List<SubscriptionValidationData> subscriptionsOfApi = apiMgtAdminService
+                        .getAPISubscriptionsOfApi(apiContext, apiVersion);
+                subscriptionsList.setList(MappingUtil.convertToSubscriptionListDto(subscriptionsOfApi));
             }
-            SubscriptionListDTO subscriptionsList = new SubscriptionListDTO();
-            subscriptionsList.setList(MappingUtil.convertToSubscriptionListDto(subscriptionsOfApi));
             return Response.ok(subscriptionsList).build();
         } catch (APIManagementException e) {
             String errorMessage = "Error while retrieving subscriptions.";
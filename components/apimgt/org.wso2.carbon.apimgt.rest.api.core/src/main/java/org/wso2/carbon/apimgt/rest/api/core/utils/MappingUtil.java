@@ -20,6 +20,7 @@
 package org.wso2.carbon.apimgt.rest.api.core.utils;
 
 
+import com.google.gson.JsonParser;
 import org.wso2.carbon.apimgt.core.models.API;
 import org.wso2.carbon.apimgt.core.models.Application;
 import org.wso2.carbon.apimgt.core.models.BlockConditions;
@@ -29,6 +30,7 @@ import org.wso2.carbon.apimgt.core.models.PolicyValidationData;
 import org.wso2.carbon.apimgt.core.models.RegistrationSummary;
 import org.wso2.carbon.apimgt.core.models.SubscriptionValidationData;
 import org.wso2.carbon.apimgt.core.models.UriTemplate;
+import org.wso2.carbon.apimgt.core.models.events.GatewayChange;
 import org.wso2.carbon.apimgt.core.models.policy.ThreatProtectionPolicy;
 import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
 import org.wso2.carbon.apimgt.core.util.APIUtils;
@@ -40,6 +42,8 @@ import org.wso2.carbon.apimgt.rest.api.core.dto.BlockingConditionDTO;
 import org.wso2.carbon.apimgt.rest.api.core.dto.BlockingConditionListDTO;
 import org.wso2.carbon.apimgt.rest.api.core.dto.CredentialsDTO;
 import org.wso2.carbon.apimgt.rest.api.core.dto.EndPointDTO;
+import org.wso2.carbon.apimgt.rest.api.core.dto.GatewayChangeDTO;
+import org.wso2.carbon.apimgt.rest.api.core.dto.GatewayChangeListDTO;
 import org.wso2.carbon.apimgt.rest.api.core.dto.GoogleAnalyticsTrackingInfoDTO;
 import org.wso2.carbon.apimgt.rest.api.core.dto.JWTInfoDTO;
 import org.wso2.carbon.apimgt.rest.api.core.dto.KeyManagerInfoDTO;
@@ -71,21 +75,31 @@ public class MappingUtil {
             List<SubscriptionValidationData> subscriptionValidationData) {
         List<SubscriptionDTO> subscriptionDTOList = new ArrayList<>();
         for (SubscriptionValidationData subscriptionData : subscriptionValidationData) {
-            SubscriptionDTO subscriptionDTO = new SubscriptionDTO();
-            subscriptionDTO.setApiName(subscriptionData.getApiName());
-            subscriptionDTO.setApiContext(subscriptionData.getApiContext());
-            subscriptionDTO.setApiVersion(subscriptionData.getApiVersion());
-            subscriptionDTO.setApiProvider(subscriptionData.getApiProvider());
-            subscriptionDTO.setConsumerKey(subscriptionData.getConsumerKey());
-            subscriptionDTO.setSubscriptionPolicy(subscriptionData.getSubscriptionPolicy());
-            subscriptionDTO.setKeyEnvType(subscriptionData.getKeyEnvType());
-            subscriptionDTO.setApplicationId(subscriptionData.getApplicationId());
-            subscriptionDTO.setStatus(subscriptionData.getStatus());
-            subscriptionDTOList.add(subscriptionDTO);
+            subscriptionDTOList.add(toSubscriptionDTO(subscriptionData));
         }
         return subscriptionDTOList;
     }
 
+    /**
+     * This method converts SubscriptionValidationData into SubscriptionDTO.
+     *
+     * @param subscriptionData Subscription Validation Data
+     * @return SubscriptionDTO
+     */
+    public static SubscriptionDTO toSubscriptionDTO(SubscriptionValidationData subscriptionData) {
+        SubscriptionDTO subscriptionDTO = new SubscriptionDTO();
+        subscriptionDTO.setApiName(subscriptionData.getApiName());
+        subscriptionDTO.setApiContext(subscriptionData.getApiContext());
+        subscriptionDTO.setApiVersion(subscriptionData.getApiVersion());
+        subscriptionDTO.setApiProvider(subscriptionData.getApiProvider());
+        subscriptionDTO.setConsumerKey(subscriptionData.getConsumerKey());
+        subscriptionDTO.setSubscriptionPolicy(subscriptionData.getSubscriptionPolicy());
+        subscriptionDTO.setKeyEnvType(subscriptionData.getKeyEnvType());
+        subscriptionDTO.setApplicationId(subscriptionData.getApplicationId());
+        subscriptionDTO.setStatus(subscriptionData.getStatus());
+        return subscriptionDTO;
+    }
+
     /**
      * Converts labelDTOs into labels
      *
@@ -170,16 +184,26 @@ public class MappingUtil {
     public static List<ApplicationDTO> convertToApplicationDtoList(List<Application> applicationList) {
         List<ApplicationDTO> applicationDTOList = new ArrayList<>();
         for (Application application : applicationList) {
-            ApplicationDTO applicationDTO = new ApplicationDTO();
-            applicationDTO.setName(application.getName());
-            applicationDTO.setApplicationId(application.getId());
-            applicationDTO.setThrottlingTier(application.getPolicy().getUuid());
-            applicationDTO.setSubscriber(application.getCreatedUser());
-            applicationDTOList.add(applicationDTO);
+            applicationDTOList.add(toApplicationDTO(application));
         }
         return applicationDTOList;
     }
 
+    /**
+     * convert {@link Application} to {@link ApplicationDTO}
+     *
+     * @param application {@link Application}
+     * @return ApplicationDTO
+     */
+    public static ApplicationDTO toApplicationDTO(Application application) {
+        ApplicationDTO applicationDTO = new ApplicationDTO();
+        applicationDTO.setName(application.getName());
+        applicationDTO.setApplicationId(application.getId());
+        applicationDTO.setThrottlingTier(application.getPolicy().getUuid());
+        applicationDTO.setSubscriber(application.getCreatedUser());
+        return applicationDTO;
+    }
+
     /**
      * Converts the Gateway registration summary into RegistrationSummaryDTO
      *
@@ -210,6 +234,7 @@ public class MappingUtil {
         keyManagerInfoDTO.setIntrospectEndpoint(registrationSummary.getKeyManagerInfo().getIntrospectEndpoint());
         keyManagerInfoDTO.setRevokeEndpoint(registrationSummary.getKeyManagerInfo().getRevokeEndpoint());
         keyManagerInfoDTO.setTokenEndpoint(registrationSummary.getKeyManagerInfo().getTokenEndpoint());
+        keyManagerInfoDTO.setUserInfoEndpoint(registrationSummary.getKeyManagerInfo().getUserInfoEndpoint());
         CredentialsDTO keyManagerCredentials = new CredentialsDTO();
         keyManagerCredentials.setUsername(registrationSummary.getKeyManagerInfo().getCredentials().getUsername());
         keyManagerCredentials.setPassword(registrationSummary.getKeyManagerInfo().getCredentials().getPassword());
@@ -307,6 +332,32 @@ public class MappingUtil {
         return endPointDTOList;
     }
 
+    /**
+     * Converts a list of gateway changes in to REST API list DTO object. The events are embedded as JSON objects, as
+     * they were published to gateways.
+     *
+     * @param changes  gateway changes in the order of their revisions
+     * @param revision revision the changes were retrieved after
+     * @return REST API list DTO object, with the revision of the last change or the given revision if there are no
+     * changes
+     */
+    public static GatewayChangeListDTO fromGatewayChangesToListDTO(List<GatewayChange> changes, long revision) {
+        GatewayChangeListDTO listDTO = new GatewayChangeListDTO();
+        JsonParser jsonParser = new JsonParser();
+        long lastRevision = revision;
+        for (GatewayChange change : changes) {
+            GatewayChangeDTO changeDTO = new GatewayChangeDTO();
+            changeDTO.setRevision(change.getRevision());
+            changeDTO.setEventType(change.getEventType());
+            changeDTO.setEvent(jsonParser.parse(change.getEvent()));
+            listDTO.addListItem(changeDTO);
+            lastRevision = change.getRevision();
+        }
+        listDTO.setCount(changes.size());
+        listDTO.setRevision(lastRevision);
+        return listDTO;
+    }
+
     /**
      * Converts a List of Block Condition in to REST API LIST DTO Object.
      *
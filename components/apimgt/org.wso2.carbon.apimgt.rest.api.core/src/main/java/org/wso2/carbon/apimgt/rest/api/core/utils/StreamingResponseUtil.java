@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.rest.api.core.utils;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.stream.JsonWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.apimgt.core.exception.APIManagementException;
+import org.wso2.msf4j.Request;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+
+/**
+ * Utility class for sending large lists as a JSON object with a single {@code list} array, the same shape as the
+ * list DTOs. Items are written to the response while they are read, so the list is never held in memory.
+ */
+public class StreamingResponseUtil {
+
+    private static final Logger log = LoggerFactory.getLogger(StreamingResponseUtil.class);
+    private static final Gson gson = new Gson();
+    private static final String GZIP_ENCODING = "gzip";
+
+    private StreamingResponseUtil() {
+    }
+
+    /**
+     * Source of the items of a streamed list
+     *
+     * @param <T> type of the DTOs of the list
+     */
+    @FunctionalInterface
+    public interface ListSource<T> {
+
+        /**
+         * Pass each item of the list to a consumer
+         *
+         * @param consumer consumer of the items
+         * @throws APIManagementException if failed to read the items
+         */
+        void forEach(Consumer<T> consumer) throws APIManagementException;
+    }
+
+    /**
+     * Build a response which streams a list. The response is gzip compressed if the client accepts gzip encoding.
+     * Since the status is sent before the items are read, an error while reading the items ends the response with
+     * an incomplete JSON document.
+     *
+     * @param request request of the list
+     * @param dtoType type of the DTOs of the list
+     * @param source  source of the DTOs of the list
+     * @param <T>     type of the DTOs of the list
+     * @return response streaming the list
+     */
+    public static <T> Response streamList(Request request, Class<T> dtoType, ListSource<T> source) {
+        boolean gzip = acceptsGzip(request);
+        StreamingOutput output = outputStream -> {
+            if (gzip) {
+                GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream);
+                writeList(gzipOutputStream, dtoType, source);
+                gzipOutputStream.finish();
+            } else {
+                writeList(outputStream, dtoType, source);
+            }
+        };
+        Response.ResponseBuilder responseBuilder = Response.ok(output, MediaType.APPLICATION_JSON_TYPE);
+        if (gzip) {
+            responseBuilder.header(HttpHeaders.CONTENT_ENCODING, GZIP_ENCODING);
+        }
+        return responseBuilder.build();
+    }
+
+    /**
+     * Write a list as a JSON object with a single {@code list} array
+     *
+     * @param outputStream stream to write the list to
+     * @param dtoType      type of the DTOs of the list
+     * @param source       source of the DTOs of the list
+     * @param <T>          type of the DTOs of the list
+     * @throws IOException if failed to read or write the list
+     */
+    static <T> void writeList(OutputStream outputStream, Class<T> dtoType, ListSource<T> source)
+            throws IOException {
+        JsonWriter writer = new JsonWriter(new BufferedWriter(new OutputStreamWriter(outputStream,
+                StandardCharsets.UTF_8)));
+        writer.beginObject().name("list").beginArray();
+        try {
+            source.forEach(dto -> gson.toJson(dto, dtoType, writer));
+        } catch (JsonIOException e) {
+            throw new IOException("Error while writing streamed list of " + dtoType.getSimpleName(), e);
+        } catch (APIManagementException e) {
+            String errorMessage = "Error while reading streamed list of " + dtoType.getSimpleName();
+            log.error(errorMessage, e);
+            throw new IOException(errorMessage, e);
+        }
+        writer.endArray().endObject();
+        writer.flush();
+    }
+
+    private static boolean acceptsGzip(Request request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ENGLISH).contains(GZIP_ENCODING);
+    }
+}
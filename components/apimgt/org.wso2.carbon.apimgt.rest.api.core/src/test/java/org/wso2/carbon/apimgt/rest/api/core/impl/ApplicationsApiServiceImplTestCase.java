@@ -19,6 +19,7 @@
 
 package org.wso2.carbon.apimgt.rest.api.core.impl;
 
+import com.google.gson.Gson;
 import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -31,8 +32,12 @@ import org.wso2.carbon.apimgt.rest.api.core.utils.SampleTestObjectCreator;
 import org.wso2.msf4j.Request;
 
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class ApplicationsApiServiceImplTestCase {
 
@@ -53,11 +58,37 @@ public class ApplicationsApiServiceImplTestCase {
 
         Mockito.when(adminService.getAllApplications()).thenReturn(applicationList);
 
-        Response response = applicationsApiService.applicationsGet(null, getRequest());
+        Response response = applicationsApiService.applicationsGet(null, null, getRequest());
         Assert.assertEquals(response.getStatus(), 200);
         Assert.assertEquals(((ApplicationListDTO) response.getEntity()).getList().size(), 3);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void applicationsGetStreamedTestCase() throws Exception {
+        APIMgtAdminService adminService = Mockito.mock(APIMgtAdminService.class);
+        ApplicationsApiServiceImpl applicationsApiService = new ApplicationsApiServiceImpl(adminService);
+
+        List<Application> applicationList = new ArrayList<>();
+        applicationList.add(SampleTestObjectCreator.createRandomApplication());
+        applicationList.add(SampleTestObjectCreator.createRandomApplication());
+
+        Mockito.doAnswer(invocation -> {
+            applicationList.forEach((Consumer<Application>) invocation.getArguments()[0]);
+            return null;
+        }).when(adminService).forEachApplication(Mockito.any());
+
+        Response response = applicationsApiService.applicationsGet(true, null, getRequest());
+        Assert.assertEquals(response.getStatus(), 200);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(outputStream);
+        ApplicationListDTO applicationListDTO = new Gson().fromJson(
+                new String(outputStream.toByteArray(), StandardCharsets.UTF_8), ApplicationListDTO.class);
+        Assert.assertEquals(applicationListDTO.getList().size(), 2);
+        Assert.assertEquals(applicationListDTO.getList().get(1).getApplicationId(), applicationList.get(1).getId());
+        Mockito.verify(adminService, Mockito.never()).getAllApplications();
+    }
+
     @Test
     public void applicationsGetExceptionTestCase() throws Exception {
         APIMgtAdminService adminService = Mockito.mock(APIMgtAdminService.class);
@@ -69,7 +100,7 @@ public class ApplicationsApiServiceImplTestCase {
                 ExceptionCodes.APPLICATION_NOT_FOUND);
         Mockito.when(adminService.getAllApplications()).thenThrow(apiManagementException);
 
-        Response response = applicationsApiService.applicationsGet(null, getRequest());
+        Response response = applicationsApiService.applicationsGet(null, null, getRequest());
         Assert.assertEquals(response.getStatus(), 404);
 
     }
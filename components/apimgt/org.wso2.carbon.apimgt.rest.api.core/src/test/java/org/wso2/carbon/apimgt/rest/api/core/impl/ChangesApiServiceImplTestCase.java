@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.rest.api.core.impl;
+
+import com.google.gson.JsonObject;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.apimgt.core.api.APIMgtAdminService;
+import org.wso2.carbon.apimgt.core.exception.APIManagementException;
+import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
+import org.wso2.carbon.apimgt.core.models.events.GatewayChange;
+import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
+import org.wso2.carbon.apimgt.rest.api.core.dto.GatewayChangeListDTO;
+import org.wso2.msf4j.Request;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import javax.ws.rs.core.Response;
+
+public class ChangesApiServiceImplTestCase {
+
+    @Test
+    public void changesGetSinceRevisionTestCase() throws Exception {
+        APIMgtAdminService adminService = Mockito.mock(APIMgtAdminService.class);
+        ChangesApiServiceImpl changesApiService = new ChangesApiServiceImpl(adminService);
+
+        List<GatewayChange> changes = new ArrayList<>();
+        changes.add(new GatewayChange(11, APIMgtConstants.GatewayEventTypes.SUBSCRIPTION_CREATE,
+                "{\"eventType\":\"SUBSCRIPTION_CREATE\",\"subscriptionsList\":[]}", Instant.now()));
+        changes.add(new GatewayChange(12, APIMgtConstants.GatewayEventTypes.POLICY_DELETE,
+                "{\"eventType\":\"POLICY_DELETE\",\"name\":\"Gold\"}", Instant.now()));
+        Mockito.when(adminService.getGatewayChanges(10, 2)).thenReturn(changes);
+
+        Response response = changesApiService.changesGet(10L, 2, null, getRequest());
+        Assert.assertEquals(response.getStatus(), 200);
+        GatewayChangeListDTO changeList = (GatewayChangeListDTO) response.getEntity();
+        Assert.assertEquals(changeList.getCount().intValue(), 2);
+        Assert.assertEquals(changeList.getRevision().longValue(), 12);
+        Assert.assertEquals(changeList.getList().get(0).getRevision().longValue(), 11);
+        Assert.assertEquals(changeList.getList().get(1).getEventType(),
+                APIMgtConstants.GatewayEventTypes.POLICY_DELETE);
+        Assert.assertEquals(((JsonObject) changeList.getList().get(1).getEvent()).get("name").getAsString(), "Gold");
+    }
+
+    @Test
+    public void changesGetUpToDateTestCase() throws Exception {
+        APIMgtAdminService adminService = Mockito.mock(APIMgtAdminService.class);
+        ChangesApiServiceImpl changesApiService = new ChangesApiServiceImpl(adminService);
+        Mockito.when(adminService.getGatewayChanges(12, -1)).thenReturn(new ArrayList<>());
+
+        Response response = changesApiService.changesGet(12L, null, null, getRequest());
+        Assert.assertEquals(response.getStatus(), 200);
+        GatewayChangeListDTO changeList = (GatewayChangeListDTO) response.getEntity();
+        Assert.assertEquals(changeList.getCount().intValue(), 0);
+        Assert.assertEquals(changeList.getRevision().longValue(), 12);
+    }
+
+    @Test
+    public void changesGetLatestRevisionTestCase() throws Exception {
+        APIMgtAdminService adminService = Mockito.mock(APIMgtAdminService.class);
+        ChangesApiServiceImpl changesApiService = new ChangesApiServiceImpl(adminService);
+        Mockito.when(adminService.getLatestGatewayChangeRevision()).thenReturn(25L);
+
+        Response response = changesApiService.changesGet(null, null, null, getRequest());
+        Assert.assertEquals(response.getStatus(), 200);
+        GatewayChangeListDTO changeList = (GatewayChangeListDTO) response.getEntity();
+        Assert.assertEquals(changeList.getRevision().longValue(), 25);
+        Assert.assertTrue(changeList.getList().isEmpty());
+        Mockito.verify(adminService, Mockito.never()).getGatewayChanges(Mockito.anyLong(), Mockito.anyInt());
+    }
+
+    @Test
+    public void changesGetExceptionTestCase() throws Exception {
+        APIMgtAdminService adminService = Mockito.mock(APIMgtAdminService.class);
+        ChangesApiServiceImpl changesApiService = new ChangesApiServiceImpl(adminService);
+        Mockito.when(adminService.getGatewayChanges(10, -1)).thenThrow(
+                new APIManagementException("Error while retrieving gateway changes",
+                        ExceptionCodes.APIMGT_DAO_EXCEPTION));
+
+        Response response = changesApiService.changesGet(10L, null, null, getRequest());
+        Assert.assertEquals(response.getStatus(), 500);
+    }
+
+    private Request getRequest() {
+        return Mockito.mock(Request.class);
+    }
+}
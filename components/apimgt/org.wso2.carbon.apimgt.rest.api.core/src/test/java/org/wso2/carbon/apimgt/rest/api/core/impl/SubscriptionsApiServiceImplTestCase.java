@@ -19,20 +19,32 @@
 
 package org.wso2.carbon.apimgt.rest.api.core.impl;
 
+import com.google.gson.Gson;
 import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 import org.wso2.carbon.apimgt.core.api.APIMgtAdminService;
 import org.wso2.carbon.apimgt.core.exception.APIManagementException;
 import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
+import org.wso2.carbon.apimgt.core.models.PagedResults;
 import org.wso2.carbon.apimgt.core.models.SubscriptionValidationData;
 import org.wso2.carbon.apimgt.rest.api.core.dto.SubscriptionListDTO;
 import org.wso2.carbon.apimgt.rest.api.core.utils.SampleTestObjectCreator;
 import org.wso2.msf4j.Request;
 
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
 
 public class SubscriptionsApiServiceImplTestCase {
 
@@ -49,7 +61,7 @@ public class SubscriptionsApiServiceImplTestCase {
         Mockito.when(apiMgtAdminService.getAPISubscriptionsOfApi(API_CONTEXT, API_VERSION))
                 .thenReturn(createSubscriptionValidationDataList());
         Response response = subscriptionsApiService
-                .subscriptionsGet(API_CONTEXT, API_VERSION, LIMIT, null, getRequest());
+                .subscriptionsGet(API_CONTEXT, API_VERSION, LIMIT, null, null, null, getRequest());
 
         Assert.assertEquals(response.getStatus(), Response.Status.OK.getStatusCode());
         Assert.assertEquals(((SubscriptionListDTO) response.getEntity()).getList().size(), 2);
@@ -78,17 +90,116 @@ public class SubscriptionsApiServiceImplTestCase {
 
         SubscriptionsApiServiceImpl subscriptionsApiService = new SubscriptionsApiServiceImpl(apiMgtAdminService);
         Response response = subscriptionsApiService
-                .subscriptionsGet(API_CONTEXT, API_VERSION, LIMIT, null, getRequest());
+                .subscriptionsGet(API_CONTEXT, API_VERSION, LIMIT, null, null, null, getRequest());
         Assert.assertEquals(response.getStatus(), Response.Status.INTERNAL_SERVER_ERROR.getStatusCode());
     }
 
+    @Test
+    public void subscriptionsGetNextPageTest() throws Exception {
+        APIMgtAdminService apiMgtAdminService = Mockito.mock(APIMgtAdminService.class);
+
+        SubscriptionsApiServiceImpl subscriptionsApiService = new SubscriptionsApiServiceImpl(apiMgtAdminService);
+
+        Mockito.when(apiMgtAdminService.getAPISubscriptions(LIMIT, "page-2"))
+                .thenReturn(new PagedResults<>(createSubscriptionValidationDataList(), "page-3"));
+        Response response = subscriptionsApiService.subscriptionsGet(null, null, LIMIT, "page-2", null, null,
+                getRequest());
+
+        Assert.assertEquals(response.getStatus(), Response.Status.OK.getStatusCode());
+        SubscriptionListDTO subscriptionList = (SubscriptionListDTO) response.getEntity();
+        Assert.assertEquals(subscriptionList.getList().size(), 2);
+        Assert.assertEquals(subscriptionList.getNext(), "page-3");
+    }
+
+    @Test
+    public void subscriptionsGetInvalidPageTokenTest() throws Exception {
+        APIMgtAdminService apiMgtAdminService = Mockito.mock(APIMgtAdminService.class);
+
+        SubscriptionsApiServiceImpl subscriptionsApiService = new SubscriptionsApiServiceImpl(apiMgtAdminService);
+
+        Mockito.when(apiMgtAdminService.getAPISubscriptions(LIMIT, "invalid")).thenThrow(
+                new APIManagementException("", ExceptionCodes.INVALID_PAGE_TOKEN));
+        Response response = subscriptionsApiService.subscriptionsGet(null, null, LIMIT, "invalid", null, null,
+                getRequest());
+        Assert.assertEquals(response.getStatus(), Response.Status.BAD_REQUEST.getStatusCode());
+    }
+
+    @Test
+    public void subscriptionsGetStreamedTest() throws Exception {
+        APIMgtAdminService apiMgtAdminService = Mockito.mock(APIMgtAdminService.class);
+
+        SubscriptionsApiServiceImpl subscriptionsApiService = new SubscriptionsApiServiceImpl(apiMgtAdminService);
+
+        mockSubscriptionStream(apiMgtAdminService);
+        Response response = subscriptionsApiService.subscriptionsGet(null, null, null, null, true, null,
+                getRequest());
+
+        Assert.assertEquals(response.getStatus(), Response.Status.OK.getStatusCode());
+        Assert.assertNull(response.getStringHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(outputStream);
+        SubscriptionListDTO subscriptionList = new Gson().fromJson(
+                new String(outputStream.toByteArray(), StandardCharsets.UTF_8), SubscriptionListDTO.class);
+        Assert.assertEquals(subscriptionList.getList().size(), 2);
+        Assert.assertEquals(subscriptionList.getList().get(0).getApiContext(),
+                createSubscriptionValidationDataList().get(0).getApiContext());
+        Mockito.verify(apiMgtAdminService, Mockito.never()).getAPISubscriptions(Mockito.anyInt(),
+                Mockito.anyString());
+    }
+
+    @Test
+    public void subscriptionsGetStreamedGzipTest() throws Exception {
+        APIMgtAdminService apiMgtAdminService = Mockito.mock(APIMgtAdminService.class);
+
+        SubscriptionsApiServiceImpl subscriptionsApiService = new SubscriptionsApiServiceImpl(apiMgtAdminService);
+
+        mockSubscriptionStream(apiMgtAdminService);
+        Request request = getRequest();
+        Mockito.when(request.getHeader(HttpHeaders.ACCEPT_ENCODING)).thenReturn("gzip, deflate");
+        Response response = subscriptionsApiService.subscriptionsGet(null, null, null, null, true, null, request);
+
+        Assert.assertEquals(response.getStatus(), Response.Status.OK.getStatusCode());
+        Assert.assertEquals(response.getStringHeaders().getFirst(HttpHeaders.CONTENT_ENCODING), "gzip");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(outputStream);
+        try (Reader reader = new InputStreamReader(new GZIPInputStream(
+                new ByteArrayInputStream(outputStream.toByteArray())), StandardCharsets.UTF_8)) {
+            SubscriptionListDTO subscriptionList = new Gson().fromJson(reader, SubscriptionListDTO.class);
+            Assert.assertEquals(subscriptionList.getList().size(), 2);
+        }
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void subscriptionsGetStreamedErrorTest() throws Exception {
+        APIMgtAdminService apiMgtAdminService = Mockito.mock(APIMgtAdminService.class);
+
+        SubscriptionsApiServiceImpl subscriptionsApiService = new SubscriptionsApiServiceImpl(apiMgtAdminService);
+
+        Mockito.doThrow(new APIManagementException("", ExceptionCodes.APIMGT_DAO_EXCEPTION))
+                .when(apiMgtAdminService).forEachAPISubscription(Mockito.any());
+        Response response = subscriptionsApiService.subscriptionsGet(null, null, null, null, true, null,
+                getRequest());
+
+        ((StreamingOutput) response.getEntity()).write(new ByteArrayOutputStream());
+    }
+
     private Response getResponse(String apiContext, String apiVersion) throws Exception {
         APIMgtAdminService apiMgtAdminService = Mockito.mock(APIMgtAdminService.class);
 
         SubscriptionsApiServiceImpl subscriptionsApiService = new SubscriptionsApiServiceImpl(apiMgtAdminService);
 
-        Mockito.when(apiMgtAdminService.getAPISubscriptions(LIMIT)).thenReturn(createSubscriptionValidationDataList());
-        return subscriptionsApiService.subscriptionsGet(apiContext, apiVersion, LIMIT, null, getRequest());
+        Mockito.when(apiMgtAdminService.getAPISubscriptions(LIMIT, null))
+                .thenReturn(new PagedResults<>(createSubscriptionValidationDataList(), null));
+        return subscriptionsApiService.subscriptionsGet(apiContext, apiVersion, LIMIT, null, null, null, getRequest());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void mockSubscriptionStream(APIMgtAdminService apiMgtAdminService) throws Exception {
+        List<SubscriptionValidationData> subscriptions = createSubscriptionValidationDataList();
+        Mockito.doAnswer(invocation -> {
+            subscriptions.forEach((Consumer<SubscriptionValidationData>) invocation.getArguments()[0]);
+            return null;
+        }).when(apiMgtAdminService).forEachAPISubscription(Mockito.any());
     }
 
     private List<SubscriptionValidationData> createSubscriptionValidationDataList() throws Exception {
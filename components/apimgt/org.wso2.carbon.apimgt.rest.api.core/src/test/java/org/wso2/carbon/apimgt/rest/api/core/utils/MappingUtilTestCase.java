@@ -151,6 +151,8 @@ public class MappingUtilTestCase {
                 registrationSummaryDTO.getKeyManagerInfo().getRevokeEndpoint());
         Assert.assertEquals(registrationSummary.getKeyManagerInfo().getTokenEndpoint(),
                 registrationSummaryDTO.getKeyManagerInfo().getTokenEndpoint());
+        Assert.assertEquals(registrationSummary.getKeyManagerInfo().getUserInfoEndpoint(),
+                registrationSummaryDTO.getKeyManagerInfo().getUserInfoEndpoint());
         Assert.assertEquals(registrationSummary.getAnalyticsInfo().getDasServerCredentials().getUsername(),
                 registrationSummaryDTO.getAnalyticsInfo().getCredentials().getUsername());
         Assert.assertEquals(registrationSummary.getAnalyticsInfo().getDasServerCredentials().getPassword(),
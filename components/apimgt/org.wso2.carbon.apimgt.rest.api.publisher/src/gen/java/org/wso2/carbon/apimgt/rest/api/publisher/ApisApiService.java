@@ -204,6 +204,7 @@ public abstract class ApisApiService {
   ,Request request) throws NotFoundException;
     public abstract Response apisGet(Integer limit
  ,Integer offset
+ ,String after
  ,String query
  ,String ifNoneMatch
  ,Boolean expand
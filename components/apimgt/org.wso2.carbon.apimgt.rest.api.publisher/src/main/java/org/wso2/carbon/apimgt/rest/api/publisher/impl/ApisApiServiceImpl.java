@@ -1690,10 +1690,12 @@ public class ApisApiServiceImpl extends ApisApiService {
     }
 
     /**
-     * Retrives all APIs that qualifies for the given fitering attributes
+     * Retrives all APIs that qualifies for the given fitering attributes. APIs are listed page by page using the
+     * page token when there is no search query, unless only an offset is given.
      *
      * @param limit       maximum APIs to return
      * @param offset      starting position of the pagination
+     * @param after       token of the page to return when listing APIs without a search query
      * @param query       search query
      * @param ifNoneMatch If-None-Match header value
      * @param request     msf4j request object
@@ -1701,15 +1703,19 @@ public class ApisApiServiceImpl extends ApisApiService {
      * @throws NotFoundException When the particular resource does not exist in the system
      */
     @Override
-    public Response apisGet(Integer limit, Integer offset, String query, String ifNoneMatch, Boolean expand,
-            Request request)
+    public Response apisGet(Integer limit, Integer offset, String after, String query, String ifNoneMatch,
+            Boolean expand, Request request)
             throws NotFoundException {
         String username = RestApiUtil.getLoggedInUsername(request);
         APIListDTO apiListDTO = null;
         try {
-            apiListDTO = MappingUtil
-                    .toAPIListDTO(RestAPIPublisherUtil.getApiPublisher(username).searchAPIs(limit, offset, query,
-                            expand), expand);
+            APIPublisher apiPublisher = RestAPIPublisherUtil.getApiPublisher(username);
+            if (StringUtils.isEmpty(query) && (StringUtils.isNotEmpty(after) || offset == null || offset <= 0)) {
+                apiListDTO = MappingUtil.toAPIListDTO(apiPublisher.getAPIs(limit, after), limit, expand);
+            } else {
+                apiListDTO = MappingUtil.toAPIListDTO(apiPublisher.searchAPIs(limit, offset, query, expand),
+                        expand);
+            }
             return Response.ok().entity(apiListDTO).build();
         } catch (APIManagementException e) {
             String errorMessage = "Error while retrieving APIs";
@@ -24,6 +24,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.wso2.carbon.apimgt.core.api.APIPublisher;
 import org.wso2.carbon.apimgt.core.exception.APIManagementException;
+import org.wso2.carbon.apimgt.core.exception.ExceptionCodes;
 import org.wso2.carbon.apimgt.core.models.API;
 import org.wso2.carbon.apimgt.core.models.APIDetails;
 import org.wso2.carbon.apimgt.core.models.DocumentContent;
@@ -35,12 +36,20 @@ import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URLConnection;
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Manager class for generic API Import and Export handling
@@ -49,6 +58,11 @@ public class ApiImportExportManager {
 
     private static final Logger log = LoggerFactory.getLogger(ApiImportExportManager.class);
 
+    /**
+     * Maximum number of APIs of which the details are retrieved concurrently while exporting APIs
+     */
+    static final int EXPORT_PARALLELISM = 4;
+
     APIPublisher apiPublisher;
 
     public ApiImportExportManager(APIPublisher apiPublisher) {
@@ -74,126 +88,200 @@ public class ApiImportExportManager {
 
         Set<APIDetails> apiDetailSet = new HashSet<>();
         // search for APIs
-        List<API> apis = apiPublisher.searchAPIs(limit, offset, query, false);
-        if (apis == null || apis.isEmpty()) {
+        List<API> apis = searchAPIs(limit, offset, query);
+        if (apis.isEmpty()) {
             // no APIs found, return
             return apiDetailSet;
         }
+        forEachAPIDetails(apis, apiDetailSet::add);
+        return apiDetailSet;
+    }
 
-        // iterate and collect all information
-        for (API api : apis) {
-            api = apiPublisher.getAPIbyUUID(api.getId());
-            // get endpoints at API Level
-            Map<String, Endpoint> endpoints = api.getEndpoint();
-            if (endpoints.isEmpty()) {
-                log.error("No Endpoints found for api: " + api.getName() + ", version: " + api.getVersion());
-                // skip this API
-                // continue;
-            }
-            Set<Endpoint> endpointSet = new HashSet<>();
-            for (Map.Entry<String, Endpoint> endpointEntry : endpoints.entrySet()) {
-                if (APIMgtConstants.GLOBAL_ENDPOINT.equals(endpointEntry.getValue().getApplicableLevel())) {
-                    Endpoint endpoint = new Endpoint.Builder(apiPublisher.getEndpoint(endpointEntry.getValue().getId
-                            ())).id("").build();
-                    endpoints.replace(endpointEntry.getKey(),endpoint);
-                    endpointSet.add(endpoint);
-                }
-            }
-            // get Endpoints at Resource Level
-            Map<String,UriTemplate> uriTemplateMap = api.getUriTemplates();
-            uriTemplateMap.forEach((k, v) -> {
-                UriTemplate.UriTemplateBuilder uriTemplateBuilder = new UriTemplate.UriTemplateBuilder(v);
-                Map<String,Endpoint> resourceEndpoints = uriTemplateBuilder.getEndpoint();
-                resourceEndpoints.forEach((type, value) -> {
-                    Endpoint endpoint = null;
-                    if (APIMgtConstants.GLOBAL_ENDPOINT.equals(value.getApplicableLevel())) {
-                        try {
-                            endpoint = new Endpoint.Builder(apiPublisher.getEndpoint(value.getId())).id("")
-                                    .build();
-                            endpointSet.add(endpoint);
-                        } catch (APIManagementException e) {
-                            log.error("Error in getting endpoints for Resource: " + v.getTemplateId(), e);
-                        }
-                    }else{
-                        endpoint = new Endpoint.Builder(value).id("").build();
-                    }
-                    resourceEndpoints.replace(type,endpoint);
-                });
-                uriTemplateMap.replace(k, uriTemplateBuilder.endpoint(resourceEndpoints).build());
-            });
-            api = new API.APIBuilder(api).endpoint(endpoints).uriTemplates(uriTemplateMap).build();
-            // get swagger definition
-            String swaggerDefinition;
-            try {
-                swaggerDefinition = apiPublisher.getApiSwaggerDefinition(api.getId());
-            } catch (APIManagementException e) {
-                log.error("Error in getting Swagger configuration for api: " + api.getName() + ", version: " +
-                        api.getVersion(), e);
-                // skip this API
-                continue;
-            }
+    /**
+     * Searches the APIs to be exported for the given search query
+     *
+     * @param limit number of max results
+     * @param offset starting location when returning a limited set of results
+     * @param query searchQuery
+     * @return summaries of the matching APIs, empty if no APIs are found
+     * @throws APIManagementException if an error occurs while searching APIs
+     */
+    public List<API> searchAPIs(Integer limit, Integer offset, String query) throws APIManagementException {
+        List<API> apis = apiPublisher.searchAPIs(limit, offset, query, false);
+        return apis == null ? Collections.emptyList() : apis;
+    }
 
-            // get gateway configuration
-            String gatewayConfig;
-            try {
-                gatewayConfig = apiPublisher.getApiGatewayConfig(api.getId());
-            } catch (APIManagementException e) {
-                log.error("Error in getting gateway configuration for api: " + api.getName() + ", version: " +
-                        api.getVersion(), e);
-                // skip this API
-                continue;
+    /**
+     * Retrieves the API details of the given APIs and passes them to a consumer in the order of the APIs. The
+     * details of up to {@link #EXPORT_PARALLELISM} APIs are retrieved concurrently, and the details of an API are
+     * passed to the consumer as soon as the details of the APIs before it have been consumed, so no more than that
+     * many APIs are held in memory at a time. APIs of which the details could not be retrieved completely are
+     * skipped.
+     *
+     * @param apis     summaries of the APIs, as returned by {@link #searchAPIs(Integer, Integer, String)}
+     * @param consumer consumer of the API details, called on the calling thread
+     * @throws APIManagementException if an error occurs while retrieving an API or the consumer fails
+     */
+    public void forEachAPIDetails(List<API> apis, APIDetailsConsumer consumer) throws APIManagementException {
+
+        if (apis.isEmpty()) {
+            return;
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.min(EXPORT_PARALLELISM, apis.size()));
+        Deque<Future<APIDetails>> pendingApiDetails = new ArrayDeque<>();
+        try {
+            Iterator<API> apiIterator = apis.iterator();
+            while (apiIterator.hasNext() || !pendingApiDetails.isEmpty()) {
+                while (apiIterator.hasNext() && pendingApiDetails.size() < EXPORT_PARALLELISM) {
+                    String apiId = apiIterator.next().getId();
+                    pendingApiDetails.add(executorService.submit(() -> getAPIDetails(apiId)));
+                }
+                APIDetails apiDetails = getCompletedAPIDetails(pendingApiDetails.remove());
+                if (apiDetails != null) {
+                    consumer.accept(apiDetails);
+                }
             }
+        } finally {
+            // cancels the retrievals which are still running if an API failed
+            executorService.shutdownNow();
+        }
+    }
 
-            // get doc information
-            List<DocumentInfo> documentInfo = null;
-            try {
-                documentInfo = apiPublisher.getAllDocumentation(api.getId(), 0, Integer.MAX_VALUE);
-            } catch (APIManagementException e) {
-                log.error("Error in getting documentation content for api: " + api.getName() + ", version: " +
-                        api.getVersion(), e);
-                // no need to skip the API as docs don't affect API functionality
+    /**
+     * Retrieves all API details of a single API
+     *
+     * @param apiId UUID of the API
+     * @return {@link APIDetails} instance, null if the swagger definition or the gateway configuration of the API
+     * could not be retrieved
+     * @throws APIManagementException if an error occurs while retrieving the API
+     */
+    protected APIDetails getAPIDetails(String apiId) throws APIManagementException {
+
+        API api = apiPublisher.getAPIbyUUID(apiId);
+        // get endpoints at API Level
+        Map<String, Endpoint> endpoints = api.getEndpoint();
+        if (endpoints.isEmpty()) {
+            log.error("No Endpoints found for api: " + api.getName() + ", version: " + api.getVersion());
+            // skip this API
+            // continue;
+        }
+        Set<Endpoint> endpointSet = new HashSet<>();
+        for (Map.Entry<String, Endpoint> endpointEntry : endpoints.entrySet()) {
+            if (APIMgtConstants.GLOBAL_ENDPOINT.equals(endpointEntry.getValue().getApplicableLevel())) {
+                Endpoint endpoint = new Endpoint.Builder(apiPublisher.getEndpoint(endpointEntry.getValue().getId
+                        ())).id("").build();
+                endpoints.replace(endpointEntry.getKey(),endpoint);
+                endpointSet.add(endpoint);
             }
-            Set<DocumentContent> documentContents = new HashSet<>();
-            if (documentInfo != null && !documentInfo.isEmpty()) {
-                // iterate and collect document content
-                for (DocumentInfo aDocumentInfo : documentInfo) {
+        }
+        // get Endpoints at Resource Level
+        Map<String,UriTemplate> uriTemplateMap = api.getUriTemplates();
+        uriTemplateMap.forEach((k, v) -> {
+            UriTemplate.UriTemplateBuilder uriTemplateBuilder = new UriTemplate.UriTemplateBuilder(v);
+            Map<String,Endpoint> resourceEndpoints = uriTemplateBuilder.getEndpoint();
+            resourceEndpoints.forEach((type, value) -> {
+                Endpoint endpoint = null;
+                if (APIMgtConstants.GLOBAL_ENDPOINT.equals(value.getApplicableLevel())) {
                     try {
-                        documentContents.add(apiPublisher.getDocumentationContent(aDocumentInfo.getId()));
+                        endpoint = new Endpoint.Builder(apiPublisher.getEndpoint(value.getId())).id("")
+                                .build();
+                        endpointSet.add(endpoint);
                     } catch (APIManagementException e) {
-                        log.error("Error in getting documentation content for api: " + api.getName() +
-                                ", version: " + api.getVersion() + ", doc id: " + aDocumentInfo.getId(), e);
-                        // no need to skip the API as docs don't affect API functionality
+                        log.error("Error in getting endpoints for Resource: " + v.getTemplateId(), e);
                     }
+                }else{
+                    endpoint = new Endpoint.Builder(value).id("").build();
                 }
-            }
+                resourceEndpoints.replace(type,endpoint);
+            });
+            uriTemplateMap.replace(k, uriTemplateBuilder.endpoint(resourceEndpoints).build());
+        });
+        api = new API.APIBuilder(api).endpoint(endpoints).uriTemplates(uriTemplateMap).build();
+        // get swagger definition
+        String swaggerDefinition;
+        try {
+            swaggerDefinition = apiPublisher.getApiSwaggerDefinition(api.getId());
+        } catch (APIManagementException e) {
+            log.error("Error in getting Swagger configuration for api: " + api.getName() + ", version: " +
+                    api.getVersion(), e);
+            // skip this API
+            return null;
+        }
 
-            // get thumbnail
-            InputStream thumbnailStream = null;
-            try {
-                thumbnailStream = apiPublisher.getThumbnailImage(api.getId());
-            } catch (APIManagementException e) {
-                log.error("Error in getting thumbnail for api: " + api.getName() + ", version: " + api.getVersion(), e);
-                // no need to skip the API as thumbnail don't affect API functionality
+        // get gateway configuration
+        String gatewayConfig;
+        try {
+            gatewayConfig = apiPublisher.getApiGatewayConfig(api.getId());
+        } catch (APIManagementException e) {
+            log.error("Error in getting gateway configuration for api: " + api.getName() + ", version: " +
+                    api.getVersion(), e);
+            // skip this API
+            return null;
+        }
+
+        // get doc information
+        List<DocumentInfo> documentInfo = null;
+        try {
+            documentInfo = apiPublisher.getAllDocumentation(api.getId(), 0, Integer.MAX_VALUE);
+        } catch (APIManagementException e) {
+            log.error("Error in getting documentation content for api: " + api.getName() + ", version: " +
+                    api.getVersion(), e);
+            // no need to skip the API as docs don't affect API functionality
+        }
+        Set<DocumentContent> documentContents = new HashSet<>();
+        if (documentInfo != null && !documentInfo.isEmpty()) {
+            // iterate and collect document content
+            for (DocumentInfo aDocumentInfo : documentInfo) {
+                try {
+                    documentContents.add(apiPublisher.getDocumentationContent(aDocumentInfo.getId()));
+                } catch (APIManagementException e) {
+                    log.error("Error in getting documentation content for api: " + api.getName() +
+                            ", version: " + api.getVersion() + ", doc id: " + aDocumentInfo.getId(), e);
+                    // no need to skip the API as docs don't affect API functionality
+                }
             }
+        }
 
-            // search operation returns a summary of APIs, need to get all details of APIs
-            APIDetails apiDetails = new APIDetails(api, swaggerDefinition);
-            apiDetails.setGatewayConfiguration(gatewayConfig);
-            apiDetails.setEndpoints(endpointSet);
+        // get thumbnail
+        InputStream thumbnailStream = null;
+        try {
+            thumbnailStream = apiPublisher.getThumbnailImage(api.getId());
+        } catch (APIManagementException e) {
+            log.error("Error in getting thumbnail for api: " + api.getName() + ", version: " + api.getVersion(), e);
+            // no need to skip the API as thumbnail don't affect API functionality
+        }
 
-            if (documentInfo != null && !documentInfo.isEmpty()) {
-                apiDetails.addDocumentInformation(documentInfo);
-            }
-            if (!documentContents.isEmpty()) {
-                apiDetails.addDocumentContents(documentContents);
-            }
-            if (thumbnailStream != null) {
-                apiDetails.setThumbnailStream(thumbnailStream);
-            }
-            apiDetailSet.add(apiDetails);
+        // search operation returns a summary of APIs, need to get all details of APIs
+        APIDetails apiDetails = new APIDetails(api, swaggerDefinition);
+        apiDetails.setGatewayConfiguration(gatewayConfig);
+        apiDetails.setEndpoints(endpointSet);
+
+        if (documentInfo != null && !documentInfo.isEmpty()) {
+            apiDetails.addDocumentInformation(documentInfo);
+        }
+        if (!documentContents.isEmpty()) {
+            apiDetails.addDocumentContents(documentContents);
+        }
+        if (thumbnailStream != null) {
+            apiDetails.setThumbnailStream(thumbnailStream);
         }
+        return apiDetails;
+    }
 
-        return apiDetailSet;
+    private APIDetails getCompletedAPIDetails(Future<APIDetails> apiDetailsFuture) throws APIManagementException {
+        try {
+            return apiDetailsFuture.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new APIManagementException("Interrupted while retrieving API details", e,
+                    ExceptionCodes.API_EXPORT_ERROR);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof APIManagementException) {
+                throw (APIManagementException) e.getCause();
+            }
+            throw new APIManagementException("Error while retrieving API details", e.getCause(),
+                    ExceptionCodes.API_EXPORT_ERROR);
+        }
     }
 
     /**
@@ -364,4 +452,19 @@ public class ApiImportExportManager {
                     apiDetails.getApi().getVersion(), e);
         }
     }
+
+    /**
+     * Consumer of the API details retrieved by {@link #forEachAPIDetails(List, APIDetailsConsumer)}
+     */
+    @FunctionalInterface
+    public interface APIDetailsConsumer {
+
+        /**
+         * Consume the details of an API
+         *
+         * @param apiDetails {@link APIDetails} instance
+         * @throws APIManagementException if an error occurs while consuming the API details
+         */
+        void accept(APIDetails apiDetails) throws APIManagementException;
+    }
 }
@@ -22,6 +22,8 @@ package org.wso2.carbon.apimgt.rest.api.publisher.utils;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParser;
+import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.wso2.carbon.apimgt.core.api.APIPublisher;
@@ -40,12 +42,19 @@ import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
 import org.wso2.carbon.apimgt.rest.api.publisher.dto.APIDTO;
 import org.wso2.carbon.apimgt.rest.api.publisher.dto.APIListDTO;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 /**
  * Manager class for File system based API Import and Export handling
@@ -57,6 +66,8 @@ public class FileBasedApiImportExportManager extends ApiImportExportManager {
     private static final String DOCUMENTS_ROOT_DIRECTORY = "Documents";
     private static final String ENDPOINTS_ROOT_DIRECTORY = "Endpoints";
     private static final String IMPORTED_APIS_DIRECTORY_NAME = "imported-apis";
+    private static final Gson gson = new Gson();
+    private static final Gson prettyGson = new GsonBuilder().setPrettyPrinting().create();
     private String path;
 
     public FileBasedApiImportExportManager(APIPublisher apiPublisher, String path) {
@@ -64,6 +75,16 @@ public class FileBasedApiImportExportManager extends ApiImportExportManager {
         this.path = path;
     }
 
+    /**
+     * Creates a manager which only exports APIs to a stream with {@link #exportAPIs(List, OutputStream)}, without
+     * using the file system
+     *
+     * @param apiPublisher {@link APIPublisher} instance of the user exporting the APIs
+     */
+    public FileBasedApiImportExportManager(APIPublisher apiPublisher) {
+        this(apiPublisher, null);
+    }
+
     /**
      * Export a given set of APIs to the file system as a zip archive.
      * The export root location is given by {@link FileBasedApiImportExportManager#path}/exported-apis.
@@ -177,6 +198,43 @@ public class FileBasedApiImportExportManager extends ApiImportExportManager {
         return archiveLocation + File.separator + archiveName + ".zip";
     }
 
+    /**
+     * Export a given list of APIs as a zip archive written directly to an output stream. The archive has the same
+     * structure as the archive created by {@link #exportAPIs(Set, String)} and
+     * {@link #createArchiveFromExportedApiArtifacts(String, String, String)}, but nothing is written to the file
+     * system. The APIs are retrieved concurrently with {@link #forEachAPIDetails(List, APIDetailsConsumer)} and each
+     * API is written to the archive as soon as it is retrieved, so only a few APIs are held in memory at a time.
+     *
+     * @param apis         summaries of the APIs to be exported, as returned by
+     *                     {@link #searchAPIs(Integer, Integer, String)}
+     * @param outputStream stream to which the archive is written, not closed by this method
+     * @return number of APIs exported
+     * @throws APIManagementException if an error occurred while retrieving the APIs or writing the archive, or
+     *                                no APIs are exported successfully
+     */
+    public int exportAPIs(List<API> apis, OutputStream outputStream) throws APIManagementException {
+
+        ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream);
+        AtomicInteger exportedApiCount = new AtomicInteger();
+        forEachAPIDetails(apis, apiDetails -> {
+            exportApiToArchive(apiDetails, zipOutputStream);
+            exportedApiCount.incrementAndGet();
+        });
+
+        // if no API is written to the archive, no APIs have been exported!
+        if (exportedApiCount.get() == 0) {
+            String errorMsg = "No APIs exported successfully";
+            throw new APIMgtEntityImportExportException(errorMsg, ExceptionCodes.API_EXPORT_ERROR);
+        }
+        try {
+            zipOutputStream.finish();
+        } catch (IOException e) {
+            String errorMsg = "Error while completing the archive of exported APIs";
+            throw new APIMgtEntityImportExportException(errorMsg, e, ExceptionCodes.API_EXPORT_ERROR);
+        }
+        return exportedApiCount.get();
+    }
+
     /**
      * Imports and creates a set of new APIs to API Manager by reading and decoding the
      * input stream. Will fail if the APIs already exists
@@ -625,6 +683,133 @@ public class FileBasedApiImportExportManager extends ApiImportExportManager {
     }
 
 
+    /**
+     * Writes an API to a zip archive, using the same entries as {@link #exportAPIs(Set, String)} writes to the file
+     * system
+     *
+     * @param apiDetails      {@link APIDetails} instance to be exported
+     * @param zipOutputStream archive to which the API will be written
+     * @throws APIMgtEntityImportExportException if an error occurs while writing to the archive
+     */
+    private void exportApiToArchive(APIDetails apiDetails, ZipOutputStream zipOutputStream)
+            throws APIMgtEntityImportExportException {
+
+        API exportAPI = apiDetails.getApi();
+        FileApi fileApi = new FileApi(exportAPI);
+        // zip entry names always use '/', same as the directory from APIFileUtils.getAPIBaseDirectory()
+        String apiEntryPrefix = fileApi.getProvider() + "-" + fileApi.getName() + "-" + fileApi.getVersion() + "/";
+        Set<String> entryNames = new HashSet<>();
+        try {
+            //export API definition
+            writeArchiveEntry(zipOutputStream, entryNames, apiEntryPrefix + APIMgtConstants.APIFileUtilConstants
+                    .API_DEFINITION_FILE_PREFIX + exportAPI.getId() + APIMgtConstants.APIFileUtilConstants
+                    .JSON_EXTENSION, gson.toJson(fileApi));
+
+            //export swagger definition
+            String swaggerDefinition = prettyGson.toJson(new JsonParser().parse(apiDetails.getSwaggerDefinition())
+                    .getAsJsonObject());
+            writeArchiveEntry(zipOutputStream, entryNames, apiEntryPrefix + APIMgtConstants.APIFileUtilConstants
+                    .SWAGGER_DEFINITION_FILE_PREFIX + exportAPI.getId() + APIMgtConstants.APIFileUtilConstants
+                    .JSON_EXTENSION, swaggerDefinition);
+
+            //export gateway configs
+            if (apiDetails.getGatewayConfiguration() == null) {
+                log.warn("No gateway configuration found for API with api: " + exportAPI.getName() + ", version: " +
+                        exportAPI.getVersion());
+            } else {
+                writeArchiveEntry(zipOutputStream, entryNames, apiEntryPrefix + APIMgtConstants
+                        .APIFileUtilConstants.GATEWAY_CONFIGURATION_DEFINITION_FILE,
+                        apiDetails.getGatewayConfiguration());
+            }
+
+            if (apiDetails.getEndpoints() != null) {
+                for (Endpoint endpoint : apiDetails.getEndpoints()) {
+                    writeArchiveEntry(zipOutputStream, entryNames, apiEntryPrefix + ENDPOINTS_ROOT_DIRECTORY + "/" +
+                            endpoint.getName() + APIMgtConstants.APIFileUtilConstants.JSON_EXTENSION,
+                            gson.toJson(endpoint));
+                }
+            }
+
+            if (apiDetails.getThumbnailStream() != null) {
+                writeArchiveEntry(zipOutputStream, entryNames, apiEntryPrefix + APIMgtConstants.APIFileUtilConstants
+                        .THUMBNAIL_FILE_NAME, apiDetails.getThumbnailStream());
+            }
+
+            Set<DocumentInfo> documentInfo = apiDetails.getAllDocumentInformation();
+            if (documentInfo != null) {
+                for (DocumentInfo aDocumentInfo : documentInfo) {
+                    exportDocumentToArchive(aDocumentInfo, apiDetails, apiEntryPrefix + DOCUMENTS_ROOT_DIRECTORY +
+                            "/" + aDocumentInfo.getId() + "/", zipOutputStream, entryNames);
+                }
+            }
+        } catch (IOException e) {
+            String errorMsg = "Error while writing API: " + exportAPI.getName() + ", version: " +
+                    exportAPI.getVersion() + " to the archive";
+            log.error(errorMsg, e);
+            throw new APIMgtEntityImportExportException(errorMsg, e, ExceptionCodes.API_EXPORT_ERROR);
+        }
+        log.info("Successfully exported API: " + exportAPI.getName() + ", version: " + exportAPI.getVersion());
+    }
+
+    /**
+     * Writes a document of an API and its content to a zip archive
+     *
+     * @param documentInfo      {@link DocumentInfo} of the document
+     * @param apiDetails        {@link APIDetails} instance, to which the document is related to
+     * @param documentDirectory directory of the document in the archive
+     * @param zipOutputStream   archive to which the document will be written
+     * @param entryNames        names of the entries already written for the API
+     * @throws IOException if an error occurs while writing to the archive
+     */
+    private void exportDocumentToArchive(DocumentInfo documentInfo, APIDetails apiDetails, String documentDirectory,
+            ZipOutputStream zipOutputStream, Set<String> entryNames) throws IOException {
+
+        DocumentInfo exportedDocumentInfo = documentInfo;
+        DocumentContent content = apiDetails.getDocumentContent(documentInfo.getId());
+        if (content != null) {
+            // the document metadata is modified to contain the name of the file the content is written to
+            if (DocumentInfo.SourceType.FILE.equals(documentInfo.getSourceType())
+                    && content.getFileContent() != null) {
+                writeArchiveEntry(zipOutputStream, entryNames,
+                        documentDirectory + content.getDocumentInfo().getFileName(), content.getFileContent());
+                exportedDocumentInfo = new DocumentInfo.Builder(documentInfo)
+                        .fileName(content.getDocumentInfo().getFileName()).build();
+            } else if (DocumentInfo.SourceType.INLINE.equals(documentInfo.getSourceType())
+                    && content.getInlineContent() != null) {
+                writeArchiveEntry(zipOutputStream, entryNames,
+                        documentDirectory + content.getDocumentInfo().getName(), content.getInlineContent());
+                exportedDocumentInfo = new DocumentInfo.Builder(documentInfo)
+                        .name(content.getDocumentInfo().getName()).build();
+            }
+        }
+        writeArchiveEntry(zipOutputStream, entryNames, documentDirectory + DOCUMENTATION_DEFINITION_FILE,
+                prettyGson.toJson(exportedDocumentInfo));
+    }
+
+    private static void writeArchiveEntry(ZipOutputStream zipOutputStream, Set<String> entryNames, String entryName,
+            String content) throws IOException {
+
+        writeArchiveEntry(zipOutputStream, entryNames, entryName,
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static void writeArchiveEntry(ZipOutputStream zipOutputStream, Set<String> entryNames, String entryName,
+            InputStream content) throws IOException {
+
+        try {
+            if (!entryNames.add(entryName)) {
+                // a zip archive can not have the same entry twice
+                log.warn("Entry " + entryName + " is already written to the archive, skipping");
+                return;
+            }
+            zipOutputStream.putNextEntry(new ZipEntry(entryName));
+            IOUtils.copy(content, zipOutputStream);
+            zipOutputStream.closeEntry();
+        } finally {
+            IOUtils.closeQuietly(content);
+        }
+    }
+
     /**
      * Imports the given API instance to this API Manager - will create if not exists and update if the api is
      * already there
@@ -38,6 +38,7 @@ import org.wso2.carbon.apimgt.core.models.DedicatedGateway;
 import org.wso2.carbon.apimgt.core.models.DocumentInfo;
 import org.wso2.carbon.apimgt.core.models.Endpoint;
 import org.wso2.carbon.apimgt.core.models.Label;
+import org.wso2.carbon.apimgt.core.models.PagedResults;
 import org.wso2.carbon.apimgt.core.models.Scope;
 import org.wso2.carbon.apimgt.core.models.Subscription;
 import org.wso2.carbon.apimgt.core.models.UriTemplate;
@@ -48,6 +49,7 @@ import org.wso2.carbon.apimgt.core.models.policy.SubscriptionPolicy;
 import org.wso2.carbon.apimgt.core.models.policy.ThreatProtectionPolicy;
 import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
 import org.wso2.carbon.apimgt.core.util.APIUtils;
+import org.wso2.carbon.apimgt.rest.api.common.util.RestApiUtil;
 import org.wso2.carbon.apimgt.rest.api.publisher.dto.APIDTO;
 import org.wso2.carbon.apimgt.rest.api.publisher.dto.APIDefinitionValidationResponseDTO;
 import org.wso2.carbon.apimgt.rest.api.publisher.dto.APIDefinitionValidationResponse_wsdlInfoDTO;
@@ -410,6 +412,22 @@ public class MappingUtil {
         return apiListDTO;
     }
 
+    /**
+     * Converts a page of APIs into an {@link APIListDTO}, linking the next page if there is one.
+     *
+     * @param page   page of APIs
+     * @param limit  page size requested by the client
+     * @param expand whether to include full details of the APIs
+     * @return APIListDTO
+     */
+    public static APIListDTO toAPIListDTO(PagedResults<API> page, int limit, boolean expand) {
+        APIListDTO apiListDTO = toAPIListDTO(page.getResults(), expand);
+        if (page.getNext() != null) {
+            apiListDTO.setNext(RestApiUtil.getAPIPaginatedURL(limit, page.getNext()));
+        }
+        return apiListDTO;
+    }
+
     /**
      * this  method convert Model object into Dto
      *
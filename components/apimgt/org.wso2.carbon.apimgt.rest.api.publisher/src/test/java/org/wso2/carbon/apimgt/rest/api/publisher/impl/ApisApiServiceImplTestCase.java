@@ -48,6 +48,7 @@ import org.wso2.carbon.apimgt.core.models.Comment;
 import org.wso2.carbon.apimgt.core.models.DedicatedGateway;
 import org.wso2.carbon.apimgt.core.models.DocumentContent;
 import org.wso2.carbon.apimgt.core.models.DocumentInfo;
+import org.wso2.carbon.apimgt.core.models.PagedResults;
 import org.wso2.carbon.apimgt.core.models.Scope;
 import org.wso2.carbon.apimgt.core.models.WSDLArchiveInfo;
 import org.wso2.carbon.apimgt.core.models.WSDLInfo;
@@ -1280,14 +1281,48 @@ public class ApisApiServiceImplTestCase {
         PowerMockito.mockStatic(RestAPIPublisherUtil.class);
         PowerMockito.when(RestAPIPublisherUtil.getApiPublisher(USER)).
                 thenReturn(apiPublisher);
-        Mockito.doReturn(apis).doThrow(new IllegalArgumentException())
-                .when(apiPublisher).searchAPIs(10, 0, "", false);
-        Response response = apisApiService.apisGet(10, 0, "", null, false, getRequest());
+        Mockito.doReturn(new PagedResults<>(apis, null)).doThrow(new IllegalArgumentException())
+                .when(apiPublisher).getAPIs(10, null);
+        Response response = apisApiService.apisGet(10, 0, null, "", null, false, getRequest());
         assertEquals(response.getStatus(), 200);
         assertTrue(response.getEntity().toString().contains("newAPI1"));
         assertTrue(response.getEntity().toString().contains("newAPI2"));
     }
 
+    @Test
+    public void testApisGetNextPage() throws Exception {
+        printTestMethodName();
+        List<API> apis = new ArrayList<>();
+        apis.add(SampleTestObjectCreator.createDefaultAPI().name("newAPI3").build());
+        ApisApiServiceImpl apisApiService = new ApisApiServiceImpl();
+        APIPublisher apiPublisher = Mockito.mock(APIPublisherImpl.class);
+        PowerMockito.mockStatic(RestAPIPublisherUtil.class);
+        PowerMockito.when(RestAPIPublisherUtil.getApiPublisher(USER)).
+                thenReturn(apiPublisher);
+        Mockito.doReturn(new PagedResults<>(apis, "bmV3QVBJMw")).when(apiPublisher).getAPIs(1, "bmV3QVBJMg");
+        Response response = apisApiService.apisGet(1, 0, "bmV3QVBJMg", null, null, false, getRequest());
+        assertEquals(response.getStatus(), 200);
+        assertTrue(response.getEntity().toString().contains("newAPI3"));
+        assertTrue(response.getEntity().toString().contains("/apis?limit=1&after=bmV3QVBJMw"));
+    }
+
+    @Test
+    public void testApisGetWithOffset() throws Exception {
+        printTestMethodName();
+        List<API> apis = new ArrayList<>();
+        apis.add(SampleTestObjectCreator.createDefaultAPI().name("newAPI2").build());
+        ApisApiServiceImpl apisApiService = new ApisApiServiceImpl();
+        APIPublisher apiPublisher = Mockito.mock(APIPublisherImpl.class);
+        PowerMockito.mockStatic(RestAPIPublisherUtil.class);
+        PowerMockito.when(RestAPIPublisherUtil.getApiPublisher(USER)).
+                thenReturn(apiPublisher);
+        Mockito.doReturn(apis).when(apiPublisher).searchAPIs(1, 1, "", false);
+        Response response = apisApiService.apisGet(1, 1, null, "", null, false, getRequest());
+        assertEquals(response.getStatus(), 200);
+        assertTrue(response.getEntity().toString().contains("newAPI2"));
+        Mockito.verify(apiPublisher, Mockito.never()).getAPIs(Mockito.anyInt(), Mockito.any());
+    }
+
 
     @Test
     public void testApisGetException() throws Exception {
@@ -1298,8 +1333,8 @@ public class ApisApiServiceImplTestCase {
         PowerMockito.when(RestAPIPublisherUtil.getApiPublisher(USER)).
                 thenReturn(apiPublisher);
         Mockito.doThrow(new APIManagementException("Error occurred", ExceptionCodes.API_TYPE_INVALID))
-                .when(apiPublisher).searchAPIs(10, 0, "", false);
-        Response response = apisApiService.apisGet(10, 0, "", null, false, getRequest());
+                .when(apiPublisher).getAPIs(10, null);
+        Response response = apisApiService.apisGet(10, 0, null, "", null, false, getRequest());
         assertEquals(response.getStatus(), 400);
         assertTrue(response.getEntity().toString().contains("API Type specified is invalid"));
     }
@@ -45,6 +45,8 @@ import org.wso2.carbon.apimgt.core.util.APIFileUtils;
 import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
 import org.wso2.carbon.apimgt.rest.api.publisher.dto.APIListDTO;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -59,6 +61,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 public class APIImportExportTestCase {
 
@@ -363,6 +367,90 @@ public class APIImportExportTestCase {
         testApiImport(importExportRootDirectory);
     }
 
+    @Test(description = "Test streamed API export with an error in retrieving the swagger definition of one API")
+    public void testStreamedApiExport () throws Exception {
+        printTestMethodName();
+        apiPublisher = Mockito.mock(APIPublisher.class);
+
+        // more APIs than retrieved concurrently, to check the order of the archive entries
+        List<API> apis = new ArrayList<>();
+        for (int i = 0; i < ApiImportExportManager.EXPORT_PARALLELISM + 2; i++) {
+            String apiId = UUID.randomUUID().toString();
+            Endpoint sandBoxEndpointId = new Endpoint.Builder().id(UUID.randomUUID().toString()).applicableLevel
+                    (APIMgtConstants.API_SPECIFIC_ENDPOINT).name("abcd").build();
+            Endpoint prodEndpointId = new Endpoint.Builder().id(UUID.randomUUID().toString()).applicableLevel
+                    (APIMgtConstants.API_SPECIFIC_ENDPOINT).name("cdef").build();
+            API api = createApi("provider" + i, apiId, "streamedapi" + i, "1.0.0", "Streamed API " + i,
+                    createEndpointTypeToIdMap(sandBoxEndpointId, prodEndpointId)).build();
+            apis.add(api);
+            Mockito.when(apiPublisher.getAPIbyUUID(apiId)).thenReturn(api);
+            Mockito.when(apiPublisher.getApiSwaggerDefinition(apiId)).thenReturn(api1Definition);
+            Mockito.when(apiPublisher.getApiGatewayConfig(apiId)).thenReturn(api1GatewayConfig);
+        }
+        Mockito.when(apiPublisher.getApiSwaggerDefinition(apis.get(1).getId())).thenThrow(APIManagementException.class);
+
+        String docId = UUID.randomUUID().toString();
+        DocumentInfo docInfo = createAPIDoc(docId, "streamedapi0doc", "", "Streamed API 0 DOC",
+                DocumentInfo.DocType.HOWTO, "other type", DocumentInfo.SourceType.INLINE, "",
+                DocumentInfo.Visibility.API_LEVEL);
+        Mockito.when(apiPublisher.getAllDocumentation(apis.get(0).getId(), 0, Integer.MAX_VALUE))
+                .thenReturn(Collections.singletonList(docInfo));
+        Mockito.when(apiPublisher.getDocumentationContent(docId))
+                .thenReturn(createDocContent(docInfo, "Sample inline content for streamed API 0", null));
+        Mockito.when(apiPublisher.getThumbnailImage(apis.get(0).getId())).thenReturn(getClass().getClassLoader()
+                .getResourceAsStream("api1_thumbnail.png"));
+
+        FileBasedApiImportExportManager importExportManager = new FileBasedApiImportExportManager(apiPublisher);
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        Assert.assertEquals(importExportManager.exportAPIs(apis, archive), apis.size() - 1);
+
+        List<String> apiDirectories = new ArrayList<>();
+        Set<String> entryNames = new HashSet<>();
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(archive.toByteArray()))) {
+            for (ZipEntry entry = zipInputStream.getNextEntry(); entry != null; entry = zipInputStream.getNextEntry()) {
+                String apiDirectory = entry.getName().substring(0, entry.getName().indexOf('/'));
+                if (!apiDirectories.contains(apiDirectory)) {
+                    apiDirectories.add(apiDirectory);
+                }
+                entryNames.add(entry.getName());
+            }
+        }
+        List<String> expectedApiDirectories = new ArrayList<>();
+        for (API api : apis) {
+            if (!api.getId().equals(apis.get(1).getId())) {
+                expectedApiDirectories.add(api.getProvider() + "-" + api.getName() + "-" + api.getVersion());
+            }
+        }
+        Assert.assertEquals(apiDirectories, expectedApiDirectories, "APIs not exported in the order of the search");
+
+        String api0Directory = expectedApiDirectories.get(0) + "/";
+        Assert.assertTrue(entryNames.contains(api0Directory + "api-" + apis.get(0).getId() + ".json"));
+        Assert.assertTrue(entryNames.contains(api0Directory + "swagger-" + apis.get(0).getId() + ".json"));
+        Assert.assertTrue(entryNames.contains(api0Directory + "gateway-configuration"));
+        Assert.assertTrue(entryNames.contains(api0Directory + "thumbnail"));
+        Assert.assertTrue(entryNames.contains(api0Directory + "Documents/" + docId + "/doc.json"));
+        Assert.assertTrue(entryNames.contains(api0Directory + "Documents/" + docId + "/streamedapi0doc"));
+    }
+
+    @Test(description = "Test streamed API export with an error in retrieving one API",
+            expectedExceptions = APIManagementException.class)
+    public void testStreamedApiExportWithFatalError () throws Exception {
+        printTestMethodName();
+        apiPublisher = Mockito.mock(APIPublisher.class);
+
+        String apiId = UUID.randomUUID().toString();
+        Endpoint sandBoxEndpointId = new Endpoint.Builder().id(UUID.randomUUID().toString()).applicableLevel
+                (APIMgtConstants.API_SPECIFIC_ENDPOINT).name("abcd").build();
+        Endpoint prodEndpointId = new Endpoint.Builder().id(UUID.randomUUID().toString()).applicableLevel
+                (APIMgtConstants.API_SPECIFIC_ENDPOINT).name("cdef").build();
+        API api = createApi("provider1", apiId, "streamedapi", "1.0.0", "Streamed API",
+                createEndpointTypeToIdMap(sandBoxEndpointId, prodEndpointId)).build();
+        Mockito.when(apiPublisher.getAPIbyUUID(apiId)).thenThrow(APIManagementException.class);
+
+        FileBasedApiImportExportManager importExportManager = new FileBasedApiImportExportManager(apiPublisher);
+        importExportManager.exportAPIs(Collections.singletonList(api), new ByteArrayOutputStream());
+    }
+
     private void testApiExport (String exportDir) throws Exception {
 
         String api1Id = UUID.randomUUID().toString();
@@ -877,10 +877,12 @@ public class ApisApiServiceImpl extends ApisApiService {
     }
 
     /**
-     * Retrieves APIs qualifying under given search condition
+     * Retrieves APIs qualifying under given search condition. APIs are listed page by page using the page token
+     * when there is no search query, unless only an offset is given.
      *
      * @param limit       maximum number of APIs returns
      * @param offset      starting index
+     * @param after       token of the page to return when listing APIs without a search query
      * @param labels      Labels of the store for which the apis need to be retrieved
      * @param query       search condition
      * @param ifNoneMatch If-None-Match header value
@@ -889,7 +891,7 @@ public class ApisApiServiceImpl extends ApisApiService {
      */
 
     @Override
-    public Response apisGet(Integer limit, Integer offset, String labels, String query, String
+    public Response apisGet(Integer limit, Integer offset, String after, String labels, String query, String
             ifNoneMatch, Request request) throws NotFoundException {
 
         List<API> apisResult = null;
@@ -901,9 +903,14 @@ public class ApisApiServiceImpl extends ApisApiService {
             if (labels != null){
                 labelList.addAll(Arrays.asList(labels.split(",")));
             }
-            apisResult = apiStore.searchAPIsByStoreLabels(query, offset, limit, labelList);
-            // convert API
-            apiListDTO = APIMappingUtil.toAPIListDTO(apisResult);
+            if (StringUtils.isEmpty(query) && (StringUtils.isNotEmpty(after) || offset == null || offset <= 0)) {
+                apiListDTO = APIMappingUtil.toAPIListDTO(apiStore.getAPIsByStoreLabels(limit, after, labelList),
+                        limit, labels);
+            } else {
+                apisResult = apiStore.searchAPIsByStoreLabels(query, offset, limit, labelList);
+                // convert API
+                apiListDTO = APIMappingUtil.toAPIListDTO(apisResult);
+            }
         } catch (APIManagementException e) {
             String errorMessage = "Error while retrieving APIs ";
             HashMap<String, String> paramList = new HashMap<String, String>();
@@ -25,12 +25,17 @@ import org.slf4j.LoggerFactory;
 import org.wso2.carbon.apimgt.core.exception.APIManagementException;
 import org.wso2.carbon.apimgt.core.impl.APIManagerFactory;
 import org.wso2.carbon.apimgt.core.models.API;
+import org.wso2.carbon.apimgt.core.models.PagedResults;
+import org.wso2.carbon.apimgt.rest.api.common.util.RestApiUtil;
 import org.wso2.carbon.apimgt.rest.api.store.dto.APIDTO;
 import org.wso2.carbon.apimgt.rest.api.store.dto.APIInfoDTO;
 import org.wso2.carbon.apimgt.rest.api.store.dto.APIListDTO;
 import org.wso2.carbon.apimgt.rest.api.store.dto.BaseAPIDTO;
 import org.wso2.carbon.apimgt.rest.api.store.dto.BaseAPIInfoDTO;
 
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -52,6 +57,31 @@ public class APIMappingUtil {
         return apiListDTO;
     }
 
+    /**
+     * Converts a page of APIs into an {@link APIListDTO}, linking the next page if there is one.
+     *
+     * @param page   page of APIs
+     * @param limit  page size requested by the client
+     * @param labels comma separated store labels requested by the client
+     * @return APIListDTO
+     */
+    public static APIListDTO toAPIListDTO(PagedResults<API> page, int limit, String labels) {
+        APIListDTO apiListDTO = toAPIListDTO(page.getResults());
+        if (page.getNext() != null) {
+            String next = RestApiUtil.getAPIPaginatedURL(limit, page.getNext());
+            if (labels != null) {
+                try {
+                    next += "&labels=" + URLEncoder.encode(labels, StandardCharsets.UTF_8.name());
+                } catch (UnsupportedEncodingException e) {
+                    // UTF-8 is supported by every JVM
+                    throw new IllegalStateException(e);
+                }
+            }
+            apiListDTO.setNext(next);
+        }
+        return apiListDTO;
+    }
+
     /**
      * Converts {@link API} List to an {@link APIInfoDTO} List.
      *
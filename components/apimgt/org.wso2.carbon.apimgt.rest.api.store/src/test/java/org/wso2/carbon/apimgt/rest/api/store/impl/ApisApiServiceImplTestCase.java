@@ -43,6 +43,7 @@ import org.wso2.carbon.apimgt.core.models.Comment;
 import org.wso2.carbon.apimgt.core.models.DocumentContent;
 import org.wso2.carbon.apimgt.core.models.DocumentInfo;
 import org.wso2.carbon.apimgt.core.models.Endpoint;
+import org.wso2.carbon.apimgt.core.models.PagedResults;
 import org.wso2.carbon.apimgt.core.models.Rating;
 import org.wso2.carbon.apimgt.core.models.WSDLArchiveInfo;
 import org.wso2.carbon.apimgt.core.util.APIMgtConstants;
@@ -63,6 +64,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.UUID;
@@ -975,9 +977,10 @@ public class ApisApiServiceImplTestCase {
         List<API> apiList = new ArrayList<>();
         apiList.add(api);
 
-        Mockito.when(apiStore.searchAPIsByStoreLabels("", 0, 1, new HashSet<>())).thenReturn(apiList);
+        Mockito.when(apiStore.getAPIsByStoreLabels(10, null, Collections.singleton("")))
+                .thenReturn(new PagedResults<>(apiList, null));
 
-        Response response = apisApiService.apisGet(10, 0, "", null, null, request);
+        Response response = apisApiService.apisGet(10, 0, null, "", null, null, request);
 
         Assert.assertEquals(200, response.getStatus());
     }
@@ -996,9 +999,9 @@ public class ApisApiServiceImplTestCase {
         PowerMockito.when(RestApiUtil.getLoggedInUsername(request)).thenReturn(USER);
 
         Mockito.doThrow(new APIManagementException("Error Occurred", ExceptionCodes.API_NOT_FOUND))
-                .when(apiStore).searchAPIsByStoreLabels("", 0, 10,  new HashSet<>());
+                .when(apiStore).getAPIsByStoreLabels(10, null,  new HashSet<>());
 
-        Response response = apisApiService.apisGet(10, 0, null, "",  null, request);
+        Response response = apisApiService.apisGet(10, 0, null, null, "",  null, request);
 
         Assert.assertEquals(404, response.getStatus());
     }
@@ -31,6 +31,7 @@ import org.wso2.carbon.apimgt.core.models.API;
 import org.wso2.carbon.apimgt.core.models.BusinessInformation;
 import org.wso2.carbon.apimgt.core.models.CorsConfiguration;
 import org.wso2.carbon.apimgt.core.models.Endpoint;
+import org.wso2.carbon.apimgt.core.models.PagedResults;
 import org.wso2.carbon.apimgt.core.models.policy.APIPolicy;
 import org.wso2.carbon.apimgt.core.models.policy.Policy;
 import org.wso2.carbon.apimgt.core.models.policy.SubscriptionPolicy;
@@ -96,6 +97,17 @@ public class APIMappingUtilTestCase {
         Assert.assertEquals(apiListDTO.getList().get(0).getType(), BaseAPIInfoDTO.TypeEnum.APIINFO);
     }
 
+    @Test
+    public void testNextPageLinkEncodesLabels() throws APIManagementException {
+        API api = createApi("provider1", UUID.randomUUID().toString(), "testapi1", "1.0.0",
+                "Test API 1 - version 1.0.0", Collections.emptyMap()).build();
+        PagedResults<API> page = new PagedResults<>(Collections.singletonList(api), "nextToken");
+
+        APIListDTO apiListDTO = APIMappingUtil.toAPIListDTO(page, 1, "public,private&x=y");
+
+        Assert.assertEquals(apiListDTO.getNext(), "/apis?limit=1&after=nextToken&labels=public%2Cprivate%26x%3Dy");
+    }
+
     @Test
     public void testToAPIDTO() throws APIManagementException {
 
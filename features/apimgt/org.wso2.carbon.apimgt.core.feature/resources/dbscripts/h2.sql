@@ -511,3 +511,19 @@ CREATE TABLE IF NOT EXISTS AM_USER_NAME_MAPPING (
   PRIMARY KEY(PSEUDO_NAME),
   UNIQUE (USER_IDENTIFIER)
 );
+
+CREATE TABLE IF NOT EXISTS AM_GATEWAY_CHANGE_REVISION (
+  ID INTEGER NOT NULL,
+  REVISION BIGINT NOT NULL,
+  PRIMARY KEY (ID)
+);
+
+MERGE INTO AM_GATEWAY_CHANGE_REVISION (ID, REVISION) KEY (ID) VALUES (1, 0);
+
+CREATE TABLE IF NOT EXISTS AM_GATEWAY_CHANGE_LOG (
+  REVISION BIGINT NOT NULL,
+  EVENT_TYPE VARCHAR(255) NOT NULL,
+  EVENT BLOB NOT NULL,
+  CREATED_TIME TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP(6),
+  PRIMARY KEY (REVISION)
+);
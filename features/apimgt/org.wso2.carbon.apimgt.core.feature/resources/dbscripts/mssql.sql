@@ -513,3 +513,19 @@ CREATE TABLE AM_USER_NAME_MAPPING (
   USER_IDENTIFIER VARCHAR(255) NOT NULL UNIQUE,
   PRIMARY KEY(PSEUDO_NAME)
 );
+
+CREATE TABLE AM_GATEWAY_CHANGE_REVISION (
+  ID INTEGER NOT NULL,
+  REVISION BIGINT NOT NULL,
+  PRIMARY KEY (ID)
+);
+
+INSERT INTO AM_GATEWAY_CHANGE_REVISION (ID, REVISION) VALUES (1, 0);
+
+CREATE TABLE AM_GATEWAY_CHANGE_LOG (
+  REVISION BIGINT NOT NULL,
+  EVENT_TYPE VARCHAR(255) NOT NULL,
+  EVENT VARBINARY(max) NOT NULL,
+  CREATED_TIME DATETIME2(6) DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (REVISION)
+);
@@ -697,3 +697,21 @@ CREATE TABLE AM_USER_NAME_MAPPING (
   UNIQUE (USER_IDENTIFIER)
 )
 /
+
+CREATE TABLE AM_GATEWAY_CHANGE_REVISION (
+  ID INTEGER NOT NULL,
+  REVISION NUMBER(19) NOT NULL,
+  PRIMARY KEY (ID)
+)
+/
+INSERT INTO AM_GATEWAY_CHANGE_REVISION (ID, REVISION) VALUES (1, 0)
+/
+
+CREATE TABLE AM_GATEWAY_CHANGE_LOG (
+  REVISION NUMBER(19) NOT NULL,
+  EVENT_TYPE VARCHAR2(255) NOT NULL,
+  EVENT BLOB NOT NULL,
+  CREATED_TIME TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP(6),
+  PRIMARY KEY (REVISION)
+)
+/
@@ -534,3 +534,19 @@ CREATE TABLE IF NOT EXISTS AM_USER_NAME_MAPPING (
   PRIMARY KEY(PSEUDO_NAME),
   UNIQUE (USER_IDENTIFIER)
 );
+
+CREATE TABLE IF NOT EXISTS AM_GATEWAY_CHANGE_REVISION (
+  ID INTEGER NOT NULL,
+  REVISION BIGINT NOT NULL,
+  PRIMARY KEY (ID)
+);
+
+INSERT INTO AM_GATEWAY_CHANGE_REVISION (ID, REVISION) VALUES (1, 0) ON CONFLICT DO NOTHING;
+
+CREATE TABLE IF NOT EXISTS AM_GATEWAY_CHANGE_LOG (
+  REVISION BIGINT NOT NULL,
+  EVENT_TYPE VARCHAR(255) NOT NULL,
+  EVENT BYTEA NOT NULL,
+  CREATED_TIME TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP(6),
+  PRIMARY KEY (REVISION)
+);
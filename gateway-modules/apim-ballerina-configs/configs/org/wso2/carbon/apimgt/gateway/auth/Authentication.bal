@@ -3,13 +3,13 @@ import ballerina.net.http;
 import ballerina.lang.messages;
 import ballerina.lang.strings;
 import ballerina.lang.errors;
-import ballerina.utils;
 import ballerina.lang.system;
 import org.wso2.carbon.apimgt.gateway.dto as dto;
 import org.wso2.carbon.apimgt.gateway.utils as gatewayUtil;
 import org.wso2.carbon.apimgt.gateway.holders as holder;
 import org.wso2.carbon.apimgt.gateway.constants;
 import org.wso2.carbon.apimgt.ballerina.util;
+import org.wso2.carbon.apimgt.ballerina.auth as nativeAuth;
 
 function main(string[] args) {
     system:println("Hello, World!");
@@ -36,12 +36,10 @@ function authenticate (message m) (boolean, message) {
     dto:SubscriptionDto subscriptionDto;
     dto:ResourceDto resourceDto;
     json userInfo;
-    boolean introspectCacheHit = true;
     string apiContext = messages:getProperty(m,constants:BASE_PATH);
     //todo get this from ballerina property once they set versioning
     string version = "1.0.0";
-    //todo need to have elected resource to be in properties
-    string uriTemplate = "/";
+    string requestPath = messages:getProperty(m, constants:SUB_PATH);
     string httpVerb = strings:toUpperCase(http:getMethod(m));
     string authHeader;
     string apikeyHeader;
@@ -60,7 +58,7 @@ function authenticate (message m) (boolean, message) {
         gatewayUtil:constructAPIIsInMaintenance(response);
         return false, response;
     }
-    resourceDto = validateResource(apiContext, version, uriTemplate, httpVerb);
+    resourceDto = validateResource(apiContext, version, requestPath, httpVerb);
     if (resourceDto == null) {
         http:setStatusCode(response, 404);
         return false, response;
@@ -94,12 +92,8 @@ function authenticate (message m) (boolean, message) {
             return false, response;
         }
 
-        dto:IntrospectDto introspectDto = holder:getFromTokenCache(authToken);
-        if (introspectDto == null) {
-            introspectCacheHit = false;
-            // if not exist
-            introspectDto = doIntrospect(authToken);
-        }
+        // served from the token validation cache unless the token is new or its cached result has expired
+        dto:IntrospectDto introspectDto = doIntrospect(authToken);
 
         if (!introspectDto.active) {
             // access token expired
@@ -107,11 +101,6 @@ function authenticate (message m) (boolean, message) {
             return false, response;
         }
 
-        // if token had exp
-        if (introspectDto.exp != -1) {
-            //put into cache
-            holder:putIntoTokenCache(authToken, introspectDto);
-        }
         if (introspectDto.username != "") {
             userInfo = holder:getFromUserInfoCache(introspectDto.username);
             if ((userInfo == null) && (introspectDto.scope != "")
@@ -120,14 +109,10 @@ function authenticate (message m) (boolean, message) {
                 holder:putIntoUserInfoCache(introspectDto.username, userInfo);
             }
         }
-        // if token come from cache hit
-        if (introspectCacheHit) {
-
-            if (introspectDto.exp < system:currentTimeMillis() / 1000) {
-                holder:removeFromTokenCache(authToken);
-                gatewayUtil:constructAccessTokenExpiredPayload(response);
-                return false, response;
-            }
+        if (introspectDto.exp != -1 && introspectDto.exp < system:currentTimeMillis() / 1000) {
+            nativeAuth:invalidateToken(authToken);
+            gatewayUtil:constructAccessTokenExpiredPayload(response);
+            return false, response;
         }
         // validating subscription
         subscriptionDto = validateSubscription(apiContext, version, introspectDto);
@@ -187,16 +172,11 @@ function authenticate (message m) (boolean, message) {
 }
 
 function doIntrospect (string authToken) (dto:IntrospectDto) {
-    message request = {};
     dto:KeyManagerInfoDTO keyManagerConf = holder:getKeyManagerConf();
     dto:CredentialsDTO credentials = keyManagerConf.credentials;
-    messages:setStringPayload(request, "token=" + authToken);
-    messages:setHeader(request, "Content-Type", "application/x-www-form-urlencoded");
-    messages:setHeader(request, constants:AUTHORIZATION, "Basic " + utils:base64encode(credentials.username + ":"
-                                                                                       + credentials.password));
-    http:ClientConnector introspectConnector = create http:ClientConnector(keyManagerConf.introspectEndpoint);
-    message introspectResponse = http:ClientConnector.post (introspectConnector,"/", request);
-    dto:IntrospectDto introspectDto = gatewayUtil:fromJsonToIntrospectDto(messages:getJsonPayload(introspectResponse));
+    json introspectResponse = nativeAuth:introspectToken(keyManagerConf.introspectEndpoint, credentials.username,
+                                                         credentials.password, authToken);
+    dto:IntrospectDto introspectDto = gatewayUtil:fromJsonToIntrospectDto(introspectResponse);
     return introspectDto;
 }
 function validateSubscription (string apiContext, string version, dto:IntrospectDto introspectDto) (dto:SubscriptionDto) {
@@ -204,8 +184,8 @@ function validateSubscription (string apiContext, string version, dto:Introspect
     dto:SubscriptionDto subscriptionDto = holder:getFromSubscriptionCache(apiContext, version, introspectDto.client_id);
     return subscriptionDto;
 }
-function validateResource (string apiContext, string apiVersion, string uriTemplate, string verb) (dto:ResourceDto) {
-    dto:ResourceDto resourceDto = holder:getFromResourceCache(apiContext, apiVersion, uriTemplate, verb);
+function validateResource (string apiContext, string apiVersion, string requestPath, string verb) (dto:ResourceDto) {
+    dto:ResourceDto resourceDto = holder:matchFromResourceCache(apiContext, apiVersion, requestPath, verb);
     return resourceDto;
 }
 function validateScopes (dto:ResourceDto resourceDto, dto:IntrospectDto introspectDto) (boolean){
@@ -284,14 +264,8 @@ function constructKeyValidationDto (string token, dto:IntrospectDto introspectDt
     return keyValidationInfoDTO;
 }
 function retrieveUserInfo (string token) (json) {
-    message request = {};
-    string keyURl = "https://localhost:9443";
-    messages:setHeader(request, "Content-Type", "application/json");
-    messages:setHeader(request, constants:AUTHORIZATION, "Bearer " + token);
-    http:ClientConnector userInfoConnector = create http:ClientConnector(keyURl);
-    message userInfoResponse = http:ClientConnector.post (userInfoConnector, constants:USER_INFO_CONTEXT
-                                                                             + "?schema=openid", request);
-    return messages:getJsonPayload(userInfoResponse);
+    dto:KeyManagerInfoDTO keyManagerConf = holder:getKeyManagerConf();
+    return nativeAuth:getUserInfo(keyManagerConf.userInfoEndpoint + "?schema=openid", token);
 }
 
 function isSubscriptionBlocked (dto:SubscriptionDto subscriptionDto, message response, dto:APIDTO apiDto)
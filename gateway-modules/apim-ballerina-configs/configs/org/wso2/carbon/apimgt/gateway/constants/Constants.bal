@@ -30,7 +30,6 @@ const string BEARER = "Bearer ";
 const string APIKEY = "apikey ";
 const string AUTHENTICATION_TYPE_NONE = "None";
 const string KEY_VALIDATION_INFO = "KEY_VALIDATION_INFO";
-const string TOKEN_CACHE = "TOKEN_CACHE";
 const string USER_INFO_CACHE = "USER_INFO_CACHE";
 const string SUBSCRIPTION_CACHE = "SUBSCRIPTION_CACHE";
 const string APPLICATION_CACHE = "APPLICATION_CACHE";
@@ -45,6 +44,7 @@ const string POLICY_TEMPLATE_KEY = "keyTemplateValue";
 const string IS_THROTTLED = "isThrottled";
 const string EXPIRY_TIMESTAMP = "expiryTimeStamp";
 const string TRUE = "true";
+const string LOCAL_THROTTLE_ALGORITHM = "tokenBucket";
 const string ADD = "add";
 
 const string BLOCKING_EVENT_TYPE = "jms";
@@ -65,6 +65,7 @@ const int NOT_FOUND = 404;
 const string STOP_ON_QUOTA_REACH = "STOP_ON_QUOTA_REACH";
 const string MAINTENANCE = "Maintenance";
 const string BASE_PATH = "BASE_PATH";
+const string SUB_PATH = "SUB_PATH";
 const string API_NOT_FOUND = "code: 900314";
 const string KEY_TYPE = "KEY_TYPE";
 const string SUBSCRIPTION_STATUS_ACTIVE="ACTIVE";
@@ -87,3 +88,4 @@ const string PRODUCTION = "PRODUCTION";
 const string SANDBOX = "SANDBOX";
 const string PUBLISHED = "PUBLISHED";
 
+const string SUBSCRIPTION_PAGE_SIZE = "500";
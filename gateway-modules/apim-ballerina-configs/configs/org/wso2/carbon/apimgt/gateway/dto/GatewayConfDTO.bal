@@ -13,6 +13,7 @@ struct KeyManagerInfoDTO {
     string tokenEndpoint;
     string revokeEndpoint;
     string introspectEndpoint;
+    string userInfoEndpoint;
     CredentialsDTO credentials;
 }
 
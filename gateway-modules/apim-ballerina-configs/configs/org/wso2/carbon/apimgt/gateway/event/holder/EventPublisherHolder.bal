@@ -38,11 +38,23 @@ function getThrottlingPublisher () (publisher:EventConnector) {
     }
 }
 
+function getPublisherMetrics () (json) {
+    json metrics = {};
+    if (initAnalytics) {
+        metrics.analytics = publisher:EventConnector.getMetrics(analyticsPublisher);
+    }
+    if (initThrottle) {
+        metrics.throttle = publisher:EventConnector.getMetrics(throttlePublisher);
+    }
+    return metrics;
+}
+
 function getPublisherInstance (map propertiesMap) (publisher:EventConnector) {
     publisher:EventConnector das = create publisher:EventConnector(propertiesMap);
     return das;
 }
 
+// Events are queued and published by background workers, so publishing never adds latency to the API call
 function getAnalyticsConfigMap () (map) {
     dto:AnalyticsInfoDTO dto = holders:getAnalyticsConf ();
     map propertiesMap = {
@@ -51,7 +63,9 @@ function getAnalyticsConfigMap () (map) {
                         "authURLSet": dto.authServerURL,
                         "username": dto.credentials.username,
                         "password": dto.credentials.password,
-                        "configPath":"bre/conf/data.agent.config.yaml"
+                        "configPath":"bre/conf/data.agent.config.yaml",
+                        "publishingMode":"async",
+                        "overflowPolicy":"drop"
                         };
     return propertiesMap;
 }
@@ -64,7 +78,9 @@ function getThrottleConfigMap () (map) {
                         "authURLSet": dto.authServerURL,
                         "username": dto.credentials.username,
                         "password": dto.credentials.password,
-                        "configPath":"bre/conf/data.agent.config.yaml"
+                        "configPath":"bre/conf/data.agent.config.yaml",
+                        "publishingMode":"async",
+                        "overflowPolicy":"drop"
                         };
     return propertiesMap;
 }
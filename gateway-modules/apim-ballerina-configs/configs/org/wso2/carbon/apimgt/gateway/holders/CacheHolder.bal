@@ -3,6 +3,8 @@ import org.wso2.carbon.apimgt.gateway.dto as dto;
 import org.wso2.carbon.apimgt.gateway.constants;
 import org.wso2.carbon.apimgt.ballerina.caching;
 import org.wso2.carbon.apimgt.ballerina.maps as apimgtMaps;
+import org.wso2.carbon.apimgt.ballerina.throttle as localThrottle;
+import org.wso2.carbon.apimgt.ballerina.routing;
 import ballerina.lang.system;
 import ballerina.lang.maps;
 import ballerina.lang.errors;
@@ -13,20 +15,6 @@ dto:KeyManagerInfoDTO keyManagerConf = {};
 map applicationCache = {};
 map userInfoCache = {};
 string apiCoreUrl;
-function getFromTokenCache (string key) (dto:IntrospectDto) {
-    any introspect = caching:getCacheEntry(constants:TOKEN_CACHE, key);
-    if (introspect != null) {
-        dto:IntrospectDto dto;
-        errors:TypeCastError err;
-        dto, err = (dto:IntrospectDto)introspect;
-        return dto;
-    } else {
-        return null;
-    }
-}
-function putIntoTokenCache (string key, dto:IntrospectDto introspectDto) {
-    caching:putCacheEntry(constants:TOKEN_CACHE, key, introspectDto);
-}
 
 function getFromSubscriptionCache (string apiContext, string version, string consumerKey) (dto:SubscriptionDto) {
     string key = apiContext + ":" + version + ":" + consumerKey;
@@ -66,6 +54,15 @@ function getFromResourceCache (string apiContext, string apiVersion, string reso
         return null;
     }
 }
+function matchFromResourceCache (string apiContext, string apiVersion, string requestPath, string httpVerb)
+(dto:ResourceDto) {
+    string key = apiContext + ":" + apiVersion;
+    string uriTemplate = routing:matchResourceRoute(key, requestPath, httpVerb);
+    if (uriTemplate == "") {
+        return null;
+    }
+    return getFromResourceCache(apiContext, apiVersion, uriTemplate, httpVerb);
+}
 function putIntoResourceCache (string apiContext, string apiVersion, dto:ResourceDto resourceDto) {
     string internalKey = resourceDto.uriTemplate + ":" + resourceDto.httpVerb;
     string key = apiContext + ":" + apiVersion;
@@ -78,9 +75,7 @@ function putIntoResourceCache (string apiContext, string apiVersion, dto:Resourc
     }
     resourceMap[internalKey] = resourceDto;
     caching:putCacheEntry(constants:RESOURCE_CACHE, key, resourceMap);
-}
-function removeFromTokenCache (string key) {
-    caching:removeCacheEntry(constants:TOKEN_CACHE, key);
+    routing:addResourceRoute(key, resourceDto.uriTemplate, resourceDto.httpVerb);
 }
 function putIntoAPICache (dto:APIDTO apidto) {
     string key = apidto.context + ":" + apidto.version;
@@ -155,6 +150,7 @@ function removeApplicationFromCache (string applicationId) {
 function removeFromResources (string apiContext, string apiVersion) {
     string key = apiContext + ":" + apiVersion;
     caching:removeCacheEntry(constants:RESOURCE_CACHE, key);
+    routing:removeResourceRoutes(key);
 }
 function removeFromSubscriptionCache (string apiContext, string apiVersion, string consumerKey) {
     string key = apiContext + ":" + apiVersion + ":" + consumerKey;
@@ -162,21 +158,19 @@ function removeFromSubscriptionCache (string apiContext, string apiVersion, stri
 }
 
 function initializeCache () (boolean) {
-    //cache for token introspect
-    caching:createCache(constants:TOKEN_CACHE, "15");
     //cache for subscription
-    caching:createCache(constants:SUBSCRIPTION_CACHE, "15");
+    caching:createCache(constants:SUBSCRIPTION_CACHE, "15", "10000");
     //cache for resource
-    caching:createCache(constants:RESOURCE_CACHE, "15");
+    caching:createCache(constants:RESOURCE_CACHE, "15", "1000");
     //cache for application
-    caching:createCache(constants:APPLICATION_CACHE, "15");
+    caching:createCache(constants:APPLICATION_CACHE, "15", "10000");
     //cache for policies
-    caching:createCache(constants:POLICY_CACHE, "15");
+    caching:createCache(constants:POLICY_CACHE, "15", "1000");
     //cache for userinfo
-    caching:createCache(constants:USER_INFO_CACHE, "15");
+    caching:createCache(constants:USER_INFO_CACHE, "15", "10000");
     //cache for api
-    caching:createCache(constants:API_CACHE, "15");
-    caching:createCache(constants:ENDPOINT_CACHE, "15");
+    caching:createCache(constants:API_CACHE, "15", "1000");
+    caching:createCache(constants:ENDPOINT_CACHE, "15", "1000");
 
     return true;
 }
@@ -246,6 +240,7 @@ function addBlockConditions (dto:BlockConditionDto blockConditionDto) {
     }
     blockConditionMap[blockConditionDto.key] = blockConditionDto;
     apimgtMaps:putMapEntry(constants:BLOCK_CONDITION_MAP, blockConditionMap);
+    addBlockedIpRange(blockConditionDto);
 }
 function removeBlockCondition (dto:BlockConditionDto blockConditionDto) {
     any entry = apimgtMaps:getMapEntry(constants:BLOCK_CONDITION_MAP);
@@ -256,6 +251,7 @@ function removeBlockCondition (dto:BlockConditionDto blockConditionDto) {
     }
     maps:remove(blockConditionMap,blockConditionDto.key);
     apimgtMaps:putMapEntry(constants:BLOCK_CONDITION_MAP, blockConditionMap);
+    localThrottle:removeBlockedIpRange(blockConditionDto.key);
 }
 function updateBlockCondition (dto:BlockConditionDto blockConditionDto) {
     any entry = apimgtMaps:getMapEntry(constants:BLOCK_CONDITION_MAP);
@@ -265,11 +261,23 @@ function updateBlockCondition (dto:BlockConditionDto blockConditionDto) {
         blockConditionMap, err = (map)entry;
     }
     maps:remove(blockConditionMap,blockConditionDto.key);
+    localThrottle:removeBlockedIpRange(blockConditionDto.key);
     if (blockConditionDto.enabled) {
         blockConditionMap[blockConditionDto.key] = blockConditionDto;
+        addBlockedIpRange(blockConditionDto);
     }
     apimgtMaps:putMapEntry(constants:BLOCK_CONDITION_MAP, blockConditionMap);
 }
+function addBlockedIpRange (dto:BlockConditionDto blockConditionDto) {
+    // IP conditions are indexed natively as single address ranges along with IP range conditions
+    if (blockConditionDto.conditionType == constants:BLOCKING_CONDITION_IP_RANGE) {
+        localThrottle:addBlockedIpRange(blockConditionDto.key, "" + blockConditionDto.startingIP,
+                                        "" + blockConditionDto.endingIP);
+    } else if (blockConditionDto.conditionType == constants:BLOCKING_CONDITIONS_IP) {
+        localThrottle:addBlockedIpRange(blockConditionDto.key, "" + blockConditionDto.fixedIp,
+                                        "" + blockConditionDto.fixedIp);
+    }
+}
 function getBlockConditionMap ()(map) {
     any entry = apimgtMaps:getMapEntry(constants:BLOCK_CONDITION_MAP);
     map blockConditionMap = {};
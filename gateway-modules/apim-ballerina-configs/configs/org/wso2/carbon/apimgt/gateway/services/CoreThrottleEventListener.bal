@@ -9,6 +9,7 @@ import org.wso2.carbon.apimgt.gateway.constants as Constants;
 import org.wso2.carbon.apimgt.gateway.utils as gatewayUtils;
 import org.wso2.carbon.apimgt.gateway.holders;
 import org.wso2.carbon.apimgt.gateway.dto;
+import org.wso2.carbon.apimgt.ballerina.throttle as localThrottle;
 
 @jms:config {
     initialContextFactory:"org.wso2.andes.jndi.PropertiesFileInitialContextFactory",
@@ -37,6 +38,10 @@ service<jms> ThrottleCoreJmsService {
             }else if(eventType == Constants:POLICY_DELETE){
                 string eventId;
                 eventId, err = (string )event.id;
+                dto:PolicyDto policyDto = holders:getFromPolicyCache(eventId);
+                if (policyDto != null && policyDto.name != null && policyDto.name != "") {
+                    localThrottle:removeThrottleLimit(policyDto.name);
+                }
                 holders:removeFromPolicyCache(eventId);
              }else if(eventType == Constants:BLOCK_CONDITION_ADD){
                 dto:BlockConditionDto condition = gatewayUtils:fromJsonToBlockConditionDto(event);
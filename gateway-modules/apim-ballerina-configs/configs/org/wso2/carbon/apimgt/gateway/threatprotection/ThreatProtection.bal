@@ -30,7 +30,7 @@ function analyzePayload(message m, string apiContext, string policyId) (boolean,
         system:println("Threat Protection: No Content-Type declared for " + apiContext);
         return true, m;
     }
-    string payload = messages:getStringPayload(m);
+    blob payload = messages:getBinaryPayload(m);
     boolean ok;
     string errMessage;
     ok, errMessage = threatprotection:analyze(contentType, payload, apiContext, policyId);
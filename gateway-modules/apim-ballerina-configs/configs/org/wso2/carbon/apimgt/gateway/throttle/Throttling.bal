@@ -11,6 +11,7 @@ import org.wso2.carbon.apimgt.gateway.constants as constants;
 import org.wso2.carbon.apimgt.gateway.event.publisher;
 import org.wso2.carbon.apimgt.gateway.dto;
 import org.wso2.carbon.apimgt.ballerina.util;
+import org.wso2.carbon.apimgt.ballerina.throttle as localThrottle;
 
 errors:TypeCastError err;
 
@@ -34,18 +35,23 @@ function isRequestThrottled( message msg) (boolean){
     // will return true if the request is throttled
 
     //Throttle Keys
+    // Keys are interned natively, each key comes with an id which is used for local throttling
     //applicationLevelThrottleKey = {applicationId}:{authorizedUser}
     string applicationLevelThrottleKey;
+    int applicationLevelThrottleKeyId;
 
     //subscriptionLevelThrottleKey = {applicationId}:{apiContext}:{apiVersion}
     string subscriptionLevelThrottleKey;
+    int subscriptionLevelThrottleKeyId;
 
     // resourceLevelThrottleKey = {apiContext}/{apiVersion}{resourceUri}:{httpMethod}
     // if policy is user level then authorized user will append at end
     string resourceLevelThrottleKey;
+    int resourceLevelThrottleKeyId;
 
     //apiLevelThrottleKey key = {apiContext}:{apiVersion}
     string apiLevelThrottleKey;
+    int apiLevelThrottleKeyId;
 
     string authorizedUser;
 
@@ -83,8 +89,10 @@ function isRequestThrottled( message msg) (boolean){
 
     //todo get the correct key value
     ipLevelBlockingKey = gatewayUtil:getStringProperty(msg, "CLIENT_IP_ADDRESS");
-    apiLevelThrottleKey = apiContext + ":" + apiVersion;
-    subscriptionLevelThrottleKey = applicationId + ":" + apiContext + ":" + apiVersion;
+    apiLevelThrottleKeyId, apiLevelThrottleKey = localThrottle:getApiThrottleKey(apiContext, apiVersion);
+    subscriptionLevelThrottleKeyId, subscriptionLevelThrottleKey = localThrottle:getSubscriptionThrottleKey(applicationId,
+                                                                                                       apiContext,
+                                                                                                       apiVersion);
 
     // Blocking Condition
     boolean isBlocked = throttle:isRequestBlocked(apiLevelThrottleKey,subscriptionLevelThrottleKey,authorizedUser,ipLevelBlockingKey);
@@ -100,12 +108,14 @@ function isRequestThrottled( message msg) (boolean){
     string httpMethod = keyValidationDto.verb;
     string resourceLevelPolicy = keyValidationDto.resourceLevelPolicy;
     string resourceUri = keyValidationDto.resourcePath;
-    resourceLevelThrottleKey = apiContext + "/" + apiVersion + resourceUri + ":" + httpMethod;
+    resourceLevelThrottleKeyId, resourceLevelThrottleKey = localThrottle:getResourceThrottleKey(apiContext, apiVersion,
+                                                                                               resourceUri, httpMethod);
 
     //Check API Level is Applied
     if (apiLevelPolicy != "" && apiLevelPolicy != constants:UNLIMITED_TIER){
         apiLevelThrottlingTriggered = true;
         resourceLevelThrottleKey = apiLevelThrottleKey ;
+        resourceLevelThrottleKeyId = apiLevelThrottleKeyId;
     }
 
     //Check if verb dto is present
@@ -123,7 +133,12 @@ function isRequestThrottled( message msg) (boolean){
 
         // todo check for conditions
         // resource level + API level condition checking
-        if (throttle:isThrottled(resourceLevelThrottleKey, msg)) {
+        string resourceLevelLimitPolicy = resourceLevelPolicy;
+        if (apiLevelThrottlingTriggered) {
+            resourceLevelLimitPolicy = apiLevelPolicy;
+        }
+        if (throttle:isThrottled(resourceLevelThrottleKey, msg) ||
+            localThrottle:isKeyLocallyThrottled(resourceLevelLimitPolicy, resourceLevelThrottleKeyId)) {
 
             if(apiLevelThrottlingTriggered){
                 messages:setProperty(msg, THROTTLED_ERROR_CODE, API_THROTTLE_OUT_ERROR_CODE);
@@ -141,7 +156,9 @@ function isRequestThrottled( message msg) (boolean){
     }
 
     // Subscription Level throttling
-    isSubscriptionLevelThrottled = throttle:isThrottled(subscriptionLevelThrottleKey, msg);
+    isSubscriptionLevelThrottled = throttle:isThrottled(subscriptionLevelThrottleKey, msg) ||
+                                   localThrottle:isKeyLocallyThrottled(subscriptionLevelPolicy,
+                                                                       subscriptionLevelThrottleKeyId);
     boolean stopOnQuotaReach = keyValidationDto.stopOnQuotaReach;
 
     if(isSubscriptionLevelThrottled){
@@ -160,8 +177,11 @@ function isRequestThrottled( message msg) (boolean){
     //TODO Spike Arrest
 
     // Application Level Throttling
-    applicationLevelThrottleKey = applicationId + ":" + authorizedUser;
-    isApplicationLevelThrottled = throttle:isThrottled(applicationLevelThrottleKey, msg);
+    applicationLevelThrottleKeyId, applicationLevelThrottleKey = localThrottle:getApplicationThrottleKey(applicationId,
+                                                                                                     authorizedUser);
+    isApplicationLevelThrottled = throttle:isThrottled(applicationLevelThrottleKey, msg) ||
+                                  localThrottle:isKeyLocallyThrottled(applicationLevelPolicy,
+                                                                      applicationLevelThrottleKeyId);
 
     if(isApplicationLevelThrottled){
         http:setStatusCode( msg, HTTP_TOO_MANY_REQUESTS );
@@ -175,6 +195,7 @@ function isRequestThrottled( message msg) (boolean){
 
     try{
         publishEvent(msg, authorizedUser, applicationId, apiContext, apiVersion, apiLevelPolicy, applicationLevelPolicy, subscriptionLevelPolicy,
+                     applicationLevelThrottleKey, subscriptionLevelThrottleKey, apiLevelThrottleKey,
                      resourceLevelThrottleKey, resourceLevelPolicy, ipLevelBlockingKey);
     }catch(errors:Error e){
         system:println("Error occured while data publsihing " + e.msg);
@@ -189,11 +210,9 @@ function setInvalidUser(message msg){
 
 
 function publishEvent(message m, string userId, string applicationId, string apiContext, string apiVersion,string apiTier,
-                      string applicationTier, string subscriptionTier, string resourceLevelThrottleKey, string resourceTier,string ip) {
+                      string applicationTier, string subscriptionTier, string appKey, string subscriptionKey,
+                      string apiKey, string resourceLevelThrottleKey, string resourceTier,string ip) {
     string messageID = "messageID";
-    string appKey = applicationId+ ":" + userId;
-    string subscriptionKey = applicationId + ":" + apiContext + ":" + apiVersion;
-    string apiKey = apiContext + ":" + apiVersion;
 
     string appTenant = "carbon.super";
     string apiTenant = "carbon.super";
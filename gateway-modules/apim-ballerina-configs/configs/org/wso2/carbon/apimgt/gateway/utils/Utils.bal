@@ -8,6 +8,7 @@ import org.wso2.carbon.apimgt.gateway.dto as dto;
 import org.wso2.carbon.apimgt.gateway.holders as holders;
 import org.wso2.carbon.apimgt.gateway.constants;
 import org.wso2.carbon.apimgt.ballerina.util;
+import org.wso2.carbon.apimgt.ballerina.throttle as localThrottle;
 
 errors:TypeCastError err;
 
@@ -99,13 +100,21 @@ function fromJsonToResourceDto (json resourceResponse) (dto:ResourceDto) {
     return resourceDto;
 }
 function retrieveSubscriptions () (boolean) {
-    string query = "/api/am/core/v1.0/subscriptions?limit=-1";
-    message request = {};
+    string query = "/api/am/core/v1.0/subscriptions?limit=" + constants:SUBSCRIPTION_PAGE_SIZE;
     http:ClientConnector apiInfoConnector = create http:ClientConnector(getAPICoreURL());
-    messages:setHeader(request, "Content-Type", "application/json");
-    message response = http:ClientConnector.get(apiInfoConnector, query, request);
-    json subscriptions = messages:getJsonPayload(response);
-    putIntoSubscriptionCache(subscriptions.list);
+    while (query != "") {
+        message request = {};
+        messages:setHeader(request, "Content-Type", "application/json");
+        message response = http:ClientConnector.get(apiInfoConnector, query, request);
+        json subscriptions = messages:getJsonPayload(response);
+        putIntoSubscriptionCache(subscriptions.list);
+        query = "";
+        if (subscriptions.next != null) {
+            string next;
+            next, err = (string)subscriptions.next;
+            query = "/api/am/core/v1.0/subscriptions?limit=" + constants:SUBSCRIPTION_PAGE_SIZE + "&after=" + next;
+        }
+    }
     return true;
 }
 
@@ -201,7 +210,16 @@ function putIntoPolicyCache (json policy) {
     policyDto.id, err = (string)policy.id;
     policyDto.name, err = (string)policy.name;
     policyDto.stopOnQuotaReach, err = (boolean)policy.stopOnQuotaReach;
+    policyDto.requestCount, err = (int)policy.requestCount;
+    policyDto.unitTime, err = (int)policy.unitTime;
     holders:putIntoPolicyCache(policyDto);
+    // Policies which carry a request count limit are also enforced locally, ahead of the traffic manager decision
+    if (policyDto.requestCount > 0 && policyDto.unitTime > 0) {
+        localThrottle:addThrottleLimit(policyDto.name, constants:LOCAL_THROTTLE_ALGORITHM, policyDto.requestCount,
+                                       policyDto.unitTime);
+    } else {
+        localThrottle:removeThrottleLimit(policyDto.name);
+    }
 }
 function removeFromApplicationCache (json application) {
     string applicationId;
@@ -219,6 +237,7 @@ function fromJsonToGatewayConfDTO (json conf) (dto:GatewayConfDTO) {
     keyManagerInfoDTO.tokenEndpoint, err = (string)keyManagerInfo.tokenEndpoint;
     keyManagerInfoDTO.revokeEndpoint, err = (string)keyManagerInfo.revokeEndpoint;
     keyManagerInfoDTO.introspectEndpoint, err = (string)keyManagerInfo.introspectEndpoint;
+    keyManagerInfoDTO.userInfoEndpoint, err = (string)keyManagerInfo.userInfoEndpoint;
 
     dto:CredentialsDTO keyManagerCredentialsDTO = {};
     json keyManagerCredentials = keyManagerInfo.credentials;
@@ -0,0 +1,21 @@
+package org.wso2.carbon.apimgt.ballerina.auth;
+
+import ballerina.doc;
+
+@doc:Description { value:"Introspect an access token through the token validation cache"}
+@doc:Param { value:"endpoint: Introspection endpoint of the key manager" }
+@doc:Param { value:"username: Username to authenticate with the key manager" }
+@doc:Param { value:"password: Password to authenticate with the key manager" }
+@doc:Param { value:"token: Access token" }
+@doc:Return { value:"json: Introspection response" }
+native function introspectToken (string endpoint, string username, string password, string token) (json);
+
+@doc:Description { value:"Remove an access token from the token validation cache"}
+@doc:Param { value:"token: Access token" }
+native function invalidateToken (string token);
+
+@doc:Description { value:"Retrieve the user info of the owner of an access token"}
+@doc:Param { value:"endpoint: User info endpoint of the key manager" }
+@doc:Param { value:"token: Access token" }
+@doc:Return { value:"json: User info response" }
+native function getUserInfo (string endpoint, string token) (json);
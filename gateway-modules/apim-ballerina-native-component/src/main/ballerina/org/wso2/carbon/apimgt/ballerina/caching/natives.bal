@@ -18,11 +18,17 @@ native function getCacheEntry (string cacheName, string cacheKey) (any);
 @doc:Description { value:"Create cache as per user requirement"}
 @doc:Param { value:"cacheName: Name of the cache to be create" }
 @doc:Param { value:"cacheTimeout: Cache timeout in minutes" }
+@doc:Param { value:"maxEntries: Maximum number of entries in the cache" }
 @doc:Return { value:"string: created cache name" }
-native function createCache (string cacheName, string cacheTimeout) (string);
+native function createCache (string cacheName, string cacheTimeout, string maxEntries) (string);
 
 @doc:Description { value:"Remove cache entry by providing cacheName, cacheKey"}
 @doc:Param { value:"cacheName: Name of the cache to be create" }
 @doc:Param { value:"cacheKey: String cache key" }
 @doc:Return { value:"string: cache name" }
-native function removeCacheEntry (string cacheName, string cacheKey) (string);
\ No newline at end of file
+native function removeCacheEntry (string cacheName, string cacheKey) (string);
+
+@doc:Description { value:"Get statistics of a cache by providing cacheName"}
+@doc:Param { value:"cacheName: Name of the cache" }
+@doc:Return { value:"json: Size, maximum size, hit, miss and eviction counts of the cache" }
+native function getCacheStats (string cacheName) (json);
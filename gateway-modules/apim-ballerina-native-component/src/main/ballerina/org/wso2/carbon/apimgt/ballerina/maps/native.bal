@@ -16,4 +16,39 @@ native function getMapEntry (string key) (any);
 @doc:Description {value:"Remove cache entry by providing cacheName, cacheKey"}
 @doc:Param {value:"key: String key"}
 @doc:Return {value:"string: key"}
-native function removeMapEntry (string key) (string);
\ No newline at end of file
+native function removeMapEntry (string key) (string);
+
+@doc:Description {value:"Add throttle data received from the traffic manager"}
+@doc:Param {value:"throttleKey: Throttle key"}
+@doc:Param {value:"expiryTimeStamp: Time in milliseconds at which the throttled window ends"}
+@doc:Return {value:"string: Throttle key"}
+native function addThrottleData (string throttleKey, string expiryTimeStamp) (string);
+
+@doc:Description {value:"Remove throttle data of a throttle key"}
+@doc:Param {value:"throttleKey: Throttle key"}
+@doc:Return {value:"string: Throttle key"}
+native function removeThrottleData (string throttleKey) (string);
+
+@doc:Description {value:"Check whether a throttle key is throttled, expired keys are removed"}
+@doc:Param {value:"throttleKey: Throttle key"}
+@doc:Return {value:"boolean: true if throttled, false otherwise"}
+native function isThrottled (string throttleKey) (boolean);
+
+@doc:Description {value:"Get the expiry time of a throttled key"}
+@doc:Param {value:"throttleKey: Throttle key"}
+@doc:Return {value:"string: Expiry time in milliseconds or empty string if the key is not throttled"}
+native function getThrottleData (string throttleKey) (string);
+
+@doc:Description {value:"Add a key template"}
+@doc:Param {value:"keyTemplate: Key template"}
+@doc:Return {value:"string: Key template"}
+native function addKeyTemplate (string keyTemplate) (string);
+
+@doc:Description {value:"Remove a key template"}
+@doc:Param {value:"keyTemplate: Key template"}
+@doc:Return {value:"string: Key template"}
+native function removeKeyTemplate (string keyTemplate) (string);
+
+@doc:Description {value:"Get key templates"}
+@doc:Return {value:"string[]: Key templates"}
+native function getKeyTemplates () (string[]);
@@ -0,0 +1,22 @@
+package org.wso2.carbon.apimgt.ballerina.routing;
+
+import ballerina.doc;
+
+@doc:Description { value:"Add or replace a resource in the routing trie of an API"}
+@doc:Param { value:"apiKey: API key {apiContext}:{apiVersion}" }
+@doc:Param { value:"uriTemplate: URI template of the resource" }
+@doc:Param { value:"httpVerb: HTTP verb of the resource" }
+@doc:Return { value:"boolean: true if the resource was added, false if the URI template is not valid" }
+native function addResourceRoute (string apiKey, string uriTemplate, string httpVerb) (boolean);
+
+@doc:Description { value:"Remove all resources of an API from routing"}
+@doc:Param { value:"apiKey: API key {apiContext}:{apiVersion}" }
+@doc:Return { value:"boolean: true after the resources are removed" }
+native function removeResourceRoutes (string apiKey) (boolean);
+
+@doc:Description { value:"Find the resource of an API matching a request path and verb"}
+@doc:Param { value:"apiKey: API key {apiContext}:{apiVersion}" }
+@doc:Param { value:"path: Request path relative to the API context" }
+@doc:Param { value:"httpVerb: HTTP verb of the request" }
+@doc:Return { value:"string: URI template of the matching resource, empty if no resource matches" }
+native function matchResourceRoute (string apiKey, string path, string httpVerb) (string);
@@ -6,12 +6,12 @@ import ballerina.doc;
 
 @doc:Description { value: "Analyzes payload for threats" }
 @doc:Param { value: "payloadType: payload type (json/xml)" }
-@doc:Param { value: "payload: json or xml payload to analyze" }
+@doc:Param { value: "payload: json or xml payload bytes to analyze" }
 @doc:Param { value: "apiContext: api context" }
 @doc:Param { value: "policyId" }
 @doc:Return { value: "boolean: true of no threats detected, false otherwise" }
 @doc:Return { value: "string: error information" }
-native function analyze(string payloadType, string payload, string apiContext, string policyId) (boolean, string);
+native function analyze(string payloadType, blob payload, string apiContext, string policyId) (boolean, string);
 
 @doc:Description { value: "Configures the JSON analyzer" }
 @doc:Param { value: "jsonInfo: ballerina struct containing JSONAnalyzer configurations" }
@@ -23,4 +23,8 @@ native function configureJsonAnalyzer(any jsonInfo, string event) (boolean);
 @doc:Param { value: "xmlInfo: ballerina struct containing XMLAnalyzer configurations" }
 @doc:Param {value: "event: Threat Protection Policy event (add/delete/update"}
 @doc:Return { value: "boolean: true if success, false otherwise" }
-native function configureXmlAnalyzer(any xmlInfo, string event) (boolean);
\ No newline at end of file
+native function configureXmlAnalyzer(any xmlInfo, string event) (boolean);
+
+@doc:Description { value: "Gets the metrics of the per policy analyzer pools" }
+@doc:Return { value: "json: active and idle analyzers, borrow count and borrow wait times per payload type and policy" }
+native function getAnalyzerPoolMetrics() (json);
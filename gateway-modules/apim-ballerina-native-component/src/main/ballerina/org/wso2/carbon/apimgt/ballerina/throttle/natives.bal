@@ -0,0 +1,70 @@
+package org.wso2.carbon.apimgt.ballerina.throttle;
+
+import ballerina.doc;
+
+@doc:Description { value:"Add local request count limit of a throttle policy"}
+@doc:Param { value:"policyName: Name of the throttle policy" }
+@doc:Param { value:"algorithm: tokenBucket or slidingWindow" }
+@doc:Param { value:"requestCount: Number of requests allowed within the unit time" }
+@doc:Param { value:"unitTime: Unit time in milliseconds" }
+@doc:Return { value:"boolean: true if the limit was added" }
+native function addThrottleLimit (string policyName, string algorithm, int requestCount, int unitTime) (boolean);
+
+@doc:Description { value:"Remove local request count limit of a throttle policy"}
+@doc:Param { value:"policyName: Name of the throttle policy" }
+@doc:Return { value:"boolean: true after the limit is removed" }
+native function removeThrottleLimit (string policyName) (boolean);
+
+@doc:Description { value:"Count a request against the local limit of a throttle policy by throttle key id"}
+@doc:Param { value:"policyName: Name of the throttle policy" }
+@doc:Param { value:"throttleKeyId: Id of the throttle key of the request" }
+@doc:Return { value:"boolean: true if throttled, false otherwise" }
+native function isKeyLocallyThrottled (string policyName, int throttleKeyId) (boolean);
+
+@doc:Description { value:"Get the API level throttle key {apiContext}:{apiVersion}"}
+@doc:Param { value:"apiContext: API context" }
+@doc:Param { value:"apiVersion: API version" }
+@doc:Return { value:"int: Throttle key id" }
+@doc:Return { value:"string: Throttle key" }
+native function getApiThrottleKey (string apiContext, string apiVersion) (int, string);
+
+@doc:Description { value:"Get the subscription level throttle key {applicationId}:{apiContext}:{apiVersion}"}
+@doc:Param { value:"applicationId: Application ID" }
+@doc:Param { value:"apiContext: API context" }
+@doc:Param { value:"apiVersion: API version" }
+@doc:Return { value:"int: Throttle key id" }
+@doc:Return { value:"string: Throttle key" }
+native function getSubscriptionThrottleKey (string applicationId, string apiContext, string apiVersion) (int, string);
+
+@doc:Description { value:"Get the resource level throttle key {apiContext}/{apiVersion}{resourceUri}:{httpMethod}"}
+@doc:Param { value:"apiContext: API context" }
+@doc:Param { value:"apiVersion: API version" }
+@doc:Param { value:"resourceUri: Resource URI template" }
+@doc:Param { value:"httpMethod: HTTP method" }
+@doc:Return { value:"int: Throttle key id" }
+@doc:Return { value:"string: Throttle key" }
+native function getResourceThrottleKey (string apiContext, string apiVersion, string resourceUri, string httpMethod) (int, string);
+
+@doc:Description { value:"Get the application level throttle key {applicationId}:{authorizedUser}"}
+@doc:Param { value:"applicationId: Application ID" }
+@doc:Param { value:"authorizedUser: Authorized user" }
+@doc:Return { value:"int: Throttle key id" }
+@doc:Return { value:"string: Throttle key" }
+native function getApplicationThrottleKey (string applicationId, string authorizedUser) (int, string);
+
+@doc:Description { value:"Add or replace the IP range blocked by a block condition"}
+@doc:Param { value:"conditionKey: Block condition key" }
+@doc:Param { value:"startingIp: First IPv4 or IPv6 address of the range" }
+@doc:Param { value:"endingIp: Last IPv4 or IPv6 address of the range" }
+@doc:Return { value:"boolean: true if the range was added, false if an address is not valid" }
+native function addBlockedIpRange (string conditionKey, string startingIp, string endingIp) (boolean);
+
+@doc:Description { value:"Remove the IP range blocked by a block condition"}
+@doc:Param { value:"conditionKey: Block condition key" }
+@doc:Return { value:"boolean: true after the range is removed" }
+native function removeBlockedIpRange (string conditionKey) (boolean);
+
+@doc:Description { value:"Check whether an IP address falls within a blocked IP range"}
+@doc:Param { value:"ip: IPv4 or IPv6 address" }
+@doc:Return { value:"boolean: true if blocked, false otherwise" }
+native function isIpBlocked (string ip) (boolean);
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.model.types.TypeEnum;
+import org.ballerinalang.model.values.BJSON;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.Attribute;
+import org.ballerinalang.natives.annotations.BallerinaAnnotation;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+import org.ballerinalang.util.exceptions.BallerinaException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+
+/**
+ * Native function org.wso2.carbon.apimgt.ballerina.auth:getUserInfo
+ * This function retrieves the OpenID user info of the owner of an access token from the key manager.
+ */
+@BallerinaFunction(
+        packageName = "org.wso2.carbon.apimgt.ballerina.auth",
+        functionName = "getUserInfo",
+        args = {@Argument(name = "endpoint", type = TypeEnum.STRING),
+                @Argument(name = "token", type = TypeEnum.STRING)},
+        returnType = {@ReturnType(type = TypeEnum.JSON)},
+        isPublic = true
+)
+@BallerinaAnnotation(annotationName = "Description", attributes = {@Attribute(name = "value",
+        value = "Retrieve the user info of the owner of an access token")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "endpoint",
+        value = "User info endpoint of the key manager")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "token",
+        value = "Access token")})
+@BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "json",
+        value = "User info response")})
+public class GetUserInfo extends AbstractNativeFunction {
+    private static final Logger log = LoggerFactory.getLogger(GetUserInfo.class);
+
+    @Override
+    public BValue[] execute(Context context) {
+        String endpoint = getStringArgument(context, 0);
+        String token = getStringArgument(context, 1);
+        JsonNode userInfo;
+        try {
+            userInfo = KeyManagerClient.getUserInfo(endpoint, token);
+        } catch (IOException e) {
+            String msg = "Error while retrieving user info";
+            log.error(msg, e);
+            throw new BallerinaException(msg + ": " + e.getMessage());
+        }
+        return getBValues(new BJSON(userInfo));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.model.types.TypeEnum;
+import org.ballerinalang.model.values.BJSON;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.Attribute;
+import org.ballerinalang.natives.annotations.BallerinaAnnotation;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+import org.ballerinalang.util.exceptions.BallerinaException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+
+/**
+ * Native function org.wso2.carbon.apimgt.ballerina.auth:introspectToken
+ * This function returns the introspection response of an access token, calling the key manager only if the
+ * token is not in the token validation cache. A key manager that rejects the credentials of the gateway is a key
+ * manager failure rather than an inactive token, so it is raised as an error and never cached.
+ */
+@BallerinaFunction(
+        packageName = "org.wso2.carbon.apimgt.ballerina.auth",
+        functionName = "introspectToken",
+        args = {@Argument(name = "endpoint", type = TypeEnum.STRING),
+                @Argument(name = "username", type = TypeEnum.STRING),
+                @Argument(name = "password", type = TypeEnum.STRING),
+                @Argument(name = "token", type = TypeEnum.STRING)},
+        returnType = {@ReturnType(type = TypeEnum.JSON)},
+        isPublic = true
+)
+@BallerinaAnnotation(annotationName = "Description", attributes = {@Attribute(name = "value",
+        value = "Introspect an access token through the token validation cache")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "endpoint",
+        value = "Introspection endpoint of the key manager")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "username",
+        value = "Username to authenticate with the key manager")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "password",
+        value = "Password to authenticate with the key manager")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "token",
+        value = "Access token")})
+@BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "json",
+        value = "Introspection response")})
+public class IntrospectToken extends AbstractNativeFunction {
+    private static final Logger log = LoggerFactory.getLogger(IntrospectToken.class);
+
+    @Override
+    public BValue[] execute(Context context) {
+        String endpoint = getStringArgument(context, 0);
+        String username = getStringArgument(context, 1);
+        String password = getStringArgument(context, 2);
+        String token = getStringArgument(context, 3);
+        JsonNode introspectResponse;
+        try {
+            introspectResponse = TokenValidationCache.getInstance().validate(token,
+                    t -> KeyManagerClient.introspect(endpoint, username, password, t));
+        } catch (KeyManagerAuthenticationException e) {
+            String msg = "Key manager rejected the credentials of the gateway while introspecting access token";
+            log.error(msg, e);
+            throw new BallerinaException(msg + ": " + e.getMessage());
+        } catch (IOException e) {
+            String msg = "Error while introspecting access token";
+            log.error(msg, e);
+            throw new BallerinaException(msg + ": " + e.getMessage());
+        }
+        return getBValues(new BJSON(introspectResponse));
+    }
+}
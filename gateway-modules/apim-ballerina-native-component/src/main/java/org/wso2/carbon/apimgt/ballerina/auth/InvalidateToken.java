@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.auth;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.model.types.TypeEnum;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.Attribute;
+import org.ballerinalang.natives.annotations.BallerinaAnnotation;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+
+/**
+ * Native function org.wso2.carbon.apimgt.ballerina.auth:invalidateToken
+ * This function removes an access token from the token validation cache.
+ */
+@BallerinaFunction(
+        packageName = "org.wso2.carbon.apimgt.ballerina.auth",
+        functionName = "invalidateToken",
+        args = {@Argument(name = "token", type = TypeEnum.STRING)},
+        isPublic = true
+)
+@BallerinaAnnotation(annotationName = "Description", attributes = {@Attribute(name = "value",
+        value = "Remove an access token from the token validation cache")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "token",
+        value = "Access token")})
+public class InvalidateToken extends AbstractNativeFunction {
+    @Override
+    public BValue[] execute(Context context) {
+        String token = getStringArgument(context, 0);
+        TokenValidationCache.getInstance().invalidate(token);
+        return VOID_RETURN;
+    }
+}
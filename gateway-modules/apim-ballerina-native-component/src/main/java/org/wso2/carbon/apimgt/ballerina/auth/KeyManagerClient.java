@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.TrustManagerFactory;
+
+/**
+ * HTTP client of the key manager endpoints used by the gateway. Connections are kept alive and reused across
+ * calls by the keep alive cache of {@link HttpURLConnection}, which requires every response body to be fully
+ * read and closed.
+ * <p>
+ * HTTPS connections trust the certificates in the trust store set by the {@code javax.net.ssl.trustStore} and
+ * {@code javax.net.ssl.trustStorePassword} system properties, as the data publishers of the gateway do, falling
+ * back to the client trust store of the gateway if the properties are not set.
+ */
+public final class KeyManagerClient {
+    private static final int CONNECT_TIMEOUT = (int) TimeUnit.SECONDS.toMillis(10);
+    private static final int READ_TIMEOUT = (int) TimeUnit.SECONDS.toMillis(20);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String TRUST_STORE_PATH = "bre" + File.separator + "security" + File.separator
+            + "client-truststore.jks";
+    private static final String TRUST_STORE_PROPERTY = "javax.net.ssl.trustStore";
+    private static final String TRUST_STORE_PASSWORD_PROPERTY = "javax.net.ssl.trustStorePassword";
+    private static volatile SSLSocketFactory sslSocketFactory = null;
+
+    private KeyManagerClient() {
+    }
+
+    /**
+     * Introspect an access token.
+     *
+     * @param endpoint introspection endpoint of the key manager
+     * @param username username to authenticate with the key manager
+     * @param password password to authenticate with the key manager
+     * @param token    access token
+     * @return introspection response
+     * @throws KeyManagerAuthenticationException if the key manager rejected the credentials
+     * @throws IOException                       if the key manager could not be reached or returned an error
+     */
+    public static JsonNode introspect(String endpoint, String username, String password, String token)
+            throws IOException {
+        HttpURLConnection connection = open(endpoint + "/");
+        String credentials = Base64.getEncoder().encodeToString(
+                (username + ":" + password).getBytes(StandardCharsets.UTF_8));
+        connection.setRequestProperty("Authorization", "Basic " + credentials);
+        connection.setRequestProperty("Content-Type", "application/x-www-form-urlencoded");
+        byte[] body = ("token=" + URLEncoder.encode(token, "UTF-8")).getBytes(StandardCharsets.UTF_8);
+        return execute(connection, body);
+    }
+
+    /**
+     * Retrieve the OpenID user info of the owner of an access token.
+     *
+     * @param endpoint user info endpoint of the key manager
+     * @param token    access token
+     * @return user info response
+     * @throws KeyManagerAuthenticationException if the key manager rejected the access token
+     * @throws IOException                       if the key manager could not be reached or returned an error
+     */
+    public static JsonNode getUserInfo(String endpoint, String token) throws IOException {
+        HttpURLConnection connection = open(endpoint);
+        connection.setRequestProperty("Authorization", "Bearer " + token);
+        connection.setRequestProperty("Content-Type", "application/json");
+        return execute(connection, new byte[0]);
+    }
+
+    private static HttpURLConnection open(String url) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        if (connection instanceof HttpsURLConnection) {
+            ((HttpsURLConnection) connection).setSSLSocketFactory(getSslSocketFactory());
+        }
+        connection.setConnectTimeout(CONNECT_TIMEOUT);
+        connection.setReadTimeout(READ_TIMEOUT);
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        connection.setRequestProperty("Accept", "application/json");
+        return connection;
+    }
+
+    private static JsonNode execute(HttpURLConnection connection, byte[] body) throws IOException {
+        connection.setFixedLengthStreamingMode(body.length);
+        try (OutputStream outputStream = connection.getOutputStream()) {
+            outputStream.write(body);
+        }
+        int status = connection.getResponseCode();
+        if (status >= HttpURLConnection.HTTP_BAD_REQUEST) {
+            // drain the error response so that the connection is returned to the keep alive cache
+            try (InputStream errorStream = connection.getErrorStream()) {
+                if (errorStream != null) {
+                    byte[] buffer = new byte[1024];
+                    while (errorStream.read(buffer) != -1) {
+                        // discard
+                    }
+                }
+            }
+            String msg = "Key manager returned status " + status + " for " + connection.getURL();
+            if (status == HttpURLConnection.HTTP_UNAUTHORIZED || status == HttpURLConnection.HTTP_FORBIDDEN) {
+                throw new KeyManagerAuthenticationException(msg);
+            }
+            throw new IOException(msg);
+        }
+        try (InputStream inputStream = connection.getInputStream()) {
+            return MAPPER.readTree(inputStream);
+        }
+    }
+
+    private static SSLSocketFactory getSslSocketFactory() throws IOException {
+        if (sslSocketFactory == null) {
+            synchronized (KeyManagerClient.class) {
+                if (sslSocketFactory == null) {
+                    String trustStorePath = System.getProperty(TRUST_STORE_PROPERTY);
+                    if (trustStorePath == null || trustStorePath.isEmpty()) {
+                        trustStorePath = Paths.get(System.getProperty("ballerina.home", ""), TRUST_STORE_PATH)
+                                .toString();
+                    }
+                    String trustStorePassword = System.getProperty(TRUST_STORE_PASSWORD_PROPERTY);
+                    sslSocketFactory = createSslSocketFactory(trustStorePath,
+                            trustStorePassword == null ? null : trustStorePassword.toCharArray());
+                }
+            }
+        }
+        return sslSocketFactory;
+    }
+
+    /**
+     * @param trustStorePath     path of a JKS trust store
+     * @param trustStorePassword password of the trust store, or {@code null} to skip the integrity check
+     * @return {@link SSLSocketFactory} trusting the certificates in the trust store
+     * @throws IOException if the trust store could not be loaded
+     */
+    static SSLSocketFactory createSslSocketFactory(String trustStorePath, char[] trustStorePassword)
+            throws IOException {
+        try (InputStream inputStream = Files.newInputStream(Paths.get(trustStorePath))) {
+            KeyStore trustStore = KeyStore.getInstance("JKS");
+            trustStore.load(inputStream, trustStorePassword);
+            TrustManagerFactory trustManagerFactory =
+                    TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+            trustManagerFactory.init(trustStore);
+            SSLContext sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(null, trustManagerFactory.getTrustManagers(), null);
+            return sslContext.getSocketFactory();
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Error while loading trust store " + trustStorePath, e);
+        }
+    }
+}
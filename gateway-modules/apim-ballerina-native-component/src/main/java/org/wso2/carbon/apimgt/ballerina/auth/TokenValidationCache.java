@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.wso2.carbon.apimgt.ballerina.caching.TinyLfuCache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Near cache of token introspection results of the gateway. Concurrent validations of a token which is not
+ * cached are coalesced into a single introspection call, results of active tokens are kept until the token
+ * expires and results of inactive tokens are kept for a short time so that invalid tokens do not reach the
+ * key manager on every request.
+ * <p>
+ * Tokens are keyed by their SHA-256 hash, so raw tokens are not kept in memory. Results of active and inactive
+ * tokens are kept in separate size bounded caches, so that a flood of random tokens only evicts other inactive
+ * tokens and cannot grow the cache beyond its bounds.
+ */
+public final class TokenValidationCache {
+    static final long DEFAULT_NEGATIVE_TTL = TimeUnit.SECONDS.toMillis(30);
+    static final long DEFAULT_MAX_TTL = TimeUnit.MINUTES.toMillis(15);
+    static final long DEFAULT_WAIT_TIMEOUT = TimeUnit.SECONDS.toMillis(30);
+    static final int DEFAULT_MAX_ACTIVE_TOKENS = 10000;
+    static final int DEFAULT_MAX_INACTIVE_TOKENS = 1000;
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static volatile TokenValidationCache instance = null;
+
+    private final TinyLfuCache<Result> activeTokens;
+    private final TinyLfuCache<Result> inactiveTokens;
+    // only holds introspections in progress, so it is bounded by the number of concurrent requests
+    private final ConcurrentMap<String, CompletableFuture<JsonNode>> inFlight = new ConcurrentHashMap<>();
+    private final long negativeTtl;
+    private final long maxTtl;
+    private final long waitTimeout;
+
+    /**
+     * @param negativeTtl time in milliseconds to keep results of inactive tokens
+     * @param maxTtl      maximum time in milliseconds to keep results of active tokens
+     * @param waitTimeout maximum time in milliseconds to wait for an introspection made by another request
+     */
+    TokenValidationCache(long negativeTtl, long maxTtl, long waitTimeout) {
+        this(negativeTtl, maxTtl, waitTimeout, DEFAULT_MAX_ACTIVE_TOKENS, DEFAULT_MAX_INACTIVE_TOKENS);
+    }
+
+    /**
+     * @param negativeTtl       time in milliseconds to keep results of inactive tokens
+     * @param maxTtl            maximum time in milliseconds to keep results of active tokens
+     * @param waitTimeout       maximum time in milliseconds to wait for an introspection made by another request
+     * @param maxActiveTokens   maximum number of active tokens kept in the cache
+     * @param maxInactiveTokens maximum number of inactive tokens kept in the cache
+     */
+    TokenValidationCache(long negativeTtl, long maxTtl, long waitTimeout, int maxActiveTokens,
+                         int maxInactiveTokens) {
+        this.negativeTtl = negativeTtl;
+        this.maxTtl = maxTtl;
+        this.waitTimeout = waitTimeout;
+        this.activeTokens = new TinyLfuCache<>(maxActiveTokens, maxTtl, TimeUnit.MILLISECONDS);
+        this.inactiveTokens = new TinyLfuCache<>(maxInactiveTokens, negativeTtl, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Static method to get token validation cache
+     *
+     * @return {@link TokenValidationCache} instance
+     */
+    public static TokenValidationCache getInstance() {
+        if (instance == null) {
+            synchronized (TokenValidationCache.class) {
+                if (instance == null) {
+                    instance = new TokenValidationCache(DEFAULT_NEGATIVE_TTL, DEFAULT_MAX_TTL, DEFAULT_WAIT_TIMEOUT);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Get the introspection result of a token. If the token is not cached, it is introspected by the calling
+     * thread while other threads validating the same token wait for that result.
+     *
+     * @param token        access token
+     * @param introspector {@link Introspector} to call on a cache miss
+     * @return introspection response of the token
+     * @throws IOException if the token could not be introspected. Failures are not cached.
+     */
+    public JsonNode validate(String token, Introspector introspector) throws IOException {
+        String key = hash(token);
+        JsonNode cached = getCached(key);
+        if (cached != null) {
+            return cached;
+        }
+        CompletableFuture<JsonNode> created = new CompletableFuture<>();
+        CompletableFuture<JsonNode> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return await(existing, waitTimeout);
+        }
+        return load(token, key, created, introspector);
+    }
+
+    /**
+     * Remove the cached introspection result of a token.
+     *
+     * @param token access token
+     */
+    public void invalidate(String token) {
+        String key = hash(token);
+        activeTokens.remove(key);
+        inactiveTokens.remove(key);
+    }
+
+    /**
+     * @return number of cached and in flight tokens
+     */
+    public int size() {
+        return activeTokens.size() + inactiveTokens.size() + inFlight.size();
+    }
+
+    private JsonNode getCached(String key) {
+        long now = System.currentTimeMillis();
+        Result result = activeTokens.get(key);
+        if (result == null || result.isExpired(now)) {
+            result = inactiveTokens.get(key);
+        }
+        return result == null || result.isExpired(now) ? null : result.response;
+    }
+
+    private JsonNode load(String token, String key, CompletableFuture<JsonNode> future, Introspector introspector)
+            throws IOException {
+        JsonNode response;
+        try {
+            // another request may have completed its introspection after the cache was checked
+            response = getCached(key);
+            if (response == null) {
+                response = introspector.introspect(token);
+                put(key, response);
+            }
+        } catch (IOException | RuntimeException e) {
+            inFlight.remove(key, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+        inFlight.remove(key, future);
+        future.complete(response);
+        return response;
+    }
+
+    /**
+     * Results of active tokens expire along with the token, results of inactive tokens after the negative TTL.
+     *
+     * @param key      hash of the token
+     * @param response introspection response
+     */
+    private void put(String key, JsonNode response) {
+        long now = System.currentTimeMillis();
+        if (!response.path("active").asBoolean(false)) {
+            activeTokens.remove(key);
+            inactiveTokens.put(key, new Result(response, now + negativeTtl));
+            return;
+        }
+        long expiryTime = now + maxTtl;
+        JsonNode exp = response.path("exp");
+        if (exp.canConvertToLong()) {
+            expiryTime = Math.min(TimeUnit.SECONDS.toMillis(exp.asLong()), expiryTime);
+        }
+        inactiveTokens.remove(key);
+        if (expiryTime > now) {
+            activeTokens.put(key, new Result(response, expiryTime));
+        }
+    }
+
+    private static JsonNode await(CompletableFuture<JsonNode> future, long timeout) throws IOException {
+        try {
+            return future.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for token introspection", e);
+        } catch (TimeoutException e) {
+            throw new IOException("Timed out waiting for token introspection", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw new IOException(cause.getMessage(), cause);
+            }
+            throw new IOException("Error while introspecting token", cause);
+        }
+    }
+
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(HASH_ALGORITHM + " is not supported", e);
+        }
+    }
+
+    /**
+     * Function used to introspect a token on a cache miss.
+     */
+    public interface Introspector {
+
+        /**
+         * @param token access token
+         * @return introspection response of the token
+         * @throws IOException if the key manager could not be reached or returned an error
+         */
+        JsonNode introspect(String token) throws IOException;
+    }
+
+    /**
+     * Cached introspection result of a token.
+     */
+    private static final class Result {
+        private final JsonNode response;
+        private final long expiryTime;
+
+        private Result(JsonNode response, long expiryTime) {
+            this.response = response;
+            this.expiryTime = expiryTime;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiryTime;
+        }
+    }
+}
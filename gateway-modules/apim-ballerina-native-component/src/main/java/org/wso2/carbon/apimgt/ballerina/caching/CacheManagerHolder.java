@@ -1,33 +1,23 @@
 package org.wso2.carbon.apimgt.ballerina.caching;
 
-import org.wso2.carbon.caching.spi.CarbonCachingProvider;
+import org.ballerinalang.model.values.BValue;
 
-import javax.cache.CacheManager;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Cache Manager holder class to hold cache Manager
+ * Cache Manager holder class to hold the gateway caches
  */
 public final class CacheManagerHolder {
     private static volatile CacheManagerHolder instance = null;
 
-
-    /**
-     * Get cache manager instance for cache access
-     *
-     * @return {@link CacheManager} which holds cache manager object
-     */
-    public CacheManager getCacheManager() {
-        return cacheManager;
-    }
-
-    private CacheManager cacheManager;
+    private final ConcurrentMap<String, TinyLfuCache<BValue>> caches = new ConcurrentHashMap<>();
 
     /**
      * Private cache manager holder constructor
      */
     private CacheManagerHolder() {
-        CarbonCachingProvider carbonCachingProvider = new CarbonCachingProvider();
-        this.cacheManager = carbonCachingProvider.getCacheManager();
     }
 
     /**
@@ -45,4 +35,34 @@ public final class CacheManagerHolder {
         }
         return instance;
     }
+
+    /**
+     * Create a cache if a cache does not exist with the given name
+     *
+     * @param cacheName    name of the cache
+     * @param cacheTimeout time in minutes after the last access at which an entry expires
+     * @param maxEntries   maximum number of entries in the cache
+     * @return {@link TinyLfuCache} with the given name
+     */
+    public TinyLfuCache<BValue> createCache(String cacheName, int cacheTimeout, long maxEntries) {
+        TinyLfuCache<BValue> cache = caches.get(cacheName);
+        if (cache == null) {
+            TinyLfuCache<BValue> created = new TinyLfuCache<>(maxEntries, cacheTimeout, TimeUnit.MINUTES);
+            cache = caches.putIfAbsent(cacheName, created);
+            if (cache == null) {
+                cache = created;
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * Get cache instance for cache access
+     *
+     * @param cacheName name of the cache
+     * @return {@link TinyLfuCache} with the given name, null if the cache is not created
+     */
+    public TinyLfuCache<BValue> getCache(String cacheName) {
+        return caches.get(cacheName);
+    }
 }
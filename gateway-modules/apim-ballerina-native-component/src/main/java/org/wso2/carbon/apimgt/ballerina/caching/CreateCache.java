@@ -29,18 +29,13 @@ import org.ballerinalang.natives.annotations.BallerinaAnnotation;
 import org.ballerinalang.natives.annotations.BallerinaFunction;
 import org.ballerinalang.natives.annotations.ReturnType;
 
-import java.util.concurrent.TimeUnit;
-import javax.cache.CacheManager;
-import javax.cache.configuration.MutableConfiguration;
-import javax.cache.expiry.AccessedExpiryPolicy;
-import javax.cache.expiry.Duration;
-
 
 
 /**
  * Native function org.wso2.carbon.apimgt.ballerina.caching.{@link CreateCache}
  * This function will create cache as per user requirement.
- * Users can create cache with provided configurations.
+ * Users can create cache with provided configurations. Caches are bounded by number of entries and use
+ * W-TinyLFU eviction, see {@link TinyLfuCache}.
  *
  * @since 0.10-SNAPSHOT
  */
@@ -49,7 +44,8 @@ import javax.cache.expiry.Duration;
         packageName = "org.wso2.carbon.apimgt.ballerina.caching",
         functionName = "createCache",
         args = {@Argument(name = "cacheName", type = TypeEnum.STRING),
-                @Argument(name = "cacheTimeout", type = TypeEnum.STRING)},
+                @Argument(name = "cacheTimeout", type = TypeEnum.STRING),
+                @Argument(name = "maxEntries", type = TypeEnum.STRING)},
         returnType = {@ReturnType(type = TypeEnum.STRING)},
         isPublic = true
 )
@@ -59,6 +55,8 @@ import javax.cache.expiry.Duration;
         value = "Cache Manager name")})
 @BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "cacheTimeout",
         value = "Cache Timeout value in minutes")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "maxEntries",
+        value = "Maximum number of entries in the cache")})
 @BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "string",
         value = "Cache Manager reference")})
 
@@ -67,22 +65,20 @@ public class CreateCache extends AbstractNativeFunction {
     public BValue[] execute(Context context) {
         String cacheName = getStringArgument(context, 0);
         String cacheTimeoutString = getStringArgument(context, 1);
+        String maxEntriesString = getStringArgument(context, 2);
         //Default cache timeout is 15 minutes
         int cacheTimeout = 15;
         if (cacheTimeoutString != null && cacheTimeoutString.length() > 0) {
             cacheTimeout = ((cacheTimeout = Integer.parseInt(cacheTimeoutString)) > 0 ?
                     cacheTimeout : 15);
         }
-        CacheManager cacheManager = CacheManagerHolder.getInstance().getCacheManager();
-        if ((cacheManager).getCache(cacheName) == null) {
-            Duration cacheExpiry = new Duration(TimeUnit.MINUTES, cacheTimeout);
-            MutableConfiguration<String, String> config = new MutableConfiguration<>();
-            config.setStoreByValue(true)
-                    .setExpiryPolicyFactory(AccessedExpiryPolicy.factoryOf(cacheExpiry))
-                    .setStatisticsEnabled(false)
-                    .setStoreByValue(false);
-            cacheManager.createCache(cacheName, config);
+        //Default maximum is 10000 entries
+        long maxEntries = 10000;
+        if (maxEntriesString != null && maxEntriesString.length() > 0) {
+            maxEntries = ((maxEntries = Long.parseLong(maxEntriesString)) > 0 ?
+                    maxEntries : 10000);
         }
+        CacheManagerHolder.getInstance().createCache(cacheName, cacheTimeout, maxEntries);
         return getBValues(new BString(cacheName));
     }
 }
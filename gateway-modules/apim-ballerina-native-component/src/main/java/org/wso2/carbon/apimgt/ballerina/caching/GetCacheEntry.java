@@ -28,8 +28,6 @@ import org.ballerinalang.natives.annotations.BallerinaAnnotation;
 import org.ballerinalang.natives.annotations.BallerinaFunction;
 import org.ballerinalang.natives.annotations.ReturnType;
 
-import javax.cache.Cache;
-
 
 /**
  * Native function ballerina.utils:base64decode.
@@ -60,11 +58,11 @@ public class GetCacheEntry extends AbstractNativeFunction {
     public BValue[] execute(Context context) {
         String cacheName = getStringArgument(context, 0);
         String cacheKey = getStringArgument(context, 1);
-        Cache cache = (CacheManagerHolder.getInstance().getCacheManager().getCache(cacheName));
-        Object cacheEntry = cache.get(cacheKey);
+        TinyLfuCache<BValue> cache = CacheManagerHolder.getInstance().getCache(cacheName);
+        BValue cacheEntry = cache.get(cacheKey);
         if (cacheEntry != null) {
 
-            return getBValues((BValue) cacheEntry);
+            return getBValues(cacheEntry);
         } else {
             return getBValues();
         }
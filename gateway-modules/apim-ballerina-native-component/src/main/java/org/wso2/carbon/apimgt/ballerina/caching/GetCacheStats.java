@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.caching;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.model.types.TypeEnum;
+import org.ballerinalang.model.values.BJSON;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.Attribute;
+import org.ballerinalang.natives.annotations.BallerinaAnnotation;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+import org.ballerinalang.util.exceptions.BallerinaException;
+
+/**
+ * Native function org.wso2.carbon.apimgt.ballerina.caching.{@link GetCacheStats}
+ * This function will be used to get the statistics of a cache by providing cacheName
+ */
+@BallerinaFunction(
+        packageName = "org.wso2.carbon.apimgt.ballerina.caching",
+        functionName = "getCacheStats",
+        args = {@Argument(name = "cacheName", type = TypeEnum.STRING)},
+        returnType = {@ReturnType(type = TypeEnum.JSON)},
+        isPublic = true
+)
+@BallerinaAnnotation(annotationName = "Description", attributes = {@Attribute(name = "value",
+        value = "Get statistics of a cache by providing cacheName")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "cacheName",
+        value = "Cache name")})
+@BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "json",
+        value = "Size, maximum size, hit, miss and eviction counts of the cache")})
+public class GetCacheStats extends AbstractNativeFunction {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Override
+    public BValue[] execute(Context context) {
+        String cacheName = getStringArgument(context, 0);
+        TinyLfuCache<BValue> cache = CacheManagerHolder.getInstance().getCache(cacheName);
+        if (cache == null) {
+            throw new BallerinaException("Cache " + cacheName + " is not created");
+        }
+        ObjectNode stats = MAPPER.createObjectNode();
+        stats.put("size", cache.getWeightedSize());
+        stats.put("maxSize", cache.getMaximumWeight());
+        stats.put("hitCount", cache.getHitCount());
+        stats.put("missCount", cache.getMissCount());
+        stats.put("evictionCount", cache.getEvictionCount());
+        return getBValues(new BJSON(stats));
+    }
+}
@@ -51,7 +51,7 @@ public class PutCacheEntry extends AbstractNativeFunction {
         String cacheKey = getStringArgument(context, 1);
         BValue cacheEntry = getRefArgument(context, 0);
         //TODO If cache is not created then need to send proper message or create and put entry.
-        CacheManagerHolder.getInstance().getCacheManager().getCache(cacheName).put(cacheKey, cacheEntry);
+        CacheManagerHolder.getInstance().getCache(cacheName).put(cacheKey, cacheEntry);
         return getBValues(new BString(cacheName));
     }
 }
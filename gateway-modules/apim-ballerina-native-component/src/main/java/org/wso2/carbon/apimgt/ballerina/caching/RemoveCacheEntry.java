@@ -55,7 +55,7 @@ public class RemoveCacheEntry extends AbstractNativeFunction {
     public BValue[] execute(Context context) {
         String cacheName = getStringArgument(context, 0);
         String cacheKey = getStringArgument(context, 1);
-        CacheManagerHolder.getInstance().getCacheManager().getCache(cacheName).remove(cacheKey);
+        CacheManagerHolder.getInstance().getCache(cacheName).remove(cacheKey);
         return getBValues(new BString(cacheName));
     }
 }
@@ -0,0 +1,473 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.caching;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Size bounded cache with W-TinyLFU eviction and expiry after access.
+ * <p>
+ * New entries enter a small LRU admission window. Entries leaving the window are admitted into the main space,
+ * a segmented LRU of probation and protected segments, only if they were accessed more often than the entry
+ * they would evict from the probation segment, as estimated by a {@link FrequencySketch}. This keeps one time
+ * keys, such as a burst of new tokens, from flushing out the entries in regular use.
+ * <p>
+ * Reads are lock free. Accesses are recorded in a lossy buffer which is replayed against the eviction policy
+ * under the eviction lock, while writes update the policy directly under that lock.
+ *
+ * @param <V> type of the cached values
+ */
+public class TinyLfuCache<V> {
+    private static final int READ_BUFFER_SIZE = 64;
+    private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+    private static final double WINDOW_RATIO = 0.01;
+    private static final double PROTECTED_RATIO = 0.8;
+
+    private final ConcurrentMap<String, Node<V>> data = new ConcurrentHashMap<>();
+    private final long maximumWeight;
+    private final long windowMaximum;
+    private final long protectedMaximum;
+    private final long expireAfterAccess;
+    private final Weigher<? super V> weigher;
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final FrequencySketch sketch;
+    private final AccessOrderDeque<V> window = new AccessOrderDeque<>();
+    private final AccessOrderDeque<V> probation = new AccessOrderDeque<>();
+    private final AccessOrderDeque<V> protectedSegment = new AccessOrderDeque<>();
+    private long weightedSize;
+    private long windowWeightedSize;
+    private long protectedWeightedSize;
+
+    private final AtomicReferenceArray<Node<V>> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+    private final AtomicLong readCount = new AtomicLong();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Create a cache bounded by number of entries.
+     *
+     * @param maximumSize       maximum number of entries
+     * @param expireAfterAccess time after the last access at which an entry expires
+     * @param unit              unit of the expiry time
+     */
+    public TinyLfuCache(long maximumSize, long expireAfterAccess, TimeUnit unit) {
+        this(maximumSize, null, expireAfterAccess, unit);
+    }
+
+    /**
+     * Create a cache bounded by total weight of the entries.
+     *
+     * @param maximumWeight     maximum total weight of the entries
+     * @param weigher           {@link Weigher} giving the weight of a value, null to weigh every entry as one
+     * @param expireAfterAccess time after the last access at which an entry expires
+     * @param unit              unit of the expiry time
+     */
+    public TinyLfuCache(long maximumWeight, Weigher<? super V> weigher, long expireAfterAccess, TimeUnit unit) {
+        if (maximumWeight <= 0) {
+            throw new IllegalArgumentException("Maximum weight of a cache should be positive: " + maximumWeight);
+        }
+        this.maximumWeight = maximumWeight;
+        this.windowMaximum = Math.max(1, (long) (maximumWeight * WINDOW_RATIO));
+        this.protectedMaximum = (long) ((maximumWeight - windowMaximum) * PROTECTED_RATIO);
+        this.expireAfterAccess = unit.toNanos(expireAfterAccess);
+        this.weigher = weigher;
+        this.sketch = new FrequencySketch(maximumWeight);
+    }
+
+    /**
+     * @param key key of the entry
+     * @return cached value, null if there is no entry or the entry has expired
+     */
+    public V get(String key) {
+        Node<V> node = data.get(key);
+        if (node == null) {
+            missCount.increment();
+            return null;
+        }
+        long now = System.nanoTime();
+        if (isExpired(node, now)) {
+            missCount.increment();
+            evictionLock.lock();
+            try {
+                if (data.remove(key, node)) {
+                    unlink(node);
+                    evictionCount.increment();
+                }
+            } finally {
+                evictionLock.unlock();
+            }
+            return null;
+        }
+        node.accessTime = now;
+        hitCount.increment();
+        recordRead(node);
+        return node.value;
+    }
+
+    /**
+     * Add or replace an entry, evicting other entries if the cache exceeds its maximum weight.
+     *
+     * @param key   key of the entry
+     * @param value value to be cached
+     */
+    public void put(String key, V value) {
+        int weight = weigher == null ? 1 : weigher.weigh(value);
+        long now = System.nanoTime();
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            sketch.increment(key);
+            Node<V> node = data.get(key);
+            if (node == null) {
+                node = new Node<>(key, value, weight, now);
+                data.put(key, node);
+                node.segment = Segment.WINDOW;
+                window.addLast(node);
+                windowWeightedSize += weight;
+                weightedSize += weight;
+            } else {
+                node.value = value;
+                node.accessTime = now;
+                updateWeight(node, weight);
+                onAccess(node);
+            }
+            evict(now);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * @param key key of the entry to be removed
+     */
+    public void remove(String key) {
+        evictionLock.lock();
+        try {
+            Node<V> node = data.remove(key);
+            if (node != null) {
+                unlink(node);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Remove all entries.
+     */
+    public void clear() {
+        evictionLock.lock();
+        try {
+            for (String key : data.keySet()) {
+                remove(key);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * @return number of entries, including expired entries which are not yet removed
+     */
+    public int size() {
+        return data.size();
+    }
+
+    public long getWeightedSize() {
+        evictionLock.lock();
+        try {
+            return weightedSize;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * @return number of entries removed due to size or expiry
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    private boolean isExpired(Node<V> node, long now) {
+        return now - node.accessTime >= expireAfterAccess;
+    }
+
+    /**
+     * Record a read in the read buffer. Each time the buffer fills, the buffered reads are replayed under the
+     * eviction lock, incrementing the frequency sketch and reordering the eviction policy. Reads are dropped when
+     * the buffer slot is taken, which only makes the eviction order less precise.
+     */
+    private void recordRead(Node<V> node) {
+        long count = readCount.getAndIncrement();
+        readBuffer.lazySet((int) (count & READ_BUFFER_MASK), node);
+        if ((count & READ_BUFFER_MASK) == READ_BUFFER_MASK && evictionLock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void drainReadBuffer() {
+        for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+            Node<V> node = readBuffer.getAndSet(i, null);
+            if (node != null) {
+                sketch.increment(node.key);
+                onAccess(node);
+            }
+        }
+    }
+
+    private void onAccess(Node<V> node) {
+        switch (node.segment) {
+            case WINDOW:
+                window.moveToBack(node);
+                break;
+            case PROBATION:
+                probation.remove(node);
+                node.segment = Segment.PROTECTED;
+                protectedSegment.addLast(node);
+                protectedWeightedSize += node.weight;
+                demoteFromProtected();
+                break;
+            case PROTECTED:
+                protectedSegment.moveToBack(node);
+                break;
+            default:
+                // removed from the cache after the access was recorded
+                break;
+        }
+    }
+
+    private void demoteFromProtected() {
+        while (protectedWeightedSize > protectedMaximum) {
+            Node<V> demoted = protectedSegment.pollFirst();
+            if (demoted == null) {
+                break;
+            }
+            protectedWeightedSize -= demoted.weight;
+            demoted.segment = Segment.PROBATION;
+            probation.addLast(demoted);
+        }
+    }
+
+    private void updateWeight(Node<V> node, int weight) {
+        int delta = weight - node.weight;
+        node.weight = weight;
+        weightedSize += delta;
+        if (node.segment == Segment.WINDOW) {
+            windowWeightedSize += delta;
+        } else if (node.segment == Segment.PROTECTED) {
+            protectedWeightedSize += delta;
+        }
+    }
+
+    private void evict(long now) {
+        expire(window, now);
+        expire(probation, now);
+        expire(protectedSegment, now);
+
+        // entries leaving the window become candidates for admission at the back of the probation segment
+        Node<V> candidate = null;
+        while (windowWeightedSize > windowMaximum) {
+            Node<V> node = window.pollFirst();
+            if (node == null) {
+                break;
+            }
+            windowWeightedSize -= node.weight;
+            node.segment = Segment.PROBATION;
+            probation.addLast(node);
+            if (candidate == null) {
+                candidate = node;
+            }
+        }
+
+        while (weightedSize > maximumWeight) {
+            Node<V> victim = probation.peekFirst();
+            if (victim == null || victim == candidate || candidate == null) {
+                if (victim == null) {
+                    victim = protectedSegment.peekFirst() != null ? protectedSegment.peekFirst() : window.peekFirst();
+                }
+                if (victim == null) {
+                    break;
+                }
+                if (victim == candidate) {
+                    candidate = candidate.next;
+                }
+                evictEntry(victim);
+                continue;
+            }
+            Node<V> next = candidate.next;
+            if (sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                evictEntry(victim);
+            } else {
+                evictEntry(candidate);
+            }
+            candidate = next;
+        }
+    }
+
+    private void expire(AccessOrderDeque<V> deque, long now) {
+        Node<V> node;
+        while ((node = deque.peekFirst()) != null && isExpired(node, now)) {
+            evictEntry(node);
+        }
+    }
+
+    private void evictEntry(Node<V> node) {
+        data.remove(node.key, node);
+        unlink(node);
+        evictionCount.increment();
+    }
+
+    private void unlink(Node<V> node) {
+        switch (node.segment) {
+            case WINDOW:
+                window.remove(node);
+                windowWeightedSize -= node.weight;
+                break;
+            case PROBATION:
+                probation.remove(node);
+                break;
+            case PROTECTED:
+                protectedSegment.remove(node);
+                protectedWeightedSize -= node.weight;
+                break;
+            default:
+                return;
+        }
+        weightedSize -= node.weight;
+        node.segment = Segment.REMOVED;
+    }
+
+    /**
+     * Function giving the weight of a cached value.
+     *
+     * @param <V> type of the cached values
+     */
+    public interface Weigher<V> {
+
+        /**
+         * @param value cached value
+         * @return weight of the value, at least one
+         */
+        int weigh(V value);
+    }
+
+    private enum Segment {
+        WINDOW, PROBATION, PROTECTED, REMOVED
+    }
+
+    /**
+     * Cache entry, linked into the deque of its segment.
+     */
+    private static final class Node<V> {
+        private final String key;
+        private volatile V value;
+        private volatile long accessTime;
+        // guarded by the eviction lock
+        private int weight;
+        private Segment segment = Segment.REMOVED;
+        private Node<V> prev;
+        private Node<V> next;
+
+        private Node(String key, V value, int weight, long accessTime) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.accessTime = accessTime;
+        }
+    }
+
+    /**
+     * Doubly linked deque of nodes in access order, least recently accessed first.
+     */
+    private static final class AccessOrderDeque<V> {
+        private Node<V> first;
+        private Node<V> last;
+
+        private Node<V> peekFirst() {
+            return first;
+        }
+
+        private Node<V> pollFirst() {
+            Node<V> node = first;
+            if (node != null) {
+                remove(node);
+            }
+            return node;
+        }
+
+        private void addLast(Node<V> node) {
+            node.prev = last;
+            node.next = null;
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+        }
+
+        private void remove(Node<V> node) {
+            if (node.prev == null) {
+                first = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                last = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+        }
+
+        private void moveToBack(Node<V> node) {
+            if (node != last) {
+                remove(node);
+                addLast(node);
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.maps;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.model.types.TypeEnum;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.Attribute;
+import org.ballerinalang.natives.annotations.BallerinaAnnotation;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+
+/**
+ * Native function org.wso2.carbon.apimgt.ballerina.maps:addKeyTemplate
+ * This function adds a key template received from the traffic manager.
+ */
+@BallerinaFunction(
+        packageName = "org.wso2.carbon.apimgt.ballerina.maps",
+        functionName = "addKeyTemplate",
+        args = {@Argument(name = "keyTemplate", type = TypeEnum.STRING)},
+        returnType = {@ReturnType(type = TypeEnum.STRING)},
+        isPublic = true
+)
+@BallerinaAnnotation(annotationName = "Description", attributes = {@Attribute(name = "value",
+        value = "Add a key template")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "keyTemplate",
+        value = "Key template")})
+@BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "string",
+        value = "Key template")})
+public class AddKeyTemplate extends AbstractNativeFunction {
+    @Override
+    public BValue[] execute(Context context) {
+        String keyTemplate = getStringArgument(context, 0);
+        ThrottleDataHolder.getInstance().addKeyTemplate(keyTemplate);
+        return getBValues(new BString(keyTemplate));
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.maps;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.model.types.TypeEnum;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.Attribute;
+import org.ballerinalang.natives.annotations.BallerinaAnnotation;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Native function org.wso2.carbon.apimgt.ballerina.maps:addThrottleData
+ * This function marks a throttle key as throttled until the given expiry time.
+ */
+@BallerinaFunction(
+        packageName = "org.wso2.carbon.apimgt.ballerina.maps",
+        functionName = "addThrottleData",
+        args = {@Argument(name = "throttleKey", type = TypeEnum.STRING),
+                @Argument(name = "expiryTimeStamp", type = TypeEnum.STRING)},
+        returnType = {@ReturnType(type = TypeEnum.STRING)},
+        isPublic = true
+)
+@BallerinaAnnotation(annotationName = "Description", attributes = {@Attribute(name = "value",
+        value = "Add throttle data received from the traffic manager")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "throttleKey",
+        value = "Throttle key")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "expiryTimeStamp",
+        value = "Time in milliseconds at which the throttled window ends")})
+@BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "string",
+        value = "Throttle key")})
+public class AddThrottleData extends AbstractNativeFunction {
+    private static final Logger log = LoggerFactory.getLogger(AddThrottleData.class);
+
+    @Override
+    public BValue[] execute(Context context) {
+        String throttleKey = getStringArgument(context, 0);
+        String expiryTimeStamp = getStringArgument(context, 1);
+        long expiry;
+        try {
+            expiry = Long.parseLong(expiryTimeStamp);
+        } catch (NumberFormatException e) {
+            // Without a valid expiry the key stays throttled until the traffic manager removes it
+            log.warn("Invalid expiry time stamp " + expiryTimeStamp + " received for throttle key " + throttleKey);
+            expiry = Long.MAX_VALUE;
+        }
+        ThrottleDataHolder.getInstance().addThrottleData(throttleKey, expiry);
+        return getBValues(new BString(throttleKey));
+    }
+}
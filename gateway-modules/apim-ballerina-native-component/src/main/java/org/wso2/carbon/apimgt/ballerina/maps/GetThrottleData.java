@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.maps;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.model.types.TypeEnum;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.Attribute;
+import org.ballerinalang.natives.annotations.BallerinaAnnotation;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+
+/**
+ * Native function org.wso2.carbon.apimgt.ballerina.maps:getThrottleData
+ * This function returns the time at which the throttled window of a throttle key ends.
+ */
+@BallerinaFunction(
+        packageName = "org.wso2.carbon.apimgt.ballerina.maps",
+        functionName = "getThrottleData",
+        args = {@Argument(name = "throttleKey", type = TypeEnum.STRING)},
+        returnType = {@ReturnType(type = TypeEnum.STRING)},
+        isPublic = true
+)
+@BallerinaAnnotation(annotationName = "Description", attributes = {@Attribute(name = "value",
+        value = "Get the expiry time of a throttled key")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "throttleKey",
+        value = "Throttle key")})
+@BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "string",
+        value = "Expiry time in milliseconds or empty string if the key is not throttled")})
+public class GetThrottleData extends AbstractNativeFunction {
+    @Override
+    public BValue[] execute(Context context) {
+        String throttleKey = getStringArgument(context, 0);
+        Long expiryTimeStamp = ThrottleDataHolder.getInstance().getThrottleData(throttleKey);
+        return getBValues(new BString(expiryTimeStamp == null ? "" : expiryTimeStamp.toString()));
+    }
+}
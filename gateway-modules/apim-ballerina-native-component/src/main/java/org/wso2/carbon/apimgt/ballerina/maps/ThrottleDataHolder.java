@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.maps;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Holder of the throttle decisions and key templates pushed by the traffic manager. Every update is applied
+ * atomically on its own key, so concurrent throttle events can not overwrite each other, and request threads
+ * read the current state without locking or copying a map.
+ */
+public final class ThrottleDataHolder {
+    private static volatile ThrottleDataHolder instance = null;
+
+    private final ConcurrentMap<String, Long> throttleData = new ConcurrentHashMap<>();
+    private final Set<String> keyTemplates = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Private throttle data holder constructor
+     */
+    private ThrottleDataHolder() {
+    }
+
+    /**
+     * Static method to get throttle data holder
+     *
+     * @return {@link ThrottleDataHolder} instance
+     */
+    public static ThrottleDataHolder getInstance() {
+        if (instance == null) {
+            synchronized (ThrottleDataHolder.class) {
+                if (instance == null) {
+                    instance = new ThrottleDataHolder();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Mark a throttle key as throttled until the given time.
+     *
+     * @param throttleKey     throttle key
+     * @param expiryTimeStamp time in milliseconds at which the throttled window ends
+     */
+    public void addThrottleData(String throttleKey, long expiryTimeStamp) {
+        throttleData.put(throttleKey, expiryTimeStamp);
+    }
+
+    /**
+     * @param throttleKey throttle key
+     */
+    public void removeThrottleData(String throttleKey) {
+        throttleData.remove(throttleKey);
+    }
+
+    /**
+     * @param throttleKey throttle key
+     * @return time in milliseconds at which the throttled window ends, null if the key is not throttled
+     */
+    public Long getThrottleData(String throttleKey) {
+        return throttleData.get(throttleKey);
+    }
+
+    /**
+     * Check whether a throttle key is throttled at the given time. A key whose throttled window has ended is
+     * removed, so it is unblocked without waiting for the traffic manager to send an un-throttle event.
+     *
+     * @param throttleKey throttle key
+     * @param now         current time in milliseconds
+     * @return true if throttled
+     */
+    public boolean isThrottled(String throttleKey, long now) {
+        Long expiryTimeStamp = throttleData.get(throttleKey);
+        if (expiryTimeStamp == null) {
+            return false;
+        }
+        if (expiryTimeStamp > now) {
+            return true;
+        }
+        // Only remove the expired value, a newer decision for the same key may have arrived meanwhile
+        throttleData.remove(throttleKey, expiryTimeStamp);
+        return false;
+    }
+
+    /**
+     * @param keyTemplate key template
+     */
+    public void addKeyTemplate(String keyTemplate) {
+        keyTemplates.add(keyTemplate);
+    }
+
+    /**
+     * @param keyTemplate key template
+     */
+    public void removeKeyTemplate(String keyTemplate) {
+        keyTemplates.remove(keyTemplate);
+    }
+
+    /**
+     * @return key templates currently in effect
+     */
+    public Set<String> getKeyTemplates() {
+        return keyTemplates;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.routing;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.model.types.TypeEnum;
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.Attribute;
+import org.ballerinalang.natives.annotations.BallerinaAnnotation;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Native function org.wso2.carbon.apimgt.ballerina.routing:addResourceRoute
+ * This function adds or replaces a resource in the routing trie of an API.
+ */
+@BallerinaFunction(
+        packageName = "org.wso2.carbon.apimgt.ballerina.routing",
+        functionName = "addResourceRoute",
+        args = {@Argument(name = "apiKey", type = TypeEnum.STRING),
+                @Argument(name = "uriTemplate", type = TypeEnum.STRING),
+                @Argument(name = "httpVerb", type = TypeEnum.STRING)},
+        returnType = {@ReturnType(type = TypeEnum.BOOLEAN)},
+        isPublic = true
+)
+@BallerinaAnnotation(annotationName = "Description", attributes = {@Attribute(name = "value",
+        value = "Add or replace a resource in the routing trie of an API")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "apiKey",
+        value = "API key {apiContext}:{apiVersion}")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "uriTemplate",
+        value = "URI template of the resource")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "httpVerb",
+        value = "HTTP verb of the resource")})
+@BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "boolean",
+        value = "true if the resource was added, false if the URI template is not valid")})
+public class AddResourceRoute extends AbstractNativeFunction {
+    private static final Logger log = LoggerFactory.getLogger(AddResourceRoute.class);
+
+    @Override
+    public BValue[] execute(Context context) {
+        String apiKey = getStringArgument(context, 0);
+        String uriTemplate = getStringArgument(context, 1);
+        String httpVerb = getStringArgument(context, 2);
+        try {
+            ResourceRouter.getInstance().addRoute(apiKey, uriTemplate, httpVerb);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid resource " + httpVerb + " " + uriTemplate + " of API " + apiKey, e);
+            return getBValues(new BBoolean(false));
+        }
+        return getBValues(new BBoolean(true));
+    }
+}
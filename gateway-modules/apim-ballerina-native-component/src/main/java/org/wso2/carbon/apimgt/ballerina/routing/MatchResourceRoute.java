@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.routing;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.model.types.TypeEnum;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.Attribute;
+import org.ballerinalang.natives.annotations.BallerinaAnnotation;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+
+/**
+ * Native function org.wso2.carbon.apimgt.ballerina.routing:matchResourceRoute
+ * This function finds the resource of an API matching a request path and verb.
+ */
+@BallerinaFunction(
+        packageName = "org.wso2.carbon.apimgt.ballerina.routing",
+        functionName = "matchResourceRoute",
+        args = {@Argument(name = "apiKey", type = TypeEnum.STRING),
+                @Argument(name = "path", type = TypeEnum.STRING),
+                @Argument(name = "httpVerb", type = TypeEnum.STRING)},
+        returnType = {@ReturnType(type = TypeEnum.STRING)},
+        isPublic = true
+)
+@BallerinaAnnotation(annotationName = "Description", attributes = {@Attribute(name = "value",
+        value = "Find the resource of an API matching a request path and verb")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "apiKey",
+        value = "API key {apiContext}:{apiVersion}")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "path",
+        value = "Request path relative to the API context")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "httpVerb",
+        value = "HTTP verb of the request")})
+@BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "string",
+        value = "URI template of the matching resource, empty if no resource matches")})
+public class MatchResourceRoute extends AbstractNativeFunction {
+    @Override
+    public BValue[] execute(Context context) {
+        String apiKey = getStringArgument(context, 0);
+        String path = getStringArgument(context, 1);
+        String httpVerb = getStringArgument(context, 2);
+        String uriTemplate = ResourceRouter.getInstance().match(apiKey, path, httpVerb);
+        return getBValues(new BString(uriTemplate != null ? uriTemplate : ""));
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.routing;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.model.types.TypeEnum;
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.Attribute;
+import org.ballerinalang.natives.annotations.BallerinaAnnotation;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+
+/**
+ * Native function org.wso2.carbon.apimgt.ballerina.routing:removeResourceRoutes
+ * This function removes the routing trie of an API.
+ */
+@BallerinaFunction(
+        packageName = "org.wso2.carbon.apimgt.ballerina.routing",
+        functionName = "removeResourceRoutes",
+        args = {@Argument(name = "apiKey", type = TypeEnum.STRING)},
+        returnType = {@ReturnType(type = TypeEnum.BOOLEAN)},
+        isPublic = true
+)
+@BallerinaAnnotation(annotationName = "Description", attributes = {@Attribute(name = "value",
+        value = "Remove all resources of an API from routing")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "apiKey",
+        value = "API key {apiContext}:{apiVersion}")})
+@BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "boolean",
+        value = "true after the resources are removed")})
+public class RemoveResourceRoutes extends AbstractNativeFunction {
+    @Override
+    public BValue[] execute(Context context) {
+        String apiKey = getStringArgument(context, 0);
+        ResourceRouter.getInstance().removeRoutes(apiKey);
+        return getBValues(new BBoolean(true));
+    }
+}
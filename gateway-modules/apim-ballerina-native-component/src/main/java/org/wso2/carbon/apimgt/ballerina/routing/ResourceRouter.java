@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.routing;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Router resolving requests to the resources of the deployed APIs. Each API has its own {@link UriTemplateTrie},
+ * recompiled lazily on the first lookup after one of its resources changed, so loading the resources of an API one
+ * at a time does not recompile the trie once per resource, and a change to one API leaves the tries of the other
+ * APIs untouched.
+ */
+public final class ResourceRouter {
+    private static volatile ResourceRouter instance = null;
+
+    private final ConcurrentMap<String, ApiRoutes> routesByApi = new ConcurrentHashMap<>();
+
+    /**
+     * Private resource router constructor
+     */
+    private ResourceRouter() {
+    }
+
+    /**
+     * Static method to get resource router
+     *
+     * @return {@link ResourceRouter} instance
+     */
+    public static ResourceRouter getInstance() {
+        if (instance == null) {
+            synchronized (ResourceRouter.class) {
+                if (instance == null) {
+                    instance = new ResourceRouter();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Add or replace a resource of an API
+     *
+     * @param apiKey      key of the API, {apiContext}:{apiVersion}
+     * @param uriTemplate URI template of the resource
+     * @param httpVerb    HTTP verb of the resource
+     * @throws IllegalArgumentException if the URI template is not valid
+     */
+    public void addRoute(String apiKey, String uriTemplate, String httpVerb) {
+        UriTemplateTrie.Route route = new UriTemplateTrie.Route(uriTemplate, httpVerb);
+        routesByApi.computeIfAbsent(apiKey, key -> new ApiRoutes()).add(route);
+    }
+
+    /**
+     * Remove all resources of an API
+     *
+     * @param apiKey key of the API, {apiContext}:{apiVersion}
+     */
+    public void removeRoutes(String apiKey) {
+        routesByApi.remove(apiKey);
+    }
+
+    /**
+     * Find the resource of an API matching a request
+     *
+     * @param apiKey   key of the API, {apiContext}:{apiVersion}
+     * @param path     request path relative to the API context
+     * @param httpVerb HTTP verb of the request
+     * @return URI template of the matching resource, null if no resource matches
+     */
+    public String match(String apiKey, String path, String httpVerb) {
+        ApiRoutes routes = routesByApi.get(apiKey);
+        if (routes == null) {
+            return null;
+        }
+        return routes.getTrie().match(path, httpVerb);
+    }
+
+    /**
+     * Resources of an API and the trie compiled from them.
+     */
+    private static final class ApiRoutes {
+        private final ConcurrentMap<String, UriTemplateTrie.Route> routes = new ConcurrentHashMap<>();
+        private volatile UriTemplateTrie trie = UriTemplateTrie.EMPTY;
+        private volatile boolean stale = false;
+
+        private void add(UriTemplateTrie.Route route) {
+            routes.put(route.getKey(), route);
+            stale = true;
+        }
+
+        private UriTemplateTrie getTrie() {
+            return stale ? rebuild() : trie;
+        }
+
+        private synchronized UriTemplateTrie rebuild() {
+            if (!stale) {
+                return trie;
+            }
+            // Clear the flag first, a route added while compiling marks the trie stale again
+            stale = false;
+            trie = UriTemplateTrie.build(routes.values());
+            return trie;
+        }
+    }
+}
@@ -0,0 +1,433 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.routing;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable trie of the resource URI templates of an API, with one level per path segment. A request path is
+ * matched one segment at a time, preferring a literal segment over a segment mixing literals and parameters
+ * ({@code {name}.json}), over a parameter segment ({@code {id}}), over a trailing wildcard ({@code *},
+ * {@code {+path}} or {@code {path*}}) which matches the rest of the path. A less specific branch is only tried if
+ * the more specific one has no template for the HTTP verb, so matching takes O(path segments) for the usual
+ * templates. Matching works on offsets into the request path and does not allocate.
+ */
+public final class UriTemplateTrie {
+    static final UriTemplateTrie EMPTY = new UriTemplateTrie(new NodeBuilder().build());
+
+    /**
+     * Orders literal segments by length and then by characters, the order in which they are binary searched.
+     */
+    private static final Comparator<String> LITERAL_ORDER = (first, second) -> first.length() != second.length() ?
+            first.length() - second.length() : first.compareTo(second);
+
+    private final Node root;
+
+    private UriTemplateTrie(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Compile resource templates into a trie. A later route for the same path and verb replaces an earlier one.
+     *
+     * @param routes routes of the resources
+     * @return trie of the routes
+     */
+    static UriTemplateTrie build(Collection<Route> routes) {
+        if (routes.isEmpty()) {
+            return EMPTY;
+        }
+        NodeBuilder root = new NodeBuilder();
+        for (Route route : routes) {
+            NodeBuilder node = root;
+            Segment[] segments = route.segments;
+            for (int i = 0; i < segments.length; i++) {
+                Segment segment = segments[i];
+                if (segment.type == SegmentType.WILDCARD) {
+                    node.wildcardTemplates.put(route.httpVerb, route.uriTemplate);
+                    node = null;
+                    break;
+                }
+                node = node.child(segment);
+            }
+            if (node != null) {
+                node.templates.put(route.httpVerb, route.uriTemplate);
+            }
+        }
+        return new UriTemplateTrie(root.build());
+    }
+
+    /**
+     * Find the template of the resource matching a request
+     *
+     * @param path     request path relative to the API context, a query string is ignored
+     * @param httpVerb HTTP verb of the request
+     * @return URI template of the matching resource, null if no resource matches
+     */
+    public String match(String path, String httpVerb) {
+        if (path == null || httpVerb == null) {
+            return null;
+        }
+        int end = path.length();
+        int queryStart = path.indexOf('?');
+        if (queryStart >= 0) {
+            end = queryStart;
+        }
+        int fragmentStart = path.indexOf('#');
+        if (fragmentStart >= 0 && fragmentStart < end) {
+            end = fragmentStart;
+        }
+        return match(root, path, 0, end, httpVerb);
+    }
+
+    private static String match(Node node, String path, int from, int end, String httpVerb) {
+        int segmentStart = from;
+        while (segmentStart < end && path.charAt(segmentStart) == '/') {
+            segmentStart++;
+        }
+        if (segmentStart == end) {
+            String template = find(node.verbs, node.templates, httpVerb);
+            return template != null ? template : find(node.wildcardVerbs, node.wildcardTemplates, httpVerb);
+        }
+        int segmentEnd = path.indexOf('/', segmentStart);
+        if (segmentEnd < 0 || segmentEnd > end) {
+            segmentEnd = end;
+        }
+        String template;
+        Node literalChild = node.findLiteral(path, segmentStart, segmentEnd);
+        if (literalChild != null) {
+            template = match(literalChild, path, segmentEnd, end, httpVerb);
+            if (template != null) {
+                return template;
+            }
+        }
+        for (int i = 0; i < node.patterns.length; i++) {
+            if (node.patterns[i].matches(path, segmentStart, segmentEnd)) {
+                template = match(node.patternChildren[i], path, segmentEnd, end, httpVerb);
+                if (template != null) {
+                    return template;
+                }
+            }
+        }
+        if (node.paramChild != null) {
+            template = match(node.paramChild, path, segmentEnd, end, httpVerb);
+            if (template != null) {
+                return template;
+            }
+        }
+        return find(node.wildcardVerbs, node.wildcardTemplates, httpVerb);
+    }
+
+    private static String find(String[] verbs, String[] templates, String httpVerb) {
+        for (int i = 0; i < verbs.length; i++) {
+            if (verbs[i].equalsIgnoreCase(httpVerb)) {
+                return templates[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Split a URI template into path segments. A query part of the template is ignored.
+     *
+     * @param uriTemplate URI template of a resource
+     * @return segments of the template
+     * @throws IllegalArgumentException if the template has unbalanced braces, adjacent parameters or a wildcard
+     *                                  which is not the last segment
+     */
+    static Segment[] parse(String uriTemplate) {
+        if (uriTemplate == null) {
+            throw new IllegalArgumentException("URI template is null");
+        }
+        int end = uriTemplate.indexOf('?');
+        String path = end >= 0 ? uriTemplate.substring(0, end) : uriTemplate;
+        List<Segment> segments = new ArrayList<>();
+        for (String value : path.split("/")) {
+            if (value.isEmpty()) {
+                continue;
+            }
+            if (!segments.isEmpty() && segments.get(segments.size() - 1).type == SegmentType.WILDCARD) {
+                throw new IllegalArgumentException("Wildcard is not the last segment of URI template: "
+                        + uriTemplate);
+            }
+            segments.add(parseSegment(value, uriTemplate));
+        }
+        return segments.toArray(new Segment[segments.size()]);
+    }
+
+    private static Segment parseSegment(String value, String uriTemplate) {
+        if ("*".equals(value)) {
+            return new Segment(SegmentType.WILDCARD, value);
+        }
+        if (value.indexOf('{') < 0 && value.indexOf('}') < 0) {
+            return new Segment(SegmentType.LITERAL, value);
+        }
+        List<String> literals = new ArrayList<>();
+        int position = 0;
+        int parameterCount = 0;
+        while (position < value.length()) {
+            int open = value.indexOf('{', position);
+            int firstClose = value.indexOf('}', position);
+            if (open < 0) {
+                if (firstClose >= 0) {
+                    throw new IllegalArgumentException("Unbalanced braces in URI template: " + uriTemplate);
+                }
+                break;
+            }
+            int close = value.indexOf('}', open);
+            int nextOpen = value.indexOf('{', open + 1);
+            if (firstClose < open || (nextOpen >= 0 && nextOpen < close)) {
+                throw new IllegalArgumentException("Unbalanced braces in URI template: " + uriTemplate);
+            }
+            String literal = value.substring(position, open);
+            if (parameterCount > 0 && literal.isEmpty()) {
+                throw new IllegalArgumentException("Adjacent parameters in URI template: " + uriTemplate);
+            }
+            literals.add(literal);
+            String expression = value.substring(open + 1, close);
+            if (expression.startsWith("+") || expression.endsWith("*")) {
+                if (open != 0 || close != value.length() - 1) {
+                    throw new IllegalArgumentException("Wildcard parameter is not a whole segment of URI template: "
+                            + uriTemplate);
+                }
+                return new Segment(SegmentType.WILDCARD, value);
+            }
+            parameterCount++;
+            position = close + 1;
+        }
+        literals.add(value.substring(position));
+        if (parameterCount == 1 && literals.get(0).isEmpty() && literals.get(1).isEmpty()) {
+            return new Segment(SegmentType.PARAMETER, value);
+        }
+        return new Segment(SegmentType.PATTERN, value, new SegmentPattern(literals.toArray(new String[0])));
+    }
+
+    private static int compareLiteral(String literal, String path, int start, int end) {
+        int length = end - start;
+        if (literal.length() != length) {
+            return literal.length() - length;
+        }
+        for (int i = 0; i < length; i++) {
+            int difference = literal.charAt(i) - path.charAt(start + i);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Resource template and verb
+     */
+    static final class Route {
+        private final String uriTemplate;
+        private final String httpVerb;
+        private final Segment[] segments;
+
+        /**
+         * @param uriTemplate URI template of the resource
+         * @param httpVerb    HTTP verb of the resource
+         * @throws IllegalArgumentException if the template is not valid
+         */
+        Route(String uriTemplate, String httpVerb) {
+            if (httpVerb == null || httpVerb.isEmpty()) {
+                throw new IllegalArgumentException("HTTP verb is empty for URI template: " + uriTemplate);
+            }
+            this.uriTemplate = uriTemplate;
+            this.httpVerb = httpVerb.toUpperCase(Locale.ENGLISH);
+            this.segments = parse(uriTemplate);
+        }
+
+        String getKey() {
+            return httpVerb + " " + uriTemplate;
+        }
+    }
+
+    enum SegmentType {
+        LITERAL, PATTERN, PARAMETER, WILDCARD
+    }
+
+    /**
+     * Segment of a URI template
+     */
+    static final class Segment {
+        private final SegmentType type;
+        private final String value;
+        private final SegmentPattern pattern;
+
+        private Segment(SegmentType type, String value) {
+            this(type, value, null);
+        }
+
+        private Segment(SegmentType type, String value, SegmentPattern pattern) {
+            this.type = type;
+            this.value = value;
+            this.pattern = pattern;
+        }
+    }
+
+    /**
+     * Segment mixing literals and parameters, such as {@code {name}.{extension}}. Each parameter matches at least
+     * one character, up to the first occurrence of the literal following it.
+     */
+    private static final class SegmentPattern {
+        private final String[] literals;
+        private final String key;
+        private final int literalLength;
+
+        /**
+         * @param literals literals around the parameters, the first and last may be empty
+         */
+        private SegmentPattern(String[] literals) {
+            this.literals = literals;
+            // Parameter names do not take part in matching, so patterns differing only by them share a branch
+            this.key = String.join("{}", literals);
+            int length = 0;
+            for (String literal : literals) {
+                length += literal.length();
+            }
+            this.literalLength = length;
+        }
+
+        private boolean matches(String path, int start, int end) {
+            String prefix = literals[0];
+            String suffix = literals[literals.length - 1];
+            // Every parameter takes at least one character
+            if (end - start < literalLength + literals.length - 1
+                    || !path.regionMatches(start, prefix, 0, prefix.length())
+                    || !path.regionMatches(end - suffix.length(), suffix, 0, suffix.length())) {
+                return false;
+            }
+            int position = start + prefix.length();
+            int limit = end - suffix.length();
+            for (int i = 1; i < literals.length - 1; i++) {
+                String literal = literals[i];
+                int found = -1;
+                for (int candidate = position + 1; candidate + literal.length() <= limit; candidate++) {
+                    if (path.regionMatches(candidate, literal, 0, literal.length())) {
+                        found = candidate;
+                        break;
+                    }
+                }
+                if (found < 0) {
+                    return false;
+                }
+                position = found + literal.length();
+            }
+            return position < limit;
+        }
+    }
+
+    /**
+     * Compiled trie node. Literal children are kept sorted in {@link #LITERAL_ORDER} for binary search and
+     * templates are kept by verb in parallel arrays, since a resource has only a few verbs.
+     */
+    private static final class Node {
+        private final String[] literals;
+        private final Node[] literalChildren;
+        private final SegmentPattern[] patterns;
+        private final Node[] patternChildren;
+        private final Node paramChild;
+        private final String[] verbs;
+        private final String[] templates;
+        private final String[] wildcardVerbs;
+        private final String[] wildcardTemplates;
+
+        private Node(NodeBuilder builder) {
+            literals = builder.literals.keySet().toArray(new String[builder.literals.size()]);
+            literalChildren = new Node[literals.length];
+            for (int i = 0; i < literals.length; i++) {
+                literalChildren[i] = builder.literals.get(literals[i]).build();
+            }
+            List<NodeBuilder> patternBuilders = new ArrayList<>(builder.patterns.values());
+            // More literal characters make a pattern more specific
+            patternBuilders.sort((first, second) -> second.pattern.literalLength - first.pattern.literalLength);
+            patterns = new SegmentPattern[patternBuilders.size()];
+            patternChildren = new Node[patterns.length];
+            for (int i = 0; i < patterns.length; i++) {
+                patterns[i] = patternBuilders.get(i).pattern;
+                patternChildren[i] = patternBuilders.get(i).build();
+            }
+            paramChild = builder.param != null ? builder.param.build() : null;
+            verbs = builder.templates.keySet().toArray(new String[builder.templates.size()]);
+            templates = builder.templates.values().toArray(new String[builder.templates.size()]);
+            wildcardVerbs = builder.wildcardTemplates.keySet().toArray(new String[builder.wildcardTemplates.size()]);
+            wildcardTemplates = builder.wildcardTemplates.values()
+                    .toArray(new String[builder.wildcardTemplates.size()]);
+        }
+
+        private Node findLiteral(String path, int start, int end) {
+            int low = 0;
+            int high = literals.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int comparison = compareLiteral(literals[mid], path, start, end);
+                if (comparison < 0) {
+                    low = mid + 1;
+                } else if (comparison > 0) {
+                    high = mid - 1;
+                } else {
+                    return literalChildren[mid];
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Mutable node used while compiling the trie.
+     */
+    private static final class NodeBuilder {
+        private final Map<String, NodeBuilder> literals = new TreeMap<>(LITERAL_ORDER);
+        private final Map<String, NodeBuilder> patterns = new LinkedHashMap<>();
+        private final Map<String, String> templates = new LinkedHashMap<>();
+        private final Map<String, String> wildcardTemplates = new LinkedHashMap<>();
+        private SegmentPattern pattern;
+        private NodeBuilder param;
+
+        private NodeBuilder child(Segment segment) {
+            switch (segment.type) {
+                case LITERAL:
+                    return literals.computeIfAbsent(segment.value, value -> new NodeBuilder());
+                case PATTERN:
+                    return patterns.computeIfAbsent(segment.pattern.key, key -> {
+                        NodeBuilder child = new NodeBuilder();
+                        child.pattern = segment.pattern;
+                        return child;
+                    });
+                default:
+                    if (param == null) {
+                        param = new NodeBuilder();
+                    }
+                    return param;
+            }
+        }
+
+        private Node build() {
+            return new Node(this);
+        }
+    }
+}
@@ -31,6 +31,8 @@ import org.ballerinalang.natives.annotations.BallerinaFunction;
 import org.ballerinalang.natives.annotations.ReturnType;
 import org.wso2.carbon.apimgt.ballerina.threatprotection.analyzer.APIMThreatAnalyzer;
 
+import java.io.ByteArrayInputStream;
+
 /**
  * Native Function org.wso2.carbon.apimgt.ballerina.threatprotection:analyze
  * This function is used to analyze xml/json payloads for malicious content.
@@ -40,7 +42,7 @@ import org.wso2.carbon.apimgt.ballerina.threatprotection.analyzer.APIMThreatAnal
         packageName = "org.wso2.carbon.apimgt.ballerina.threatprotection",
         functionName = "analyze",
         args = { @Argument(name = "payloadType", type = TypeEnum.STRING),
-                 @Argument(name = "payload", type = TypeEnum.STRING),
+                 @Argument(name = "payload", type = TypeEnum.BLOB),
                  @Argument(name = "apiContext", type = TypeEnum.STRING),
                  @Argument(name = "policyId", type = TypeEnum.STRING)},
         returnType = { @ReturnType(type = TypeEnum.BOOLEAN),
@@ -52,7 +54,7 @@ import org.wso2.carbon.apimgt.ballerina.threatprotection.analyzer.APIMThreatAnal
 @BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "payloadType",
         value = "Type of the payload (xml/json)")})
 @BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "payload",
-        value = "Payload string")})
+        value = "Payload bytes")})
 @BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "apiContext",
         value = "API Context")})
 @BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "apiId",
@@ -66,9 +68,9 @@ public class Analyze extends AbstractNativeFunction {
     public BValue[] execute(Context context) {
 
         String payloadType = getStringArgument(context, 0);
-        String payload = getStringArgument(context, 1);
-        String apiContext = getStringArgument(context, 2);
-        String policyId = getStringArgument(context, 3);
+        byte[] payload = getBlobArgument(context, 0);
+        String apiContext = getStringArgument(context, 1);
+        String policyId = getStringArgument(context, 2);
 
         APIMThreatAnalyzer analyzer = AnalyzerHolder.getAnalyzer(payloadType, policyId);
         if (analyzer == null) {
@@ -78,7 +80,8 @@ public class Analyze extends AbstractNativeFunction {
         boolean noThreatsDetected = true;
         String errMessage = null;
         try {
-            analyzer.analyze(payload, apiContext);
+            //the payload is analyzed as bytes, without decoding it into a String first
+            analyzer.analyze(new ByteArrayInputStream(payload), apiContext);
         } catch (APIMThreatAnalyzerException e) {
             noThreatsDetected = false;
             errMessage = e.getMessage();
@@ -18,41 +18,60 @@
 
 package org.wso2.carbon.apimgt.ballerina.threatprotection;
 
-import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.apache.commons.pool2.impl.GenericKeyedObjectPoolConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.wso2.carbon.apimgt.ballerina.threatprotection.analyzer.APIMThreatAnalyzer;
 import org.wso2.carbon.apimgt.ballerina.threatprotection.analyzer.JSONAnalyzer;
 import org.wso2.carbon.apimgt.ballerina.threatprotection.analyzer.XMLAnalyzer;
 import org.wso2.carbon.apimgt.ballerina.threatprotection.configurations.ConfigurationHolder;
-import org.wso2.carbon.apimgt.ballerina.threatprotection.configurations.JSONConfig;
-import org.wso2.carbon.apimgt.ballerina.threatprotection.configurations.XMLConfig;
 import org.wso2.carbon.apimgt.ballerina.threatprotection.pool.AnalyzerPool;
+import org.wso2.carbon.apimgt.ballerina.threatprotection.pool.AnalyzerPoolMetrics;
 import org.wso2.carbon.apimgt.ballerina.threatprotection.pool.JSONAnalyzerFactory;
 import org.wso2.carbon.apimgt.ballerina.threatprotection.pool.XMLAnalyzerFactory;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
- * Holds the object pools for XML and JSON Analyzers
+ * Holds the object pools for XML and JSON Analyzers. Analyzers are pooled per threat protection policy, fully
+ * configured for their policy, so they are not reconfigured on each request.
  */
 public class AnalyzerHolder {
     private static final String T_TEXT_XML = "text/xml";
     private static final String T_APPLICATION_XML = "application/xml";
     private static final String T_TEXT_JSON = "text/json";
     private static final String T_APPLICATION_JSON = "application/json";
+    private static final String GLOBAL_XML_POLICY = "GLOBAL-XML";
+    private static final String GLOBAL_JSON_POLICY = "GLOBAL-JSON";
+    private static final int MAX_ANALYZERS = 200;
 
     private static Logger logger = LoggerFactory.getLogger(AnalyzerHolder.class);
 
     private static AnalyzerPool<XMLAnalyzer> xmlAnalyzerAnalyzerPool;
     private static AnalyzerPool<JSONAnalyzer> jsonAnalyzerAnalyzerPool;
-    private static GenericObjectPoolConfig poolConfig;
+    private static GenericKeyedObjectPoolConfig poolConfig;
+    private static final ConcurrentMap<String, AnalyzerPoolMetrics> xmlPoolMetrics = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, AnalyzerPoolMetrics> jsonPoolMetrics = new ConcurrentHashMap<>();
 
     static {
-        poolConfig = new GenericObjectPoolConfig();
-        poolConfig.setMaxTotal(200);
+        poolConfig = new GenericKeyedObjectPoolConfig();
+        //bounds the analyzers of all policies together, idle analyzers of other policies are evicted when reached
+        poolConfig.setMaxTotal(MAX_ANALYZERS);
+        poolConfig.setMaxTotalPerKey(MAX_ANALYZERS);
+        poolConfig.setMaxIdlePerKey(MAX_ANALYZERS);
 
         poolConfig.setBlockWhenExhausted(false);
         poolConfig.setMaxWaitMillis(0);
 
+        //analyzers of updated or deleted policies are destroyed when they are returned
+        poolConfig.setTestOnReturn(true);
+
         xmlAnalyzerAnalyzerPool = new AnalyzerPool<>(new XMLAnalyzerFactory(), poolConfig);
         jsonAnalyzerAnalyzerPool = new AnalyzerPool<>(new JSONAnalyzerFactory(), poolConfig);
     }
@@ -65,47 +84,39 @@ public class AnalyzerHolder {
      * Borrows an object from pools (xml or json) for threat analysis
      *
      * @param contentType Content-Type of the payload
-     * @param policyId ID of the API
-     * @return Instance of APIMThreatAnalyzer based on content type
+     * @param policyId ID of the threat protection policy
+     * @return Instance of APIMThreatAnalyzer based on content type, configured for the policy or the global policy
+     * if the policy is not found. null if neither policy is found
      */
     public static APIMThreatAnalyzer getAnalyzer(String contentType, String policyId) {
-        APIMThreatAnalyzer analyzer = null;
         if (T_TEXT_XML.equalsIgnoreCase(contentType) || T_APPLICATION_XML.equalsIgnoreCase(contentType)) {
-            try {
-                analyzer = xmlAnalyzerAnalyzerPool.borrowObject();
-
-                //configure per api
-                XMLConfig xmlConfig = ConfigurationHolder.getXmlConfig(policyId);
-                if (xmlConfig == null) {
-                    xmlConfig = ConfigurationHolder.getXmlConfig("GLOBAL-XML");
-                }
-
-                if (xmlConfig == null) {
-                    return null;
-                }
-                analyzer.configure(xmlConfig);
-            } catch (Exception e) {
-                logger.error("Threat Protection: Failed to create XMLAnalyzer, " + e.getMessage());
+            String poolKey = ConfigurationHolder.getXmlConfig(policyId) != null ? policyId : GLOBAL_XML_POLICY;
+            if (ConfigurationHolder.getXmlConfig(poolKey) == null) {
+                return null;
             }
+            return borrowAnalyzer(xmlAnalyzerAnalyzerPool, xmlPoolMetrics, poolKey, "XMLAnalyzer");
         } else if (T_TEXT_JSON.equalsIgnoreCase(contentType) || T_APPLICATION_JSON.equalsIgnoreCase(contentType)) {
-            try {
-                analyzer = jsonAnalyzerAnalyzerPool.borrowObject();
-
-                //configure per api
-                JSONConfig jsonConfig = ConfigurationHolder.getJsonConfig(policyId);
-                if (jsonConfig == null) {
-                    jsonConfig = ConfigurationHolder.getJsonConfig("GLOBAL-JSON");
-                }
-
-                if (jsonConfig == null) {
-                    return null;
-                }
-                analyzer.configure(jsonConfig);
-            } catch (Exception e) {
-                logger.error("Threat Protection: Failed to create JSONAnalyzer, " + e.getMessage());
+            String poolKey = ConfigurationHolder.getJsonConfig(policyId) != null ? policyId : GLOBAL_JSON_POLICY;
+            if (ConfigurationHolder.getJsonConfig(poolKey) == null) {
+                return null;
             }
+            return borrowAnalyzer(jsonAnalyzerAnalyzerPool, jsonPoolMetrics, poolKey, "JSONAnalyzer");
+        }
+        return null;
+    }
+
+    private static <T extends APIMThreatAnalyzer> T borrowAnalyzer(AnalyzerPool<T> pool,
+            ConcurrentMap<String, AnalyzerPoolMetrics> poolMetrics, String poolKey, String analyzerType) {
+        long start = System.nanoTime();
+        try {
+            T analyzer = pool.borrowObject(poolKey);
+            poolMetrics.computeIfAbsent(poolKey, key -> new AnalyzerPoolMetrics())
+                    .recordBorrow(System.nanoTime() - start);
+            return analyzer;
+        } catch (Exception e) {
+            logger.error("Threat Protection: Failed to create " + analyzerType + ", " + e.getMessage());
+            return null;
         }
-        return analyzer;
     }
 
     /**
@@ -116,9 +127,64 @@ public class AnalyzerHolder {
      */
     public static void returnObject(APIMThreatAnalyzer analyzer) {
         if (analyzer instanceof JSONAnalyzer) {
-            jsonAnalyzerAnalyzerPool.returnObject((JSONAnalyzer) analyzer);
+            JSONAnalyzer jsonAnalyzer = (JSONAnalyzer) analyzer;
+            jsonAnalyzerAnalyzerPool.returnObject(jsonAnalyzer.getPolicyId(), jsonAnalyzer);
         } else if (analyzer instanceof XMLAnalyzer) {
-            xmlAnalyzerAnalyzerPool.returnObject((XMLAnalyzer) analyzer);
+            XMLAnalyzer xmlAnalyzer = (XMLAnalyzer) analyzer;
+            xmlAnalyzerAnalyzerPool.returnObject(xmlAnalyzer.getPolicyId(), xmlAnalyzer);
+        }
+    }
+
+    /**
+     * Drops the pooled XML analyzers of a policy. Analyzers borrowed at the time are dropped when returned.
+     *
+     * @param policyId ID of the updated or deleted threat protection policy
+     */
+    public static void invalidateXmlAnalyzers(String policyId) {
+        xmlAnalyzerAnalyzerPool.clear(policyId);
+        xmlPoolMetrics.remove(policyId);
+    }
+
+    /**
+     * Drops the pooled JSON analyzers of a policy. Analyzers borrowed at the time are dropped when returned.
+     *
+     * @param policyId ID of the updated or deleted threat protection policy
+     */
+    public static void invalidateJsonAnalyzers(String policyId) {
+        jsonAnalyzerAnalyzerPool.clear(policyId);
+        jsonPoolMetrics.remove(policyId);
+    }
+
+    /**
+     * Builds the metrics of the analyzer pools, per payload type and policy, to be used in sizing the pools
+     *
+     * @return json object with the active and idle analyzer counts, borrow count and borrow wait times
+     * @throws IOException if the metrics cannot be written
+     */
+    public static String getPoolMetrics() throws IOException {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = new JsonFactory().createGenerator(writer)) {
+            generator.writeStartObject();
+            writePoolMetrics(generator, "xml", xmlAnalyzerAnalyzerPool, xmlPoolMetrics);
+            writePoolMetrics(generator, "json", jsonAnalyzerAnalyzerPool, jsonPoolMetrics);
+            generator.writeEndObject();
+        }
+        return writer.toString();
+    }
+
+    private static void writePoolMetrics(JsonGenerator generator, String payloadType, AnalyzerPool<?> pool,
+            Map<String, AnalyzerPoolMetrics> poolMetrics) throws IOException {
+        generator.writeObjectFieldStart(payloadType);
+        for (Map.Entry<String, AnalyzerPoolMetrics> entry : poolMetrics.entrySet()) {
+            AnalyzerPoolMetrics metrics = entry.getValue();
+            generator.writeObjectFieldStart(entry.getKey());
+            generator.writeNumberField("active", pool.getNumActive(entry.getKey()));
+            generator.writeNumberField("idle", pool.getNumIdle(entry.getKey()));
+            generator.writeNumberField("borrowCount", metrics.getBorrowCount());
+            generator.writeNumberField("meanBorrowWaitMillis", metrics.getMeanBorrowWaitMillis());
+            generator.writeNumberField("maxBorrowWaitMillis", metrics.getMaxBorrowWaitMillis());
+            generator.writeEndObject();
         }
+        generator.writeEndObject();
     }
 }
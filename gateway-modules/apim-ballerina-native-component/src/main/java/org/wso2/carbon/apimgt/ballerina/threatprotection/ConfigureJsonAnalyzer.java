@@ -87,10 +87,13 @@ public class ConfigureJsonAnalyzer extends AbstractNativeFunction {
                     jsonConfig.setMaxJsonDepth(maxJSONDepth);
                     //put into ConfigurationHolder
                     ConfigurationHolder.addJsonConfig(jsonPolicyId, jsonConfig);
+                    //pooled analyzers are configured with the previous version of the policy
+                    AnalyzerHolder.invalidateJsonAnalyzers(jsonPolicyId);
                     break;
 
                 case THREAT_PROTECTION_POLICY_DELETE:
                     ConfigurationHolder.removeJsonConfig(jsonPolicyId);
+                    AnalyzerHolder.invalidateJsonAnalyzers(jsonPolicyId);
                     break;
 
                 default:
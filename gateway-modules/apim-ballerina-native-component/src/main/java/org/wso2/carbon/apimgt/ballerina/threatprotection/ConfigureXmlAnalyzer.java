@@ -93,10 +93,13 @@ public class ConfigureXmlAnalyzer extends AbstractNativeFunction {
 
                     //put into ConfigurationHolder
                     ConfigurationHolder.addXmlConfig(xmlPolicyId, xmlConfig);
+                    //pooled analyzers are configured with the previous version of the policy
+                    AnalyzerHolder.invalidateXmlAnalyzers(xmlPolicyId);
                     break;
 
                 case THREAT_PROTECTION_POLICY_DELETE:
                     ConfigurationHolder.removeXmlConfig(xmlPolicyId);
+                    AnalyzerHolder.invalidateXmlAnalyzers(xmlPolicyId);
                     break;
 
                 default:
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.threatprotection;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.model.types.TypeEnum;
+import org.ballerinalang.model.values.BJSON;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.annotations.Attribute;
+import org.ballerinalang.natives.annotations.BallerinaAnnotation;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+
+/**
+ * Native Function org.wso2.carbon.apimgt.ballerina.threatprotection:getAnalyzerPoolMetrics
+ * This function is used to get the metrics of the per policy analyzer pools.
+ */
+@BallerinaFunction(
+        packageName = "org.wso2.carbon.apimgt.ballerina.threatprotection",
+        functionName = "getAnalyzerPoolMetrics",
+        returnType = { @ReturnType(type = TypeEnum.JSON)},
+        isPublic = true
+)
+@BallerinaAnnotation(annotationName = "Description", attributes = {@Attribute(name = "value",
+        value = "Gets the metrics of the per policy analyzer pools")})
+@BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "json",
+        value = "active and idle analyzers, borrow count and borrow wait times per payload type and policy")})
+public class GetAnalyzerPoolMetrics extends AbstractNativeFunction {
+    private static final Logger log = LoggerFactory.getLogger(GetAnalyzerPoolMetrics.class);
+
+    @Override
+    public BValue[] execute(Context context) {
+        try {
+            return getBValues(new BJSON(AnalyzerHolder.getPoolMetrics()));
+        } catch (IOException e) {
+            log.error("Threat Protection: Failed to build analyzer pool metrics", e);
+            return getBValues(new BJSON("{}"));
+        }
+    }
+}
@@ -22,6 +22,8 @@ import org.wso2.carbon.apimgt.ballerina.threatprotection.APIMThreatAnalyzerExcep
 import org.wso2.carbon.apimgt.ballerina.threatprotection.configurations.JSONConfig;
 import org.wso2.carbon.apimgt.ballerina.threatprotection.configurations.XMLConfig;
 
+import java.io.InputStream;
+
 /**
  * Interface for json/xml analyzers
  */
@@ -35,6 +37,17 @@ public interface APIMThreatAnalyzer {
      */
     void analyze(String payload, String apiContext) throws APIMThreatAnalyzerException;
 
+    /**
+     * Analyzes json/xml payloads for malicious content while reading them from a byte stream. The payload is
+     * inspected incrementally and analysis stops at the first limit breach, without buffering the payload.
+     * The stream is not closed by the analyzer.
+     *
+     * @param payload json/xml payload stream, the character encoding is detected from the payload
+     * @param apiContext API Context
+     * @throws APIMThreatAnalyzerException if the payload exceeds a defined limit or is malformed
+     */
+    void analyze(InputStream payload, String apiContext) throws APIMThreatAnalyzerException;
+
     /**
      * Configures the XMLAnalyzer using XMLConfig
      *
@@ -29,7 +29,7 @@ import org.wso2.carbon.apimgt.ballerina.threatprotection.configurations.JSONConf
 import org.wso2.carbon.apimgt.ballerina.threatprotection.configurations.XMLConfig;
 
 import java.io.IOException;
-import java.io.StringReader;
+import java.io.InputStream;
 
 /**
  * Implementation of APIMThreatAnalyzer for JSON Payloads
@@ -40,6 +40,8 @@ public class JSONAnalyzer implements APIMThreatAnalyzer {
     private Logger logger = LoggerFactory.getLogger(JSONAnalyzer.class);
 
     private JsonFactory factory;
+    private JSONConfig config;
+    private String policyId;
 
     //0 means unlimited
     private int maxFieldCount = 0;
@@ -50,12 +52,41 @@ public class JSONAnalyzer implements APIMThreatAnalyzer {
 
     public JSONAnalyzer() {
         factory = new JsonFactory();
+        //payload streams are owned by the caller
+        factory.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+    }
+
+    /**
+     * Create a JSONAnalyzer configured for a threat protection policy
+     *
+     * @param policyId ID of the threat protection policy
+     * @param config configuration of the policy
+     */
+    public JSONAnalyzer(String policyId, JSONConfig config) {
+        this();
+        this.policyId = policyId;
+        configure(config);
+    }
+
+    /**
+     * @return ID of the threat protection policy this analyzer was created for, null if not created for a policy
+     */
+    public String getPolicyId() {
+        return policyId;
+    }
+
+    /**
+     * @return configuration this analyzer is configured with
+     */
+    public JSONConfig getConfig() {
+        return config;
     }
 
     /**
      * Create a JSONAnalyzer using default configuration values
      */
     public void configure(JSONConfig config) {
+        this.config = config;
         maxFieldCount = config.getMaxPropertyCount();
         maxStringLength = config.getMaxStringLength();
         maxArrayElementCount = config.getMaxArrayElementCount();
@@ -75,64 +106,97 @@ public class JSONAnalyzer implements APIMThreatAnalyzer {
      */
     @Override
     public void analyze(String payload, String apiContext) throws APIMThreatAnalyzerException {
-        try (JsonParser parser = factory.createParser(new StringReader(payload))) {
-            int currentDepth = 0;
-            int currentFieldCount = 0;
-            JsonToken token;
-            while ((token = parser.nextToken()) != null) {
-                switch (token) {
-                    case START_OBJECT:
-                        currentDepth += 1;
-                        try {
-                            analyzeDepth(maxJsonDepth, currentDepth, apiContext);
-                        } catch (APIMThreatAnalyzerException e) {
-                            throw e;
-                        }
-                        break;
-
-                    case END_OBJECT:
-                        currentDepth -= 1;
-                        break;
-
-                    case FIELD_NAME:
-                        currentFieldCount += 1;
-                        String name = parser.getCurrentName();
-                        try {
-                            analyzeField(name, maxFieldCount, currentFieldCount, maxFieldLength, apiContext);
-                        } catch (APIMThreatAnalyzerException e) {
-                            throw e;
-                        }
-                        break;
-
-                    case VALUE_STRING:
-                        String value = parser.getText();
-                        try {
-                            analyzeString(value, maxStringLength, apiContext);
-                        } catch (APIMThreatAnalyzerException e) {
-                            throw e;
-                        }
-                        break;
-
-                    case START_ARRAY:
-                        try {
-                            analyzeArray(parser, maxArrayElementCount, maxStringLength, apiContext);
-                        } catch (APIMThreatAnalyzerException e) {
-                            throw e;
-                        }
-                        break;
-                }
-            }
-        } catch (JsonParseException e) {
-            logger.error(JSON_THREAT_PROTECTION_MSG_PREFIX + apiContext + " - Payload parsing failed", e);
-            throw new APIMThreatAnalyzerException(JSON_THREAT_PROTECTION_MSG_PREFIX + apiContext
-                    + " - Payload parsing failed", e);
+        try (JsonParser parser = factory.createParser(payload)) {
+            analyze(parser, apiContext);
         } catch (IOException e) {
-            logger.error(JSON_THREAT_PROTECTION_MSG_PREFIX + apiContext + " - Payload build failed", e);
-            throw new APIMThreatAnalyzerException(JSON_THREAT_PROTECTION_MSG_PREFIX + apiContext
-                    + " - Payload build failed", e);
+            throw payloadFailure(e, apiContext);
+        }
+    }
+
+    /**
+     *
+     * @param payload json payload stream
+     * @throws APIMThreatAnalyzerException if defined limits for json payload exceeds
+     */
+    @Override
+    public void analyze(InputStream payload, String apiContext) throws APIMThreatAnalyzerException {
+        try (JsonParser parser = factory.createParser(payload)) {
+            analyze(parser, apiContext);
+        } catch (IOException e) {
+            throw payloadFailure(e, apiContext);
+        }
+    }
+
+    /**
+     * Analyzes the tokens of a json payload as they are read by the parser
+     *
+     * @param parser JsonParser instance positioned before the first token
+     * @param apiContext current api context
+     * @throws APIMThreatAnalyzerException if defined limits for json payload exceeds
+     * @throws IOException if the payload cannot be read
+     */
+    private void analyze(JsonParser parser, String apiContext) throws APIMThreatAnalyzerException, IOException {
+        int currentDepth = 0;
+        int currentFieldCount = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != null) {
+            switch (token) {
+                case START_OBJECT:
+                    currentDepth += 1;
+                    try {
+                        analyzeDepth(maxJsonDepth, currentDepth, apiContext);
+                    } catch (APIMThreatAnalyzerException e) {
+                        throw e;
+                    }
+                    break;
+
+                case END_OBJECT:
+                    currentDepth -= 1;
+                    break;
+
+                case FIELD_NAME:
+                    currentFieldCount += 1;
+                    String name = parser.getCurrentName();
+                    try {
+                        analyzeField(name, maxFieldCount, currentFieldCount, maxFieldLength, apiContext);
+                    } catch (APIMThreatAnalyzerException e) {
+                        throw e;
+                    }
+                    break;
+
+                case VALUE_STRING:
+                    try {
+                        analyzeString(parser, maxStringLength, apiContext);
+                    } catch (APIMThreatAnalyzerException e) {
+                        throw e;
+                    }
+                    break;
+
+                case START_ARRAY:
+                    try {
+                        analyzeArray(parser, maxArrayElementCount, maxStringLength, apiContext);
+                    } catch (APIMThreatAnalyzerException e) {
+                        throw e;
+                    }
+                    break;
+            }
         }
     }
 
+    /**
+     * Builds the exception thrown when the payload cannot be parsed or read
+     *
+     * @param e cause of the failure
+     * @param apiContext current api context
+     * @return APIMThreatAnalyzerException to be thrown
+     */
+    private APIMThreatAnalyzerException payloadFailure(IOException e, String apiContext) {
+        String message = JSON_THREAT_PROTECTION_MSG_PREFIX + apiContext
+                + (e instanceof JsonParseException ? " - Payload parsing failed" : " - Payload build failed");
+        logger.error(message, e);
+        return new APIMThreatAnalyzerException(message, e);
+    }
+
     /**
      *
      * @param maxDepth maximum depth allowed for json payload
@@ -182,19 +246,22 @@ public class JSONAnalyzer implements APIMThreatAnalyzer {
     }
 
     /**
-     * Analyzes json string values using defined limits
+     * Analyzes json string values using defined limits. The length is taken from the parser buffer, so the value
+     * is not materialized as a String.
      *
-     * @param value value of the string
+     * @param parser JsonParser instance (Current token should be at JsonToken.VALUE_STRING state)
      * @param maxLength maximum string length allowed
      * @param apiContext current api context
      * @throws APIMThreatAnalyzerException if string length is greater than maximum length provided
+     * @throws IOException if the string value cannot be read
      */
-    private void analyzeString(String value, int maxLength, String apiContext) throws APIMThreatAnalyzerException {
-        if (value == null || maxLength == 0) {
+    private void analyzeString(JsonParser parser, int maxLength, String apiContext)
+            throws APIMThreatAnalyzerException, IOException {
+        if (maxLength == 0) {
             return;
         }
 
-        if (value.length() > maxLength) {
+        if (parser.getTextLength() > maxLength) {
             logger.error(JSON_THREAT_PROTECTION_MSG_PREFIX + apiContext
                     + " - Max String Length Reached");
             throw new APIMThreatAnalyzerException(JSON_THREAT_PROTECTION_MSG_PREFIX + apiContext
@@ -224,9 +291,8 @@ public class JSONAnalyzer implements APIMThreatAnalyzer {
             while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
                 //analyzing string values inside array
                 if (token == JsonToken.VALUE_STRING) {
-                    String value = parser.getText();
                     try {
-                        analyzeString(value, maxStringLength, apiContext);
+                        analyzeString(parser, maxStringLength, apiContext);
                     } catch (APIMThreatAnalyzerException e) {
                         throw e;
                     }
@@ -26,8 +26,7 @@ import org.wso2.carbon.apimgt.ballerina.threatprotection.APIMThreatAnalyzerExcep
 import org.wso2.carbon.apimgt.ballerina.threatprotection.configurations.JSONConfig;
 import org.wso2.carbon.apimgt.ballerina.threatprotection.configurations.XMLConfig;
 
-import java.io.IOException;
-import java.io.Reader;
+import java.io.InputStream;
 import java.io.StringReader;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
@@ -41,12 +40,39 @@ public class XMLAnalyzer implements APIMThreatAnalyzer {
 
     private XMLInputFactory factory;
     private XMLConfig config;
+    private String policyId;
     private Logger log = LoggerFactory.getLogger(XMLAnalyzer.class);
 
     public XMLAnalyzer() {
         factory = WstxInputFactory.newInstance();
     }
 
+    /**
+     * Create a XMLAnalyzer configured for a threat protection policy
+     *
+     * @param policyId ID of the threat protection policy
+     * @param config configuration of the policy
+     */
+    public XMLAnalyzer(String policyId, XMLConfig config) {
+        this();
+        this.policyId = policyId;
+        configure(config);
+    }
+
+    /**
+     * @return ID of the threat protection policy this analyzer was created for, null if not created for a policy
+     */
+    public String getPolicyId() {
+        return policyId;
+    }
+
+    /**
+     * @return configuration this analyzer is configured with
+     */
+    public XMLConfig getConfig() {
+        return config;
+    }
+
     /**
      * Create a XMLAnalyzer using default configuration values
      */
@@ -83,53 +109,91 @@ public class XMLAnalyzer implements APIMThreatAnalyzer {
      */
     @Override
     public void analyze(String payload, String apiContext) throws APIMThreatAnalyzerException {
-        Reader reader = null;
         XMLStreamReader xmlStreamReader = null;
         try {
-            reader = new StringReader(payload);
-            xmlStreamReader = factory.createXMLStreamReader(reader);
-            while (xmlStreamReader.hasNext()) {
-                int xmlStreamEvent = xmlStreamReader.next();
-
-                //By default, stream parsing does not enforce attribute limits on the xml content.
-                //see: https://stackoverflow.com/a/7447769
-                //So, we are manually checking attribute length and count
-                if (xmlStreamEvent == XMLStreamReader.START_ELEMENT) {
-                    int currentAttributeCount = xmlStreamReader.getAttributeCount();
-                    if (currentAttributeCount > config.getMaxAttributeCount()) {
-                        throw new APIMThreatAnalyzerException(XML_THREAT_PROTECTION_MSG_PREFIX + apiContext
-                                + " - XML Validation Failed: Maximum attribute limit reached.");
-                    }
+            xmlStreamReader = factory.createXMLStreamReader(new StringReader(payload));
+            analyze(xmlStreamReader, apiContext);
+        } catch (XMLStreamException e) {
+            throw validationFailure(e, apiContext);
+        } finally {
+            close(xmlStreamReader, apiContext);
+        }
+    }
 
-                    for (int i = 0; i < currentAttributeCount; i++) {
-                        String attributeValue = xmlStreamReader.getAttributeValue(i);
-                        if (attributeValue.length() > config.getMaxAttributeLength()) {
-                            throw new APIMThreatAnalyzerException(XML_THREAT_PROTECTION_MSG_PREFIX + apiContext
-                                    + " - XML Validation Failed: Maximum attribute length reached.");
-                        }
-                    }
-                }
-            }
+    /**
+     *
+     * @param payload xml payload stream
+     * @throws APIMThreatAnalyzerException
+     */
+    @Override
+    public void analyze(InputStream payload, String apiContext) throws APIMThreatAnalyzerException {
+        XMLStreamReader xmlStreamReader = null;
+        try {
+            xmlStreamReader = factory.createXMLStreamReader(payload);
+            analyze(xmlStreamReader, apiContext);
         } catch (XMLStreamException e) {
-            log.error(XML_THREAT_PROTECTION_MSG_PREFIX + apiContext + " - XML Validation Failed: "
-                    + e.getMessage(), e);
-            throw new APIMThreatAnalyzerException(XML_THREAT_PROTECTION_MSG_PREFIX + apiContext
-                    + " - XML Validation Failed: " + e.getMessage(), e);
+            throw validationFailure(e, apiContext);
         } finally {
-            try {
-                if (xmlStreamReader != null) {
-                    xmlStreamReader.close();
+            close(xmlStreamReader, apiContext);
+        }
+    }
+
+    /**
+     * Analyzes the events of a xml payload as they are read by the stream reader
+     *
+     * @param xmlStreamReader XMLStreamReader instance positioned at the start of the document
+     * @param apiContext current api context
+     * @throws APIMThreatAnalyzerException if defined limits for xml payload exceeds
+     * @throws XMLStreamException if the payload is malformed or exceeds a limit enforced by the parser
+     */
+    private void analyze(XMLStreamReader xmlStreamReader, String apiContext)
+            throws APIMThreatAnalyzerException, XMLStreamException {
+        while (xmlStreamReader.hasNext()) {
+            int xmlStreamEvent = xmlStreamReader.next();
+
+            //By default, stream parsing does not enforce attribute limits on the xml content.
+            //see: https://stackoverflow.com/a/7447769
+            //So, we are manually checking attribute length and count
+            if (xmlStreamEvent == XMLStreamReader.START_ELEMENT) {
+                int currentAttributeCount = xmlStreamReader.getAttributeCount();
+                if (currentAttributeCount > config.getMaxAttributeCount()) {
+                    throw new APIMThreatAnalyzerException(XML_THREAT_PROTECTION_MSG_PREFIX + apiContext
+                            + " - XML Validation Failed: Maximum attribute limit reached.");
                 }
-                if (reader != null) {
-                    reader.close();
+
+                for (int i = 0; i < currentAttributeCount; i++) {
+                    String attributeValue = xmlStreamReader.getAttributeValue(i);
+                    if (attributeValue.length() > config.getMaxAttributeLength()) {
+                        throw new APIMThreatAnalyzerException(XML_THREAT_PROTECTION_MSG_PREFIX + apiContext
+                                + " - XML Validation Failed: Maximum attribute length reached.");
+                    }
                 }
-            } catch (XMLStreamException e) {
-                log.warn(XML_THREAT_PROTECTION_MSG_PREFIX + apiContext
-                        + " - Failed to close XMLEventReader", e);
-            } catch (IOException e) {
-                log.warn(XML_THREAT_PROTECTION_MSG_PREFIX + apiContext
-                        + " - Failed to close payload StringReader", e);
             }
         }
     }
+
+    private APIMThreatAnalyzerException validationFailure(XMLStreamException e, String apiContext) {
+        log.error(XML_THREAT_PROTECTION_MSG_PREFIX + apiContext + " - XML Validation Failed: "
+                + e.getMessage(), e);
+        return new APIMThreatAnalyzerException(XML_THREAT_PROTECTION_MSG_PREFIX + apiContext
+                + " - XML Validation Failed: " + e.getMessage(), e);
+    }
+
+    /**
+     * Closes the stream reader. The underlying payload stream is owned by the caller and is not closed.
+     *
+     * @param xmlStreamReader XMLStreamReader instance, may be null
+     * @param apiContext current api context
+     */
+    private void close(XMLStreamReader xmlStreamReader, String apiContext) {
+        if (xmlStreamReader == null) {
+            return;
+        }
+        try {
+            xmlStreamReader.close();
+        } catch (XMLStreamException e) {
+            log.warn(XML_THREAT_PROTECTION_MSG_PREFIX + apiContext
+                    + " - Failed to close XMLEventReader", e);
+        }
+    }
 }
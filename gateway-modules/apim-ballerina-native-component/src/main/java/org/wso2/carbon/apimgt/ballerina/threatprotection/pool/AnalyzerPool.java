@@ -18,23 +18,21 @@
 
 package org.wso2.carbon.apimgt.ballerina.threatprotection.pool;
 
-import org.apache.commons.pool2.PooledObjectFactory;
-import org.apache.commons.pool2.impl.GenericObjectPool;
-import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.apache.commons.pool2.KeyedPooledObjectFactory;
+import org.apache.commons.pool2.impl.GenericKeyedObjectPool;
+import org.apache.commons.pool2.impl.GenericKeyedObjectPoolConfig;
 
 /**
- * Pool class for threat analyzer objects
+ * Pool class for threat analyzer objects, keyed by threat protection policy ID
  *
  * @param <T> Type of the pooled object
  */
-public class AnalyzerPool<T> extends GenericObjectPool<T> {
-    public AnalyzerPool(PooledObjectFactory<T> factory) {
+public class AnalyzerPool<T> extends GenericKeyedObjectPool<String, T> {
+    public AnalyzerPool(KeyedPooledObjectFactory<String, T> factory) {
         super(factory);
     }
 
-    public AnalyzerPool(PooledObjectFactory<T> factory, GenericObjectPoolConfig config) {
+    public AnalyzerPool(KeyedPooledObjectFactory<String, T> factory, GenericKeyedObjectPoolConfig config) {
         super(factory, config);
     }
-
-
 }
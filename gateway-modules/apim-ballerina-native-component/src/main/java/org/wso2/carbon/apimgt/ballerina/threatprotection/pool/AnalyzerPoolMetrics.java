@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.threatprotection.pool;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Borrow statistics of the analyzers pooled under a threat protection policy
+ */
+public class AnalyzerPoolMetrics {
+    private final LongAdder borrowCount = new LongAdder();
+    private final LongAdder borrowWaitTime = new LongAdder();
+    private final AtomicLong maxBorrowWaitTime = new AtomicLong();
+
+    /**
+     * Records a borrow from the pool
+     *
+     * @param waitTime time taken to borrow the analyzer in nanoseconds
+     */
+    public void recordBorrow(long waitTime) {
+        borrowCount.increment();
+        borrowWaitTime.add(waitTime);
+        long max = maxBorrowWaitTime.get();
+        while (waitTime > max && !maxBorrowWaitTime.compareAndSet(max, waitTime)) {
+            max = maxBorrowWaitTime.get();
+        }
+    }
+
+    public long getBorrowCount() {
+        return borrowCount.sum();
+    }
+
+    public double getMeanBorrowWaitMillis() {
+        long count = borrowCount.sum();
+        return count == 0 ? 0 : (double) borrowWaitTime.sum() / count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public double getMaxBorrowWaitMillis() {
+        return (double) maxBorrowWaitTime.get() / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -18,18 +18,26 @@
 
 package org.wso2.carbon.apimgt.ballerina.threatprotection.pool;
 
-import org.apache.commons.pool2.BasePooledObjectFactory;
+import org.apache.commons.pool2.BaseKeyedPooledObjectFactory;
 import org.apache.commons.pool2.PooledObject;
 import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.wso2.carbon.apimgt.ballerina.threatprotection.APIMThreatAnalyzerException;
 import org.wso2.carbon.apimgt.ballerina.threatprotection.analyzer.JSONAnalyzer;
+import org.wso2.carbon.apimgt.ballerina.threatprotection.configurations.ConfigurationHolder;
+import org.wso2.carbon.apimgt.ballerina.threatprotection.configurations.JSONConfig;
 
 /**
- * JSONThreatAnalyzer Factory Class for used in {@link AnalyzerPool}
+ * JSONThreatAnalyzer factory class for used in {@link AnalyzerPool}. Creates analyzers fully configured for the
+ * threat protection policy they are pooled under.
  */
-public class JSONAnalyzerFactory extends BasePooledObjectFactory<JSONAnalyzer> {
+public class JSONAnalyzerFactory extends BaseKeyedPooledObjectFactory<String, JSONAnalyzer> {
     @Override
-    public JSONAnalyzer create() throws Exception {
-        return new JSONAnalyzer();
+    public JSONAnalyzer create(String policyId) throws Exception {
+        JSONConfig config = ConfigurationHolder.getJsonConfig(policyId);
+        if (config == null) {
+            throw new APIMThreatAnalyzerException("No JSON threat protection policy found for " + policyId);
+        }
+        return new JSONAnalyzer(policyId, config);
     }
 
     @Override
@@ -37,5 +45,11 @@ public class JSONAnalyzerFactory extends BasePooledObjectFactory<JSONAnalyzer> {
         return new DefaultPooledObject<>(jsonAnalyzer);
     }
 
-
+    /**
+     * Analyzers configured with a policy which was updated or deleted since are not valid
+     */
+    @Override
+    public boolean validateObject(String policyId, PooledObject<JSONAnalyzer> pooledObject) {
+        return pooledObject.getObject().getConfig() == ConfigurationHolder.getJsonConfig(policyId);
+    }
 }
@@ -18,22 +18,38 @@
 
 package org.wso2.carbon.apimgt.ballerina.threatprotection.pool;
 
-import org.apache.commons.pool2.BasePooledObjectFactory;
+import org.apache.commons.pool2.BaseKeyedPooledObjectFactory;
 import org.apache.commons.pool2.PooledObject;
 import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.wso2.carbon.apimgt.ballerina.threatprotection.APIMThreatAnalyzerException;
 import org.wso2.carbon.apimgt.ballerina.threatprotection.analyzer.XMLAnalyzer;
+import org.wso2.carbon.apimgt.ballerina.threatprotection.configurations.ConfigurationHolder;
+import org.wso2.carbon.apimgt.ballerina.threatprotection.configurations.XMLConfig;
 
 /**
- * XMLThreatAnalyzer factory class for used in {@link AnalyzerPool}
+ * XMLThreatAnalyzer factory class for used in {@link AnalyzerPool}. Creates analyzers fully configured for the
+ * threat protection policy they are pooled under.
  */
-public class XMLAnalyzerFactory extends BasePooledObjectFactory<XMLAnalyzer> {
+public class XMLAnalyzerFactory extends BaseKeyedPooledObjectFactory<String, XMLAnalyzer> {
     @Override
-    public XMLAnalyzer create() throws Exception {
-        return new XMLAnalyzer();
+    public XMLAnalyzer create(String policyId) throws Exception {
+        XMLConfig config = ConfigurationHolder.getXmlConfig(policyId);
+        if (config == null) {
+            throw new APIMThreatAnalyzerException("No XML threat protection policy found for " + policyId);
+        }
+        return new XMLAnalyzer(policyId, config);
     }
 
     @Override
     public PooledObject<XMLAnalyzer> wrap(XMLAnalyzer xmlAnalyzer) {
         return new DefaultPooledObject<>(xmlAnalyzer);
     }
+
+    /**
+     * Analyzers configured with a policy which was updated or deleted since are not valid
+     */
+    @Override
+    public boolean validateObject(String policyId, PooledObject<XMLAnalyzer> pooledObject) {
+        return pooledObject.getObject().getConfig() == ConfigurationHolder.getXmlConfig(policyId);
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.throttle;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.model.types.TypeEnum;
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.Attribute;
+import org.ballerinalang.natives.annotations.BallerinaAnnotation;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Native function org.wso2.carbon.apimgt.ballerina.throttle:addBlockedIpRange
+ * This function adds or replaces the IP range blocked by a block condition.
+ */
+@BallerinaFunction(
+        packageName = "org.wso2.carbon.apimgt.ballerina.throttle",
+        functionName = "addBlockedIpRange",
+        args = {@Argument(name = "conditionKey", type = TypeEnum.STRING),
+                @Argument(name = "startingIp", type = TypeEnum.STRING),
+                @Argument(name = "endingIp", type = TypeEnum.STRING)},
+        returnType = {@ReturnType(type = TypeEnum.BOOLEAN)},
+        isPublic = true
+)
+@BallerinaAnnotation(annotationName = "Description", attributes = {@Attribute(name = "value",
+        value = "Add or replace the IP range blocked by a block condition")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "conditionKey",
+        value = "Block condition key")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "startingIp",
+        value = "First IPv4 or IPv6 address of the range")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "endingIp",
+        value = "Last IPv4 or IPv6 address of the range")})
+@BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "boolean",
+        value = "true if the range was added, false if an address is not valid")})
+public class AddBlockedIpRange extends AbstractNativeFunction {
+    private static final Logger log = LoggerFactory.getLogger(AddBlockedIpRange.class);
+
+    @Override
+    public BValue[] execute(Context context) {
+        String conditionKey = getStringArgument(context, 0);
+        String startingIp = getStringArgument(context, 1);
+        String endingIp = getStringArgument(context, 2);
+        try {
+            IpRangeIndex.getInstance().addRange(conditionKey, startingIp, endingIp);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid IP range in block condition " + conditionKey, e);
+            return getBValues(new BBoolean(false));
+        }
+        return getBValues(new BBoolean(true));
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.throttle;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.model.types.TypeEnum;
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.Attribute;
+import org.ballerinalang.natives.annotations.BallerinaAnnotation;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+
+/**
+ * Native function org.wso2.carbon.apimgt.ballerina.throttle:addThrottleLimit
+ * This function registers the request count limit of a policy to be enforced locally by the gateway.
+ */
+@BallerinaFunction(
+        packageName = "org.wso2.carbon.apimgt.ballerina.throttle",
+        functionName = "addThrottleLimit",
+        args = {@Argument(name = "policyName", type = TypeEnum.STRING),
+                @Argument(name = "algorithm", type = TypeEnum.STRING),
+                @Argument(name = "requestCount", type = TypeEnum.INT),
+                @Argument(name = "unitTime", type = TypeEnum.INT)},
+        returnType = {@ReturnType(type = TypeEnum.BOOLEAN)},
+        isPublic = true
+)
+@BallerinaAnnotation(annotationName = "Description", attributes = {@Attribute(name = "value",
+        value = "Add local request count limit of a throttle policy")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "policyName",
+        value = "Throttle policy name")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "algorithm",
+        value = "tokenBucket or slidingWindow")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "requestCount",
+        value = "Number of requests allowed within the unit time")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "unitTime",
+        value = "Unit time in milliseconds")})
+@BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "boolean",
+        value = "true if the limit was added, false if the limit is not valid")})
+public class AddThrottleLimit extends AbstractNativeFunction {
+    @Override
+    public BValue[] execute(Context context) {
+        String policyName = getStringArgument(context, 0);
+        String algorithm = getStringArgument(context, 1);
+        long requestCount = getIntArgument(context, 0);
+        long unitTime = getIntArgument(context, 1);
+        if (requestCount <= 0 || unitTime <= 0) {
+            return getBValues(new BBoolean(false));
+        }
+        LocalThrottler.getInstance().addLimit(new ThrottleLimit(policyName, algorithm, requestCount, unitTime));
+        return getBValues(new BBoolean(true));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.throttle;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.model.types.TypeEnum;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.Attribute;
+import org.ballerinalang.natives.annotations.BallerinaAnnotation;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+
+/**
+ * Native function org.wso2.carbon.apimgt.ballerina.throttle:getSubscriptionThrottleKey
+ * This function returns the id and the value of the subscription level throttle key
+ * {applicationId}:{apiContext}:{apiVersion}.
+ */
+@BallerinaFunction(
+        packageName = "org.wso2.carbon.apimgt.ballerina.throttle",
+        functionName = "getSubscriptionThrottleKey",
+        args = {@Argument(name = "applicationId", type = TypeEnum.STRING),
+                @Argument(name = "apiContext", type = TypeEnum.STRING),
+                @Argument(name = "apiVersion", type = TypeEnum.STRING)},
+        returnType = {@ReturnType(type = TypeEnum.INT),
+                      @ReturnType(type = TypeEnum.STRING)},
+        isPublic = true
+)
+@BallerinaAnnotation(annotationName = "Description", attributes = {@Attribute(name = "value",
+        value = "Get the id and the value of the subscription level throttle key")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "applicationId",
+        value = "Application ID")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "apiContext",
+        value = "API context")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "apiVersion",
+        value = "API version")})
+@BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "int",
+        value = "Throttle key id")})
+@BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "string",
+        value = "Throttle key")})
+public class GetSubscriptionThrottleKey extends AbstractNativeFunction {
+    @Override
+    public BValue[] execute(Context context) {
+        String applicationId = getStringArgument(context, 0);
+        String apiContext = getStringArgument(context, 1);
+        String apiVersion = getStringArgument(context, 2);
+        ThrottleKeyInterner.ThrottleKey key = ThrottleKeyInterner.getInstance()
+                .internSubscriptionKey(applicationId, apiContext, apiVersion);
+        return getBValues(new BInteger(key.getId()), new BString(key.getKey()));
+    }
+}
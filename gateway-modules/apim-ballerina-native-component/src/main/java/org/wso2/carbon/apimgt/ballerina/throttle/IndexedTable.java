@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.throttle;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock free table addressed by dense int ids, as handed out by {@link ThrottleKeyInterner}. Slots are kept in
+ * fixed size chunks which are allocated on first write, so a lookup is two array reads with no hashing or boxing.
+ *
+ * @param <V> type of the values
+ */
+public final class IndexedTable<V> {
+    private static final int CHUNK_BITS = 12;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int MAX_CHUNKS = 4096;
+    public static final int CAPACITY = CHUNK_SIZE * MAX_CHUNKS;
+
+    private final AtomicReferenceArray<AtomicReferenceArray<V>> chunks = new AtomicReferenceArray<>(MAX_CHUNKS);
+
+    /**
+     * @param index slot index, must be less than {@link #CAPACITY}
+     * @return value of the slot or null if the slot is empty
+     */
+    public V get(int index) {
+        AtomicReferenceArray<V> chunk = chunks.get(index >>> CHUNK_BITS);
+        return chunk == null ? null : chunk.get(index & CHUNK_MASK);
+    }
+
+    /**
+     * @param index slot index, must be less than {@link #CAPACITY}
+     * @param value value to be set
+     */
+    public void set(int index, V value) {
+        chunkOf(index).set(index & CHUNK_MASK, value);
+    }
+
+    /**
+     * Atomically set the slot to the given value if it holds the expected value.
+     *
+     * @param index  slot index, must be less than {@link #CAPACITY}
+     * @param expect expected value
+     * @param update new value
+     * @return true if successful
+     */
+    public boolean compareAndSet(int index, V expect, V update) {
+        return chunkOf(index).compareAndSet(index & CHUNK_MASK, expect, update);
+    }
+
+    /**
+     * Number of slots in the chunks allocated so far. Every id below this bound may be passed to {@link #get}.
+     *
+     * @return upper bound of the used slots
+     */
+    public int allocatedSize() {
+        int size = 0;
+        for (int i = 0; i < MAX_CHUNKS && chunks.get(i) != null; i++) {
+            size += CHUNK_SIZE;
+        }
+        return size;
+    }
+
+    private AtomicReferenceArray<V> chunkOf(int index) {
+        int chunkIndex = index >>> CHUNK_BITS;
+        AtomicReferenceArray<V> chunk = chunks.get(chunkIndex);
+        if (chunk == null) {
+            chunk = new AtomicReferenceArray<>(CHUNK_SIZE);
+            if (!chunks.compareAndSet(chunkIndex, null, chunk)) {
+                chunk = chunks.get(chunkIndex);
+            }
+        }
+        return chunk;
+    }
+}
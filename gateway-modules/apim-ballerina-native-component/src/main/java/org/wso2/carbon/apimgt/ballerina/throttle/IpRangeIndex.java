@@ -0,0 +1,404 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.throttle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Index of blocked IP ranges. Ranges are kept by block condition so they can be updated one at a time, while
+ * lookups run against an immutable snapshot in which the ranges are sorted and merged into non overlapping
+ * intervals, so an address is matched with a single binary search. IPv4 addresses are mapped into the IPv6
+ * address space, which lets both families share the same intervals.
+ */
+public final class IpRangeIndex {
+    private static volatile IpRangeIndex instance = null;
+
+    private final ConcurrentMap<String, IpRange> ranges = new ConcurrentHashMap<>();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile boolean stale = false;
+
+    /**
+     * Private IP range index constructor
+     */
+    private IpRangeIndex() {
+    }
+
+    /**
+     * Static method to get IP range index
+     *
+     * @return {@link IpRangeIndex} instance
+     */
+    public static IpRangeIndex getInstance() {
+        if (instance == null) {
+            synchronized (IpRangeIndex.class) {
+                if (instance == null) {
+                    instance = new IpRangeIndex();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Add or replace the blocked range of a block condition. The snapshot is rebuilt lazily on the next lookup,
+     * so loading many conditions at startup does not rebuild it once per condition.
+     *
+     * @param conditionKey key of the block condition
+     * @param startingIp   first address of the range
+     * @param endingIp     last address of the range
+     * @throws IllegalArgumentException if an address is not valid
+     */
+    public void addRange(String conditionKey, String startingIp, String endingIp) {
+        IpAddress start = IpAddress.parse(startingIp);
+        IpAddress end = IpAddress.parse(endingIp);
+        if (start.compareTo(end) > 0) {
+            IpAddress temp = start;
+            start = end;
+            end = temp;
+        }
+        ranges.put(conditionKey, new IpRange(start, end));
+        stale = true;
+    }
+
+    /**
+     * @param conditionKey key of the block condition
+     */
+    public void removeRange(String conditionKey) {
+        if (ranges.remove(conditionKey) != null) {
+            stale = true;
+        }
+    }
+
+    /**
+     * @param ip IPv4 or IPv6 address
+     * @return true if the address falls within a blocked range, false otherwise or if the address is not valid
+     */
+    public boolean isBlocked(String ip) {
+        if (ip == null || ip.isEmpty()) {
+            return false;
+        }
+        Snapshot current = stale ? rebuild() : snapshot;
+        if (current.size == 0) {
+            return false;
+        }
+        IpAddress address;
+        try {
+            address = IpAddress.parse(ip);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return current.contains(address);
+    }
+
+    private synchronized Snapshot rebuild() {
+        if (!stale) {
+            return snapshot;
+        }
+        // Clear the flag first, an update racing with the rebuild marks the index stale again
+        stale = false;
+        List<IpRange> sorted = new ArrayList<>(ranges.values());
+        Collections.sort(sorted);
+        List<IpRange> merged = new ArrayList<>(sorted.size());
+        for (IpRange range : sorted) {
+            if (!merged.isEmpty()) {
+                IpRange last = merged.get(merged.size() - 1);
+                if (range.start.compareTo(last.end.next()) <= 0) {
+                    if (range.end.compareTo(last.end) > 0) {
+                        merged.set(merged.size() - 1, new IpRange(last.start, range.end));
+                    }
+                    continue;
+                }
+            }
+            merged.add(range);
+        }
+        snapshot = new Snapshot(merged);
+        return snapshot;
+    }
+
+    /**
+     * Immutable sorted, non overlapping intervals stored as parallel primitive arrays.
+     */
+    private static final class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(Collections.<IpRange>emptyList());
+
+        private final int size;
+        private final long[] startHigh;
+        private final long[] startLow;
+        private final long[] endHigh;
+        private final long[] endLow;
+
+        private Snapshot(List<IpRange> ranges) {
+            size = ranges.size();
+            startHigh = new long[size];
+            startLow = new long[size];
+            endHigh = new long[size];
+            endLow = new long[size];
+            for (int i = 0; i < size; i++) {
+                IpRange range = ranges.get(i);
+                startHigh[i] = range.start.high;
+                startLow[i] = range.start.low;
+                endHigh[i] = range.end.high;
+                endLow[i] = range.end.low;
+            }
+        }
+
+        private boolean contains(IpAddress address) {
+            // Find the last interval starting at or before the address
+            int low = 0;
+            int high = size - 1;
+            int candidate = -1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (IpAddress.compare(startHigh[mid], startLow[mid], address.high, address.low) <= 0) {
+                    candidate = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return candidate >= 0
+                    && IpAddress.compare(address.high, address.low, endHigh[candidate], endLow[candidate]) <= 0;
+        }
+    }
+
+    /**
+     * Inclusive range of addresses.
+     */
+    private static final class IpRange implements Comparable<IpRange> {
+        private final IpAddress start;
+        private final IpAddress end;
+
+        private IpRange(IpAddress start, IpAddress end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public int compareTo(IpRange other) {
+            return start.compareTo(other.start);
+        }
+    }
+
+    /**
+     * 128 bit address held as two unsigned longs.
+     */
+    static final class IpAddress implements Comparable<IpAddress> {
+        private static final long IPV4_MAPPED_PREFIX = 0xffff00000000L;
+
+        private final long high;
+        private final long low;
+
+        private IpAddress(long high, long low) {
+            this.high = high;
+            this.low = low;
+        }
+
+        /**
+         * Parse an address. Besides IPv4 and IPv6 literals, a plain number is taken as an IPv4 address in its
+         * long form, as converted by the API Manager core when publishing block conditions. Addresses are parsed
+         * here rather than by {@link java.net.InetAddress}, which resolves anything that is not a literal through
+         * a name lookup.
+         *
+         * @param ip address
+         * @return parsed address
+         * @throws IllegalArgumentException if the address is not valid
+         */
+        static IpAddress parse(String ip) {
+            String value = ip.trim();
+            if (value.isEmpty()) {
+                throw new IllegalArgumentException("Empty IP address");
+            }
+            try {
+                if (value.indexOf(':') >= 0) {
+                    byte[] bytes = parseIpv6(value);
+                    return new IpAddress(toLong(bytes, 0, 8), toLong(bytes, 8, 8));
+                }
+                if (value.indexOf('.') >= 0) {
+                    return new IpAddress(0, IPV4_MAPPED_PREFIX | toLong(parseIpv4(value), 0, 4));
+                }
+                long ipv4 = parseNumber(value, 0, value.length(), 10, 10);
+                if (ipv4 > 0xffffffffL) {
+                    throw new IllegalArgumentException("Invalid IP address " + ip);
+                }
+                return new IpAddress(0, IPV4_MAPPED_PREFIX | ipv4);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid IP address " + ip, e);
+            }
+        }
+
+        /**
+         * @param value dotted decimal IPv4 literal
+         * @return the four bytes of the address
+         */
+        private static byte[] parseIpv4(String value) {
+            byte[] bytes = new byte[4];
+            int start = 0;
+            for (int i = 0; i < 4; i++) {
+                int end = value.indexOf('.', start);
+                if (end < 0) {
+                    end = value.length();
+                }
+                if ((i < 3) == (end == value.length())) {
+                    throw new IllegalArgumentException("An IPv4 address needs four parts");
+                }
+                long part = parseNumber(value, start, end, 10, 3);
+                if (part > 255) {
+                    throw new IllegalArgumentException("IPv4 address part out of range");
+                }
+                bytes[i] = (byte) part;
+                start = end + 1;
+            }
+            return bytes;
+        }
+
+        /**
+         * @param value IPv6 literal, optionally with one "::" and a trailing IPv4 literal
+         * @return the sixteen bytes of the address
+         */
+        private static byte[] parseIpv6(String value) {
+            int compression = value.indexOf("::");
+            if (compression >= 0 && value.indexOf("::", compression + 1) >= 0) {
+                throw new IllegalArgumentException("An IPv6 address may have only one ::");
+            }
+            List<Integer> head = new ArrayList<>();
+            List<Integer> tail = new ArrayList<>();
+            if (compression < 0) {
+                parseIpv6Groups(value, head);
+                if (head.size() != 8) {
+                    throw new IllegalArgumentException("An IPv6 address needs eight groups");
+                }
+            } else {
+                if (value.lastIndexOf('.', compression) >= 0) {
+                    throw new IllegalArgumentException("An IPv4 part may only end an IPv6 address");
+                }
+                parseIpv6Groups(value.substring(0, compression), head);
+                parseIpv6Groups(value.substring(compression + 2), tail);
+                if (head.size() + tail.size() > 7) {
+                    throw new IllegalArgumentException("An IPv6 address has at most eight groups");
+                }
+            }
+            byte[] bytes = new byte[16];
+            for (int i = 0; i < head.size(); i++) {
+                bytes[2 * i] = (byte) (head.get(i) >>> 8);
+                bytes[2 * i + 1] = (byte) (int) head.get(i);
+            }
+            int offset = 8 - tail.size();
+            for (int i = 0; i < tail.size(); i++) {
+                bytes[2 * (offset + i)] = (byte) (tail.get(i) >>> 8);
+                bytes[2 * (offset + i) + 1] = (byte) (int) tail.get(i);
+            }
+            return bytes;
+        }
+
+        /**
+         * Parse colon separated groups of up to four hex digits, the last of which may be an IPv4 literal.
+         */
+        private static void parseIpv6Groups(String value, List<Integer> groups) {
+            if (value.isEmpty()) {
+                return;
+            }
+            int start = 0;
+            while (true) {
+                int end = value.indexOf(':', start);
+                if (end < 0) {
+                    end = value.length();
+                }
+                if (end == value.length() && value.indexOf('.', start) >= 0) {
+                    byte[] ipv4 = parseIpv4(value.substring(start));
+                    groups.add(((ipv4[0] & 0xff) << 8) | (ipv4[1] & 0xff));
+                    groups.add(((ipv4[2] & 0xff) << 8) | (ipv4[3] & 0xff));
+                    return;
+                }
+                groups.add((int) parseNumber(value, start, end, 16, 4));
+                if (end == value.length()) {
+                    return;
+                }
+                start = end + 1;
+            }
+        }
+
+        /**
+         * @return the non negative number held by the given part of the value
+         */
+        private static long parseNumber(String value, int start, int end, int radix, int maxDigits) {
+            if (start == end || end - start > maxDigits) {
+                throw new IllegalArgumentException("Invalid number of digits");
+            }
+            long number = 0;
+            for (int i = start; i < end; i++) {
+                char c = value.charAt(i);
+                int digit = c < 128 ? Character.digit(c, radix) : -1;
+                if (digit < 0) {
+                    throw new IllegalArgumentException("Invalid digit " + c);
+                }
+                number = number * radix + digit;
+            }
+            return number;
+        }
+
+        private static long toLong(byte[] bytes, int offset, int length) {
+            long value = 0;
+            for (int i = offset; i < offset + length; i++) {
+                value = (value << 8) | (bytes[i] & 0xff);
+            }
+            return value;
+        }
+
+        private static int compare(long high1, long low1, long high2, long low2) {
+            int result = Long.compareUnsigned(high1, high2);
+            return result != 0 ? result : Long.compareUnsigned(low1, low2);
+        }
+
+        /**
+         * @return the address following this one, or this address if it is the last one
+         */
+        private IpAddress next() {
+            if (low != -1L) {
+                return new IpAddress(high, low + 1);
+            }
+            return high != -1L ? new IpAddress(high + 1, 0) : this;
+        }
+
+        @Override
+        public int compareTo(IpAddress other) {
+            return compare(high, low, other.high, other.low);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            IpAddress that = (IpAddress) o;
+            return high == that.high && low == that.low;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Long.hashCode(high) + Long.hashCode(low);
+        }
+    }
+}
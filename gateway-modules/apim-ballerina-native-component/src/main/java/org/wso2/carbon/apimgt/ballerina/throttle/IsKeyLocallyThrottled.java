@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.throttle;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.model.types.TypeEnum;
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.AbstractNativeFunction;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.Attribute;
+import org.ballerinalang.natives.annotations.BallerinaAnnotation;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+
+/**
+ * Native function org.wso2.carbon.apimgt.ballerina.throttle:isKeyLocallyThrottled
+ * This function counts a request against the local limit of a policy and returns the throttle decision. The
+ * throttle key is given by the id returned along with it from the throttle key natives.
+ */
+@BallerinaFunction(
+        packageName = "org.wso2.carbon.apimgt.ballerina.throttle",
+        functionName = "isKeyLocallyThrottled",
+        args = {@Argument(name = "policyName", type = TypeEnum.STRING),
+                @Argument(name = "throttleKeyId", type = TypeEnum.INT)},
+        returnType = {@ReturnType(type = TypeEnum.BOOLEAN)},
+        isPublic = true
+)
+@BallerinaAnnotation(annotationName = "Description", attributes = {@Attribute(name = "value",
+        value = "Check whether the request exceeds the local limit of a throttle policy")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "policyName",
+        value = "Throttle policy name")})
+@BallerinaAnnotation(annotationName = "Param", attributes = {@Attribute(name = "throttleKeyId",
+        value = "Id of the throttle key of the request")})
+@BallerinaAnnotation(annotationName = "Return", attributes = {@Attribute(name = "boolean",
+        value = "true if throttled, false otherwise")})
+public class IsKeyLocallyThrottled extends AbstractNativeFunction {
+    @Override
+    public BValue[] execute(Context context) {
+        String policyName = getStringArgument(context, 0);
+        int throttleKeyId = (int) getIntArgument(context, 0);
+        boolean throttled = LocalThrottler.getInstance().isThrottled(policyName, throttleKeyId);
+        return getBValues(new BBoolean(throttled));
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.throttle;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holder of the local throttle limits and the per key limiters of the gateway. Decisions taken here are made
+ * without a round trip to the traffic manager, which still remains the global reconciler through the
+ * throttle data map. Keys without an id, see {@link ThrottleKeyInterner#NO_ID}, are left to the traffic manager.
+ */
+public final class LocalThrottler {
+    private static final long SWEEP_INTERVAL = TimeUnit.MINUTES.toNanos(1);
+    private static volatile LocalThrottler instance = null;
+
+    private final ConcurrentMap<String, ThrottleLimit> limits = new ConcurrentHashMap<>();
+    private final IndexedTable<KeyLimiter> limiters = new IndexedTable<>();
+    private final AtomicLong lastSweep = new AtomicLong(System.nanoTime());
+    private final ThrottleKeyInterner interner;
+
+    /**
+     * Private local throttler constructor
+     */
+    private LocalThrottler() {
+        this(ThrottleKeyInterner.getInstance());
+    }
+
+    /**
+     * @param interner interner handing out the ids of throttle keys
+     */
+    LocalThrottler(ThrottleKeyInterner interner) {
+        this.interner = interner;
+        // an id is reused once its key is released, so the next key must not inherit its counter
+        interner.addReleaseListener(keyId -> limiters.set(keyId, null));
+    }
+
+    /**
+     * Static method to get local throttler
+     *
+     * @return {@link LocalThrottler} instance
+     */
+    public static LocalThrottler getInstance() {
+        if (instance == null) {
+            synchronized (LocalThrottler.class) {
+                if (instance == null) {
+                    instance = new LocalThrottler();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Add or replace the local limit of a policy. Counters of a replaced policy are reset.
+     *
+     * @param limit {@link ThrottleLimit} to be enforced
+     */
+    public void addLimit(ThrottleLimit limit) {
+        limits.put(limit.getPolicyName(), limit);
+    }
+
+    /**
+     * Remove the local limit of a policy. Its counters are dropped on the next sweep.
+     *
+     * @param policyName name of the throttle policy
+     */
+    public void removeLimit(String policyName) {
+        limits.remove(policyName);
+    }
+
+    /**
+     * Take a permit for the given throttle key id under the given policy. A key is counted under a single policy
+     * at a time, so its counter is reset when the key starts being checked under a different policy or limit.
+     *
+     * @param policyName name of the throttle policy
+     * @param keyId      id of the throttle key as given by {@link ThrottleKeyInterner}
+     * @return true if the request exceeds the local limit, false if it is allowed, the policy has no local limit or
+     * the key has no id
+     */
+    public boolean isThrottled(String policyName, int keyId) {
+        ThrottleLimit limit = limits.get(policyName);
+        if (limit == null || keyId == ThrottleKeyInterner.NO_ID) {
+            return false;
+        }
+        long now = System.nanoTime();
+        KeyLimiter keyLimiter = limiters.get(keyId);
+        while (keyLimiter == null || keyLimiter.limit != limit) {
+            KeyLimiter created = new KeyLimiter(limit, limit.newLimiter(now));
+            // retry until a limiter of this limit is stored, so that every request is counted by the same limiter
+            keyLimiter = limiters.compareAndSet(keyId, keyLimiter, created) ? created : limiters.get(keyId);
+        }
+        boolean throttled = !keyLimiter.limiter.tryAcquire(now);
+        sweepIfDue(now);
+        return throttled;
+    }
+
+    /**
+     * Drop limiters of keys which were idle for longer than the unit time of their policy. A fresh limiter is
+     * equivalent to such a limiter, so this only reclaims memory.
+     *
+     * @param now current time in nanoseconds
+     */
+    void sweep(long now) {
+        int size = limiters.allocatedSize();
+        for (int keyId = 0; keyId < size; keyId++) {
+            KeyLimiter keyLimiter = limiters.get(keyId);
+            if (keyLimiter == null) {
+                continue;
+            }
+            ThrottleLimit limit = keyLimiter.limit;
+            long idleTime = TimeUnit.MILLISECONDS.toNanos(limit.getUnitTime());
+            if (limits.get(limit.getPolicyName()) != limit
+                    || now - keyLimiter.limiter.getLastAccessTime() > idleTime) {
+                limiters.compareAndSet(keyId, keyLimiter, null);
+            }
+        }
+    }
+
+    private void sweepIfDue(long now) {
+        long last = lastSweep.get();
+        if (now - last > SWEEP_INTERVAL && lastSweep.compareAndSet(last, now)) {
+            sweep(now);
+        }
+    }
+
+    /**
+     * Limiter of a throttle key along with the limit it enforces.
+     */
+    private static final class KeyLimiter {
+        private final ThrottleLimit limit;
+        private final RateLimiter limiter;
+
+        private KeyLimiter(ThrottleLimit limit, RateLimiter limiter) {
+            this.limit = limit;
+            this.limiter = limiter;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.throttle;
+
+/**
+ * Local request counter for a single throttle key.
+ */
+public interface RateLimiter {
+
+    /**
+     * Try to take one permit from the limiter.
+     *
+     * @param now current time in nanoseconds as given by {@link System#nanoTime()}
+     * @return true if the request is within the limit, false if it should be throttled
+     */
+    boolean tryAcquire(long now);
+
+    /**
+     * Time of the last permit request.
+     *
+     * @return last access time in nanoseconds
+     */
+    long getLastAccessTime();
+}
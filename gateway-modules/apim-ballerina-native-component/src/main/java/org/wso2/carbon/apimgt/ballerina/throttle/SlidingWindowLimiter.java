@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.throttle;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Sliding window counter. The count of the previous window is weighted by how much of it still overlaps the
+ * sliding window, which approximates a true sliding log without keeping a timestamp per request.
+ */
+public class SlidingWindowLimiter implements RateLimiter {
+    private final long limit;
+    private final long unitTime;
+    private final AtomicReference<Window> window;
+    private volatile long lastAccessTime;
+
+    /**
+     * @param limit          number of requests allowed within the unit time
+     * @param unitTimeMillis unit time in milliseconds
+     * @param now            creation time in nanoseconds
+     */
+    public SlidingWindowLimiter(long limit, long unitTimeMillis, long now) {
+        this.limit = limit;
+        this.unitTime = unitTimeMillis * 1000000L;
+        this.window = new AtomicReference<>(new Window(now, 0));
+        this.lastAccessTime = now;
+    }
+
+    @Override
+    public boolean tryAcquire(long now) {
+        lastAccessTime = now;
+        Window current = currentWindow(now);
+        double previousWeight = 1.0 - (double) (now - current.start) / unitTime;
+        long weightedPrevious = (long) (current.previousCount * previousWeight);
+        while (true) {
+            long count = current.count.get();
+            if (weightedPrevious + count >= limit) {
+                return false;
+            }
+            if (current.count.compareAndSet(count, count + 1)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public long getLastAccessTime() {
+        return lastAccessTime;
+    }
+
+    private Window currentWindow(long now) {
+        while (true) {
+            Window current = window.get();
+            long elapsed = now - current.start;
+            if (elapsed < unitTime) {
+                return current;
+            }
+            Window next;
+            if (elapsed < 2 * unitTime) {
+                next = new Window(current.start + unitTime, current.count.get());
+            } else {
+                // Idle for more than a full window, nothing from the past overlaps
+                next = new Window(now - (elapsed % unitTime), 0);
+            }
+            if (window.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Fixed window bucket along with the final count of the window before it.
+     */
+    private static final class Window {
+        private final long start;
+        private final long previousCount;
+        private final AtomicLong count = new AtomicLong();
+
+        private Window(long start, long previousCount) {
+            this.start = start;
+            this.previousCount = previousCount;
+        }
+    }
+}
@@ -0,0 +1,349 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.throttle;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Maps throttle keys to dense int ids. Keys are resolved from their parts through a small tree of component
+ * maps, so the canonical key string is built only when the key is given an id, instead of being concatenated and
+ * hashed on every request.
+ * <p>
+ * Keys which are not used for longer than the idle time are released, and their ids are handed out again to new
+ * keys. Listeners are told about released ids, so that state kept against an id is not inherited by the next key
+ * that gets it. If every id is in use, the key gets {@link #NO_ID} and is throttled only by the global throttler
+ * until an id becomes free.
+ * <p>
+ * Looking up a known key is lock free. Assigning and releasing ids is done under the interner lock, where the tree
+ * is also pruned, so every key is held by exactly one attached node. A key is marked as released before its last
+ * access time is checked for the last time, while a lookup updates the last access time before it checks the
+ * mark, so a key which is in use is never released.
+ */
+public final class ThrottleKeyInterner {
+    public static final int NO_ID = -1;
+    static final long DEFAULT_IDLE_TIME = TimeUnit.HOURS.toNanos(1);
+    private static final long SWEEP_INTERVAL = TimeUnit.MINUTES.toNanos(1);
+    private static final Logger log = LoggerFactory.getLogger(ThrottleKeyInterner.class);
+    private static volatile ThrottleKeyInterner instance = null;
+
+    private final IndexedTable<ThrottleKey> keys = new IndexedTable<>();
+    private final Deque<Integer> freeIds = new ArrayDeque<>();
+    private final List<IntConsumer> releaseListeners = new CopyOnWriteArrayList<>();
+    private final AtomicLong lastSweep = new AtomicLong(System.nanoTime());
+    private final AtomicLong exhaustedCount = new AtomicLong();
+    private final int capacity;
+    private final long idleTime;
+    private int nextId;
+    private volatile int size;
+    private long lastExhaustedLog;
+    private final Node apiKeys = new Node(null, null);
+    private final Node subscriptionKeys = new Node(null, null);
+    private final Node resourceKeys = new Node(null, null);
+    private final Node applicationKeys = new Node(null, null);
+
+    /**
+     * Private key interner constructor
+     */
+    private ThrottleKeyInterner() {
+        this(IndexedTable.CAPACITY, DEFAULT_IDLE_TIME);
+    }
+
+    /**
+     * @param capacity maximum number of ids in use at a time, at most {@link IndexedTable#CAPACITY}
+     * @param idleTime time in nanoseconds after which an unused key is released
+     */
+    ThrottleKeyInterner(int capacity, long idleTime) {
+        this.capacity = Math.min(capacity, IndexedTable.CAPACITY);
+        this.idleTime = idleTime;
+    }
+
+    /**
+     * Static method to get key interner
+     *
+     * @return {@link ThrottleKeyInterner} instance
+     */
+    public static ThrottleKeyInterner getInstance() {
+        if (instance == null) {
+            synchronized (ThrottleKeyInterner.class) {
+                if (instance == null) {
+                    instance = new ThrottleKeyInterner();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * @param id id of a throttle key
+     * @return the throttle key or null if the id is not assigned
+     */
+    public String getKey(int id) {
+        ThrottleKey throttleKey = id < 0 ? null : keys.get(id);
+        return throttleKey == null ? null : throttleKey.key;
+    }
+
+    /**
+     * Register a listener to be called with the id of every released key, before the id is given to another key.
+     *
+     * @param listener listener of released ids
+     */
+    public void addReleaseListener(IntConsumer listener) {
+        releaseListeners.add(listener);
+    }
+
+    /**
+     * @return number of keys which did not get an id because every id was in use
+     */
+    public long getExhaustedCount() {
+        return exhaustedCount.get();
+    }
+
+    /**
+     * @return number of keys holding an id
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * API level throttle key {apiContext}:{apiVersion}
+     */
+    public ThrottleKey internApiKey(String apiContext, String apiVersion) {
+        return apiKeys.child(apiContext).child(apiVersion).resolve(() -> apiContext + ":" + apiVersion);
+    }
+
+    /**
+     * Subscription level throttle key {applicationId}:{apiContext}:{apiVersion}
+     */
+    public ThrottleKey internSubscriptionKey(String applicationId, String apiContext, String apiVersion) {
+        return subscriptionKeys.child(applicationId).child(apiContext).child(apiVersion)
+                .resolve(() -> applicationId + ":" + apiContext + ":" + apiVersion);
+    }
+
+    /**
+     * Resource level throttle key {apiContext}/{apiVersion}{resourceUri}:{httpMethod}
+     */
+    public ThrottleKey internResourceKey(String apiContext, String apiVersion, String resourceUri,
+                                         String httpMethod) {
+        return resourceKeys.child(apiContext).child(apiVersion).child(resourceUri).child(httpMethod)
+                .resolve(() -> apiContext + "/" + apiVersion + resourceUri + ":" + httpMethod);
+    }
+
+    /**
+     * Application level throttle key {applicationId}:{authorizedUser}
+     */
+    public ThrottleKey internApplicationKey(String applicationId, String user) {
+        return applicationKeys.child(applicationId).child(user).resolve(() -> applicationId + ":" + user);
+    }
+
+    /**
+     * Release keys which were not used for longer than the idle time, making their ids available to new keys.
+     *
+     * @param now current time in nanoseconds
+     */
+    synchronized void sweep(long now) {
+        int allocated = keys.allocatedSize();
+        for (int id = 0; id < allocated; id++) {
+            ThrottleKey throttleKey = keys.get(id);
+            if (throttleKey == null || now - throttleKey.lastAccessTime <= idleTime) {
+                continue;
+            }
+            throttleKey.released = true;
+            if (now - throttleKey.lastAccessTime <= idleTime) {
+                // used while being released
+                throttleKey.released = false;
+                continue;
+            }
+            keys.set(id, null);
+            throttleKey.node.prune(throttleKey);
+            size--;
+            for (IntConsumer listener : releaseListeners) {
+                listener.accept(id);
+            }
+            freeIds.push(id);
+        }
+    }
+
+    private synchronized ThrottleKey assign(Node lookupNode, Supplier<String> value, long now) {
+        // the node may have been pruned after the lookup reached it
+        Node node = lookupNode.attached();
+        ThrottleKey throttleKey = node.key;
+        if (throttleKey != null) {
+            // keys are only released under this lock, so a key held by an attached node is in use
+            throttleKey.lastAccessTime = now;
+            return throttleKey;
+        }
+        int id = nextFreeId();
+        if (id == NO_ID) {
+            sweep(now);
+            id = nextFreeId();
+        }
+        String key = value.get();
+        if (id == NO_ID) {
+            onExhausted(key, now);
+            // not held by the node, so that the key is retried once an id becomes free
+            ThrottleKey unassigned = new ThrottleKey(NO_ID, key, null, now);
+            unassigned.released = true;
+            return unassigned;
+        }
+        throttleKey = new ThrottleKey(id, key, node, now);
+        keys.set(id, throttleKey);
+        node.key = throttleKey;
+        size++;
+        return throttleKey;
+    }
+
+    private int nextFreeId() {
+        Integer freeId = freeIds.poll();
+        if (freeId != null) {
+            return freeId;
+        }
+        return nextId < capacity ? nextId++ : NO_ID;
+    }
+
+    private void onExhausted(String key, long now) {
+        long count = exhaustedCount.incrementAndGet();
+        if (count == 1 || now - lastExhaustedLog > SWEEP_INTERVAL) {
+            lastExhaustedLog = now;
+            log.warn("All " + capacity + " throttle key ids are in use. New keys are throttled only by the global "
+                    + "throttler until an idle key is released. Keys without an id so far: " + count);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("No throttle key id left for key " + key);
+        }
+    }
+
+    private void sweepIfDue(long now) {
+        long last = lastSweep.get();
+        if (now - last > SWEEP_INTERVAL && lastSweep.compareAndSet(last, now)) {
+            sweep(now);
+        }
+    }
+
+    /**
+     * Interned throttle key along with its id.
+     */
+    public static final class ThrottleKey {
+        private final int id;
+        private final String key;
+        private final Node node;
+        private volatile long lastAccessTime;
+        private volatile boolean released;
+
+        private ThrottleKey(int id, String key, Node node, long now) {
+            this.id = id;
+            this.key = key;
+            this.node = node;
+            this.lastAccessTime = now;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * Record an access of the key.
+         *
+         * @param now current time in nanoseconds
+         * @return false if the key has been released and has to be assigned again
+         */
+        private boolean touch(long now) {
+            lastAccessTime = now;
+            return !released;
+        }
+    }
+
+    /**
+     * A component of a throttle key along with the key ending at it.
+     */
+    private final class Node {
+        private final Node parent;
+        private final String component;
+        private final ConcurrentMap<String, Node> children = new ConcurrentHashMap<>();
+        private volatile ThrottleKey key;
+
+        private Node(Node parent, String component) {
+            this.parent = parent;
+            this.component = component;
+        }
+
+        private Node child(String component) {
+            Node child = children.get(component);
+            if (child == null) {
+                child = children.computeIfAbsent(component, k -> new Node(this, k));
+            }
+            return child;
+        }
+
+        private ThrottleKey resolve(Supplier<String> value) {
+            long now = System.nanoTime();
+            ThrottleKey resolved = key;
+            if (resolved == null || !resolved.touch(now)) {
+                resolved = assign(this, value, now);
+            }
+            sweepIfDue(now);
+            return resolved;
+        }
+
+        /**
+         * @return the node of the tree for the same components, which is this node unless it has been pruned.
+         * Must be called under the interner lock.
+         */
+        private Node attached() {
+            if (parent == null) {
+                return this;
+            }
+            Node attachedParent = parent.attached();
+            Node child = attachedParent.children.get(component);
+            return child == this ? this : attachedParent.child(component);
+        }
+
+        /**
+         * Drop the released key from this node, and the nodes left without a key or children from the tree. Must
+         * be called under the interner lock. A lookup racing with the removal may reach a detached node, which only
+         * costs it a call to {@link #assign}, where the key is resolved through the attached node.
+         */
+        private void prune(ThrottleKey released) {
+            if (key == released) {
+                key = null;
+            }
+            Node node = this;
+            while (node.parent != null && node.key == null && node.children.isEmpty()) {
+                node.parent.children.remove(node.component, node);
+                node = node.parent;
+            }
+        }
+    }
+}
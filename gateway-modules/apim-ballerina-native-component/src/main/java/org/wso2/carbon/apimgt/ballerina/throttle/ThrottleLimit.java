@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.throttle;
+
+/**
+ * Request count limit of a throttle policy as enforced locally by the gateway.
+ */
+public final class ThrottleLimit {
+    public static final String TOKEN_BUCKET = "tokenBucket";
+    public static final String SLIDING_WINDOW = "slidingWindow";
+
+    private final String policyName;
+    private final String algorithm;
+    private final long requestCount;
+    private final long unitTime;
+
+    /**
+     * @param policyName   name of the throttle policy
+     * @param algorithm    {@link #TOKEN_BUCKET} or {@link #SLIDING_WINDOW}
+     * @param requestCount number of requests allowed within the unit time
+     * @param unitTime     unit time in milliseconds
+     */
+    public ThrottleLimit(String policyName, String algorithm, long requestCount, long unitTime) {
+        this.policyName = policyName;
+        this.algorithm = SLIDING_WINDOW.equals(algorithm) ? SLIDING_WINDOW : TOKEN_BUCKET;
+        this.requestCount = requestCount;
+        this.unitTime = unitTime;
+    }
+
+    public String getPolicyName() {
+        return policyName;
+    }
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    public long getUnitTime() {
+        return unitTime;
+    }
+
+    /**
+     * Create a new limiter enforcing this limit.
+     *
+     * @param now creation time in nanoseconds
+     * @return {@link RateLimiter} for a single throttle key
+     */
+    RateLimiter newLimiter(long now) {
+        if (SLIDING_WINDOW.equals(algorithm)) {
+            return new SlidingWindowLimiter(requestCount, unitTime, now);
+        }
+        return new TokenBucketLimiter(requestCount, unitTime, now);
+    }
+}
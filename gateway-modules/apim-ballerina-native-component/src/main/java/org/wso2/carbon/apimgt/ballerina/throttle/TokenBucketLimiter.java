@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.throttle;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket implemented as a generic cell rate algorithm. The whole bucket state is a single
+ * theoretical arrival time, so a permit is taken with one compare and set and no locking.
+ */
+public class TokenBucketLimiter implements RateLimiter {
+    private final long emissionInterval;
+    private final long burstTolerance;
+    private final AtomicLong theoreticalArrivalTime;
+    private volatile long lastAccessTime;
+
+    /**
+     * @param limit          number of requests allowed within the unit time
+     * @param unitTimeMillis unit time in milliseconds
+     * @param now            creation time in nanoseconds
+     */
+    public TokenBucketLimiter(long limit, long unitTimeMillis, long now) {
+        long unitTime = unitTimeMillis * 1000000L;
+        this.emissionInterval = Math.max(1L, unitTime / limit);
+        this.burstTolerance = unitTime - emissionInterval;
+        this.theoreticalArrivalTime = new AtomicLong(now);
+        this.lastAccessTime = now;
+    }
+
+    @Override
+    public boolean tryAcquire(long now) {
+        lastAccessTime = now;
+        while (true) {
+            long tat = theoreticalArrivalTime.get();
+            long base = tat - now > 0 ? tat : now;
+            if (base - now > burstTolerance) {
+                return false;
+            }
+            if (theoreticalArrivalTime.compareAndSet(tat, base + emissionInterval)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public long getLastAccessTime() {
+        return lastAccessTime;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.auth;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Test class for the key manager client
+ */
+public class KeyManagerClientTestCase {
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeClass
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/active/", exchange -> respond(exchange, 200, "{\"active\": true}"));
+        server.createContext("/unauthorized/", exchange -> respond(exchange, 401, "{\"error\": \"invalid_client\"}"));
+        server.createContext("/forbidden/", exchange -> respond(exchange, 403, ""));
+        server.createContext("/error/", exchange -> respond(exchange, 500, "error"));
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterClass
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testIntrospect() throws Exception {
+        Assert.assertTrue(KeyManagerClient.introspect(baseUrl + "/active", "admin", "admin", "token")
+                .path("active").asBoolean());
+    }
+
+    @Test
+    public void testAuthenticationFailuresAreReported() throws Exception {
+        for (String endpoint : new String[]{"/unauthorized", "/forbidden"}) {
+            try {
+                KeyManagerClient.introspect(baseUrl + endpoint, "admin", "wrong", "token");
+                Assert.fail("Authentication failure was not reported for " + endpoint);
+            } catch (KeyManagerAuthenticationException e) {
+                Assert.assertTrue(e.getMessage().contains(endpoint), e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void testServerErrorsAreNotAuthenticationFailures() throws Exception {
+        try {
+            KeyManagerClient.introspect(baseUrl + "/error", "admin", "admin", "token");
+            Assert.fail("Server error was not reported");
+        } catch (IOException e) {
+            Assert.assertFalse(e instanceof KeyManagerAuthenticationException);
+        }
+    }
+
+    @Test
+    public void testRejectedIntrospectionIsNotCached() throws Exception {
+        TokenValidationCache cache = new TokenValidationCache(60000, 60000, 10000);
+        try {
+            cache.validate("token",
+                    token -> KeyManagerClient.introspect(baseUrl + "/unauthorized", "admin", "wrong", token));
+            Assert.fail("Rejected credentials were reported as an introspection response");
+        } catch (KeyManagerAuthenticationException e) {
+            Assert.assertEquals(cache.size(), 0);
+        }
+        Assert.assertTrue(cache.validate("token",
+                token -> KeyManagerClient.introspect(baseUrl + "/active", "admin", "admin", token))
+                .path("active").asBoolean());
+    }
+
+    @Test(expectedExceptions = IOException.class)
+    public void testMissingTrustStoreIsReported() throws Exception {
+        KeyManagerClient.createSslSocketFactory("non-existent-truststore.jks", null);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body)
+            throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test class for the token validation cache
+ */
+public class TokenValidationCacheTestCase {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    public void testConcurrentValidationsAreCoalesced() throws Exception {
+        TokenValidationCache cache = new TokenValidationCache(1000, 60000, 10000);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        TokenValidationCache.Introspector introspector = token -> {
+            calls.incrementAndGet();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return activeToken(System.currentTimeMillis() / 1000 + 3600);
+        };
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<JsonNode>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> cache.validate("token", introspector)));
+        }
+        // let the waiters pile up on the in flight introspection
+        Thread.sleep(200);
+        release.countDown();
+        for (Future<JsonNode> result : results) {
+            Assert.assertTrue(result.get(10, TimeUnit.SECONDS).path("active").asBoolean());
+        }
+        executor.shutdown();
+        Assert.assertEquals(calls.get(), 1);
+    }
+
+    @Test
+    public void testInactiveTokensAreCachedForNegativeTtl() throws Exception {
+        TokenValidationCache cache = new TokenValidationCache(100, 60000, 10000);
+        AtomicInteger calls = new AtomicInteger();
+        TokenValidationCache.Introspector introspector = token -> {
+            calls.incrementAndGet();
+            return MAPPER.readTree("{\"active\": false}");
+        };
+
+        Assert.assertFalse(cache.validate("invalid", introspector).path("active").asBoolean());
+        Assert.assertFalse(cache.validate("invalid", introspector).path("active").asBoolean());
+        Assert.assertEquals(calls.get(), 1);
+
+        Thread.sleep(150);
+        cache.validate("invalid", introspector);
+        Assert.assertEquals(calls.get(), 2);
+    }
+
+    @Test
+    public void testActiveTokensExpireWithToken() throws Exception {
+        TokenValidationCache cache = new TokenValidationCache(1000, 60000, 10000);
+        AtomicInteger calls = new AtomicInteger();
+        long now = System.currentTimeMillis() / 1000;
+
+        cache.validate("valid", token -> {
+            calls.incrementAndGet();
+            return activeToken(now + 3600);
+        });
+        cache.validate("valid", token -> {
+            calls.incrementAndGet();
+            return activeToken(now + 3600);
+        });
+        Assert.assertEquals(calls.get(), 1);
+
+        // an already expired token is introspected again on the next validation
+        cache.validate("expired", token -> {
+            calls.incrementAndGet();
+            return activeToken(now - 1);
+        });
+        cache.validate("expired", token -> {
+            calls.incrementAndGet();
+            return activeToken(now - 1);
+        });
+        Assert.assertEquals(calls.get(), 3);
+    }
+
+    @Test
+    public void testFailuresAreNotCached() throws Exception {
+        TokenValidationCache cache = new TokenValidationCache(1000, 60000, 10000);
+        try {
+            cache.validate("token", token -> {
+                throw new IOException("key manager unavailable");
+            });
+            Assert.fail("Introspection failure was not propagated");
+        } catch (IOException e) {
+            Assert.assertEquals(e.getMessage(), "key manager unavailable");
+        }
+        Assert.assertEquals(cache.size(), 0);
+        Assert.assertTrue(cache.validate("token", token -> activeToken(0)).path("active").asBoolean());
+    }
+
+    @Test
+    public void testInvalidate() throws Exception {
+        TokenValidationCache cache = new TokenValidationCache(1000, 60000, 10000);
+        AtomicInteger calls = new AtomicInteger();
+        TokenValidationCache.Introspector introspector = token -> {
+            calls.incrementAndGet();
+            return activeToken(System.currentTimeMillis() / 1000 + 3600);
+        };
+        cache.validate("token", introspector);
+        cache.invalidate("token");
+        cache.validate("token", introspector);
+        Assert.assertEquals(calls.get(), 2);
+    }
+
+    @Test
+    public void testInactiveTokensAreBounded() throws Exception {
+        TokenValidationCache cache = new TokenValidationCache(60000, 60000, 10000, 100, 10);
+        AtomicInteger calls = new AtomicInteger();
+        TokenValidationCache.Introspector introspector = token -> {
+            calls.incrementAndGet();
+            return MAPPER.readTree("{\"active\": false}");
+        };
+        for (int i = 0; i < 1000; i++) {
+            cache.validate("invalid" + i, introspector);
+        }
+        Assert.assertEquals(calls.get(), 1000);
+        Assert.assertTrue(cache.size() <= 10, "Inactive tokens exceeded the cache bound: " + cache.size());
+    }
+
+    @Test
+    public void testInactiveTokensDoNotEvictActiveTokens() throws Exception {
+        TokenValidationCache cache = new TokenValidationCache(60000, 60000, 10000, 100, 10);
+        AtomicInteger calls = new AtomicInteger();
+        long exp = System.currentTimeMillis() / 1000 + 3600;
+        cache.validate("valid", token -> {
+            calls.incrementAndGet();
+            return activeToken(exp);
+        });
+        for (int i = 0; i < 1000; i++) {
+            cache.validate("invalid" + i, token -> MAPPER.readTree("{\"active\": false}"));
+        }
+        cache.validate("valid", token -> {
+            calls.incrementAndGet();
+            return activeToken(exp);
+        });
+        Assert.assertEquals(calls.get(), 1);
+    }
+
+    @Test
+    public void testActiveTokensAreBounded() throws Exception {
+        TokenValidationCache cache = new TokenValidationCache(60000, 60000, 10000, 10, 10);
+        long exp = System.currentTimeMillis() / 1000 + 3600;
+        for (int i = 0; i < 1000; i++) {
+            cache.validate("valid" + i, token -> activeToken(exp));
+        }
+        Assert.assertTrue(cache.size() <= 10, "Active tokens exceeded the cache bound: " + cache.size());
+    }
+
+    @Test
+    public void testTokensAreKeyedByHash() throws Exception {
+        String hash = TokenValidationCache.hash("token");
+        Assert.assertEquals(hash, TokenValidationCache.hash("token"));
+        Assert.assertNotEquals(hash, TokenValidationCache.hash("token2"));
+        Assert.assertFalse(hash.contains("token"));
+    }
+
+    private static JsonNode activeToken(long exp) throws IOException {
+        return MAPPER.readTree("{\"active\": true, \"exp\": " + exp + ", \"client_id\": \"client\"}");
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.caching;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test class for the W-TinyLFU cache backing the gateway caches
+ */
+public class TinyLfuCacheTestCase {
+
+    @Test
+    public void testSizeIsBounded() {
+        TinyLfuCache<String> cache = new TinyLfuCache<>(100, 15, TimeUnit.MINUTES);
+        for (int i = 0; i < 10000; i++) {
+            cache.put("token" + i, "value" + i);
+        }
+        Assert.assertEquals(cache.size(), 100);
+        Assert.assertEquals(cache.getWeightedSize(), 100);
+        Assert.assertEquals(cache.getEvictionCount(), 9900);
+    }
+
+    @Test
+    public void testFrequentEntriesSurviveScan() {
+        TinyLfuCache<String> cache = new TinyLfuCache<>(100, 15, TimeUnit.MINUTES);
+        for (int i = 0; i < 50; i++) {
+            cache.put("hot" + i, "value" + i);
+        }
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 50; i++) {
+                cache.get("hot" + i);
+            }
+        }
+        // a burst of one time keys, such as new tokens, should not flush out the entries in regular use
+        for (int i = 0; i < 10000; i++) {
+            cache.put("cold" + i, "value" + i);
+        }
+        int hot = 0;
+        for (int i = 0; i < 50; i++) {
+            if (cache.get("hot" + i) != null) {
+                hot++;
+            }
+        }
+        Assert.assertTrue(hot >= 45, "Only " + hot + " frequently used entries were retained");
+        Assert.assertTrue(cache.size() <= 100);
+    }
+
+    @Test
+    public void testWeightedSizeIsBounded() {
+        TinyLfuCache<String> cache = new TinyLfuCache<>(1000, String::length, 15, TimeUnit.MINUTES);
+        for (int i = 0; i < 1000; i++) {
+            cache.put("key" + i, "0123456789");
+        }
+        Assert.assertTrue(cache.getWeightedSize() <= 1000);
+        Assert.assertEquals(cache.getWeightedSize(), cache.size() * 10L);
+    }
+
+    @Test
+    public void testStatistics() {
+        TinyLfuCache<String> cache = new TinyLfuCache<>(10, 15, TimeUnit.MINUTES);
+        cache.put("key", "value");
+        Assert.assertEquals(cache.get("key"), "value");
+        Assert.assertEquals(cache.get("key"), "value");
+        Assert.assertNull(cache.get("missing"));
+        Assert.assertEquals(cache.getHitCount(), 2);
+        Assert.assertEquals(cache.getMissCount(), 1);
+
+        cache.put("key", "updated");
+        Assert.assertEquals(cache.get("key"), "updated");
+        cache.remove("key");
+        Assert.assertNull(cache.get("key"));
+        Assert.assertEquals(cache.size(), 0);
+        Assert.assertEquals(cache.getEvictionCount(), 0);
+    }
+
+    @Test
+    public void testExpiryAfterAccess() throws InterruptedException {
+        TinyLfuCache<String> cache = new TinyLfuCache<>(10, 100, TimeUnit.MILLISECONDS);
+        cache.put("key", "value");
+        Thread.sleep(150);
+        Assert.assertNull(cache.get("key"));
+        Assert.assertEquals(cache.size(), 0);
+        Assert.assertEquals(cache.getEvictionCount(), 1);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.routing;
+
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.codegen.ProgramFile;
+import org.ballerinalang.util.program.BLangFunctions;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.apimgt.ballerina.caching.util.BTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test class for the URI template trie and the resource routing natives
+ */
+public class ResourceRouteTestCase {
+    private ProgramFile bLangProgram;
+
+    @BeforeClass
+    public void setup() {
+        bLangProgram = BTestUtils.parseBalFile("samples/routing/resourceRouteTest.bal");
+    }
+
+    @Test
+    public void testLiteralBeforeParameter() {
+        UriTemplateTrie trie = build("GET /pets/{id}", "GET /pets/mine", "GET /pets", "GET /pets/{id}/photos");
+        Assert.assertEquals(trie.match("/pets/mine", "GET"), "/pets/mine");
+        Assert.assertEquals(trie.match("/pets/10", "GET"), "/pets/{id}");
+        Assert.assertEquals(trie.match("/pets/", "GET"), "/pets");
+        Assert.assertEquals(trie.match("/pets/mine/photos", "GET"), "/pets/{id}/photos");
+        Assert.assertNull(trie.match("/pets/10/owners", "GET"));
+        Assert.assertNull(trie.match("/", "GET"));
+    }
+
+    @Test
+    public void testVerbDispatch() {
+        UriTemplateTrie trie = build("GET /pets/mine", "DELETE /pets/{id}", "post /pets");
+        Assert.assertEquals(trie.match("/pets/mine", "DELETE"), "/pets/{id}");
+        Assert.assertEquals(trie.match("/pets", "POST"), "/pets");
+        Assert.assertNull(trie.match("/pets", "GET"));
+    }
+
+    @Test
+    public void testQueryAndFragmentIgnored() {
+        UriTemplateTrie trie = build("GET /pets/{id}?fields={fields}", "GET /");
+        Assert.assertEquals(trie.match("/pets/10?fields=name/tag", "GET"), "/pets/{id}?fields={fields}");
+        Assert.assertEquals(trie.match("/pets/10#name", "GET"), "/pets/{id}?fields={fields}");
+        Assert.assertEquals(trie.match("", "GET"), "/");
+        Assert.assertEquals(trie.match("/?status=sold", "GET"), "/");
+    }
+
+    @Test
+    public void testMixedSegments() {
+        UriTemplateTrie trie = build("GET /files/{name}.{extension}", "GET /files/{name}.json", "GET /files/{id}");
+        Assert.assertEquals(trie.match("/files/report.json", "GET"), "/files/{name}.json");
+        Assert.assertEquals(trie.match("/files/report.xml", "GET"), "/files/{name}.{extension}");
+        Assert.assertEquals(trie.match("/files/report", "GET"), "/files/{id}");
+        Assert.assertEquals(trie.match("/files/.json", "GET"), "/files/{id}");
+    }
+
+    @Test
+    public void testWildcards() {
+        UriTemplateTrie trie = build("GET /*", "GET /pets/{id}", "GET /docs/{+path}", "PUT /store/{path*}");
+        Assert.assertEquals(trie.match("/pets/10", "GET"), "/pets/{id}");
+        Assert.assertEquals(trie.match("/pets/10/photos", "GET"), "/*");
+        Assert.assertEquals(trie.match("/docs/api/index.html", "GET"), "/docs/{+path}");
+        Assert.assertEquals(trie.match("/docs", "GET"), "/docs/{+path}");
+        Assert.assertEquals(trie.match("/", "GET"), "/*");
+        Assert.assertEquals(trie.match("/store/a/b", "PUT"), "/store/{path*}");
+        Assert.assertNull(trie.match("/store/a/b", "POST"));
+    }
+
+    @Test
+    public void testInvalidTemplates() {
+        String[] templates = {"/pets/{id", "/pets/id}", "/pets/{a}{b}", "/*/pets", "/pets/x{+path}"};
+        for (String template : templates) {
+            try {
+                new UriTemplateTrie.Route(template, "GET");
+                Assert.fail("Invalid URI template accepted: " + template);
+            } catch (IllegalArgumentException e) {
+                Assert.assertTrue(e.getMessage().contains(template));
+            }
+        }
+    }
+
+    @Test
+    public void testRouterRecompilesChangedApi() {
+        ResourceRouter router = ResourceRouter.getInstance();
+        router.addRoute("/store:1.0.0", "/orders/{id}", "GET");
+        router.addRoute("/users:1.0.0", "/users/{id}", "GET");
+        Assert.assertEquals(router.match("/store:1.0.0", "/orders/1", "GET"), "/orders/{id}");
+        router.addRoute("/store:1.0.0", "/orders/latest", "GET");
+        Assert.assertEquals(router.match("/store:1.0.0", "/orders/latest", "GET"), "/orders/latest");
+        router.removeRoutes("/store:1.0.0");
+        Assert.assertNull(router.match("/store:1.0.0", "/orders/1", "GET"));
+        Assert.assertEquals(router.match("/users:1.0.0", "/users/1", "GET"), "/users/{id}");
+        router.removeRoutes("/users:1.0.0");
+    }
+
+    @Test
+    public void testResourceRoutingNatives() {
+        BValue[] returns = BLangFunctions.invokeNew(bLangProgram, "testResourceRouting", new BValue[] {});
+        Assert.assertTrue(returns[0] instanceof BBoolean);
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+    }
+
+    private static UriTemplateTrie build(String... resources) {
+        List<UriTemplateTrie.Route> routes = new ArrayList<>();
+        for (String resource : resources) {
+            String[] verbAndTemplate = resource.split(" ");
+            routes.add(new UriTemplateTrie.Route(verbAndTemplate[1], verbAndTemplate[0]));
+        }
+        return UriTemplateTrie.build(routes);
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.threatprotection;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.ballerinalang.model.values.BJSON;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.codegen.ProgramFile;
+import org.ballerinalang.util.program.BLangFunctions;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.apimgt.ballerina.caching.util.BTestUtils;
+import org.wso2.carbon.apimgt.ballerina.threatprotection.analyzer.APIMThreatAnalyzer;
+import org.wso2.carbon.apimgt.ballerina.threatprotection.analyzer.JSONAnalyzer;
+import org.wso2.carbon.apimgt.ballerina.threatprotection.configurations.ConfigurationHolder;
+import org.wso2.carbon.apimgt.ballerina.threatprotection.configurations.JSONConfig;
+
+/**
+ * Test class for the per policy analyzer pools
+ */
+public class AnalyzerHolderTestCase {
+    private static final String CONTENT_TYPE = "application/json";
+    private static final String GLOBAL_POLICY = "GLOBAL-JSON";
+
+    @AfterMethod
+    public void cleanup() {
+        for (String policyId : new String[]{"policy-1", "policy-2", GLOBAL_POLICY}) {
+            ConfigurationHolder.removeJsonConfig(policyId);
+            AnalyzerHolder.invalidateJsonAnalyzers(policyId);
+        }
+    }
+
+    @Test
+    public void testAnalyzersArePooledPerPolicy() {
+        JSONConfig config1 = addConfig("policy-1");
+        JSONConfig config2 = addConfig("policy-2");
+
+        JSONAnalyzer analyzer1 = (JSONAnalyzer) AnalyzerHolder.getAnalyzer(CONTENT_TYPE, "policy-1");
+        JSONAnalyzer analyzer2 = (JSONAnalyzer) AnalyzerHolder.getAnalyzer(CONTENT_TYPE, "policy-2");
+        Assert.assertEquals(analyzer1.getPolicyId(), "policy-1");
+        Assert.assertSame(analyzer1.getConfig(), config1);
+        Assert.assertEquals(analyzer2.getPolicyId(), "policy-2");
+        Assert.assertSame(analyzer2.getConfig(), config2);
+
+        AnalyzerHolder.returnObject(analyzer1);
+        AnalyzerHolder.returnObject(analyzer2);
+        Assert.assertSame(AnalyzerHolder.getAnalyzer(CONTENT_TYPE, "policy-1"), analyzer1);
+        Assert.assertSame(AnalyzerHolder.getAnalyzer(CONTENT_TYPE, "policy-2"), analyzer2);
+        AnalyzerHolder.returnObject(analyzer1);
+        AnalyzerHolder.returnObject(analyzer2);
+    }
+
+    @Test
+    public void testUnknownPolicyUsesGlobalPolicy() {
+        Assert.assertNull(AnalyzerHolder.getAnalyzer(CONTENT_TYPE, "policy-1"));
+        addConfig(GLOBAL_POLICY);
+        JSONAnalyzer analyzer = (JSONAnalyzer) AnalyzerHolder.getAnalyzer(CONTENT_TYPE, "policy-1");
+        Assert.assertEquals(analyzer.getPolicyId(), GLOBAL_POLICY);
+        AnalyzerHolder.returnObject(analyzer);
+    }
+
+    @Test
+    public void testAnalyzerOfUpdatedPolicyIsDroppedOnReturn() {
+        addConfig("policy-1");
+        APIMThreatAnalyzer borrowed = AnalyzerHolder.getAnalyzer(CONTENT_TYPE, "policy-1");
+        APIMThreatAnalyzer idle = AnalyzerHolder.getAnalyzer(CONTENT_TYPE, "policy-1");
+        AnalyzerHolder.returnObject(idle);
+
+        JSONConfig updated = addConfig("policy-1");
+        AnalyzerHolder.invalidateJsonAnalyzers("policy-1");
+        // borrowed while the policy was updated, so it fails validation on return
+        AnalyzerHolder.returnObject(borrowed);
+
+        JSONAnalyzer analyzer = (JSONAnalyzer) AnalyzerHolder.getAnalyzer(CONTENT_TYPE, "policy-1");
+        Assert.assertNotSame(analyzer, borrowed);
+        Assert.assertNotSame(analyzer, idle);
+        Assert.assertSame(analyzer.getConfig(), updated);
+        AnalyzerHolder.returnObject(analyzer);
+    }
+
+    @Test
+    public void testAnalyzerOfDeletedPolicyIsDroppedOnReturn() throws Exception {
+        addConfig("policy-1");
+        APIMThreatAnalyzer borrowed = AnalyzerHolder.getAnalyzer(CONTENT_TYPE, "policy-1");
+
+        ConfigurationHolder.removeJsonConfig("policy-1");
+        AnalyzerHolder.invalidateJsonAnalyzers("policy-1");
+        AnalyzerHolder.returnObject(borrowed);
+
+        Assert.assertNull(AnalyzerHolder.getAnalyzer(CONTENT_TYPE, "policy-1"));
+        Assert.assertFalse(readPoolMetrics(AnalyzerHolder.getPoolMetrics()).path("json").has("policy-1"));
+    }
+
+    @Test
+    public void testGetAnalyzerPoolMetrics() throws Exception {
+        addConfig("policy-2");
+        APIMThreatAnalyzer borrowed = AnalyzerHolder.getAnalyzer(CONTENT_TYPE, "policy-2");
+        AnalyzerHolder.returnObject(AnalyzerHolder.getAnalyzer(CONTENT_TYPE, "policy-2"));
+
+        ProgramFile bLangProgram = BTestUtils.parseBalFile("samples/threatprotection/analyzerPoolMetricsTest.bal");
+        BValue[] returns = BLangFunctions.invokeNew(bLangProgram, "testGetAnalyzerPoolMetrics", new BValue[] {});
+        Assert.assertTrue(returns[0] instanceof BJSON);
+        JsonNode metrics = readPoolMetrics(returns[0].stringValue()).path("json").path("policy-2");
+        Assert.assertEquals(metrics.path("active").asInt(), 1);
+        Assert.assertEquals(metrics.path("idle").asInt(), 1);
+        Assert.assertEquals(metrics.path("borrowCount").asLong(), 2L);
+        Assert.assertTrue(metrics.has("meanBorrowWaitMillis"));
+        Assert.assertTrue(metrics.has("maxBorrowWaitMillis"));
+        AnalyzerHolder.returnObject(borrowed);
+    }
+
+    private static JSONConfig addConfig(String policyId) {
+        JSONConfig config = new JSONConfig();
+        config.setName(policyId);
+        config.setMaxJsonDepth(10);
+        ConfigurationHolder.addJsonConfig(policyId, config);
+        return config;
+    }
+
+    private static JsonNode readPoolMetrics(String metrics) throws Exception {
+        return new ObjectMapper().readTree(metrics);
+    }
+}
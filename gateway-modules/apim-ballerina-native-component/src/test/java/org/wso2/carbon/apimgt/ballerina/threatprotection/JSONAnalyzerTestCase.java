@@ -20,11 +20,15 @@ package org.wso2.carbon.apimgt.ballerina.threatprotection;
 
 
 import org.mockito.Mockito;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 import org.wso2.carbon.apimgt.ballerina.threatprotection.analyzer.JSONAnalyzer;
 import org.wso2.carbon.apimgt.ballerina.threatprotection.configurations.JSONConfig;
 import org.wso2.carbon.apimgt.ballerina.threatprotection.configurations.XMLConfig;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
 public class JSONAnalyzerTestCase {
     @Test(expectedExceptions = UnsupportedOperationException.class)
     public void testConfigureAnalyzerException() throws Exception {
@@ -184,4 +188,51 @@ public class JSONAnalyzerTestCase {
         String jsonString = "{abcdef: {\"abc\"}:\", \"123456\", 3, 4, 5, 6]}";
         analyzer.analyze(jsonString, "/foo");
     }
+
+    @Test(expectedExceptions = APIMThreatAnalyzerException.class)
+    public void testCheckMaxStringLengthStreamFail() throws Exception {
+        JSONConfig config = Mockito.mock(JSONConfig.class);
+        Mockito.when(config.getMaxStringLength()).thenReturn(10);
+
+        JSONAnalyzer analyzer = new JSONAnalyzer();
+        analyzer.configure(config);
+
+        String jsonString = "{\"a\": \"abcdef123456\"}";
+        analyzer.analyze(new ByteArrayInputStream(jsonString.getBytes(StandardCharsets.UTF_8)), "/foo");
+    }
+
+    @Test
+    public void testCheckMaxStringLengthStreamPass() throws Exception {
+        JSONConfig config = Mockito.mock(JSONConfig.class);
+        Mockito.when(config.getMaxStringLength()).thenReturn(10);
+
+        JSONAnalyzer analyzer = new JSONAnalyzer();
+        analyzer.configure(config);
+
+        //multi byte characters are counted as characters, not bytes
+        String jsonString = "{\"a\": \"\u00e9\u00e9\u00e9\u00e9\u00e9\u00e9\u00e9\u00e9\u00e9\u00e9\"}";
+        analyzer.analyze(new ByteArrayInputStream(jsonString.getBytes(StandardCharsets.UTF_8)), "/foo");
+    }
+
+    @Test(expectedExceptions = APIMThreatAnalyzerException.class)
+    public void testInvalidJsonPayloadStream() throws Exception {
+        JSONAnalyzer analyzer = new JSONAnalyzer();
+
+        String jsonString = "{abcdef: {\"abc\"}:\", \"123456\", 3, 4, 5, 6]}";
+        analyzer.analyze(new ByteArrayInputStream(jsonString.getBytes(StandardCharsets.UTF_8)), "/foo");
+    }
+
+    @Test(expectedExceptions = APIMThreatAnalyzerException.class)
+    public void testPooledAnalyzerConfiguredForPolicy() throws Exception {
+        JSONConfig config = Mockito.mock(JSONConfig.class);
+        Mockito.when(config.getMaxJsonDepth()).thenReturn(3);
+
+        JSONAnalyzer analyzer = new JSONAnalyzer("policy-1", config);
+        Assert.assertEquals(analyzer.getPolicyId(), "policy-1");
+        Assert.assertSame(analyzer.getConfig(), config);
+
+        //configuration is kept across analyses, so a pooled analyzer needs no reconfiguration on borrow
+        analyzer.analyze("{\"a\": 1}", "/foo");
+        analyzer.analyze("{\"a\": {\"b\": {\"c\": {\"d\": 1}}}}", "/foo");
+    }
 }
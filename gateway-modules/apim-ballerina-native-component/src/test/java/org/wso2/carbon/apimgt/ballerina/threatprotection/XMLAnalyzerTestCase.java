@@ -24,6 +24,9 @@ import org.wso2.carbon.apimgt.ballerina.threatprotection.analyzer.XMLAnalyzer;
 import org.wso2.carbon.apimgt.ballerina.threatprotection.configurations.JSONConfig;
 import org.wso2.carbon.apimgt.ballerina.threatprotection.configurations.XMLConfig;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
 public class XMLAnalyzerTestCase {
     private XMLConfig xmlConfig;
 
@@ -133,4 +136,25 @@ public class XMLAnalyzerTestCase {
         String xmlString = "<root><c1></c1><c2></c2><c3></c3></root>";
         analyzer.analyze(xmlString, "/foo");
     }
+
+    @Test(expectedExceptions = APIMThreatAnalyzerException.class)
+    public void testMaxChildrenPerElementStream() throws Exception {
+        init();
+        xmlConfig.setMaxChildrenPerElement(2);
+        XMLAnalyzer analyzer = new XMLAnalyzer();
+        analyzer.configure(xmlConfig);
+
+        String xmlString = "<root><c1></c1><c2></c2><c3></c3></root>";
+        analyzer.analyze(new ByteArrayInputStream(xmlString.getBytes(StandardCharsets.UTF_8)), "/foo");
+    }
+
+    @Test
+    public void testAnalyzeStreamPass() throws Exception {
+        init();
+        XMLAnalyzer analyzer = new XMLAnalyzer();
+        analyzer.configure(xmlConfig);
+
+        String xmlString = "<?xml version=\"1.0\" encoding=\"UTF-16\"?><root a='1'><c1>\u00e9</c1></root>";
+        analyzer.analyze(new ByteArrayInputStream(xmlString.getBytes(StandardCharsets.UTF_16)), "/foo");
+    }
 }
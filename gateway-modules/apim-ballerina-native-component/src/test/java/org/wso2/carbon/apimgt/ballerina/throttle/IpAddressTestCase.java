@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.throttle;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for the parsing of IP addresses of block conditions
+ */
+public class IpAddressTestCase {
+
+    @DataProvider(name = "equivalentAddresses")
+    public Object[][] equivalentAddresses() {
+        return new Object[][] {
+                {"192.168.1.10", "3232235786"},
+                {"192.168.1.10", "::ffff:192.168.1.10"},
+                {"192.168.1.10", "::FFFF:C0A8:010A"},
+                {"0.0.0.0", "0"},
+                {"255.255.255.255", "4294967295"},
+                {"2001:db8::1", "2001:0db8:0000:0000:0000:0000:0000:0001"},
+                {"::", "0:0:0:0:0:0:0:0"},
+                {"1::", "1:0:0:0:0:0:0:0"},
+                {"1:2:3:4:5:6::8", "1:2:3:4:5:6:0:8"},
+                {" 10.0.0.1 ", "10.0.0.1"}
+        };
+    }
+
+    @DataProvider(name = "invalidAddresses")
+    public Object[][] invalidAddresses() {
+        return new Object[][] {
+                {""}, {"abc.def"}, {"face.cafe"}, {"localhost"}, {"dead:beef"}, {"a.b.c.d"}, {"1.2.3"}, {"1.2.3.4.5"},
+                {"1.2.3.256"}, {"1..2.3"}, {"4294967296"}, {"1:2:3:4:5:6:7:8:9"}, {"1::2::3"}, {":1:2:3:4:5:6:7"},
+                {"1:2:3:4:5:6:7:"}, {"12345::"}, {"1.2.3.4::"}, {"1:2:3:4:5:6:7::8"}, {"fe80::1%eth0"},
+                {"\u0661.1.1.1"}
+        };
+    }
+
+    @Test(dataProvider = "equivalentAddresses")
+    public void testEquivalentAddresses(String ip, String equivalent) {
+        Assert.assertEquals(IpRangeIndex.IpAddress.parse(ip), IpRangeIndex.IpAddress.parse(equivalent));
+    }
+
+    @Test(dataProvider = "invalidAddresses", expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidAddressIsRejected(String ip) {
+        IpRangeIndex.IpAddress.parse(ip);
+    }
+
+    @Test
+    public void testAddressOrder() {
+        Assert.assertTrue(IpRangeIndex.IpAddress.parse("10.0.0.1").compareTo(IpRangeIndex.IpAddress.parse(
+                "10.0.0.2")) < 0);
+        Assert.assertTrue(IpRangeIndex.IpAddress.parse("255.255.255.255").compareTo(IpRangeIndex.IpAddress.parse(
+                "2001:db8::1")) < 0);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.throttle;
+
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.codegen.ProgramFile;
+import org.ballerinalang.util.program.BLangFunctions;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.apimgt.ballerina.caching.util.BTestUtils;
+
+/**
+ * Test class for the local token bucket and sliding window throttling natives
+ */
+public class LocalThrottleTestCase {
+    private ProgramFile bLangProgram;
+
+    @BeforeClass
+    public void setup() {
+        bLangProgram = BTestUtils.parseBalFile("samples/throttle/localThrottleTest.bal");
+    }
+
+    @Test
+    public void testTokenBucket() {
+        BValue[] args = {new BString("tokenBucketPolicy"), new BString(ThrottleLimit.TOKEN_BUCKET)};
+        BValue[] returns = BLangFunctions.invokeNew(bLangProgram, "testLocalThrottle", args);
+        Assert.assertTrue(returns[0] instanceof BBoolean);
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+    }
+
+    @Test
+    public void testSlidingWindow() {
+        BValue[] args = {new BString("slidingWindowPolicy"), new BString(ThrottleLimit.SLIDING_WINDOW)};
+        BValue[] returns = BLangFunctions.invokeNew(bLangProgram, "testLocalThrottle", args);
+        Assert.assertTrue(returns[0] instanceof BBoolean);
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+    }
+
+    @Test
+    public void testThrottleKeys() {
+        BValue[] returns = BLangFunctions.invokeNew(bLangProgram, "testThrottleKeys", new BValue[] {});
+        Assert.assertTrue(returns[0] instanceof BBoolean);
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+    }
+
+    @Test
+    public void testIpRangeBlocking() {
+        BValue[] returns = BLangFunctions.invokeNew(bLangProgram, "testIpRangeBlocking", new BValue[] {});
+        Assert.assertTrue(returns[0] instanceof BBoolean);
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+    }
+}
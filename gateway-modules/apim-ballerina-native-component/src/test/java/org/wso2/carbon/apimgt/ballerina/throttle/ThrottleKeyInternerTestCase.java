@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.ballerina.throttle;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test class for the release and reuse of throttle key ids
+ */
+public class ThrottleKeyInternerTestCase {
+    private static final long IDLE_TIME = TimeUnit.HOURS.toNanos(1);
+
+    @Test
+    public void testIdleKeyIdIsReused() {
+        ThrottleKeyInterner interner = new ThrottleKeyInterner(2, IDLE_TIME);
+        int first = interner.internApiKey("/a", "1.0").getId();
+        int second = interner.internApiKey("/b", "1.0").getId();
+        Assert.assertNotEquals(first, second);
+        Assert.assertEquals(interner.internApiKey("/a", "1.0").getId(), first);
+        Assert.assertEquals(interner.size(), 2);
+
+        interner.sweep(System.nanoTime() + 2 * IDLE_TIME);
+        Assert.assertEquals(interner.size(), 0);
+        Assert.assertNull(interner.getKey(first));
+
+        int reused = interner.internApiKey("/c", "1.0").getId();
+        Assert.assertTrue(reused == first || reused == second);
+        Assert.assertEquals(interner.getKey(reused), "/c:1.0");
+        Assert.assertEquals(interner.getExhaustedCount(), 0L);
+    }
+
+    @Test
+    public void testKeyInUseIsNotReleased() {
+        ThrottleKeyInterner interner = new ThrottleKeyInterner(2, IDLE_TIME);
+        ThrottleKeyInterner.ThrottleKey key = interner.internApplicationKey("app", "admin");
+        interner.sweep(System.nanoTime());
+        Assert.assertSame(interner.internApplicationKey("app", "admin"), key);
+        Assert.assertEquals(interner.getKey(key.getId()), "app:admin");
+    }
+
+    @Test
+    public void testExhaustedInternerReturnsNoIdUntilKeyIsReleased() {
+        ThrottleKeyInterner interner = new ThrottleKeyInterner(1, IDLE_TIME);
+        int id = interner.internApplicationKey("app", "admin").getId();
+        ThrottleKeyInterner.ThrottleKey unassigned = interner.internApplicationKey("app", "other");
+        Assert.assertEquals(unassigned.getId(), ThrottleKeyInterner.NO_ID);
+        // the key still has its value, so that it can be throttled by the global throttler
+        Assert.assertEquals(unassigned.getKey(), "app:other");
+        Assert.assertEquals(interner.internApiKey("/ctx", "1.0").getId(), ThrottleKeyInterner.NO_ID);
+        Assert.assertEquals(interner.getExhaustedCount(), 2L);
+
+        interner.sweep(System.nanoTime() + 2 * IDLE_TIME);
+        ThrottleKeyInterner.ThrottleKey key = interner.internApiKey("/ctx", "1.0");
+        Assert.assertEquals(key.getId(), id);
+        Assert.assertEquals(key.getKey(), "/ctx:1.0");
+        Assert.assertEquals(interner.getKey(id), "/ctx:1.0");
+    }
+
+    @Test
+    public void testReleasedTreeKeyIsAssignedAgain() {
+        ThrottleKeyInterner interner = new ThrottleKeyInterner(4, IDLE_TIME);
+        ThrottleKeyInterner.ThrottleKey key = interner.internResourceKey("/ctx", "1.0", "/pets", "GET");
+        Assert.assertSame(interner.internResourceKey("/ctx", "1.0", "/pets", "GET"), key);
+
+        interner.sweep(System.nanoTime() + 2 * IDLE_TIME);
+        ThrottleKeyInterner.ThrottleKey other = interner.internApiKey("/other", "1.0");
+        ThrottleKeyInterner.ThrottleKey assigned = interner.internResourceKey("/ctx", "1.0", "/pets", "GET");
+        Assert.assertNotSame(assigned, key);
+        Assert.assertEquals(assigned.getKey(), "/ctx/1.0/pets:GET");
+        Assert.assertEquals(interner.getKey(assigned.getId()), "/ctx/1.0/pets:GET");
+        Assert.assertNotEquals(assigned.getId(), other.getId());
+        Assert.assertEquals(interner.size(), 2);
+    }
+
+    @Test
+    public void testKeysOfDifferentLevelsAreDistinct() {
+        ThrottleKeyInterner interner = new ThrottleKeyInterner(4, IDLE_TIME);
+        // same value at the API and application levels
+        ThrottleKeyInterner.ThrottleKey apiKey = interner.internApiKey("a", "b");
+        ThrottleKeyInterner.ThrottleKey applicationKey = interner.internApplicationKey("a", "b");
+        Assert.assertEquals(apiKey.getKey(), applicationKey.getKey());
+        Assert.assertNotEquals(apiKey.getId(), applicationKey.getId());
+    }
+
+    @Test
+    public void testReusedIdDoesNotInheritLimiter() {
+        ThrottleKeyInterner interner = new ThrottleKeyInterner(1, IDLE_TIME);
+        LocalThrottler throttler = new LocalThrottler(interner);
+        throttler.addLimit(new ThrottleLimit("policy", ThrottleLimit.TOKEN_BUCKET, 1, 60000));
+        int first = interner.internApplicationKey("app", "a").getId();
+        Assert.assertFalse(throttler.isThrottled("policy", first));
+        Assert.assertTrue(throttler.isThrottled("policy", first));
+        // no id left, so the key is left to the global throttler
+        int second = interner.internApplicationKey("app", "b").getId();
+        Assert.assertEquals(second, ThrottleKeyInterner.NO_ID);
+        Assert.assertFalse(throttler.isThrottled("policy", second));
+
+        interner.sweep(System.nanoTime() + 2 * IDLE_TIME);
+        second = interner.internApplicationKey("app", "b").getId();
+        Assert.assertEquals(second, first);
+        Assert.assertFalse(throttler.isThrottled("policy", second));
+        Assert.assertTrue(throttler.isThrottled("policy", second));
+    }
+
+    @Test
+    public void testKeyCheckedConcurrentlyUnderDifferentPolicies() throws Exception {
+        ThrottleKeyInterner interner = new ThrottleKeyInterner(1, IDLE_TIME);
+        LocalThrottler throttler = new LocalThrottler(interner);
+        throttler.addLimit(new ThrottleLimit("gold", ThrottleLimit.TOKEN_BUCKET, 1000000, 60000));
+        throttler.addLimit(new ThrottleLimit("silver", ThrottleLimit.TOKEN_BUCKET, 1000000, 60000));
+        int keyId = interner.internApiKey("/ctx", "1.0").getId();
+        int threads = 4;
+        int requests = 10000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                String policy = i % 2 == 0 ? "gold" : "silver";
+                futures.add(executorService.submit(() -> {
+                    for (int j = 0; j < requests; j++) {
+                        Assert.assertFalse(throttler.isThrottled(policy, keyId));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        throttler.addLimit(new ThrottleLimit("bronze", ThrottleLimit.TOKEN_BUCKET, 1, 60000));
+        Assert.assertFalse(throttler.isThrottled("bronze", keyId));
+        Assert.assertTrue(throttler.isThrottled("bronze", keyId));
+    }
+}
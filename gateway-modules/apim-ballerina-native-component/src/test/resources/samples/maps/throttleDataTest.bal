@@ -0,0 +1,21 @@
+import org.wso2.carbon.apimgt.ballerina.maps;
+import ballerina.lang.system;
+
+function testThrottleData (string throttleKey) (boolean) {
+    int now = system:currentTimeMillis();
+    maps:addThrottleData(throttleKey, "" + (now + 60000));
+    if (!maps:isThrottled(throttleKey)) {
+        return false;
+    }
+    maps:removeThrottleData(throttleKey);
+    return !maps:isThrottled(throttleKey);
+}
+
+function testThrottleDataExpiry (string throttleKey) (boolean) {
+    int now = system:currentTimeMillis();
+    maps:addThrottleData(throttleKey, "" + (now - 1000));
+    if (maps:isThrottled(throttleKey)) {
+        return false;
+    }
+    return maps:getThrottleData(throttleKey) == "";
+}
@@ -0,0 +1,22 @@
+import org.wso2.carbon.apimgt.ballerina.routing;
+
+function testResourceRouting () (boolean) {
+    string apiKey = "/pets:1.0.0";
+    routing:addResourceRoute(apiKey, "/pets", "GET");
+    routing:addResourceRoute(apiKey, "/pets/{id}", "GET");
+    routing:addResourceRoute(apiKey, "/pets/mine", "GET");
+    if (routing:addResourceRoute(apiKey, "/pets/{id", "GET")) {
+        return false;
+    }
+    if (routing:matchResourceRoute(apiKey, "/pets/10?fields=name", "GET") != "/pets/{id}") {
+        return false;
+    }
+    if (routing:matchResourceRoute(apiKey, "/pets/mine", "GET") != "/pets/mine") {
+        return false;
+    }
+    if (routing:matchResourceRoute(apiKey, "/pets/10", "DELETE") != "") {
+        return false;
+    }
+    routing:removeResourceRoutes(apiKey);
+    return routing:matchResourceRoute(apiKey, "/pets", "GET") == "";
+}
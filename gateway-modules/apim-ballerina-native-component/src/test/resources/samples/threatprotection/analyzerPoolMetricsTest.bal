@@ -0,0 +1,5 @@
+import org.wso2.carbon.apimgt.ballerina.threatprotection;
+
+function testGetAnalyzerPoolMetrics () (json) {
+    return threatprotection:getAnalyzerPoolMetrics();
+}
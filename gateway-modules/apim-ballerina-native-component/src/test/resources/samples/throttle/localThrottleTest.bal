@@ -0,0 +1,61 @@
+import org.wso2.carbon.apimgt.ballerina.throttle;
+
+function testLocalThrottle (string policyName, string algorithm) (boolean) {
+    throttle:addThrottleLimit(policyName, algorithm, 5, 60000);
+    int app1KeyId;
+    string app1Key;
+    app1KeyId, app1Key = throttle:getApplicationThrottleKey("app1", "admin");
+    int app2KeyId;
+    string app2Key;
+    app2KeyId, app2Key = throttle:getApplicationThrottleKey("app2", "admin");
+    int i = 0;
+    while (i < 5) {
+        if (throttle:isKeyLocallyThrottled(policyName, app1KeyId)) {
+            return false;
+        }
+        i = i + 1;
+    }
+    if (!throttle:isKeyLocallyThrottled(policyName, app1KeyId)) {
+        return false;
+    }
+    if (throttle:isKeyLocallyThrottled(policyName, app2KeyId)) {
+        return false;
+    }
+    throttle:removeThrottleLimit(policyName);
+    return !throttle:isKeyLocallyThrottled(policyName, app1KeyId);
+}
+
+function testThrottleKeys () (boolean) {
+    int apiKeyId;
+    string apiKey;
+    apiKeyId, apiKey = throttle:getApiThrottleKey("/pets", "1.0.0");
+    int sameApiKeyId;
+    string sameApiKey;
+    sameApiKeyId, sameApiKey = throttle:getApiThrottleKey("/pets", "1.0.0");
+    int resourceKeyId;
+    string resourceKey;
+    resourceKeyId, resourceKey = throttle:getResourceThrottleKey("/pets", "1.0.0", "/pet/{id}", "GET");
+    return apiKey == "/pets:1.0.0" && apiKeyId == sameApiKeyId && resourceKey == "/pets/1.0.0/pet/{id}:GET"
+           && resourceKeyId != apiKeyId;
+}
+
+function testIpRangeBlocking () (boolean) {
+    throttle:addBlockedIpRange("IP_RANGE : 1", "10.0.0.1", "10.0.0.10");
+    throttle:addBlockedIpRange("IP_RANGE : 2", "10.0.0.5", "10.0.0.20");
+    throttle:addBlockedIpRange("IP_RANGE : 3", "2001:db8::1", "2001:db8::ff");
+    throttle:addBlockedIpRange("IP : 3232235777", "3232235777", "3232235777");
+    if (!throttle:isIpBlocked("10.0.0.15") || throttle:isIpBlocked("10.0.0.21")) {
+        return false;
+    }
+    if (!throttle:isIpBlocked("2001:db8::10") || throttle:isIpBlocked("2001:db8::100")) {
+        return false;
+    }
+    if (!throttle:isIpBlocked("192.168.1.1") || throttle:isIpBlocked("192.168.1.2")) {
+        return false;
+    }
+    if (throttle:addBlockedIpRange("IP_RANGE : 4", "localhost", "10.0.0.1")) {
+        return false;
+    }
+    throttle:removeBlockedIpRange("IP_RANGE : 2");
+    return throttle:isIpBlocked("10.0.0.9") && !throttle:isIpBlocked("10.0.0.15");
+}
@@ -8,4 +8,9 @@ connector EventConnector (map options) {
     @doc:Param {value:"c: conector instance"}
     @doc:Param {value:"event: json with payload attibutes"}
     native action publish (EventConnector c, json event);
+
+    @doc:Description {value:"gets the queue and drop metrics of the publisher"}
+    @doc:Param {value:"c: connector instance"}
+    @doc:Return {value:"json: publishing mode, and queue size, queued, published and dropped events of async publishers"}
+    native action getMetrics (EventConnector c) (json);
 }
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.ballerina.publisher;
+
+import org.ballerinalang.model.types.BType;
+import org.ballerinalang.model.values.BValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.carbon.databridge.agent.exception.DataEndpointAgentConfigurationException;
+import org.wso2.carbon.databridge.agent.exception.DataEndpointAuthenticationException;
+import org.wso2.carbon.databridge.agent.exception.DataEndpointConfigurationException;
+import org.wso2.carbon.databridge.agent.exception.DataEndpointException;
+import org.wso2.carbon.databridge.commons.Event;
+import org.wso2.carbon.databridge.commons.exception.TransportException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Event publisher which queues events in a bounded {@link RingBuffer} and hands them over to the data bridge from
+ * background workers, so publishing never runs on the request thread. When the buffer is full, events are either
+ * dropped right away or the caller waits up to the block timeout for space before the event is dropped.
+ */
+public class AsyncEventPublisher implements EventPublisher, BValue {
+    public static final String OVERFLOW_DROP = "drop";
+    public static final String OVERFLOW_BLOCK = "block";
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncEventPublisher.class);
+    private static final long IDLE_WAIT = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long BLOCK_WAIT = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long DROP_LOG_INTERVAL = 10000;
+    private static final long SHUTDOWN_TIMEOUT = TimeUnit.SECONDS.toMillis(10);
+    private static final AtomicInteger publisherCount = new AtomicInteger();
+
+    private final EventPublisher delegate;
+    private final RingBuffer<Event> buffer;
+    private final int workerCount;
+    private final int batchSize;
+    private final boolean blockOnOverflow;
+    private final long blockTimeout;
+    private final AtomicLong publishedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running = false;
+
+    /**
+     * @param delegate           publisher used by the workers to send events to the data bridge
+     * @param queueSize          maximum number of queued events
+     * @param workerCount        number of background workers
+     * @param batchSize          maximum number of events taken from the queue at once by a worker
+     * @param overflowPolicy     {@link #OVERFLOW_DROP} or {@link #OVERFLOW_BLOCK}
+     * @param blockTimeoutMillis time to wait for space in the queue when blocking on overflow
+     */
+    public AsyncEventPublisher(EventPublisher delegate, int queueSize, int workerCount, int batchSize,
+            String overflowPolicy, long blockTimeoutMillis) {
+        this.delegate = delegate;
+        this.buffer = new RingBuffer<>(queueSize);
+        this.workerCount = Math.max(1, workerCount);
+        this.batchSize = Math.max(1, batchSize);
+        this.blockOnOverflow = OVERFLOW_BLOCK.equals(overflowPolicy);
+        this.blockTimeout = TimeUnit.MILLISECONDS.toNanos(Math.max(0, blockTimeoutMillis));
+    }
+
+    /**
+     * Start the background workers.
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        int publisherId = publisherCount.incrementAndGet();
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::drain, "EventPublisher-" + publisherId + "-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    /**
+     * Stop the background workers and wait until the queued events are published, for at most 10 seconds.
+     */
+    public synchronized void shutdown() {
+        running = false;
+        long deadline = System.currentTimeMillis() + SHUTDOWN_TIMEOUT;
+        try {
+            for (Thread worker : workers) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining > 0) {
+                    worker.join(remaining);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        workers.clear();
+        if (buffer.size() > 0) {
+            log.warn(buffer.size() + " queued events were not published before the event publisher shut down");
+        }
+    }
+
+    @Override
+    public void initDataPublisher(String type, String receiverURLSet, String authURLSet, String username,
+            String password, String configPath)
+            throws DataEndpointAuthenticationException, DataEndpointAgentConfigurationException, TransportException,
+            DataEndpointException, DataEndpointConfigurationException {
+        delegate.initDataPublisher(type, receiverURLSet, authURLSet, username, password, configPath);
+    }
+
+    /**
+     * Queue an event to be published by the background workers.
+     *
+     * @param aEvent event payload
+     */
+    @Override
+    public void publish(Event aEvent) {
+        if (buffer.offer(aEvent)) {
+            return;
+        }
+        if (blockOnOverflow) {
+            long deadline = System.nanoTime() + blockTimeout;
+            while (running && deadline - System.nanoTime() > 0) {
+                LockSupport.parkNanos(BLOCK_WAIT);
+                if (buffer.offer(aEvent)) {
+                    return;
+                }
+            }
+        }
+        long dropped = droppedCount.incrementAndGet();
+        if (dropped % DROP_LOG_INTERVAL == 1) {
+            log.warn("Event queue of " + buffer.capacity() + " events is full, " + dropped
+                    + " events dropped so far");
+        }
+    }
+
+    /**
+     * @return maximum number of queued events
+     */
+    public int getQueueCapacity() {
+        return buffer.capacity();
+    }
+
+    /**
+     * @return number of events waiting to be published
+     */
+    public long getQueuedCount() {
+        return buffer.size();
+    }
+
+    /**
+     * @return number of events handed over to the data bridge
+     */
+    public long getPublishedCount() {
+        return publishedCount.get();
+    }
+
+    /**
+     * @return number of events dropped as the queue was full
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private void drain() {
+        Event[] batch = new Event[batchSize];
+        while (running || buffer.size() > 0) {
+            int count = buffer.drainTo(batch);
+            if (count == 0) {
+                LockSupport.parkNanos(IDLE_WAIT);
+                continue;
+            }
+            int published = 0;
+            for (int i = 0; i < count; i++) {
+                try {
+                    delegate.publish(batch[i]);
+                    published++;
+                } catch (RuntimeException e) {
+                    log.error("Error occurred while publishing event to stream " + batch[i].getStreamId(), e);
+                }
+                batch[i] = null;
+            }
+            publishedCount.addAndGet(published);
+        }
+    }
+
+    @Override
+    public String stringValue() {
+        return "publisher";
+    }
+
+    @Override
+    public BType getType() {
+        return null;
+    }
+
+    @Override
+    public BValue copy() {
+        return null;
+    }
+}
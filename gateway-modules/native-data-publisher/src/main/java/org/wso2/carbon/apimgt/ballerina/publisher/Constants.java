@@ -34,4 +34,16 @@ public final class Constants {
     public static final String META_DATA = "metaData";
     public static final String CORRELATION_DATA = "correlationData";
     public static final String PAYLOAD_DATA = "payloadData";
+    public static final String PUBLISHING_MODE = "publishingMode";
+    public static final String PUBLISHING_MODE_ASYNC = "async";
+    public static final String PUBLISHING_MODE_SYNC = "sync";
+    public static final String QUEUE_SIZE = "queueSize";
+    public static final String WORKER_COUNT = "workerCount";
+    public static final String BATCH_SIZE = "batchSize";
+    public static final String OVERFLOW_POLICY = "overflowPolicy";
+    public static final String BLOCK_TIMEOUT = "blockTimeout";
+    public static final int DEFAULT_QUEUE_SIZE = 8192;
+    public static final int DEFAULT_WORKER_COUNT = 1;
+    public static final int DEFAULT_BATCH_SIZE = 200;
+    public static final long DEFAULT_BLOCK_TIMEOUT = 10;
 }
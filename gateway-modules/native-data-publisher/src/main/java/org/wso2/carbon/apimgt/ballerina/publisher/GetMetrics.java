@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.ballerina.publisher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.model.types.TypeEnum;
+import org.ballerinalang.model.values.BConnector;
+import org.ballerinalang.model.values.BJSON;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.Attribute;
+import org.ballerinalang.natives.annotations.BallerinaAction;
+import org.ballerinalang.natives.annotations.BallerinaAnnotation;
+import org.ballerinalang.natives.annotations.ReturnType;
+import org.ballerinalang.natives.connectors.AbstractNativeAction;
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Native function org.wso2.carbon.apimgt.ballerina.publisher.GetMetrics.{@link
+ * GetMetrics}
+ * Ballerina action returns the queue and drop metrics of the event publisher.
+ */
+@BallerinaAction(packageName = "org.wso2.carbon.apimgt.ballerina.publisher", actionName = "getMetrics",
+        connectorName = Constants.CONNECTOR_NAME, args = {
+        @Argument(name = "c", type = TypeEnum.CONNECTOR) }, returnType = {
+        @ReturnType(type = TypeEnum.JSON) }, connectorArgs = {
+        @Argument(name = "options", type = TypeEnum.MAP) })
+@BallerinaAnnotation(annotationName = "Description", attributes = {
+        @Attribute(name = "value", value = "Gets the queue and drop metrics of the event publisher") })
+@BallerinaAnnotation(annotationName = "Param", attributes = { @Attribute(name = "c", value = "Connector") })
+@BallerinaAnnotation(annotationName = "Return", attributes = { @Attribute(name = "json",
+        value = "publishing mode, and queue capacity, queued, published and dropped events of async publishers") })
+@Component(name = "action.org.wso2.carbon.apimgt.ballerina.publisher.getMetrics", immediate = true,
+        service = AbstractNativeAction.class)
+public class GetMetrics extends AbstractNativeAction {
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    @Override
+    public BValue execute(Context context) {
+        BConnector bConnector = (BConnector) getRefArgument(context, 0);
+        BMap sharedMap = (BMap) bConnector.getRefField(1);
+        return new BJSON(getMetrics(sharedMap.get(Constants.PUBLISHER_INSTANCE)).toString());
+    }
+
+    /**
+     * Build the metrics of a publisher. Only asynchronous publishers queue events, so the others just report their
+     * publishing mode.
+     *
+     * @param publisher publisher of the connector
+     * @return publisher metrics
+     */
+    static ObjectNode getMetrics(Object publisher) {
+        ObjectNode metrics = mapper.createObjectNode();
+        if (publisher instanceof AsyncEventPublisher) {
+            AsyncEventPublisher asyncPublisher = (AsyncEventPublisher) publisher;
+            metrics.put(Constants.PUBLISHING_MODE, Constants.PUBLISHING_MODE_ASYNC);
+            metrics.put(Constants.QUEUE_SIZE, asyncPublisher.getQueueCapacity());
+            metrics.put("queued", asyncPublisher.getQueuedCount());
+            metrics.put("published", asyncPublisher.getPublishedCount());
+            metrics.put("dropped", asyncPublisher.getDroppedCount());
+        } else {
+            metrics.put(Constants.PUBLISHING_MODE, Constants.PUBLISHING_MODE_SYNC);
+        }
+        return metrics;
+    }
+}
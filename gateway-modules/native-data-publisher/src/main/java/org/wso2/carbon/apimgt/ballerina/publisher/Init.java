@@ -29,6 +29,7 @@ import org.ballerinalang.natives.annotations.BallerinaAction;
 import org.ballerinalang.natives.annotations.BallerinaAnnotation;
 import org.ballerinalang.natives.connectors.AbstractNativeAction;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.wso2.carbon.databridge.agent.exception.DataEndpointAgentConfigurationException;
@@ -38,6 +39,8 @@ import org.wso2.carbon.databridge.agent.exception.DataEndpointException;
 import org.wso2.carbon.databridge.commons.exception.TransportException;
 
 import java.io.File;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Native function org.wso2.carbon.apimgt.ballerina.publisher.Init.{@link
@@ -67,6 +70,7 @@ import java.io.File;
 public class Init extends AbstractEventPublisherAction implements BValue {
 
     private static final Logger log = LoggerFactory.getLogger(AbstractEventPublisherAction.class);
+    private static final Set<AsyncEventPublisher> asyncPublishers = ConcurrentHashMap.newKeySet();
 
     @Override
     public BValue execute(Context context) {
@@ -88,7 +92,19 @@ public class Init extends AbstractEventPublisherAction implements BValue {
         configPath = System.getProperty("ballerina.home") + File.separator + configPath;
         try {
             initDataPublisher(type, receiverURLSet, authURLSet, username, password, configPath);
-            sharedMap.put(Constants.PUBLISHER_INSTANCE, this);
+            if (Constants.PUBLISHING_MODE_ASYNC.equals(getOption(optionMap, Constants.PUBLISHING_MODE, null))) {
+                AsyncEventPublisher asyncPublisher = new AsyncEventPublisher(this,
+                        (int) getOption(optionMap, Constants.QUEUE_SIZE, Constants.DEFAULT_QUEUE_SIZE),
+                        (int) getOption(optionMap, Constants.WORKER_COUNT, Constants.DEFAULT_WORKER_COUNT),
+                        (int) getOption(optionMap, Constants.BATCH_SIZE, Constants.DEFAULT_BATCH_SIZE),
+                        getOption(optionMap, Constants.OVERFLOW_POLICY, AsyncEventPublisher.OVERFLOW_DROP),
+                        getOption(optionMap, Constants.BLOCK_TIMEOUT, Constants.DEFAULT_BLOCK_TIMEOUT));
+                asyncPublisher.start();
+                asyncPublishers.add(asyncPublisher);
+                sharedMap.put(Constants.PUBLISHER_INSTANCE, asyncPublisher);
+            } else {
+                sharedMap.put(Constants.PUBLISHER_INSTANCE, this);
+            }
         } catch (DataEndpointAuthenticationException e) {
             log.error("Error occurred while authenticating.", e);
         } catch (DataEndpointAgentConfigurationException e) {
@@ -103,6 +119,36 @@ public class Init extends AbstractEventPublisherAction implements BValue {
         return null;
     }
 
+    /**
+     * Publish the queued events and stop the workers of the asynchronous publishers when the component is
+     * deactivated.
+     */
+    @Deactivate
+    protected void deactivate() {
+        for (AsyncEventPublisher asyncPublisher : asyncPublishers) {
+            asyncPublisher.shutdown();
+        }
+        asyncPublishers.clear();
+    }
+
+    private static String getOption(BMap optionMap, String key, String defaultValue) {
+        BValue value = optionMap.get(key);
+        return value != null ? value.stringValue() : defaultValue;
+    }
+
+    private static long getOption(BMap optionMap, String key, long defaultValue) {
+        String value = getOption(optionMap, key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid value " + value + " for publisher option " + key + ", using " + defaultValue);
+            return defaultValue;
+        }
+    }
+
     @Override
     public String stringValue() {
         return "publisher";
@@ -17,7 +17,7 @@ package org.wso2.carbon.apimgt.ballerina.publisher;
  * under the License.
  */
 
-import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.JsonNode;
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BConnector;
@@ -29,10 +29,7 @@ import org.ballerinalang.natives.annotations.Attribute;
 import org.ballerinalang.natives.annotations.BallerinaAction;
 import org.ballerinalang.natives.annotations.BallerinaAnnotation;
 import org.ballerinalang.natives.connectors.AbstractNativeAction;
-import org.json.JSONArray;
 import org.osgi.service.component.annotations.Component;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.wso2.carbon.databridge.commons.Event;
 import org.wso2.carbon.databridge.commons.utils.DataBridgeCommonsUtils;
 
@@ -55,45 +52,58 @@ import org.wso2.carbon.databridge.commons.utils.DataBridgeCommonsUtils;
 @Component(name = "action.org.wso2.carbon.apimgt.ballerina.publisher.publish", immediate = true,
         service = AbstractNativeAction.class)
 public class Publish extends AbstractEventPublisherAction {
-    private static final Logger log = LoggerFactory.getLogger(Publish.class);
-
     @Override
     public BValue execute(Context context) {
-        log.info("publishing event to DAS");
         BConnector bConnector = (BConnector) getRefArgument(context, 0);
         BJSON json = (BJSON) getRefArgument(context, 1);
-        String streamName = json.value().get(Constants.STREAM_NAME).asText();
-        String streamVersion = json.value().get(Constants.STREAM_VERSION).asText();
-        ArrayNode metaData = (ArrayNode) json.value().get(Constants.META_DATA);
-        ArrayNode correlationData = (ArrayNode) json.value().get(Constants.CORRELATION_DATA);
-        ArrayNode payloadData = (ArrayNode) json.value().get(Constants.PAYLOAD_DATA);
-
-        Object[] metaDataArr = new Object[metaData.size()];
-        JSONArray jsonMetaData = new JSONArray(metaData.toString());
-        for (int i = 0; i < jsonMetaData.length(); i++) {
-            metaDataArr[i] = jsonMetaData.get(i);
-        }
-
-        Object[] correlationDataArr = new Object[correlationData.size()];
-        JSONArray jsonCorrelationData = new JSONArray(correlationData.toString());
-        for (int i = 0; i < jsonCorrelationData.length(); i++) {
-            correlationDataArr[i] = jsonCorrelationData.get(i);
-        }
-
-        Object[] payloadDataArr = new Object[payloadData.size()];
-        JSONArray jsonPayloadData = new JSONArray(payloadData.toString());
-        for (int i = 0; i < jsonPayloadData.length(); i++) {
-            payloadDataArr[i] = jsonPayloadData.get(i);
-        }
+        JsonNode eventNode = json.value();
+        String streamName = eventNode.get(Constants.STREAM_NAME).asText();
+        String streamVersion = eventNode.get(Constants.STREAM_VERSION).asText();
 
         BMap sharedMap = (BMap) bConnector.getRefField(1);
         EventPublisher pub = (EventPublisher) sharedMap.get(Constants.PUBLISHER_INSTANCE);
         Event event = new Event();
         event.setStreamId(DataBridgeCommonsUtils.generateStreamId(streamName, streamVersion));
-        event.setMetaData(metaDataArr);
-        event.setCorrelationData(correlationDataArr);
-        event.setPayloadData(payloadDataArr);
+        event.setMetaData(toObjectArray(eventNode.get(Constants.META_DATA)));
+        event.setCorrelationData(toObjectArray(eventNode.get(Constants.CORRELATION_DATA)));
+        event.setPayloadData(toObjectArray(eventNode.get(Constants.PAYLOAD_DATA)));
         pub.publish(event);
         return null;
     }
+
+    /**
+     * Convert the attributes of a JSON array straight to their Java values, without serializing the array.
+     *
+     * @param attributes JSON array of event attributes
+     * @return attribute values
+     */
+    static Object[] toObjectArray(JsonNode attributes) {
+        if (attributes == null || !attributes.isArray()) {
+            return new Object[0];
+        }
+        Object[] values = new Object[attributes.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = toObject(attributes.get(i));
+        }
+        return values;
+    }
+
+    private static Object toObject(JsonNode value) {
+        if (value.isTextual()) {
+            return value.textValue();
+        } else if (value.isInt()) {
+            return value.intValue();
+        } else if (value.isLong()) {
+            return value.longValue();
+        } else if (value.isFloatingPointNumber()) {
+            return value.doubleValue();
+        } else if (value.isBoolean()) {
+            return value.booleanValue();
+        } else if (value.isNumber()) {
+            return value.numberValue();
+        } else if (value.isNull()) {
+            return null;
+        }
+        return value.toString();
+    }
 }
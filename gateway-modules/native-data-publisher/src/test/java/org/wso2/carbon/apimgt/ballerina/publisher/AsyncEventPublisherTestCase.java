@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.ballerina.publisher;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.databridge.commons.Event;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test class for the asynchronous event publisher and its ring buffer
+ */
+public class AsyncEventPublisherTestCase {
+
+    @Test
+    public void testRingBuffer() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(3);
+        Assert.assertEquals(buffer.capacity(), 4);
+        for (int i = 0; i < 4; i++) {
+            Assert.assertTrue(buffer.offer(i));
+        }
+        Assert.assertFalse(buffer.offer(4), "Full ring buffer accepted an element");
+        Assert.assertEquals(buffer.size(), 4);
+        Assert.assertEquals(buffer.poll(), Integer.valueOf(0));
+        Assert.assertTrue(buffer.offer(4));
+        Integer[] batch = new Integer[10];
+        Assert.assertEquals(buffer.drainTo(batch), 4);
+        Assert.assertEquals(batch[0], Integer.valueOf(1));
+        Assert.assertEquals(batch[3], Integer.valueOf(4));
+        Assert.assertNull(buffer.poll());
+    }
+
+    @Test
+    public void testAsyncPublishing() throws InterruptedException {
+        final int eventCount = 1000;
+        final CountDownLatch latch = new CountDownLatch(eventCount);
+        final List<Event> published = new CopyOnWriteArrayList<>();
+        AsyncEventPublisher publisher = new AsyncEventPublisher(new TestEventPublisher() {
+            @Override
+            public void publish(Event aEvent) {
+                published.add(aEvent);
+                latch.countDown();
+            }
+        }, 2048, 2, 100, AsyncEventPublisher.OVERFLOW_DROP, 0);
+        publisher.start();
+        for (int i = 0; i < eventCount; i++) {
+            publisher.publish(new Event());
+        }
+        Assert.assertTrue(latch.await(30, TimeUnit.SECONDS), "Queued events were not published");
+        Assert.assertEquals(published.size(), eventCount);
+        // Published count is updated once a worker finishes its batch
+        long deadline = System.currentTimeMillis() + 10000;
+        while (publisher.getPublishedCount() < eventCount && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(publisher.getPublishedCount(), eventCount);
+        Assert.assertEquals(publisher.getDroppedCount(), 0);
+        publisher.shutdown();
+    }
+
+    @Test
+    public void testDropOnOverflow() {
+        // Workers are not started, so the queue fills up
+        AsyncEventPublisher publisher = new AsyncEventPublisher(new TestEventPublisher(), 4, 1, 10,
+                AsyncEventPublisher.OVERFLOW_DROP, 0);
+        for (int i = 0; i < 10; i++) {
+            publisher.publish(new Event());
+        }
+        Assert.assertEquals(publisher.getQueuedCount(), 4);
+        Assert.assertEquals(publisher.getDroppedCount(), 6);
+    }
+
+    @Test
+    public void testShutdownPublishesQueuedEvents() {
+        final List<Event> published = new CopyOnWriteArrayList<>();
+        AsyncEventPublisher publisher = new AsyncEventPublisher(new TestEventPublisher() {
+            @Override
+            public void publish(Event aEvent) {
+                published.add(aEvent);
+            }
+        }, 1024, 2, 10, AsyncEventPublisher.OVERFLOW_DROP, 0);
+        for (int i = 0; i < 500; i++) {
+            publisher.publish(new Event());
+        }
+        publisher.start();
+        publisher.shutdown();
+        Assert.assertEquals(published.size(), 500);
+        Assert.assertEquals(publisher.getQueuedCount(), 0);
+        Assert.assertEquals(publisher.getPublishedCount(), 500);
+    }
+
+    @Test
+    public void testMetrics() {
+        AsyncEventPublisher publisher = new AsyncEventPublisher(new TestEventPublisher(), 4, 1, 10,
+                AsyncEventPublisher.OVERFLOW_DROP, 0);
+        for (int i = 0; i < 6; i++) {
+            publisher.publish(new Event());
+        }
+        JsonNode metrics = GetMetrics.getMetrics(publisher);
+        Assert.assertEquals(metrics.get(Constants.PUBLISHING_MODE).asText(), Constants.PUBLISHING_MODE_ASYNC);
+        Assert.assertEquals(metrics.get(Constants.QUEUE_SIZE).asInt(), 4);
+        Assert.assertEquals(metrics.get("queued").asLong(), 4);
+        Assert.assertEquals(metrics.get("published").asLong(), 0);
+        Assert.assertEquals(metrics.get("dropped").asLong(), 2);
+
+        metrics = GetMetrics.getMetrics(new TestEventPublisher());
+        Assert.assertEquals(metrics.get(Constants.PUBLISHING_MODE).asText(), Constants.PUBLISHING_MODE_SYNC);
+        Assert.assertNull(metrics.get("queued"));
+    }
+
+    @Test
+    public void testEventAttributeConversion() throws IOException {
+        JsonNode attributes = new ObjectMapper().readTree("[\"test\", 1, 9007199254740992, 1.5, true, null]");
+        Object[] values = Publish.toObjectArray(attributes);
+        Assert.assertEquals(values.length, 6);
+        Assert.assertEquals(values[0], "test");
+        Assert.assertEquals(values[1], 1);
+        Assert.assertEquals(values[2], 9007199254740992L);
+        Assert.assertEquals(values[3], 1.5);
+        Assert.assertEquals(values[4], Boolean.TRUE);
+        Assert.assertNull(values[5]);
+        Assert.assertEquals(Publish.toObjectArray(null).length, 0);
+    }
+
+    /**
+     * Event publisher which discards events
+     */
+    private static class TestEventPublisher implements EventPublisher {
+        @Override
+        public void initDataPublisher(String type, String receiverURLSet, String authURLSet, String username,
+                String password, String configPath) {
+        }
+
+        @Override
+        public void publish(Event aEvent) {
+        }
+    }
+}